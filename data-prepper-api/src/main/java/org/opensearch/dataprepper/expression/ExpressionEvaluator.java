@@ -6,6 +6,10 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.BitSet;
+import java.util.Collection;
 
 /**
  * @since 1.3
@@ -25,4 +29,51 @@ public interface ExpressionEvaluator<T> {
      * @throws ExpressionEvaluationException if unable to evaluate or coerce the statement result to type T
      */
     T evaluate(final String statement, final Event context);
+
+    /**
+     * @since 2.1
+     * Prepare the statement for evaluation without evaluating it. Components call this while a pipeline is constructed
+     * so that invalid statements fail on startup instead of on the first event. The default implementation does
+     * nothing.
+     *
+     * @param statement string to be parsed
+     *
+     * @throws ExpressionEvaluationException if the statement is not valid
+     */
+    default void precompile(final String statement) {
+    }
+
+    /**
+     * @since 2.1
+     * Evaluate a conditional statement against every record of a batch. Bit i of the result is set when the statement
+     * is true for the i-th record in iteration order. Records whose data is not an {@link Event}, and records for
+     * which the statement cannot be evaluated or is not a Boolean, are left unset. The default implementation calls
+     * {@link #evaluate(String, Event)} for each record.
+     *
+     * @param statement string to be parsed and evaluated
+     * @param records records whose events are used to resolve external references in the statement
+     * @return the positions of the records for which the statement is true
+     *
+     * @throws ExpressionEvaluationException if the statement is not valid
+     */
+    default BitSet evaluateConditional(final String statement, final Collection<Record<Event>> records) {
+        precompile(statement);
+
+        final BitSet matches = new BitSet(records.size());
+        int index = 0;
+        for (final Record<Event> record : records) {
+            final Object data = record.getData();
+            if (data instanceof Event) {
+                try {
+                    if (Boolean.TRUE.equals(evaluate(statement, (Event) data))) {
+                        matches.set(index);
+                    }
+                } catch (final RuntimeException ignored) {
+                    // the record does not match
+                }
+            }
+            index++;
+        }
+        return matches;
+    }
 }
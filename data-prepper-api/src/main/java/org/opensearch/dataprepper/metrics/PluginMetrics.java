@@ -12,6 +12,7 @@ import java.util.function.ToDoubleFunction;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
 /**
@@ -74,6 +75,10 @@ public class PluginMetrics {
         return Metrics.gauge(getMeterName(name), number);
     }
 
+    public <T extends Number> T gaugeWithTags(final String name, final T number, final String... tags) {
+        return Metrics.gauge(getMeterName(name), Tags.of(tags), number);
+    }
+
     public <T> T gauge(String name, T obj, ToDoubleFunction<T> valueFunction) {
         return Metrics.gauge(getMeterName(name), obj, valueFunction);
     }
@@ -17,7 +17,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Abstract implementation of the Buffer interface to record boilerplate metrics
@@ -26,8 +26,8 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
     protected final PluginMetrics pluginMetrics;
     private final Counter recordsWrittenCounter;
     private final Counter recordsReadCounter;
-    private final AtomicLong recordsInFlight;
-    private final AtomicLong recordsInBuffer;
+    private final LongAdder recordsInFlight;
+    private final LongAdder recordsInBuffer;
     private final Counter recordsProcessedCounter;
     private final Counter writeTimeoutCounter;
     private final Counter recordsWriteFailed;
@@ -47,8 +47,9 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         this.pluginMetrics = pluginMetrics;
         this.recordsWrittenCounter = pluginMetrics.counter(MetricNames.RECORDS_WRITTEN);
         this.recordsReadCounter = pluginMetrics.counter(MetricNames.RECORDS_READ);
-        this.recordsInFlight = pluginMetrics.gauge(MetricNames.RECORDS_INFLIGHT, new AtomicLong());
-        this.recordsInBuffer = pluginMetrics.gauge(MetricNames.RECORDS_IN_BUFFER, new AtomicLong());
+        // LongAdders keep concurrent writers and process workers from contending on a single counter
+        this.recordsInFlight = pluginMetrics.gauge(MetricNames.RECORDS_INFLIGHT, new LongAdder(), LongAdder::doubleValue);
+        this.recordsInBuffer = pluginMetrics.gauge(MetricNames.RECORDS_IN_BUFFER, new LongAdder(), LongAdder::doubleValue);
         this.recordsProcessedCounter = pluginMetrics.counter(MetricNames.RECORDS_PROCESSED, pipelineName);
         this.recordsWriteFailed = pluginMetrics.counter(MetricNames.RECORDS_WRITE_FAILED);
         this.writeTimeoutCounter = pluginMetrics.counter(MetricNames.WRITE_TIMEOUTS);
@@ -72,8 +73,8 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         try {
             doWrite(record, timeoutInMillis);
             recordsWrittenCounter.increment();
-            recordsInBuffer.incrementAndGet();
-            postProcess(recordsInBuffer.get());
+            recordsInBuffer.increment();
+            postProcess(recordsInBuffer.sum());
         } catch (TimeoutException e) {
             recordsWriteFailed.increment();
             writeTimeoutCounter.increment();
@@ -99,8 +100,8 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         try {
             doWriteAll(records, timeoutInMillis);
             recordsWrittenCounter.increment(size);
-            recordsInBuffer.addAndGet(size);
-            postProcess(recordsInBuffer.get());
+            recordsInBuffer.add(size);
+            postProcess(recordsInBuffer.sum());
         } catch (Exception e) {
             recordsWriteFailed.increment(size);
             if (e instanceof TimeoutException) {
@@ -123,9 +124,9 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
     public Map.Entry<Collection<T>, CheckpointState> read(int timeoutInMillis) {
         final Map.Entry<Collection<T>, CheckpointState> readResult = readTimer.record(() -> doRead(timeoutInMillis));
         recordsReadCounter.increment(readResult.getKey().size() * 1.0);
-        recordsInFlight.addAndGet(readResult.getValue().getNumRecordsToBeChecked());
-        recordsInBuffer.addAndGet(-1 * readResult.getValue().getNumRecordsToBeChecked());
-        postProcess(recordsInBuffer.get());
+        recordsInFlight.add(readResult.getValue().getNumRecordsToBeChecked());
+        recordsInBuffer.add(-1 * readResult.getValue().getNumRecordsToBeChecked());
+        postProcess(recordsInBuffer.sum());
         return readResult;
     }
 
@@ -133,7 +134,7 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
     public void checkpoint(final CheckpointState checkpointState) {
         checkpointTimer.record(() -> doCheckpoint(checkpointState));
         final int numRecordsToBeChecked = checkpointState.getNumRecordsToBeChecked();
-        recordsInFlight.addAndGet(-numRecordsToBeChecked);
+        recordsInFlight.add(-numRecordsToBeChecked);
         recordsProcessedCounter.increment(numRecordsToBeChecked);
     }
 
@@ -51,6 +51,14 @@ public class PipelineModel {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private final Integer readBatchDelay;
 
+    @JsonProperty("max_in_flight_batches")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer maxInFlightBatches;
+
+    @JsonProperty("virtual_threads")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String virtualThreads;
+
     /**
      * @since 2.0
      * @param source Deserialized source plugin configuration
@@ -59,6 +67,27 @@ public class PipelineModel {
      * @param workers Deserialized workers plugin configuration, nullable
      * @param delay Deserialized delay plugin configuration, nullable
      */
+    public PipelineModel(
+            final PluginModel source,
+            final PluginModel buffer,
+            final List<PluginModel> processors,
+            final List<ConditionalRoute> routes,
+            final List<SinkModel> sinks,
+            final Integer workers,
+            final Integer delay) {
+        this(source, buffer, processors, routes, sinks, workers, delay, null, null);
+    }
+
+    /**
+     * @since 2.1
+     * @param source Deserialized source plugin configuration
+     * @param processors Deserialized processors plugin configuration, nullable
+     * @param sinks Deserialized sinks plugin configuration
+     * @param workers Deserialized workers plugin configuration, nullable
+     * @param delay Deserialized delay plugin configuration, nullable
+     * @param maxInFlightBatches Deserialized maximum number of batches each worker has in flight to the sinks, nullable
+     * @param virtualThreads Deserialized executors which run on virtual threads, nullable
+     */
     @JsonCreator
     public PipelineModel(
             @JsonProperty("source") final PluginModel source,
@@ -67,7 +96,9 @@ public class PipelineModel {
             @JsonProperty("route") final List<ConditionalRoute> routes,
             @JsonProperty("sink") final List<SinkModel> sinks,
             @JsonProperty("workers") final Integer workers,
-            @JsonProperty("delay") final Integer delay) {
+            @JsonProperty("delay") final Integer delay,
+            @JsonProperty("max_in_flight_batches") final Integer maxInFlightBatches,
+            @JsonProperty("virtual_threads") final String virtualThreads) {
         checkArgument(Objects.nonNull(source), "Source must not be null");
         checkArgument(Objects.nonNull(sinks), "Sinks must not be null");
         checkArgument(sinks.size() > 0, "PipelineModel must include at least 1 sink");
@@ -80,6 +111,8 @@ public class PipelineModel {
         this.sinks = sinks;
         this.workers = workers;
         this.readBatchDelay = delay;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.virtualThreads = virtualThreads;
     }
 
     public PluginModel getSource() {
@@ -107,4 +140,20 @@ public class PipelineModel {
     public Integer getReadBatchDelay() {
         return readBatchDelay;
     }
+
+    /**
+     * @since 2.1
+     * @return the maximum number of batches each worker has in flight to the sinks, or null if not configured
+     */
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    /**
+     * @since 2.1
+     * @return the executors which run on virtual threads, or null if not configured
+     */
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
 }
@@ -21,6 +21,21 @@ public class JacksonDocument extends JacksonEvent implements Document {
         checkArgument(this.getMetadata().getEventType().equals("DOCUMENT"), "eventType must be of type Document");
     }
 
+    protected JacksonDocument(final JacksonDocument otherDocument) {
+        super(otherDocument);
+    }
+
+    /**
+     * Creates a copy of this document which shares the data with this one until either of them is modified.
+     *
+     * @return a copy of this document
+     * @since 2.1
+     */
+    @Override
+    public JacksonDocument copy() {
+        return new JacksonDocument(this);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
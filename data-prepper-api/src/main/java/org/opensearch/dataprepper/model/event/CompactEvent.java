@@ -0,0 +1,571 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An implementation of the {@link Event} interface which keeps its fields in flat arrays instead of a tree of
+ * {@link com.fasterxml.jackson.databind.JsonNode}s. It accepts the same keys as {@link JacksonEvent} and behaves the
+ * same way, but it is cheaper to create and to access:
+ * <ul>
+ *     <li>Field names are interned, so events with the same fields share the same {@link String}s.</li>
+ *     <li>Booleans, integers, longs and doubles are stored without boxing.</li>
+ *     <li>Nested objects are kept as the {@link Map}s they were given as until they are modified, so fields which are
+ *     only read or written out again are never converted.</li>
+ * </ul>
+ * Maps and lists given to the builder or to {@link #put(String, Object)} are not copied, so they must not be modified
+ * afterwards. Values returned from this event are always copies and can be modified freely.
+ *
+ * @since 2.1
+ */
+public class CompactEvent implements Event {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompactEvent.class);
+
+    private static final String SEPARATOR = "/";
+
+    private static final Object MISSING = new Object();
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new Jdk8Module());
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
+
+    private final EventMetadata eventMetadata;
+
+    private final FieldTable fields;
+
+    protected CompactEvent(final Builder builder) {
+
+        if (builder.eventMetadata == null) {
+            this.eventMetadata = new DefaultEventMetadata.Builder()
+                    .withEventType(builder.eventType)
+                    .withTimeReceived(builder.timeReceived)
+                    .withAttributes(builder.eventMetadataAttributes)
+                    .build();
+        } else {
+            this.eventMetadata = builder.eventMetadata;
+        }
+
+        this.fields = getInitialFields(builder.data);
+    }
+
+    /**
+     * Creates a copy of the given event which can be modified independently. The {@link EventMetadata} is shared.
+     *
+     * @param otherEvent the event to copy
+     * @since 2.1
+     */
+    protected CompactEvent(final CompactEvent otherEvent) {
+        checkNotNull(otherEvent, "otherEvent cannot be null");
+        this.eventMetadata = otherEvent.eventMetadata;
+        this.fields = otherEvent.fields.copy();
+    }
+
+    private static FieldTable getInitialFields(final Object data) {
+        if (data == null) {
+            return new FieldTable();
+        }
+
+        final Object value;
+        if (data instanceof String) {
+            try {
+                value = mapper.readValue((String) data, MAP_TYPE_REFERENCE);
+            } catch (final JsonProcessingException e) {
+                throw new IllegalArgumentException("Unable to convert data into an event");
+            }
+        } else {
+            value = FieldTable.normalize(data, mapper);
+        }
+
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Unable to convert data into an event");
+        }
+        return FieldTable.fromMap((Map<?, ?>) value, mapper);
+    }
+
+    /**
+     * @return a copy of this event which can be modified independently
+     * @since 2.1
+     */
+    public CompactEvent copy() {
+        return new CompactEvent(this);
+    }
+
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.1
+     */
+    @Override
+    public void put(final String key, final Object value) {
+        putValue(toKeyElements(key), value);
+    }
+
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.1
+     */
+    @Override
+    public void put(final EventKey key, final Object value) {
+        putValue(key.getKeyElements(), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void putValue(final String[] keyElements, final Object value) {
+        final Object parent = getContainerForWrite(keyElements, true);
+        final String leafKey = keyElements[keyElements.length - 1];
+
+        if (parent instanceof FieldTable) {
+            ((FieldTable) parent).put(leafKey, value, mapper);
+        } else {
+            ((List<Object>) parent).set(Integer.parseInt(leafKey), FieldTable.normalize(value, mapper));
+        }
+    }
+
+    /**
+     * Retrieves the value of type clazz from the key.
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 2.1
+     */
+    @Override
+    public <T> T get(final String key, final Class<T> clazz) {
+        return mapValueToObject(key, getValue(toKeyElements(key)), clazz);
+    }
+
+    /**
+     * Retrieves the value of type clazz from the key.
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 2.1
+     */
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+        return mapValueToObject(key.getKey(), getValue(key.getKeyElements()), clazz);
+    }
+
+    private <T> T mapValueToObject(final String key, final Object value, final Class<T> clazz) {
+        if (value == MISSING || value == null) {
+            return null;
+        }
+        if (clazz.isInstance(value) && isImmutable(value)) {
+            return clazz.cast(value);
+        }
+
+        final Object plainValue = FieldTable.toPlainValue(value, mapper);
+        if (clazz.isInstance(plainValue)) {
+            return clazz.cast(plainValue);
+        }
+        try {
+            return mapper.convertValue(plainValue, clazz);
+        } catch (final IllegalArgumentException e) {
+            LOG.error("Unable to map {} to {}", key, clazz, e);
+            throw new RuntimeException(String.format("Unable to map %s to %s", key, clazz), e);
+        }
+    }
+
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return a List of clazz
+     * @throws RuntimeException if it is unable to map the elements in the list to the provided clazz
+     * @since 2.1
+     */
+    @Override
+    public <T> List<T> getList(final String key, final Class<T> clazz) {
+        return mapValueToList(key, getValue(toKeyElements(key)), clazz);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return a List of clazz
+     * @throws RuntimeException if it is unable to map the elements in the list to the provided clazz
+     * @since 2.1
+     */
+    @Override
+    public <T> List<T> getList(final EventKey key, final Class<T> clazz) {
+        return mapValueToList(key.getKey(), getValue(key.getKeyElements()), clazz);
+    }
+
+    private <T> List<T> mapValueToList(final String key, final Object value, final Class<T> clazz) {
+        if (value == MISSING) {
+            return null;
+        }
+
+        try {
+            return mapper.convertValue(FieldTable.toPlainValue(value, mapper),
+                    TypeFactory.defaultInstance().constructCollectionType(List.class, clazz));
+        } catch (final IllegalArgumentException e) {
+            LOG.error("Unable to map {} to List of {}", key, clazz, e);
+            throw new RuntimeException(String.format("Unable to map %s to %s", key, clazz), e);
+        }
+    }
+
+    /**
+     * Deletes the key from the event.
+     *
+     * @param key the field to be deleted
+     * @since 2.1
+     */
+    @Override
+    public void delete(final String key) {
+        deleteValue(toKeyElements(key));
+    }
+
+    /**
+     * Deletes the key from the event.
+     *
+     * @param key the field to be deleted
+     * @since 2.1
+     */
+    @Override
+    public void delete(final EventKey key) {
+        deleteValue(key.getKeyElements());
+    }
+
+    private void deleteValue(final String[] keyElements) {
+        final Object parent = getContainerForWrite(keyElements, false);
+
+        if (parent instanceof FieldTable) {
+            ((FieldTable) parent).remove(keyElements[keyElements.length - 1]);
+        }
+    }
+
+    @Override
+    public String toJsonString() {
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+            fields.writeTo(generator, mapper);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to convert event into a JSON string", e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * returns a string with formatted parts replaced by their values. The input
+     * string may contain parts with format "${.../.../...}" which are replaced
+     * by their value in the event
+     *
+     * @param format string with format
+     * @throws RuntimeException if the format is incorrect or the value is not a string
+     * @since 2.1
+     */
+    @Override
+    public String formatString(final String format) {
+        final StringBuilder result = new StringBuilder(format.length());
+        int fromIndex = 0;
+        int position;
+        while ((position = format.indexOf("${", fromIndex)) != -1) {
+            final int endPosition = format.indexOf("}", position + 1);
+            if (endPosition == -1) {
+                throw new RuntimeException("index name not properly formed");
+            }
+            result.append(format, fromIndex, position);
+            final Object value = get(format.substring(position + 2, endPosition), Object.class);
+            if (value == null) {
+                return null;
+            }
+            result.append(value);
+            fromIndex = endPosition + 1;
+        }
+        result.append(format, fromIndex, format.length());
+        return result.toString();
+    }
+
+    @Override
+    public EventMetadata getMetadata() {
+        return eventMetadata;
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return getValue(toKeyElements(key)) != MISSING;
+    }
+
+    @Override
+    public boolean containsKey(final EventKey key) {
+        return getValue(key.getKeyElements()) != MISSING;
+    }
+
+    @Override
+    public boolean isValueAList(final String key) {
+        return isList(getValue(toKeyElements(key)));
+    }
+
+    @Override
+    public boolean isValueAList(final EventKey key) {
+        return isList(getValue(key.getKeyElements()));
+    }
+
+    private static boolean isList(final Object value) {
+        return value != MISSING && FieldTable.normalize(value, mapper) instanceof List;
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        return fields.toMap(mapper);
+    }
+
+    private static String[] toKeyElements(final String key) {
+        return JacksonEvent.checkAndTrimKey(key).split(SEPARATOR, -1);
+    }
+
+    /**
+     * @return the value at the given key as it is stored, or {@link #MISSING} if there is no such key
+     */
+    private Object getValue(final String[] keyElements) {
+        Object current = fields;
+        for (final String keyElement : keyElements) {
+            current = getChild(current, keyElement);
+            if (current == MISSING) {
+                return MISSING;
+            }
+        }
+        return current;
+    }
+
+    private static Object getChild(final Object container, final String name) {
+        if (container instanceof FieldTable) {
+            final FieldTable table = (FieldTable) container;
+            final int index = table.indexOf(name);
+            return index == -1 ? MISSING : table.valueAt(index);
+        }
+
+        final Object normalizedContainer = FieldTable.normalize(container, mapper);
+        if (normalizedContainer instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) normalizedContainer;
+            final Object value = map.get(name);
+            return value != null || map.containsKey(name) ? value : MISSING;
+        } else if (normalizedContainer instanceof List) {
+            final List<?> list = (List<?>) normalizedContainer;
+            final int index = toListIndex(name);
+            return index != -1 && index < list.size() ? list.get(index) : MISSING;
+        }
+        return MISSING;
+    }
+
+    /**
+     * Walks the parents of the given key, turning every object on the way into a {@link FieldTable} and every list
+     * into a {@link FieldTable.FieldList} so that it can be modified.
+     *
+     * @param keyElements   the elements of the key
+     * @param createMissing whether to create missing objects on the way
+     * @return the object or list containing the last element of the key, or {@link #MISSING} if it does not exist
+     * and createMissing is false
+     */
+    private Object getContainerForWrite(final String[] keyElements, final boolean createMissing) {
+        Object container = fields;
+        for (int i = 0; i < keyElements.length - 1; i++) {
+            if (!keyElements[i].isEmpty()) {
+                container = getChildForWrite(container, keyElements[i], createMissing);
+                if (container == MISSING) {
+                    return MISSING;
+                }
+            }
+        }
+        return container;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object getChildForWrite(final Object container, final String name, final boolean createMissing) {
+        final Object child;
+        if (container instanceof FieldTable) {
+            final FieldTable table = (FieldTable) container;
+            final int index = table.indexOf(name);
+            if (index == -1) {
+                if (!createMissing) {
+                    return MISSING;
+                }
+                final FieldTable newTable = new FieldTable();
+                table.put(name, newTable, mapper);
+                return newTable;
+            }
+            child = table.valueForWriteAt(index, mapper);
+        } else {
+            final List<Object> list = (List<Object>) container;
+            final int index = toListIndex(name);
+            if (index == -1 || index >= list.size()) {
+                return getMissingContainer(name, createMissing);
+            }
+            final Object element = FieldTable.normalize(list.get(index), mapper);
+            if (element instanceof Map) {
+                list.set(index, FieldTable.fromMap((Map<?, ?>) element, mapper));
+            } else if (element instanceof List && !(element instanceof FieldTable.FieldList)) {
+                list.set(index, new FieldTable.FieldList((List<?>) element));
+            }
+            child = list.get(index);
+        }
+
+        if (child instanceof FieldTable || child instanceof FieldTable.FieldList) {
+            return child;
+        }
+        return getMissingContainer(name, createMissing);
+    }
+
+    private static Object getMissingContainer(final String name, final boolean createMissing) {
+        if (createMissing) {
+            throw new IllegalArgumentException(String.format("Unable to put a value under %s, it is not an object or a list", name));
+        }
+        return MISSING;
+    }
+
+    /**
+     * @return the list index for the given name following JsonPointer rules, or -1 if the name is not an index
+     */
+    private static int toListIndex(final String name) {
+        final int length = name.length();
+        if (length == 0 || length > 10 || (length > 1 && name.charAt(0) == '0')) {
+            return -1;
+        }
+        long index = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index > Integer.MAX_VALUE ? -1 : (int) index;
+    }
+
+    private static boolean isImmutable(final Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Double
+                || value instanceof Boolean;
+    }
+
+    /**
+     * Constructs an empty builder.
+     *
+     * @return a builder
+     * @since 2.1
+     */
+    public static Builder builder() {
+        return new Builder() {
+            @Override
+            public Builder getThis() {
+                return this;
+            }
+        };
+    }
+
+    /**
+     * Builder for creating {@link CompactEvent}.
+     *
+     * @since 2.1
+     */
+    public abstract static class Builder<T extends Builder<T>> {
+
+        private EventMetadata eventMetadata;
+        private Object data;
+        private String eventType;
+        private Instant timeReceived;
+        private Map<String, Object> eventMetadataAttributes;
+
+        public abstract T getThis();
+
+        /**
+         * Sets the event type for the metadata if a {@link #withEventMetadata} is not used.
+         *
+         * @param eventType the event type
+         * @since 2.1
+         */
+        public Builder<T> withEventType(final String eventType) {
+            this.eventType = eventType;
+            return this;
+        }
+
+        /**
+         * Sets the attributes for the metadata if a {@link #withEventMetadata} is not used.
+         *
+         * @param eventMetadataAttributes the attributes
+         * @since 2.1
+         */
+        public Builder<T> withEventMetadataAttributes(final Map<String, Object> eventMetadataAttributes) {
+            this.eventMetadataAttributes = eventMetadataAttributes;
+            return this;
+        }
+
+        /**
+         * Sets the time received for the metadata if a {@link #withEventMetadata} is not used.
+         *
+         * @param timeReceived the time an event was received
+         * @since 2.1
+         */
+        public Builder<T> withTimeReceived(final Instant timeReceived) {
+            this.timeReceived = timeReceived;
+            return this;
+        }
+
+        /**
+         * Sets the metadata.
+         *
+         * @param eventMetadata the metadata
+         * @since 2.1
+         */
+        public Builder<T> withEventMetadata(final EventMetadata eventMetadata) {
+            this.eventMetadata = eventMetadata;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event. The data may be a {@link Map}, an object which maps to a JSON object or a JSON
+         * string.
+         *
+         * @param data the data
+         * @since 2.1
+         */
+        public Builder<T> withData(final Object data) {
+            this.data = data;
+            return this;
+        }
+
+        /**
+         * Returns a newly created {@link CompactEvent}.
+         *
+         * @return an event
+         * @since 2.1
+         */
+        public CompactEvent build() {
+            return new CompactEvent(this);
+        }
+    }
+}
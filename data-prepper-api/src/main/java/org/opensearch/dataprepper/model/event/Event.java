@@ -101,4 +101,68 @@ public interface Event {
      * @since 2.1
      */
     String formatString(final String format);
+
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 2.1
+     */
+    default void put(final EventKey key, final Object value) {
+        put(key.getKey(), value);
+    }
+
+    /**
+     * Retrieves the given key from the Event
+     *
+     * @param key the value to retrieve from
+     * @param clazz the return type of the value
+     * @return T a clazz object from the key
+     * @since 2.1
+     */
+    default <T> T get(final EventKey key, final Class<T> clazz) {
+        return get(key.getKey(), clazz);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return {@literal List<T>} a list of clazz elements
+     * @since 2.1
+     */
+    default <T> List<T> getList(final EventKey key, final Class<T> clazz) {
+        return getList(key.getKey(), clazz);
+    }
+
+    /**
+     * Deletes the given key from the Event
+     * @param key the field to be deleted
+     * @since 2.1
+     */
+    default void delete(final EventKey key) {
+        delete(key.getKey());
+    }
+
+    /**
+     * Checks if the key exists.
+     * @param key the key to check
+     * @return returns true if the key exists, otherwise false
+     * @since 2.1
+     */
+    default boolean containsKey(final EventKey key) {
+        return containsKey(key.getKey());
+    }
+
+    /**
+     * Checks if the value stored for the key is list
+     * @param key the key to check
+     * @return returns true if the key is a list, otherwise false
+     * @since 2.1
+     */
+    default boolean isValueAList(final EventKey key) {
+        return isValueAList(key.getKey());
+    }
 }
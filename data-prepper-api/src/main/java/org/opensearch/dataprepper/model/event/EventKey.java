@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import java.util.Objects;
+
+/**
+ * A key of an {@link Event} which has been validated and parsed once, so that it can be used on many events without
+ * parsing it again. Plugins should create their keys with {@link #of(String)} when they are constructed and use the
+ * {@link Event} methods which take an {@link EventKey}.
+ * <p>
+ * Keys follow the same rules as the {@link String} keys of {@link Event}. For example "fizz/buzz" and "/fizz/buzz"
+ * both refer to the field "buzz" nested in the field "fizz".
+ *
+ * @since 2.1
+ */
+public final class EventKey {
+    private static final String SEPARATOR = "/";
+
+    private final String key;
+    private final String trimmedKey;
+    private final String[] keyElements;
+    private final JsonPointer jsonPointer;
+    private final JsonPointer parentJsonPointer;
+
+    private EventKey(final String key) {
+        this.key = key;
+        this.trimmedKey = JacksonEvent.checkAndTrimKey(key);
+
+        keyElements = trimmedKey.split(SEPARATOR, -1);
+        for (int i = 0; i < keyElements.length; i++) {
+            keyElements[i] = FieldNames.intern(keyElements[i]);
+        }
+
+        jsonPointer = JsonPointer.compile(SEPARATOR + trimmedKey);
+        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        parentJsonPointer = index == -1 ? null : JsonPointer.compile(SEPARATOR + trimmedKey.substring(0, index));
+    }
+
+    /**
+     * Creates an {@link EventKey} from a key.
+     *
+     * @param key the key
+     * @return the parsed key
+     * @throws NullPointerException     if the key is null
+     * @throws IllegalArgumentException if the key is not a valid {@link Event} key
+     * @since 2.1
+     */
+    public static EventKey of(final String key) {
+        return new EventKey(key);
+    }
+
+    /**
+     * @return the key this {@link EventKey} was created from
+     * @since 2.1
+     */
+    public String getKey() {
+        return key;
+    }
+
+    String getTrimmedKey() {
+        return trimmedKey;
+    }
+
+    /**
+     * @return the elements of the key between the separators, including empty elements. The array must not be
+     * modified.
+     */
+    String[] getKeyElements() {
+        return keyElements;
+    }
+
+    /**
+     * @return the last element of the key
+     */
+    String getLeafKey() {
+        return keyElements[keyElements.length - 1];
+    }
+
+    JsonPointer getJsonPointer() {
+        return jsonPointer;
+    }
+
+    /**
+     * @return the pointer to the parent of the key, or null if the key is not nested
+     */
+    JsonPointer getParentJsonPointer() {
+        return parentJsonPointer;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return trimmedKey.equals(((EventKey) other).trimmedKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trimmedKey);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide pool of field names used by {@link CompactEvent}. Events with the same fields share a single
+ * {@link String} instance per name, which saves memory and lets lookups succeed on a reference comparison.
+ * <p>
+ * The pool is bounded so that data with unbounded field names cannot grow it forever. Once it is full, names which are
+ * not in the pool are used as they are.
+ */
+final class FieldNames {
+    static final int MAX_INTERNED_NAMES = 10_000;
+
+    private static final ConcurrentMap<String, String> NAMES = new ConcurrentHashMap<>();
+
+    private FieldNames() {
+    }
+
+    /**
+     * @param name a field name
+     * @return the pooled instance equal to the given name, or the given name if the pool is full
+     */
+    static String intern(final String name) {
+        final String internedName = NAMES.get(name);
+        if (internedName != null) {
+            return internedName;
+        }
+        if (NAMES.size() >= MAX_INTERNED_NAMES) {
+            return name;
+        }
+        final String previousName = NAMES.putIfAbsent(name, name);
+        return previousName == null ? name : previousName;
+    }
+}
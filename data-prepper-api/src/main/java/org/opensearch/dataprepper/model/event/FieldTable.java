@@ -0,0 +1,326 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fields of one object of a {@link CompactEvent}, kept in parallel arrays in insertion order. Field names are
+ * interned with {@link FieldNames}. Booleans, integers, longs and doubles are stored unboxed in a {@code long} slot,
+ * every other value is stored in an {@code Object} slot.
+ * <p>
+ * Nested objects are first kept as the {@link Map} they were given as and are only turned into a {@link FieldTable}
+ * when they are modified. Lists are kept as given and copied into a {@link FieldList} when they are modified.
+ */
+final class FieldTable {
+    static final byte NULL = 0;
+    static final byte BOOLEAN = 1;
+    static final byte INT = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte STRING = 5;
+    static final byte OBJECT = 6;
+    static final byte VALUE = 7;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private String[] names;
+    private byte[] types;
+    private long[] primitives;
+    private Object[] references;
+    private int size;
+
+    FieldTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    FieldTable(final int capacity) {
+        names = new String[capacity];
+        types = new byte[capacity];
+        primitives = new long[capacity];
+        references = new Object[capacity];
+    }
+
+    private FieldTable(final FieldTable otherTable) {
+        size = otherTable.size;
+        names = Arrays.copyOf(otherTable.names, Math.max(size, 1));
+        types = Arrays.copyOf(otherTable.types, names.length);
+        primitives = Arrays.copyOf(otherTable.primitives, names.length);
+        references = new Object[names.length];
+        for (int i = 0; i < size; i++) {
+            references[i] = copyValue(otherTable.references[i]);
+        }
+    }
+
+    /**
+     * Creates a table with the entries of the given map. Nested maps and lists are not copied.
+     */
+    static FieldTable fromMap(final Map<?, ?> map, final ObjectMapper mapper) {
+        final FieldTable table = new FieldTable(Math.max(map.size(), 1));
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            final int index = table.append(String.valueOf(entry.getKey()));
+            table.store(index, entry.getValue(), mapper);
+        }
+        return table;
+    }
+
+    /**
+     * @return a copy of this table which can be modified independently. Values which are only read are shared.
+     */
+    FieldTable copy() {
+        return new FieldTable(this);
+    }
+
+    int indexOf(final String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i] == name) {
+                return i;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the value at the given index. Primitive slots are boxed, nested objects are returned as they are stored,
+     * either as a {@link FieldTable} or as a {@link Map}.
+     */
+    Object valueAt(final int index) {
+        switch (types[index]) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return primitives[index] != 0;
+            case INT:
+                return (int) primitives[index];
+            case LONG:
+                return primitives[index];
+            case DOUBLE:
+                return Double.longBitsToDouble(primitives[index]);
+            default:
+                return references[index];
+        }
+    }
+
+    /**
+     * @return the value at the given index, with nested objects turned into a {@link FieldTable} and lists turned into
+     * a {@link FieldList} so that they can be modified
+     */
+    Object valueForWriteAt(final int index, final ObjectMapper mapper) {
+        final Object reference = references[index];
+        if (types[index] == OBJECT && !(reference instanceof FieldTable)) {
+            references[index] = fromMap((Map<?, ?>) reference, mapper);
+        } else if (reference instanceof List && !(reference instanceof FieldList)) {
+            references[index] = new FieldList((List<?>) reference);
+        }
+        return valueAt(index);
+    }
+
+    void put(final String name, final Object value, final ObjectMapper mapper) {
+        int index = indexOf(name);
+        if (index < 0) {
+            index = append(name);
+        }
+        store(index, value, mapper);
+    }
+
+    void remove(final String name) {
+        final int index = indexOf(name);
+        if (index < 0) {
+            return;
+        }
+        final int moved = size - index - 1;
+        System.arraycopy(names, index + 1, names, index, moved);
+        System.arraycopy(types, index + 1, types, index, moved);
+        System.arraycopy(primitives, index + 1, primitives, index, moved);
+        System.arraycopy(references, index + 1, references, index, moved);
+        size--;
+        names[size] = null;
+        references[size] = null;
+    }
+
+    Map<String, Object> toMap(final ObjectMapper mapper) {
+        final Map<String, Object> map = new LinkedHashMap<>(Math.max(4, size * 4 / 3 + 1));
+        for (int i = 0; i < size; i++) {
+            map.put(names[i], toPlainValue(valueAt(i), mapper));
+        }
+        return map;
+    }
+
+    void writeTo(final JsonGenerator generator, final ObjectMapper mapper) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < size; i++) {
+            generator.writeFieldName(names[i]);
+            switch (types[i]) {
+                case NULL:
+                    generator.writeNull();
+                    break;
+                case BOOLEAN:
+                    generator.writeBoolean(primitives[i] != 0);
+                    break;
+                case INT:
+                    generator.writeNumber((int) primitives[i]);
+                    break;
+                case LONG:
+                    generator.writeNumber(primitives[i]);
+                    break;
+                case DOUBLE:
+                    generator.writeNumber(Double.longBitsToDouble(primitives[i]));
+                    break;
+                case STRING:
+                    generator.writeString((String) references[i]);
+                    break;
+                default:
+                    writeValue(generator, references[i], mapper);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private int append(final String name) {
+        if (size == names.length) {
+            final int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+            names = Arrays.copyOf(names, capacity);
+            types = Arrays.copyOf(types, capacity);
+            primitives = Arrays.copyOf(primitives, capacity);
+            references = Arrays.copyOf(references, capacity);
+        }
+        names[size] = FieldNames.intern(name);
+        return size++;
+    }
+
+    private void store(final int index, final Object value, final ObjectMapper mapper) {
+        references[index] = null;
+        primitives[index] = 0;
+        if (value == null) {
+            types[index] = NULL;
+        } else if (value instanceof Boolean) {
+            types[index] = BOOLEAN;
+            primitives[index] = (Boolean) value ? 1 : 0;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            types[index] = INT;
+            primitives[index] = ((Number) value).intValue();
+        } else if (value instanceof Long) {
+            types[index] = LONG;
+            primitives[index] = (Long) value;
+        } else if (value instanceof Double) {
+            types[index] = DOUBLE;
+            primitives[index] = Double.doubleToRawLongBits((Double) value);
+        } else if (value instanceof String) {
+            types[index] = STRING;
+            references[index] = value;
+        } else if (value instanceof FieldTable || value instanceof Map) {
+            types[index] = OBJECT;
+            references[index] = value;
+        } else if (value instanceof List || value instanceof Number) {
+            types[index] = VALUE;
+            references[index] = value;
+        } else {
+            store(index, normalize(value, mapper), mapper);
+        }
+    }
+
+    /**
+     * @return the given value if it is already made of maps, lists and scalars, otherwise the value converted to them
+     */
+    static Object normalize(final Object value, final ObjectMapper mapper) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Map || value instanceof List || value instanceof FieldTable) {
+            return value;
+        }
+        if (value instanceof CharSequence) {
+            return value.toString();
+        }
+        return mapper.convertValue(value, Object.class);
+    }
+
+    /**
+     * @return a copy of the given value made only of maps, lists and scalars
+     */
+    static Object toPlainValue(final Object value, final ObjectMapper mapper) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        } else if (value instanceof FieldTable) {
+            return ((FieldTable) value).toMap(mapper);
+        } else if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            final Map<String, Object> plainMap = new LinkedHashMap<>(Math.max(4, map.size() * 4 / 3 + 1));
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                plainMap.put(String.valueOf(entry.getKey()), toPlainValue(entry.getValue(), mapper));
+            }
+            return plainMap;
+        } else if (value instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) value;
+            final List<Object> plainList = new ArrayList<>(collection.size());
+            for (final Object element : collection) {
+                plainList.add(toPlainValue(element, mapper));
+            }
+            return plainList;
+        }
+        return toPlainValue(normalize(value, mapper), mapper);
+    }
+
+    private static void writeValue(final JsonGenerator generator, final Object value, final ObjectMapper mapper)
+            throws IOException {
+        if (value instanceof FieldTable) {
+            ((FieldTable) value).writeTo(generator, mapper);
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                generator.writeFieldName(String.valueOf(entry.getKey()));
+                writeValue(generator, entry.getValue(), mapper);
+            }
+            generator.writeEndObject();
+        } else if (value instanceof Collection) {
+            generator.writeStartArray();
+            for (final Object element : (Collection<?>) value) {
+                writeValue(generator, element, mapper);
+            }
+            generator.writeEndArray();
+        } else {
+            mapper.writeValue(generator, value);
+        }
+    }
+
+    private static Object copyValue(final Object value) {
+        if (value instanceof FieldTable) {
+            return ((FieldTable) value).copy();
+        } else if (value instanceof FieldList) {
+            return ((FieldList) value).copy();
+        }
+        return value;
+    }
+
+    /**
+     * A list owned by a {@link CompactEvent}, which may be modified in place.
+     */
+    static final class FieldList extends ArrayList<Object> {
+        FieldList(final Collection<?> values) {
+            super(values);
+        }
+
+        FieldList copy() {
+            final FieldList copy = new FieldList(this);
+            for (int i = 0; i < copy.size(); i++) {
+                copy.set(i, copyValue(copy.get(i)));
+            }
+            return copy;
+        }
+    }
+}
@@ -22,12 +22,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -62,7 +61,12 @@ public class JacksonEvent implements Event {
 
     private final EventMetadata eventMetadata;
 
-    private final JsonNode jsonNode;
+    /**
+     * The data of this event, which is shared with the events created with {@link #JacksonEvent(JacksonEvent)} until
+     * either of them is modified. Reading the data never replaces it, so that an event can be read and copied
+     * concurrently.
+     */
+    private volatile EventData eventData;
 
     static final int MAX_KEY_LENGTH = 2048;
 
@@ -82,7 +86,26 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        if (builder.unparsedJsonData != null) {
+            this.eventData = new EventData(null, builder.unparsedJsonData);
+        } else {
+            this.eventData = new EventData(getInitialJsonNode(builder.data), null);
+        }
+    }
+
+    /**
+     * Creates a copy of the given event. The copy shares the data of the given event until either of them is
+     * modified, at which point the modified event copies the data. The {@link EventMetadata} is shared.
+     *
+     * @param otherEvent the event to copy
+     * @since 2.1
+     */
+    protected JacksonEvent(final JacksonEvent otherEvent) {
+        checkNotNull(otherEvent, "otherEvent cannot be null");
+        this.eventMetadata = otherEvent.eventMetadata;
+        final EventData otherEventData = otherEvent.eventData;
+        otherEventData.references.incrementAndGet();
+        this.eventData = otherEventData;
     }
 
     public static Event fromMessage(String message) {
@@ -106,8 +129,43 @@ public class JacksonEvent implements Event {
         return mapper.valueToTree(data);
     }
 
+    /**
+     * @return the data of this event. It may be shared with copies of this event and must not be modified.
+     */
     protected JsonNode getJsonNode() {
-        return jsonNode;
+        return getParsedJsonNode();
+    }
+
+    private JsonNode getParsedJsonNode() {
+        return eventData.getJsonNode();
+    }
+
+    /**
+     * Creates a copy of this event which shares the data with this event until either of them is modified. Copying
+     * an event is therefore cheap when neither the event nor its copy are modified afterwards.
+     *
+     * @return a copy of this event
+     * @since 2.1
+     */
+    public JacksonEvent copy() {
+        return new JacksonEvent(this);
+    }
+
+    /**
+     * Copies the shared data before it is modified, so the modification is not visible to the other copies.
+     *
+     * @return the data of this event, which is not shared with other events
+     */
+    private JsonNode ensureExclusiveJsonNode() {
+        final EventData currentEventData = eventData;
+        final JsonNode jsonNode = currentEventData.getJsonNode();
+        if (currentEventData.references.get() > 1) {
+            eventData = new EventData(jsonNode.deepCopy(), null);
+            currentEventData.references.decrementAndGet();
+        } else if (currentEventData.unparsedJson != null) {
+            eventData = new EventData(jsonNode, null);
+        }
+        return eventData.jsonNode;
     }
 
     /**
@@ -120,21 +178,28 @@ public class JacksonEvent implements Event {
     public void put(final String key, final Object value) {
 
         final String trimmedKey = checkAndTrimKey(key);
+        putNode(trimmedKey.split(SEPARATOR, -1), value);
+    }
 
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR)));
-
-        JsonNode parentNode = jsonNode;
+    /**
+     * Adds or updates the key with a given value in the Event.
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 2.1
+     */
+    @Override
+    public void put(final EventKey key, final Object value) {
+        putNode(key.getKeyElements(), value);
+    }
 
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+    private void putNode(final String[] keys, final Object value) {
+        JsonNode parentNode = ensureExclusiveJsonNode();
+        for (int i = 0; i < keys.length - 1; i++) {
+            if (!keys[i].isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, keys[i]);
             }
         }
+        setNode(parentNode, keys[keys.length - 1], value);
     }
 
     private void setNode(final JsonNode parentNode, final String leafKey, final Object value) {
@@ -176,9 +241,28 @@ public class JacksonEvent implements Event {
         return mapNodeToObject(key, node, clazz);
     }
 
+    /**
+     * Retrieves the value of type clazz from the key.
+     * @param key the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 2.1
+     */
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+
+        final JsonNode node = getParsedJsonNode().at(key.getJsonPointer());
+        if (node.isMissingNode()) {
+            return null;
+        }
+
+        return mapNodeToObject(key.getKey(), node, clazz);
+    }
+
     private JsonNode getNode(final String key) {
         final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+        return getParsedJsonNode().at(jsonPointer);
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
@@ -211,6 +295,25 @@ public class JacksonEvent implements Event {
         return mapNodeToList(key, node, clazz);
     }
 
+    /**
+     * Retrieves the given key from the Event as a List
+     * @param key the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return a List of clazz
+     * @throws RuntimeException if it is unable to map the elements in the list to the provided clazz
+     * @since 2.1
+     */
+    @Override
+    public <T> List<T> getList(final EventKey key, final Class<T> clazz) {
+
+        final JsonNode node = getParsedJsonNode().at(key.getJsonPointer());
+        if (node.isMissingNode()) {
+            return null;
+        }
+
+        return mapNodeToList(key.getKey(), node, clazz);
+    }
+
     private <T> List<T> mapNodeToList(final String key, final JsonNode node, final Class<T> clazz) {
         try {
             final ObjectReader reader = mapper.readerFor(TypeFactory.defaultInstance().constructCollectionType(List.class, clazz));
@@ -235,6 +338,7 @@ public class JacksonEvent implements Event {
     public void delete(final String key) {
 
         final String trimmedKey = checkAndTrimKey(key);
+        final JsonNode jsonNode = ensureExclusiveJsonNode();
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
 
         JsonNode baseNode = jsonNode;
@@ -251,9 +355,30 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * Deletes the key from the event.
+     *
+     * @param key the field to be deleted
+     * @since 2.1
+     */
+    @Override
+    public void delete(final EventKey key) {
+
+        final JsonNode jsonNode = ensureExclusiveJsonNode();
+        final JsonNode baseNode = key.getParentJsonPointer() == null ? jsonNode : jsonNode.at(key.getParentJsonPointer());
+
+        if (!baseNode.isMissingNode()) {
+            ((ObjectNode) baseNode).remove(key.getLeafKey());
+        }
+    }
+
     @Override
     public String toJsonString() {
-        return jsonNode.toString();
+        final EventData currentEventData = eventData;
+        if (currentEventData.unparsedJson != null) {
+            return currentEventData.unparsedJson;
+        }
+        return currentEventData.getJsonNode().toString();
     }
 
     /**
@@ -312,17 +437,27 @@ public class JacksonEvent implements Event {
         return node.isArray();
     }
 
+    @Override
+    public boolean containsKey(final EventKey key) {
+        return !getParsedJsonNode().at(key.getJsonPointer()).isMissingNode();
+    }
+
+    @Override
+    public boolean isValueAList(final EventKey key) {
+        return getParsedJsonNode().at(key.getJsonPointer()).isArray();
+    }
+
     @Override
     public Map<String, Object> toMap() {
-        return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
+        return mapper.convertValue(getParsedJsonNode(), MAP_TYPE_REFERENCE);
     }
 
-    private String checkAndTrimKey(final String key) {
+    static String checkAndTrimKey(final String key) {
         checkKey(key);
         return trimKey(key);
     }
 
-    private void checkKey(final String key) {
+    private static void checkKey(final String key) {
         checkNotNull(key, "key cannot be null");
         checkArgument(!key.isEmpty(), "key cannot be an empty string");
         if (key.length() > MAX_KEY_LENGTH) {
@@ -333,13 +468,13 @@ public class JacksonEvent implements Event {
         }
     }
 
-    private String trimKey(final String key) {
+    private static String trimKey(final String key) {
 
         final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
         return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
     }
 
-    private boolean isValidKey(final String key) {
+    private static boolean isValidKey(final String key) {
         char previous = ' ';
         char next = ' ';
         for (int i = 0; i < key.length(); i++) {
@@ -369,6 +504,51 @@ public class JacksonEvent implements Event {
         return true;
     }
 
+    /**
+     * The data of one or more events. The unparsed JSON an event was built with is parsed once, under the lock of
+     * the holder, and the parsed tree is shared by all events referencing the holder. The unparsed JSON is kept after
+     * parsing, so that {@link #toJsonString()} can return it while the event is not modified, which holds both the
+     * JSON and the tree in memory for events which are only read.
+     */
+    private static final class EventData {
+        private final String unparsedJson;
+        private final AtomicInteger references;
+        private volatile JsonNode jsonNode;
+
+        private EventData(final JsonNode jsonNode, final String unparsedJson) {
+            this.jsonNode = jsonNode;
+            this.unparsedJson = unparsedJson;
+            references = new AtomicInteger(1);
+        }
+
+        private JsonNode getJsonNode() {
+            JsonNode parsedNode = jsonNode;
+            if (parsedNode == null) {
+                synchronized (this) {
+                    parsedNode = jsonNode;
+                    if (parsedNode == null) {
+                        parsedNode = parse(unparsedJson);
+                        jsonNode = parsedNode;
+                    }
+                }
+            }
+            return parsedNode;
+        }
+
+        private static JsonNode parse(final String unparsedJson) {
+            final JsonNode parsedNode;
+            try {
+                parsedNode = mapper.readTree(unparsedJson);
+            } catch (final JsonProcessingException e) {
+                throw new IllegalArgumentException("Unable to convert data into an event", e);
+            }
+            if (!parsedNode.isObject()) {
+                throw new IllegalArgumentException("Unable to convert data into an event");
+            }
+            return parsedNode;
+        }
+    }
+
     /**
      * Constructs an empty builder.
      * @return a builder
@@ -390,6 +570,7 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         private Object data;
+        private String unparsedJsonData;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -446,6 +627,19 @@ public class JacksonEvent implements Event {
             return this;
         }
 
+        /**
+         * Sets the data of the event to a JSON object which is only parsed when the data of the event is first
+         * accessed. Until the event is modified, {@link JacksonEvent#toJsonString()} returns the given JSON as it is.
+         * Sources should use this for JSON they have already tokenized, since invalid JSON is only reported when the
+         * event is accessed. It takes precedence over {@link #withData(Object)}.
+         * @param unparsedJsonData a JSON object
+         * @since 2.1
+         */
+        public Builder<T> withUnparsedJsonData(final String unparsedJsonData) {
+            this.unparsedJsonData = unparsedJsonData;
+            return this;
+        }
+
         /**
          * Returns a newly created {@link JacksonEvent}.
          * @return an event
@@ -21,6 +21,21 @@ public class JacksonLog extends JacksonEvent implements Log {
         checkArgument(this.getMetadata().getEventType().equals("LOG"), "eventType must be of type Log");
     }
 
+    protected JacksonLog(final JacksonLog otherLog) {
+        super(otherLog);
+    }
+
+    /**
+     * Creates a copy of this log which shares the data with this one until either of them is modified.
+     *
+     * @return a copy of this log
+     * @since 2.1
+     */
+    @Override
+    public JacksonLog copy() {
+        return new JacksonLog(this);
+    }
+
     /**
      * Constructs an empty builder.
      * @return a builder
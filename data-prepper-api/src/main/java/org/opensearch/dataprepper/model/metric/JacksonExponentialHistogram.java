@@ -45,6 +45,21 @@ public class JacksonExponentialHistogram extends JacksonMetric implements Expone
         checkArgument(this.getMetadata().getEventType().equals(EventType.METRIC.toString()), "eventType must be of type Metric");
     }
 
+    protected JacksonExponentialHistogram(final JacksonExponentialHistogram otherExponentialHistogram) {
+        super(otherExponentialHistogram);
+    }
+
+    /**
+     * Creates a copy of this exponential histogram which shares the data with this one until either of them is modified.
+     *
+     * @return a copy of this exponential histogram
+     * @since 2.1
+     */
+    @Override
+    public JacksonExponentialHistogram copy() {
+        return new JacksonExponentialHistogram(this);
+    }
+
     public static JacksonExponentialHistogram.Builder builder() {
         return new JacksonExponentialHistogram.Builder();
     }
@@ -34,6 +34,21 @@ public class JacksonGauge extends JacksonMetric implements Gauge {
         checkArgument(this.getMetadata().getEventType().equals(EventType.METRIC.toString()), "eventType must be of type Metric");
     }
 
+    protected JacksonGauge(final JacksonGauge otherGauge) {
+        super(otherGauge);
+    }
+
+    /**
+     * Creates a copy of this gauge which shares the data with this one until either of them is modified.
+     *
+     * @return a copy of this gauge
+     * @since 2.1
+     */
+    @Override
+    public JacksonGauge copy() {
+        return new JacksonGauge(this);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
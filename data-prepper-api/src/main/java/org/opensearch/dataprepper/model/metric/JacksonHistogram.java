@@ -44,6 +44,21 @@ public class JacksonHistogram extends JacksonMetric implements Histogram {
         checkArgument(this.getMetadata().getEventType().equals(EventType.METRIC.toString()), "eventType must be of type Metric");
     }
 
+    protected JacksonHistogram(final JacksonHistogram otherHistogram) {
+        super(otherHistogram);
+    }
+
+    /**
+     * Creates a copy of this histogram which shares the data with this one until either of them is modified.
+     *
+     * @return a copy of this histogram
+     * @since 2.1
+     */
+    @Override
+    public JacksonHistogram copy() {
+        return new JacksonHistogram(this);
+    }
+
     public static JacksonHistogram.Builder builder() {
         return new JacksonHistogram.Builder();
     }
@@ -37,6 +37,10 @@ public abstract class JacksonMetric extends JacksonEvent implements Metric {
         super(builder);
     }
 
+    protected JacksonMetric(final JacksonMetric otherMetric) {
+        super(otherMetric);
+    }
+
     @Override
     public String toJsonString() {
         final ObjectNode attributesNode = (ObjectNode) getJsonNode().get(ATTRIBUTES_KEY);
@@ -35,6 +35,21 @@ public class JacksonSum extends JacksonMetric implements Sum {
         checkArgument(this.getMetadata().getEventType().equals(EventType.METRIC.toString()), "eventType must be of type Metric");
     }
 
+    protected JacksonSum(final JacksonSum otherSum) {
+        super(otherSum);
+    }
+
+    /**
+     * Creates a copy of this sum which shares the data with this one until either of them is modified.
+     *
+     * @return a copy of this sum
+     * @since 2.1
+     */
+    @Override
+    public JacksonSum copy() {
+        return new JacksonSum(this);
+    }
+
     public static JacksonSum.Builder builder() {
         return new JacksonSum.Builder();
     }
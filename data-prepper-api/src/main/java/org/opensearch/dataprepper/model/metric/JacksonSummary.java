@@ -37,6 +37,21 @@ public class JacksonSummary extends JacksonMetric implements Summary {
         checkArgument(this.getMetadata().getEventType().equals(EventType.METRIC.toString()), "eventType must be of type Metric");
     }
 
+    protected JacksonSummary(final JacksonSummary otherSummary) {
+        super(otherSummary);
+    }
+
+    /**
+     * Creates a copy of this summary which shares the data with this one until either of them is modified.
+     *
+     * @return a copy of this summary
+     * @since 2.1
+     */
+    @Override
+    public JacksonSummary copy() {
+        return new JacksonSummary(this);
+    }
+
     public static JacksonSummary.Builder builder() {
         return new JacksonSummary.Builder();
     }
@@ -67,6 +67,21 @@ public class JacksonSpan extends JacksonEvent implements Span {
         checkArgument(this.getMetadata().getEventType().equals("TRACE"), "eventType must be of type Trace");
     }
 
+    protected JacksonSpan(final JacksonSpan otherSpan) {
+        super(otherSpan);
+    }
+
+    /**
+     * Creates a copy of this span which shares the data with this one until either of them is modified.
+     *
+     * @return a copy of this span
+     * @since 2.1
+     */
+    @Override
+    public JacksonSpan copy() {
+        return new JacksonSpan(this);
+    }
+
     @Override
     public String getTraceId() {
         return this.get(TRACE_ID_KEY, String.class);
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ExpressionEvaluatorTest {
+
+    @Test
+    void testDefaultPrecompileDoesNotThrow() {
+        final ExpressionEvaluator<Boolean> expressionEvaluator = (statement, context) -> true;
+
+        assertDoesNotThrow(() -> expressionEvaluator.precompile(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testDefaultEvaluateConditionalSetsMatchingRecords() {
+        final String statement = UUID.randomUUID().toString();
+        final ExpressionEvaluator<Object> expressionEvaluator = mock(ExpressionEvaluator.class, CALLS_REAL_METHODS);
+        final Event matchingEvent = mock(Event.class);
+        final Event notMatchingEvent = mock(Event.class);
+        final Event failingEvent = mock(Event.class);
+        final Event nonBooleanEvent = mock(Event.class);
+        doReturn(true).when(expressionEvaluator).evaluate(eq(statement), eq(matchingEvent));
+        doReturn(false).when(expressionEvaluator).evaluate(eq(statement), eq(notMatchingEvent));
+        doThrow(ExpressionEvaluationException.class).when(expressionEvaluator).evaluate(eq(statement), eq(failingEvent));
+        doReturn(1).when(expressionEvaluator).evaluate(eq(statement), eq(nonBooleanEvent));
+
+        final Collection records = Arrays.asList(
+                new Record<>(notMatchingEvent),
+                new Record<>(matchingEvent),
+                new Record<>(UUID.randomUUID().toString()),
+                new Record<>(failingEvent),
+                new Record<>(nonBooleanEvent),
+                new Record<>(matchingEvent));
+
+        final BitSet matches = expressionEvaluator.evaluateConditional(statement, records);
+
+        final BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(5);
+        assertThat(matches, equalTo(expected));
+        verify(expressionEvaluator).precompile(statement);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDefaultEvaluateConditionalWithEmptyRecords() {
+        final ExpressionEvaluator<Boolean> expressionEvaluator = mock(ExpressionEvaluator.class, CALLS_REAL_METHODS);
+
+        final BitSet matches = expressionEvaluator.evaluateConditional(UUID.randomUUID().toString(), Collections.emptyList());
+
+        assertThat(matches.isEmpty(), is(true));
+        verify(expressionEvaluator, never()).evaluate(any(), any());
+    }
+}
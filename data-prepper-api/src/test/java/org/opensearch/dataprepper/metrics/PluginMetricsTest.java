@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 
@@ -114,6 +115,17 @@ public class PluginMetricsTest {
         assertEquals(atomicInteger.get(), gauge.get());
     }
 
+    @Test
+    public void testNumberGaugeWithTags() {
+        final AtomicInteger atomicInteger = new AtomicInteger(1);
+        final AtomicInteger gauge = objectUnderTest.gaugeWithTags("gaugeWithTags", atomicInteger, TAG_KEY, TAG_VALUE);
+        final Meter meter = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(PIPELINE_NAME).add(PLUGIN_NAME)
+                .add("gaugeWithTags").toString()).meter();
+        assertEquals(TAG_VALUE, meter.getId().getTag(TAG_KEY));
+        assertEquals(atomicInteger.get(), gauge.get());
+    }
+
     @Test
     public void testReferenceGauge() {
         final String testString = "abc";
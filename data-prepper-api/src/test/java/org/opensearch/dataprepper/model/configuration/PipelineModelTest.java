@@ -16,6 +16,7 @@ import java.util.Random;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -65,6 +66,41 @@ class PipelineModelTest {
         assertThat(pipelineModel.getReadBatchDelay(), is(TEST_READ_BATCH_DELAY));
     }
 
+    @Test
+    void testPipelineModelCreationWithMaxInFlightBatchesAndVirtualThreads() {
+        final Integer maxInFlightBatches = random.nextInt(10) + 1;
+        final PipelineModel pipelineModel = new PipelineModel(
+                validSourcePluginModel(),
+                validBufferPluginModel(),
+                validPreppersPluginModel(),
+                validPipelineRouter(),
+                validSinksPluginModel(),
+                TEST_WORKERS,
+                TEST_READ_BATCH_DELAY,
+                maxInFlightBatches,
+                "sinks"
+        );
+
+        assertThat(pipelineModel.getMaxInFlightBatches(), is(maxInFlightBatches));
+        assertThat(pipelineModel.getVirtualThreads(), is("sinks"));
+    }
+
+    @Test
+    void testPipelineModelCreationWithoutMaxInFlightBatchesAndVirtualThreads() {
+        final PipelineModel pipelineModel = new PipelineModel(
+                validSourcePluginModel(),
+                validBufferPluginModel(),
+                validPreppersPluginModel(),
+                validPipelineRouter(),
+                validSinksPluginModel(),
+                TEST_WORKERS,
+                TEST_READ_BATCH_DELAY
+        );
+
+        assertThat(pipelineModel.getMaxInFlightBatches(), nullValue());
+        assertThat(pipelineModel.getVirtualThreads(), nullValue());
+    }
+
     static Map<String, Object> validPluginSettings() {
         final Map<String, Object> settings = new HashMap<>();
         settings.put("property", "value");
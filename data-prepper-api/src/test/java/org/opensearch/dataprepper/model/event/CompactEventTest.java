@@ -0,0 +1,440 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactEventTest {
+
+    private CompactEvent event;
+
+    private String eventType;
+
+    @BeforeEach
+    void setup() {
+        eventType = UUID.randomUUID().toString();
+
+        event = CompactEvent.builder()
+                .withEventType(eventType)
+                .build();
+    }
+
+    @Test
+    void testPutAndGet_withRandomString() {
+        final String key = "aRandomKey" + UUID.randomUUID();
+        final UUID value = UUID.randomUUID();
+
+        event.put(key, value);
+
+        assertThat(event.get(key, UUID.class), is(equalTo(value)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"foo", "foo-bar", "foo_bar", "foo.bar", "/foo", "/foo/", "a1K.k3-01_02"})
+    void testPutAndGet_withStrings(final String key) {
+        final UUID value = UUID.randomUUID();
+
+        event.put(key, value);
+
+        assertThat(event.get(key, UUID.class), is(equalTo(value)));
+    }
+
+    @Test
+    void testPutAndGet_withPrimitives() {
+        event.put("int", 42);
+        event.put("long", 5_000_000_000L);
+        event.put("double", 1.5);
+        event.put("boolean", true);
+        event.put("null", null);
+
+        assertThat(event.get("int", Integer.class), is(equalTo(42)));
+        assertThat(event.get("int", Long.class), is(equalTo(42L)));
+        assertThat(event.get("int", String.class), is(equalTo("42")));
+        assertThat(event.get("long", Long.class), is(equalTo(5_000_000_000L)));
+        assertThat(event.get("double", Double.class), is(equalTo(1.5)));
+        assertThat(event.get("boolean", Boolean.class), is(true));
+        assertThat(event.get("null", String.class), is(nullValue()));
+        assertThat(event.containsKey("null"), is(true));
+    }
+
+    @Test
+    void testPutAndGet_withMultiLevelKey() {
+        final UUID value = UUID.randomUUID();
+
+        event.put("foo/bar", value);
+
+        assertThat(event.get("foo/bar", UUID.class), is(equalTo(value)));
+        assertThat(event.get("foo", Map.class), is(equalTo(Collections.singletonMap("bar", value.toString()))));
+    }
+
+    @Test
+    void testPut_replacesExistingValue() {
+        event.put("foo", "bar");
+        event.put("foo", 42);
+
+        assertThat(event.get("foo", Integer.class), is(equalTo(42)));
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":42}")));
+    }
+
+    @Test
+    void testPut_intoNestedMap_doesNotModifyTheMap() {
+        final Map<String, Object> nested = new HashMap<>();
+        nested.put("field1", "value1");
+
+        event.put("foo", nested);
+        event.put("foo/field2", "value2");
+
+        assertThat(nested, is(equalTo(Collections.singletonMap("field1", "value1"))));
+        assertThat(event.get("foo/field1", String.class), is(equalTo("value1")));
+        assertThat(event.get("foo/field2", String.class), is(equalTo("value2")));
+    }
+
+    @Test
+    void testPut_intoList_doesNotModifyTheList() {
+        final List<Object> list = Arrays.asList(1, Collections.singletonMap("foo", "bar"));
+
+        event.put("list", list);
+        event.put("list/0", 5);
+        event.put("list/1/foo", "baz");
+
+        assertThat(list.get(0), is(equalTo(1)));
+        assertThat(event.get("list/0", Integer.class), is(equalTo(5)));
+        assertThat(event.get("list/1/foo", String.class), is(equalTo("baz")));
+    }
+
+    @Test
+    void testPut_belowAValue_throwsIllegalArgumentException() {
+        event.put("foo", "bar");
+
+        assertThrows(IllegalArgumentException.class, () -> event.put("foo/bar", "baz"));
+    }
+
+    @Test
+    void testGet_withObjectTypes() {
+        final String value = UUID.randomUUID().toString();
+
+        event.put("testObject", new TestObject(value));
+
+        assertThat(event.get("testObject", TestObject.class).getField1(), is(equalTo(value)));
+        assertThat(event.get("testObject/field1", String.class), is(equalTo(value)));
+    }
+
+    @Test
+    void testGet_returnsCopies() {
+        event.put("foo/bar", "baz");
+
+        final Map<String, Object> result = event.get("foo", Map.class);
+        result.put("bar", "other");
+
+        assertThat(event.get("foo/bar", String.class), is(equalTo("baz")));
+    }
+
+    @Test
+    void testGet_withIncorrectType_throwsRuntimeException() {
+        event.put("foo", "bar");
+
+        assertThrows(RuntimeException.class, () -> event.get("foo", Integer.class));
+    }
+
+    @Test
+    void testGet_withNonexistentKeys_returnsNull() {
+        event.put("foo", "bar");
+        event.put("list", Arrays.asList(1, 2));
+
+        assertThat(event.get("missing", String.class), is(nullValue()));
+        assertThat(event.get("foo/bar", String.class), is(nullValue()));
+        assertThat(event.get("list/2", Integer.class), is(nullValue()));
+        assertThat(event.get("list/a", Integer.class), is(nullValue()));
+        assertThat(event.getList("missing", String.class), is(nullValue()));
+    }
+
+    @Test
+    void testGetList() {
+        event.put("list", Arrays.asList(1, 4, 5));
+
+        assertThat(event.getList("list", Integer.class), is(equalTo(Arrays.asList(1, 4, 5))));
+        assertThat(event.getList("list", String.class), is(equalTo(Arrays.asList("1", "4", "5"))));
+    }
+
+    @Test
+    void testGetList_withIncorrectType_throwsRuntimeException() {
+        event.put("foo", "bar");
+
+        assertThrows(RuntimeException.class, () -> event.getList("foo", Integer.class));
+    }
+
+    @Test
+    void testDelete() {
+        event.put("foo", "bar");
+        event.put("fizz/buzz", 42);
+        event.put("fizz/bang", 43);
+
+        event.delete("foo");
+        event.delete("fizz/buzz");
+
+        assertThat(event.containsKey("foo"), is(false));
+        assertThat(event.containsKey("fizz/buzz"), is(false));
+        assertThat(event.toJsonString(), is(equalTo("{\"fizz\":{\"bang\":43}}")));
+    }
+
+    @Test
+    void testDelete_withNonexistentKey() {
+        event.put("foo", "bar");
+
+        event.delete("foo/bar");
+        event.delete("fizz/buzz");
+        event.delete("fizz");
+
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":\"bar\"}")));
+    }
+
+    @Test
+    void testContainsKey_and_isValueAList() {
+        event.put("foo", "bar");
+        event.put("list", Arrays.asList(1, 2, 3));
+        event.put("array", new int[] {1, 2});
+
+        assertThat(event.containsKey("foo"), is(true));
+        assertThat(event.containsKey("bar"), is(false));
+        assertThat(event.isValueAList("list"), is(true));
+        assertThat(event.isValueAList("array"), is(true));
+        assertThat(event.isValueAList("foo"), is(false));
+        assertThat(event.isValueAList("bar"), is(false));
+    }
+
+    @Test
+    void testPutAndGet_withEventKey() {
+        final EventKey key = EventKey.of("/foo/bar");
+        final UUID value = UUID.randomUUID();
+
+        event.put(key, value);
+
+        assertThat(event.get(key, UUID.class), is(equalTo(value)));
+        assertThat(event.get("foo/bar", UUID.class), is(equalTo(value)));
+        assertThat(event.containsKey(key), is(true));
+        assertThat(event.isValueAList(key), is(false));
+    }
+
+    @Test
+    void testGetList_withEventKey() {
+        final EventKey key = EventKey.of("list");
+        event.put(key, Arrays.asList(1, 2));
+        event.put(EventKey.of("list/1"), 3);
+
+        assertThat(event.getList(key, Integer.class), is(equalTo(Arrays.asList(1, 3))));
+        assertThat(event.isValueAList(key), is(true));
+        assertThat(event.getList(EventKey.of("missing"), Integer.class), is(nullValue()));
+        assertThat(event.get(EventKey.of("missing"), Integer.class), is(nullValue()));
+    }
+
+    @Test
+    void testDelete_withEventKey() {
+        event.put("foo", "bar");
+        event.put("fizz/buzz", 42);
+        event.put("fizz/bang", 43);
+
+        event.delete(EventKey.of("foo"));
+        event.delete(EventKey.of("fizz/buzz"));
+        event.delete(EventKey.of("missing/key"));
+
+        assertThat(event.containsKey(EventKey.of("foo")), is(false));
+        assertThat(event.toJsonString(), is(equalTo("{\"fizz\":{\"bang\":43}}")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "withSpecialChars*$%", "-withPrefixDash", "\\-withEscapeChars", "\\\\/withMultipleEscapeChars",
+            "withDashSuffix-", "withDashSuffix-/nestedKey", "withDashPrefix/-nestedKey", "_withUnderscorePrefix", "withUnderscoreSuffix_",
+            ".withDotPrefix", "withDotSuffix.", "with,Comma", "with:Colon", "with[Bracket", "with|Brace"})
+    void testKey_withInvalidKey_throwsIllegalArgumentException(final String invalidKey) {
+        assertThrowsForKeyCheck(IllegalArgumentException.class, invalidKey);
+    }
+
+    @Test
+    void testKey_withLengthGreaterThanMaxLength_throwsIllegalArgumentException() {
+        final String invalidLengthKey = RandomStringUtils.random(JacksonEvent.MAX_KEY_LENGTH + 1);
+        assertThrowsForKeyCheck(IllegalArgumentException.class, invalidLengthKey);
+    }
+
+    @Test
+    void testKey_withNullKey_throwsNullPointerException() {
+        assertThrowsForKeyCheck(NullPointerException.class, null);
+    }
+
+    private <T extends Throwable> void assertThrowsForKeyCheck(final Class<T> expectedThrowable, final String key) {
+        assertThrows(expectedThrowable, () -> event.put(key, UUID.randomUUID()));
+        assertThrows(expectedThrowable, () -> event.get(key, String.class));
+        assertThrows(expectedThrowable, () -> event.delete(key));
+    }
+
+    @Test
+    void testToJsonString_matchesJacksonEvent() {
+        final Event jacksonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .build();
+        for (final Event anyEvent : Arrays.asList(event, jacksonEvent)) {
+            anyEvent.put("foo", "bar");
+            anyEvent.put("int", 1);
+            anyEvent.put("double", 2.5);
+            anyEvent.put("float", 0.1f);
+            anyEvent.put("boolean", false);
+            anyEvent.put("null", null);
+            anyEvent.put("testObject", new TestObject("value"));
+            anyEvent.put("list", Arrays.asList(1, Collections.singletonMap("a", "b")));
+            anyEvent.put("nested/key", 5_000_000_000L);
+        }
+
+        assertThat(event.toJsonString(), is(equalTo(jacksonEvent.toJsonString())));
+        assertThat(event.toMap(), is(equalTo(jacksonEvent.toMap())));
+    }
+
+    @Test
+    void testToJsonString_withEmptyData() {
+        assertThat(event.toJsonString(), is(equalTo("{}")));
+        assertThat(event.toMap(), is(equalTo(Collections.emptyMap())));
+    }
+
+    @Test
+    void testFormatString() {
+        event.put("foo", "bar");
+        event.put("fizz/buzz", 42);
+
+        assertThat(event.formatString("test-${foo}-${fizz/buzz}-end"), is(equalTo("test-bar-42-end")));
+        assertThat(event.formatString("test-${missing}"), is(nullValue()));
+        assertThrows(RuntimeException.class, () -> event.formatString("test-${foo"));
+    }
+
+    @Test
+    void testCopy_isIndependentOfTheOriginal() {
+        event.put("foo/bar", "baz");
+        event.put("list", new ArrayList<>(Arrays.asList(1, 2)));
+        event.put("list/0", 3);
+
+        final CompactEvent copy = event.copy();
+        copy.put("foo/bar", "other");
+        copy.put("list/1", 4);
+
+        assertThat(copy, is(not(sameInstance(event))));
+        assertThat(copy.getMetadata(), is(sameInstance(event.getMetadata())));
+        assertThat(event.get("foo/bar", String.class), is(equalTo("baz")));
+        assertThat(event.getList("list", Integer.class), is(equalTo(Arrays.asList(3, 2))));
+        assertThat(copy.get("foo/bar", String.class), is(equalTo("other")));
+        assertThat(copy.getList("list", Integer.class), is(equalTo(Arrays.asList(3, 4))));
+    }
+
+    @Test
+    void testBuild_withAllMetadataFields() {
+        final Instant now = Instant.now();
+        final Map<String, Object> attributes = Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        event = CompactEvent.builder()
+                .withEventType(eventType)
+                .withTimeReceived(now)
+                .withEventMetadataAttributes(attributes)
+                .build();
+
+        assertThat(event.getMetadata().getEventType(), is(equalTo(eventType)));
+        assertThat(event.getMetadata().getTimeReceived(), is(equalTo(now)));
+        assertThat(event.getMetadata().getAttributes(), is(equalTo(attributes)));
+    }
+
+    @Test
+    void testBuild_withEventMetadata() {
+        final EventMetadata metadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .build();
+
+        event = CompactEvent.builder()
+                .withEventMetadata(metadata)
+                .build();
+
+        assertThat(event.getMetadata(), is(equalTo(metadata)));
+    }
+
+    @Test
+    void testBuild_withData() {
+        final Map<String, Object> data = new LinkedHashMap<>();
+        data.put("foo", "bar");
+        data.put("nested", Collections.singletonMap("fizz", 42));
+
+        event = CompactEvent.builder()
+                .withEventType(eventType)
+                .withData(data)
+                .getThis()
+                .build();
+
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(event.get("nested/fizz", Integer.class), is(equalTo(42)));
+    }
+
+    @Test
+    void testBuild_withObjectData() {
+        final String value = UUID.randomUUID().toString();
+
+        event = CompactEvent.builder()
+                .withEventType(eventType)
+                .withData(new TestObject(value))
+                .build();
+
+        assertThat(event.get("field1", String.class), is(equalTo(value)));
+    }
+
+    @Test
+    void testBuild_withStringData() {
+        event = CompactEvent.builder()
+                .withEventType(eventType)
+                .withData("{\"foo\": \"bar\", \"list\": [1, {\"a\": true}]}")
+                .build();
+
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(event.get("list/1/a", Boolean.class), is(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{", "[1, 2]"})
+    void testBuild_withInvalidStringData_throwsIllegalArgumentException(final String data) {
+        final CompactEvent.Builder builder = CompactEvent.builder()
+                .withEventType(eventType)
+                .withData(data);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void testFieldNames_areInterned() {
+        event.put(new String("foo"), "bar");
+        final CompactEvent otherEvent = CompactEvent.builder()
+                .withEventType(eventType)
+                .withData(Collections.singletonMap(new String("foo"), "bar"))
+                .build();
+
+        final String name = event.toMap().keySet().iterator().next();
+        final String otherName = otherEvent.toMap().keySet().iterator().next();
+
+        assertThat(name, is(sameInstance(otherName)));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventKeyTest {
+
+    @Test
+    void of_with_nested_key_parses_the_key() {
+        final EventKey eventKey = EventKey.of("/fizz/buzz");
+
+        assertThat(eventKey.getKey(), is(equalTo("/fizz/buzz")));
+        assertThat(eventKey.toString(), is(equalTo("/fizz/buzz")));
+        assertThat(eventKey.getTrimmedKey(), is(equalTo("fizz/buzz")));
+        assertThat(Arrays.asList(eventKey.getKeyElements()), is(equalTo(Arrays.asList("fizz", "buzz"))));
+        assertThat(eventKey.getLeafKey(), is(equalTo("buzz")));
+        assertThat(eventKey.getJsonPointer().toString(), is(equalTo("/fizz/buzz")));
+        assertThat(eventKey.getParentJsonPointer().toString(), is(equalTo("/fizz")));
+    }
+
+    @Test
+    void of_with_top_level_key_has_no_parent() {
+        final EventKey eventKey = EventKey.of("foo");
+
+        assertThat(eventKey.getLeafKey(), is(equalTo("foo")));
+        assertThat(eventKey.getParentJsonPointer(), is(nullValue()));
+    }
+
+    @Test
+    void of_interns_the_key_elements() {
+        final EventKey eventKey = EventKey.of(new String("foo"));
+        final EventKey otherEventKey = EventKey.of(new String("foo"));
+
+        assertThat(eventKey.getLeafKey(), is(sameInstance(otherEventKey.getLeafKey())));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "withSpecialChars*$%", "-withPrefixDash", "withDashSuffix-", "with,Comma"})
+    void of_with_invalid_key_throws_IllegalArgumentException(final String invalidKey) {
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(invalidKey));
+    }
+
+    @Test
+    void of_with_null_key_throws_NullPointerException() {
+        assertThrows(NullPointerException.class, () -> EventKey.of(null));
+    }
+
+    @Test
+    void equals_compares_the_trimmed_keys() {
+        final EventKey eventKey = EventKey.of("/foo/bar");
+
+        assertThat(eventKey, is(equalTo(eventKey)));
+        assertThat(eventKey, is(equalTo(EventKey.of("foo/bar"))));
+        assertThat(eventKey.hashCode(), is(equalTo(EventKey.of("foo/bar").hashCode())));
+        assertThat(eventKey, is(not(equalTo(EventKey.of("foo")))));
+        assertThat(eventKey.equals(null), is(false));
+        assertThat(eventKey.equals("foo/bar"), is(false));
+    }
+
+    @Test
+    void default_Event_methods_delegate_to_the_String_methods() {
+        final Event event = mock(Event.class, CALLS_REAL_METHODS);
+        final EventKey eventKey = EventKey.of("foo");
+        final List<String> list = Arrays.asList("a", "b");
+        when(event.get("foo", String.class)).thenReturn("bar");
+        when(event.getList("foo", String.class)).thenReturn(list);
+        when(event.containsKey("foo")).thenReturn(true);
+        when(event.isValueAList("foo")).thenReturn(true);
+
+        event.put(eventKey, "value");
+        event.delete(eventKey);
+
+        verify(event).put("foo", "value");
+        verify(event).delete("foo");
+        assertThat(event.get(eventKey, String.class), is(equalTo("bar")));
+        assertThat(event.getList(eventKey, String.class), is(equalTo(list)));
+        assertThat(event.containsKey(eventKey), is(true));
+        assertThat(event.isValueAList(eventKey), is(true));
+    }
+}
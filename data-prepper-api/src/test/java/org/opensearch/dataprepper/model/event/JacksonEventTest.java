@@ -13,18 +13,23 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
@@ -204,6 +209,68 @@ public class JacksonEventTest {
         assertThat(result, is(equalTo(value)));
     }
 
+    @Test
+    public void testCopy_hasSameDataAndMetadata() {
+        event.put("foo", "bar");
+        event.put("nested/key", 42);
+
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+
+        assertThat(copy, is(not(sameInstance(event))));
+        assertThat(copy.getMetadata(), is(sameInstance(event.getMetadata())));
+        assertThat(copy.toMap(), is(equalTo(event.toMap())));
+    }
+
+    @Test
+    public void testCopy_putOnCopyDoesNotModifyOriginal() {
+        event.put("foo", "bar");
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+
+        copy.put("foo", "baz");
+        copy.put("nested/key", 42);
+
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(event.containsKey("nested"), is(false));
+        assertThat(copy.get("foo", String.class), is(equalTo("baz")));
+        assertThat(copy.get("nested/key", Integer.class), is(equalTo(42)));
+    }
+
+    @Test
+    public void testCopy_putOnOriginalDoesNotModifyCopy() {
+        event.put("foo", "bar");
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+
+        event.put("foo", "baz");
+
+        assertThat(copy.get("foo", String.class), is(equalTo("bar")));
+        assertThat(event.get("foo", String.class), is(equalTo("baz")));
+    }
+
+    @Test
+    public void testCopy_deleteOnCopyDoesNotModifyOriginal() {
+        event.put("foo/bar", "value");
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+
+        copy.delete("foo/bar");
+
+        assertThat(copy.containsKey("foo/bar"), is(false));
+        assertThat(event.get("foo/bar", String.class), is(equalTo("value")));
+    }
+
+    @Test
+    public void testCopy_ofCopyIsIndependentOfAllOthers() {
+        event.put("foo", "bar");
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+        final JacksonEvent copyOfCopy = copy.copy();
+
+        copy.put("foo", "copy");
+        copyOfCopy.put("foo", "copyOfCopy");
+
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(copy.get("foo", String.class), is(equalTo("copy")));
+        assertThat(copyOfCopy.get("foo", String.class), is(equalTo("copyOfCopy")));
+    }
+
     @Test
     public void testDeletingKey() {
         final String key = "foo";
@@ -277,6 +344,45 @@ public class JacksonEventTest {
         assertThat(event.isValueAList(key), is(false));
     }
 
+    @Test
+    public void testPutAndGet_withEventKey() {
+        final EventKey key = EventKey.of("/foo/bar");
+        final UUID value = UUID.randomUUID();
+
+        event.put(key, value);
+
+        assertThat(event.get(key, UUID.class), is(equalTo(value)));
+        assertThat(event.get("foo/bar", UUID.class), is(equalTo(value)));
+        assertThat(event.containsKey(key), is(true));
+        assertThat(event.isValueAList(key), is(false));
+    }
+
+    @Test
+    public void testGetList_withEventKey() {
+        final EventKey key = EventKey.of("list");
+        event.put(key, Arrays.asList(1, 2));
+        event.put(EventKey.of("list/1"), 3);
+
+        assertThat(event.getList(key, Integer.class), is(equalTo(Arrays.asList(1, 3))));
+        assertThat(event.isValueAList(key), is(true));
+        assertThat(event.getList(EventKey.of("missing"), Integer.class), is(nullValue()));
+        assertThat(event.get(EventKey.of("missing"), Integer.class), is(nullValue()));
+    }
+
+    @Test
+    public void testDelete_withEventKey() {
+        event.put("foo", "bar");
+        event.put("fizz/buzz", 42);
+        event.put("fizz/bang", 43);
+
+        event.delete(EventKey.of("foo"));
+        event.delete(EventKey.of("fizz/buzz"));
+        event.delete(EventKey.of("missing/key"));
+
+        assertThat(event.containsKey(EventKey.of("foo")), is(false));
+        assertThat(event.toJsonString(), is(equalTo("{\"fizz\":{\"bang\":43}}")));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"", "withSpecialChars*$%", "-withPrefixDash", "\\-withEscapeChars", "\\\\/withMultipleEscapeChars",
             "withDashSuffix-", "withDashSuffix-/nestedKey", "withDashPrefix/-nestedKey", "_withUnderscorePrefix", "withUnderscoreSuffix_",
@@ -526,6 +632,146 @@ public class JacksonEventTest {
 
     }
 
+    @Test
+    public void testBuild_withUnparsedJsonData() {
+
+        final String jsonString = "{ \"foo\": \"bar\", \"info\": { \"ids\": [1, 2] } }";
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUnparsedJsonData(jsonString)
+                .getThis()
+                .build();
+
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(event.getList("info/ids", Integer.class), is(equalTo(Arrays.asList(1, 2))));
+        assertThat(event.containsKey("info"), is(true));
+        assertThat(event.toJsonString(), is(sameInstance(jsonString)));
+    }
+
+    @Test
+    public void testToJsonString_withUnparsedJsonData_afterModification() {
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUnparsedJsonData("{ \"foo\": \"bar\" }")
+                .getThis()
+                .build();
+
+        event.put("fizz", "buzz");
+
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":\"bar\",\"fizz\":\"buzz\"}")));
+    }
+
+    @Test
+    public void testDelete_withUnparsedJsonData() {
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUnparsedJsonData("{ \"foo\": \"bar\", \"fizz\": \"buzz\" }")
+                .getThis()
+                .build();
+
+        event.delete("foo");
+
+        assertThat(event.toJsonString(), is(equalTo("{\"fizz\":\"buzz\"}")));
+    }
+
+    @Test
+    public void testCopy_withUnparsedJsonData_isIndependentOfOriginal() {
+
+        final String jsonString = "{\"foo\":\"bar\"}";
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUnparsedJsonData(jsonString)
+                .getThis()
+                .build();
+
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+        copy.put("foo", "baz");
+
+        assertThat(event.toJsonString(), is(sameInstance(jsonString)));
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(copy.get("foo", String.class), is(equalTo("baz")));
+
+        event.put("foo", "qux");
+
+        assertThat(event.get("foo", String.class), is(equalTo("qux")));
+        assertThat(copy.get("foo", String.class), is(equalTo("baz")));
+    }
+
+    @Test
+    public void testCopy_withUnparsedJsonData_sharesParsedDataUntilModified() {
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUnparsedJsonData("{\"foo\":\"bar\"}")
+                .getThis()
+                .build();
+
+        final JacksonEvent copy = ((JacksonEvent) event).copy();
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(copy.getJsonNode(), is(sameInstance(((JacksonEvent) event).getJsonNode())));
+
+        event.put("foo", "baz");
+
+        assertThat(copy.get("foo", String.class), is(equalTo("bar")));
+        assertThat(copy.toJsonString(), is(equalTo("{\"foo\":\"bar\"}")));
+        assertThat(event.get("foo", String.class), is(equalTo("baz")));
+    }
+
+    @Test
+    public void testCopy_withUnparsedJsonData_whileEventIsReadConcurrently() throws Exception {
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUnparsedJsonData("{\"foo\":\"bar\"}")
+                .getThis()
+                .build();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        final List<Future<JacksonEvent>> copies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            executorService.submit(() -> event.get("foo", String.class));
+            copies.add(executorService.submit(() -> ((JacksonEvent) event).copy()));
+        }
+        for (final Future<JacksonEvent> copy : copies) {
+            copy.get();
+        }
+        executorService.shutdown();
+
+        event.put("foo", "baz");
+
+        for (final Future<JacksonEvent> copy : copies) {
+            assertThat(copy.get().get("foo", String.class), is(equalTo("bar")));
+        }
+    }
+
+    @Test
+    public void testToMap_withUnparsedJsonData() {
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUnparsedJsonData("{\"foo\":\"bar\"}")
+                .getThis()
+                .build();
+
+        assertThat(event.toMap(), is(equalTo(Collections.singletonMap("foo", "bar"))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"foobar", "[1, 2]", "{\"foo\":"})
+    void testGet_withInvalidUnparsedJsonData_throwsIllegalArgumentException(final String jsonString) {
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUnparsedJsonData(jsonString)
+                .getThis()
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> event.get("foo", String.class));
+    }
+
     @Test
     public void testBuild_withInvalidStringData() {
 
@@ -28,6 +28,7 @@ import java.util.UUID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -108,6 +109,19 @@ public class JacksonSpanTest {
         jacksonSpan = builder.build();
     }
 
+    @Test
+    public void testCopy_returnsIndependentSpan() {
+        final JacksonSpan copy = jacksonSpan.copy();
+
+        assertThat(copy, is(instanceOf(JacksonSpan.class)));
+        assertThat(copy.toMap(), is(equalTo(jacksonSpan.toMap())));
+
+        copy.setTraceGroup("copied-trace-group");
+
+        assertThat(copy.getTraceGroup(), is(equalTo("copied-trace-group")));
+        assertThat(jacksonSpan.getTraceGroup(), is(equalTo(TEST_TRACE_GROUP)));
+    }
+
     @Test
     public void testGetSpanId() {
         final String spanId = jacksonSpan.getSpanId();
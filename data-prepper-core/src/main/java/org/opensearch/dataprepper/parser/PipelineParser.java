@@ -27,6 +27,7 @@ import org.opensearch.dataprepper.peerforwarder.PeerForwardingProcessorDecorator
 import org.opensearch.dataprepper.pipeline.Pipeline;
 import org.opensearch.dataprepper.pipeline.PipelineConnector;
 import org.opensearch.dataprepper.plugins.MultiBufferDecorator;
+import org.opensearch.dataprepper.pipeline.common.VirtualThreadsOption;
 import org.opensearch.dataprepper.pipeline.router.Router;
 import org.opensearch.dataprepper.pipeline.router.RouterFactory;
 import org.slf4j.Logger;
@@ -183,6 +184,8 @@ public class PipelineParser {
                     }).collect(Collectors.toList());
 
             final int readBatchDelay = pipelineConfiguration.getReadBatchDelay();
+            final int maxInFlightBatches = pipelineConfiguration.getMaxInFlightBatches();
+            final VirtualThreadsOption virtualThreadsOption = pipelineConfiguration.getVirtualThreadsOption();
 
             LOG.info("Building sinks for the pipeline [{}]", pipelineName);
             final List<DataFlowComponent<Sink>> sinks = pipelineConfiguration.getSinkPluginSettings().stream()
@@ -208,7 +211,7 @@ public class PipelineParser {
 
             final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, decoratedProcessorSets, sinks, router, processorThreads, readBatchDelay,
                     dataPrepperConfiguration.getProcessorShutdownTimeout(), dataPrepperConfiguration.getSinkShutdownTimeout(),
-                    getPeerForwarderDrainTimeout(dataPrepperConfiguration));
+                    getPeerForwarderDrainTimeout(dataPrepperConfiguration), maxInFlightBatches, virtualThreadsOption);
             pipelineMap.put(pipelineName, pipeline);
         } catch (Exception ex) {
             //If pipeline construction errors out, we will skip that pipeline and proceed
@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.model.configuration.PipelineModel;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.configuration.SinkModel;
+import org.opensearch.dataprepper.pipeline.common.VirtualThreadsOption;
 import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 
 import java.util.Collections;
@@ -24,8 +25,11 @@ import java.util.stream.Collectors;
 public class PipelineConfiguration {
     private static final String WORKERS_COMPONENT = "workers";
     private static final String DELAY_COMPONENT = "delay";
+    private static final String MAX_IN_FLIGHT_BATCHES_COMPONENT = "max_in_flight_batches";
+    private static final String VIRTUAL_THREADS_COMPONENT = "virtual_threads";
     private static final int DEFAULT_READ_BATCH_DELAY = 3_000;
     private static final int DEFAULT_WORKERS = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
 
     private final PluginSetting sourcePluginSetting;
     private final PluginSetting bufferPluginSetting;
@@ -34,6 +38,8 @@ public class PipelineConfiguration {
 
     private final Integer workers;
     private final Integer readBatchDelay;
+    private final Integer maxInFlightBatches;
+    private final VirtualThreadsOption virtualThreadsOption;
     private final Set<ConditionalRoute> routes;
 
     public PipelineConfiguration(final PipelineModel pipelineModel) {
@@ -43,6 +49,8 @@ public class PipelineConfiguration {
         this.sinkPluginSettings = getSinksFromPluginModel(pipelineModel.getSinks());
         this.workers = getWorkersFromPipelineModel(pipelineModel);
         this.readBatchDelay = getReadBatchDelayFromPipelineModel(pipelineModel);
+        this.maxInFlightBatches = getMaxInFlightBatchesFromPipelineModel(pipelineModel);
+        this.virtualThreadsOption = getVirtualThreadsOptionFromPipelineModel(pipelineModel);
         routes = new HashSet<>(pipelineModel.getRoutes());
     }
 
@@ -74,6 +82,14 @@ public class PipelineConfiguration {
         return readBatchDelay;
     }
 
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    public VirtualThreadsOption getVirtualThreadsOption() {
+        return virtualThreadsOption;
+    }
+
     public void updateCommonPipelineConfiguration(final String pipelineName) {
         updatePluginSetting(sourcePluginSetting, pipelineName);
         updatePluginSetting(bufferPluginSetting, pipelineName);
@@ -149,6 +165,25 @@ public class PipelineConfiguration {
         return configuredDelay == null ? DEFAULT_READ_BATCH_DELAY : configuredDelay;
     }
 
+    private Integer getMaxInFlightBatchesFromPipelineModel(final PipelineModel pipelineModel) {
+        final Integer configuredMaxInFlightBatches = pipelineModel.getMaxInFlightBatches();
+        validateConfiguration(configuredMaxInFlightBatches, MAX_IN_FLIGHT_BATCHES_COMPONENT);
+        return configuredMaxInFlightBatches == null ? DEFAULT_MAX_IN_FLIGHT_BATCHES : configuredMaxInFlightBatches;
+    }
+
+    private VirtualThreadsOption getVirtualThreadsOptionFromPipelineModel(final PipelineModel pipelineModel) {
+        final String configuredVirtualThreads = pipelineModel.getVirtualThreads();
+        if (configuredVirtualThreads == null) {
+            return VirtualThreadsOption.NONE;
+        }
+        final VirtualThreadsOption virtualThreadsOption = VirtualThreadsOption.fromOptionValue(configuredVirtualThreads);
+        if (virtualThreadsOption == null) {
+            throw new IllegalArgumentException(String.format("Invalid configuration, %s cannot be %s",
+                    VIRTUAL_THREADS_COMPONENT, configuredVirtualThreads));
+        }
+        return virtualThreadsOption;
+    }
+
     private void validateConfiguration(final Integer configuration, final String component) {
         if (configuration != null && configuration <= 0) {
             throw new IllegalArgumentException(String.format("Invalid configuration, %s cannot be %s",
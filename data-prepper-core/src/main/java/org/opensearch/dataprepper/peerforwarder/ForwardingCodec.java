@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Format of the records sent to peers. The receiving peer detects the format by the content type of a request, so the
+ * codec can differ between peers.
+ *
+ * @since 2.1
+ */
+public enum ForwardingCodec {
+    JSON("json"),
+    SMILE("smile");
+
+    private static final Map<String, ForwardingCodec> STRING_NAME_TO_ENUM_MAP = new HashMap<>();
+
+    private final String name;
+
+    static {
+        Arrays.stream(ForwardingCodec.values())
+                .forEach(enumValue -> STRING_NAME_TO_ENUM_MAP.put(enumValue.name, enumValue));
+    }
+
+    ForwardingCodec(final String name){
+        this.name = name;
+    }
+
+    public String getName(){
+        return name;
+    }
+
+    static ForwardingCodec getByName(final String name) {
+        return Optional.ofNullable(STRING_NAME_TO_ENUM_MAP.get(name))
+                .orElseThrow(() -> new IllegalArgumentException("Unrecognized ForwardingCodec: " + name));
+    }
+}
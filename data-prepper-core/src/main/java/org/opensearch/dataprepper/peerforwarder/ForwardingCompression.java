@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compression of the records sent to peers. The receiving peer detects the compression by the content encoding of a
+ * request.
+ *
+ * @since 2.1
+ */
+public enum ForwardingCompression {
+    NONE("none"),
+    GZIP("gzip");
+
+    private static final Map<String, ForwardingCompression> STRING_NAME_TO_ENUM_MAP = new HashMap<>();
+
+    private final String name;
+
+    static {
+        Arrays.stream(ForwardingCompression.values())
+                .forEach(enumValue -> STRING_NAME_TO_ENUM_MAP.put(enumValue.name, enumValue));
+    }
+
+    ForwardingCompression(final String name){
+        this.name = name;
+    }
+
+    public String getName(){
+        return name;
+    }
+
+    static ForwardingCompression getByName(final String name) {
+        return Optional.ofNullable(STRING_NAME_TO_ENUM_MAP.get(name))
+                .orElseThrow(() -> new IllegalArgumentException("Unrecognized ForwardingCompression: " + name));
+    }
+}
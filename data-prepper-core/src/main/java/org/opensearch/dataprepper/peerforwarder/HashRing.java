@@ -5,114 +5,197 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.linecorp.armeria.client.Endpoint;
 import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
-import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import javax.annotation.concurrent.ThreadSafe;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * The ring is a sorted array of 64-bit Murmur3 tokens which is searched with a binary search. Whether a host is this
+ * Data Prepper node is resolved when the ring is built, which happens when the {@link PeerListProvider} notifies a
+ * change of its peers.
+ * <p>
+ * Peers can be given weights, a peer has the number of virtual nodes multiplied by its weight on the ring.
  */
-@NotThreadSafe
+@ThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
-    private static final String MD5 = "MD5";
-    private static final String DELIMITER = ",";
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    private static final byte DELIMITER = ',';
+    private static final int DEFAULT_PEER_WEIGHT = 1;
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
     private final PeerListProvider peerListProvider;
+    private final Map<String, Integer> peerWeights;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private volatile Ring ring;
 
     public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
+        this(peerListProvider, numVirtualNodes, Collections.emptyMap());
+    }
+
+    /**
+     * @param peerListProvider provider of the peers of the ring
+     * @param numVirtualNodes number of virtual nodes of a peer with the default weight
+     * @param peerWeights weights of peers, peers which are not included have a weight of 1
+     */
+    public HashRing(final PeerListProvider peerListProvider,
+                    final int numVirtualNodes,
+                    final Map<String, Integer> peerWeights) {
         Objects.requireNonNull(peerListProvider);
+        Objects.requireNonNull(peerWeights);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
+        this.peerWeights = peerWeights;
 
-        buildHashServerMap();
+        buildRing();
 
         peerListProvider.addListener(this);
     }
 
     public Optional<String> getServerIp(final List<String> identificationKeyValues) {
-        if (hashServerMap.isEmpty()) {
+        final Ring currentRing = ring;
+        if (currentRing.tokens.length == 0) {
             return Optional.empty();
         }
 
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
-
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+        final Hasher hasher = HASH_FUNCTION.newHasher();
+        boolean first = true;
+        for (final String identificationKeyValue : identificationKeyValues) {
+            if (!first) {
+                hasher.putByte(DELIMITER);
+            }
+            hasher.putString(String.valueOf(identificationKeyValue), StandardCharsets.UTF_8);
+            first = false;
         }
 
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
+        return Optional.of(currentRing.getServerIp(hasher.hash().asLong()));
+    }
 
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
+    /**
+     * Checks whether a host of the ring is this Data Prepper node. Hosts which are not in the ring are resolved once
+     * until the ring is rebuilt.
+     *
+     * @param serverIp the host
+     * @return true if the host is a local address
+     */
+    public boolean isLocalAddress(final String serverIp) {
+        return ring.localAddresses.computeIfAbsent(serverIp, HashRing::isAddressDefinedLocally);
+    }
 
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
-        }
+    /**
+     * Checks whether all hosts of the ring are this Data Prepper node, in which case no records need to be forwarded.
+     *
+     * @return true if the ring has no hosts or only local hosts
+     */
+    public boolean isLocalOnly() {
+        return ring.localOnly;
     }
 
     @Override
     public void accept(final List<Endpoint> endpoints) {
-        buildHashServerMap();
+        buildRing();
     }
 
-    private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
+    private void buildRing() {
+        final TreeMap<Long, String> hashServerMap = new TreeMap<>();
+        final Map<String, Boolean> localAddresses = new ConcurrentHashMap<>();
         final List<String> endpoints = peerListProvider.getPeerList();
 
         LOG.info("Building hash ring with endpoints: {}", endpoints);
         for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+            addServerIpToHashMap(serverIp, hashServerMap);
+            localAddresses.put(serverIp, isAddressDefinedLocally(serverIp));
         }
 
-        this.hashServerMap = newHashValueMap;
+        final long[] tokens = new long[hashServerMap.size()];
+        final String[] serverIps = new String[hashServerMap.size()];
+        int i = 0;
+        for (final Map.Entry<Long, String> entry : hashServerMap.entrySet()) {
+            tokens[i] = entry.getKey();
+            serverIps[i] = entry.getValue();
+            i++;
+        }
+
+        this.ring = new Ring(tokens, serverIps, localAddresses);
     }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
-        final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
+    private void addServerIpToHashMap(final String serverIp, final Map<Long, String> targetMap) {
+        final byte[] serverIpInBytes = serverIp.getBytes(StandardCharsets.UTF_8);
+        final int serverVirtualNodes = numVirtualNodes * peerWeights.getOrDefault(serverIp, DEFAULT_PEER_WEIGHT);
 
+        for (int i = 0; i < serverVirtualNodes; i++) {
+            final long hashcode = HASH_FUNCTION.newHasher()
+                    .putBytes(serverIpInBytes)
+                    .putInt(i)
+                    .hash()
+                    .asLong();
+            targetMap.putIfAbsent(hashcode, serverIp);
+        }
+    }
+
+    private static boolean isAddressDefinedLocally(final String address) {
+        final InetAddress inetAddress;
         try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+            inetAddress = InetAddress.getByName(address);
+        } catch (final UnknownHostException e) {
+            return false;
+        }
+        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
+            return true;
+        } else {
+            try {
+                return NetworkInterface.getByInetAddress(inetAddress) != null;
+            } catch (final SocketException e) {
+                return false;
+            }
         }
+    }
 
-        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
-        for (int i = 0; i < numVirtualNodes; i++) {
-            md.update(serverIpInBytes);
-            intBuffer.putInt(i);
-            md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
-            intBuffer.clear();
+    private static class Ring {
+        private final long[] tokens;
+        private final String[] serverIps;
+        private final Map<String, Boolean> localAddresses;
+        private final boolean localOnly;
+
+        private Ring(final long[] tokens, final String[] serverIps, final Map<String, Boolean> localAddresses) {
+            this.tokens = tokens;
+            this.serverIps = serverIps;
+            this.localAddresses = localAddresses;
+            localOnly = !localAddresses.containsValue(false);
+        }
+
+        private String getServerIp(final long hashcode) {
+            final int index = Arrays.binarySearch(tokens, hashcode);
+            // obtain the first token greater than the hashcode
+            final int higherIndex = index >= 0 ? index + 1 : -index - 1;
+
+            // return first node if no token is greater than the hashcode
+            return serverIps[higherIndex < tokens.length ? higherIndex : 0];
         }
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * How the {@link HashRing} assigns identification keys to peers. All modes assign a key to the same peer on all nodes
+ * with the same configuration.
+ * <ul>
+ *     <li>{@link #CONSISTENT_HASHING} assigns a key to the peer of its position on the ring.</li>
+ *     <li>{@link #WEIGHTED} gives peers a number of virtual nodes on the ring proportional to their weight.</li>
+ * </ul>
+ *
+ * @since 2.1
+ */
+public enum LoadBalancingMode {
+    CONSISTENT_HASHING("consistent_hashing"),
+    WEIGHTED("weighted");
+
+    private static final Map<String, LoadBalancingMode> STRING_NAME_TO_ENUM_MAP = new HashMap<>();
+
+    private final String name;
+
+    static {
+        Arrays.stream(LoadBalancingMode.values())
+                .forEach(enumValue -> STRING_NAME_TO_ENUM_MAP.put(enumValue.name, enumValue));
+    }
+
+    LoadBalancingMode(final String name){
+        this.name = name;
+    }
+
+    public String getName(){
+        return name;
+    }
+
+    static LoadBalancingMode getByName(final String name) {
+        return Optional.ofNullable(STRING_NAME_TO_ENUM_MAP.get(name))
+                .orElseThrow(() -> new IllegalArgumentException("Unrecognized LoadBalancingMode: " + name));
+    }
+}
@@ -22,4 +22,9 @@ public class LocalPeerForwarder implements PeerForwarder {
     public Collection<Record<Event>> receiveRecords() {
         return Collections.emptyList();
     }
+
+    @Override
+    public Collection<Record<Event>> receiveRecords(final int partition) {
+        return Collections.emptyList();
+    }
 }
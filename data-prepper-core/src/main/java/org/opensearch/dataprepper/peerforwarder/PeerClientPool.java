@@ -5,11 +5,12 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
-import com.linecorp.armeria.client.ClientBuilder;
 import com.linecorp.armeria.client.ClientFactory;
 import com.linecorp.armeria.client.ClientFactoryBuilder;
 import com.linecorp.armeria.client.Clients;
+import com.linecorp.armeria.client.ConnectionPoolListener;
 import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.util.EventLoopGroups;
 import io.netty.handler.ssl.util.FingerprintTrustManagerFactory;
 import org.opensearch.dataprepper.plugins.certificate.model.Certificate;
 
@@ -19,10 +20,15 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Pool of the clients of the peers. The clients of all peers share a single {@link ClientFactory}, and therefore its
+ * event loops and connection settings.
+ */
 public class PeerClientPool {
     private static final String HTTP = "http";
     private static final String HTTPS = "https";
     private final Map<String, WebClient> peerClients;
+    private volatile ClientFactory clientFactory;
 
     private int port;
     private int clientTimeoutSeconds = 3;
@@ -31,6 +37,10 @@ public class PeerClientPool {
     private boolean sslDisableVerification;
     private boolean sslFingerprintVerificationOnly;
     private ForwardingAuthentication authentication;
+    private int connectionsPerPeer = 1;
+    private Duration idleTimeout = Duration.ofSeconds(10);
+    private Integer eventLoopThreadCount;
+    private ConnectionPoolListener connectionPoolListener = ConnectionPoolListener.noop();
 
     public PeerClientPool() {
         peerClients = new ConcurrentHashMap<>();
@@ -64,6 +74,26 @@ public class PeerClientPool {
         this.authentication = authentication;
     }
 
+    public void setConnectionsPerPeer(final int connectionsPerPeer) {
+        this.connectionsPerPeer = connectionsPerPeer;
+    }
+
+    public void setIdleTimeout(final Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * @param eventLoopThreadCount number of threads of the event loop group shared by the clients of all peers, or
+     *                             null to use the common event loop group of Armeria
+     */
+    public void setEventLoopThreadCount(final Integer eventLoopThreadCount) {
+        this.eventLoopThreadCount = eventLoopThreadCount;
+    }
+
+    public void setConnectionPoolListener(final ConnectionPoolListener connectionPoolListener) {
+        this.connectionPoolListener = connectionPoolListener;
+    }
+
     public WebClient getClient(final String address) {
         return peerClients.computeIfAbsent(address, this::getHTTPClient);
     }
@@ -71,12 +101,34 @@ public class PeerClientPool {
     private WebClient getHTTPClient(final String ipAddress) {
         final String protocol = ssl ? HTTPS : HTTP;
 
-        ClientBuilder clientBuilder = Clients.builder(String.format("%s://%s:%s/", protocol, ipAddress, port))
-                .writeTimeout(Duration.ofSeconds(clientTimeoutSeconds));
+        return Clients.builder(String.format("%s://%s:%s/", protocol, ipAddress, port))
+                .writeTimeout(Duration.ofSeconds(clientTimeoutSeconds))
+                .factory(getClientFactory())
+                .build(WebClient.class);
+    }
 
-        if (ssl) {
-            final ClientFactoryBuilder clientFactoryBuilder = ClientFactory.builder();
+    private ClientFactory getClientFactory() {
+        if (clientFactory == null) {
+            synchronized (this) {
+                if (clientFactory == null) {
+                    clientFactory = createClientFactory();
+                }
+            }
+        }
+        return clientFactory;
+    }
 
+    private ClientFactory createClientFactory() {
+        final ClientFactoryBuilder clientFactoryBuilder = ClientFactory.builder()
+                .maxNumEventLoopsPerEndpoint(connectionsPerPeer)
+                .idleTimeout(idleTimeout)
+                .connectionPoolListener(connectionPoolListener);
+
+        if (eventLoopThreadCount != null) {
+            clientFactoryBuilder.workerGroup(EventLoopGroups.newEventLoopGroup(eventLoopThreadCount), true);
+        }
+
+        if (ssl) {
             if (sslFingerprintVerificationOnly) {
                 final FingerprintTrustManagerFactory fingerprintTrustManagerFactory = new FingerprintTrustManagerFactory(certificate.getFingerprint());
                 clientFactoryBuilder.tlsCustomizer(sslContextBuilder -> sslContextBuilder.trustManager(fingerprintTrustManagerFactory));
@@ -87,8 +139,9 @@ public class PeerClientPool {
                 );
             }
 
+            // the factory is only used for peers, so verification of all hosts is disabled
             if(sslDisableVerification) {
-                clientFactoryBuilder.tlsNoVerifyHosts(ipAddress);
+                clientFactoryBuilder.tlsNoVerify();
             }
 
             // TODO: Add keyManager configuration here
@@ -98,9 +151,8 @@ public class PeerClientPool {
                         new ByteArrayInputStream(certificate.getPrivateKey().getBytes(StandardCharsets.UTF_8))
                 ));
             }
-            clientBuilder = clientBuilder.factory(clientFactoryBuilder.build());
         }
 
-        return clientBuilder.build(WebClient.class);
+        return clientFactoryBuilder.build();
     }
 }
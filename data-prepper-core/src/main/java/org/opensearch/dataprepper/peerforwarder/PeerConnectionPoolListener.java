@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.linecorp.armeria.client.ConnectionPoolListener;
+import com.linecorp.armeria.common.SessionProtocol;
+import io.netty.util.AttributeMap;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records metrics of the connections of the peer clients. The metrics are tagged with the address of the peer.
+ */
+class PeerConnectionPoolListener implements ConnectionPoolListener {
+    static final String ACTIVE_CONNECTIONS = "peerActiveConnections";
+    static final String CONNECTIONS_OPENED = "peerConnectionsOpened";
+    static final String CONNECTIONS_CLOSED = "peerConnectionsClosed";
+    static final String PEER_TAG = "peer";
+
+    private final PluginMetrics pluginMetrics;
+    private final Map<String, AtomicInteger> activeConnections;
+
+    PeerConnectionPoolListener(final PluginMetrics pluginMetrics) {
+        this.pluginMetrics = pluginMetrics;
+        activeConnections = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void connectionOpen(final SessionProtocol protocol,
+                               final InetSocketAddress remoteAddr,
+                               final InetSocketAddress localAddr,
+                               final AttributeMap attrs) {
+        getActiveConnections(remoteAddr.getHostString()).incrementAndGet();
+        pluginMetrics.counterWithTags(CONNECTIONS_OPENED, PEER_TAG, remoteAddr.getHostString()).increment();
+    }
+
+    @Override
+    public void connectionClosed(final SessionProtocol protocol,
+                                 final InetSocketAddress remoteAddr,
+                                 final InetSocketAddress localAddr,
+                                 final AttributeMap attrs) {
+        getActiveConnections(remoteAddr.getHostString()).decrementAndGet();
+        pluginMetrics.counterWithTags(CONNECTIONS_CLOSED, PEER_TAG, remoteAddr.getHostString()).increment();
+    }
+
+    private AtomicInteger getActiveConnections(final String peer) {
+        return activeConnections.computeIfAbsent(peer,
+                address -> pluginMetrics.gaugeWithTags(ACTIVE_CONNECTIONS, new AtomicInteger(), PEER_TAG, address));
+    }
+}
@@ -28,4 +28,11 @@ public interface PeerForwarder {
      * @return collection of records forwarded by peers
      */
     Collection<Record<Event>> receiveRecords();
+
+    /**
+     * Receives records from a partition of {@link PeerForwarderReceiveBuffer} forwarded by peers and process them locally
+     * @param partition partition of the process worker receiving the records
+     * @return collection of records forwarded by peers
+     */
+    Collection<Record<Event>> receiveRecords(final int partition);
 }
@@ -8,9 +8,13 @@ package org.opensearch.dataprepper.peerforwarder;
 
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.peerforwarder.certificate.CertificateProviderFactory;
+import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
 
+import java.util.Collections;
+import java.util.Map;
+
 public class PeerForwarderClientFactory {
     public static final int NUM_VIRTUAL_NODES = 128;
 
@@ -29,10 +33,24 @@ public class PeerForwarderClientFactory {
         this.pluginMetrics = pluginMetrics;
     }
 
-    public HashRing createHashRing() {
+    /**
+     * Creates the hash ring of the peers, which balances load according to the configured {@link LoadBalancingMode}.
+     * The send queues of the peer forwarder client are removed for peers which leave the peer list.
+     *
+     * @param peerForwarderClient client sending records to the peers of the ring
+     * @return the hash ring
+     */
+    public HashRing createHashRing(final PeerForwarderClient peerForwarderClient) {
         final DiscoveryMode discoveryMode = peerForwarderConfiguration.getDiscoveryMode();
         final PeerListProvider peerListProvider = discoveryMode.create(peerForwarderConfiguration, pluginMetrics);
-        return new HashRing(peerListProvider, NUM_VIRTUAL_NODES);
+        final LoadBalancingMode loadBalancingMode = peerForwarderConfiguration.getLoadBalancingMode();
+        final Map<String, Integer> peerWeights = loadBalancingMode == LoadBalancingMode.WEIGHTED ?
+                peerForwarderConfiguration.getPeerWeights() : Collections.emptyMap();
+        final HashRing hashRing = new HashRing(peerListProvider, NUM_VIRTUAL_NODES, peerWeights);
+        // Registered after the hash ring, so that records are not routed to a removed peer anymore
+        peerListProvider.addListener(endpoints -> peerForwarderClient.retainPeers(peerListProvider.getPeerList()));
+        peerForwarderClient.retainPeers(peerListProvider.getPeerList());
+        return hashRing;
     }
 
     public PeerClientPool setPeerClientPool() {
@@ -45,6 +63,10 @@ public class PeerForwarderClientFactory {
         final boolean useAcmCertForSsl = peerForwarderConfiguration.isUseAcmCertificateForSsl();
 
         peerClientPool.setAuthentication(peerForwarderConfiguration.getAuthentication());
+        peerClientPool.setConnectionsPerPeer(peerForwarderConfiguration.getClientConnectionsPerPeer());
+        peerClientPool.setIdleTimeout(peerForwarderConfiguration.getClientIdleTimeout());
+        peerClientPool.setEventLoopThreadCount(peerForwarderConfiguration.getClientEventLoopThreadCount());
+        peerClientPool.setConnectionPoolListener(new PeerConnectionPoolListener(pluginMetrics));
 
         if (ssl || useAcmCertForSsl) {
             peerClientPool.setSsl(true);
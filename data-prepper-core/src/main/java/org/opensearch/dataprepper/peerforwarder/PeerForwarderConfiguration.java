@@ -51,6 +51,19 @@ public class PeerForwarderConfiguration {
     private String domainName;
     private List<String> staticEndpoints = new ArrayList<>();
     private Integer clientThreadCount = 200;
+    private Integer maxInFlightRequestsPerPeer = 8;
+    private ForwardingCodec forwardingCodec = ForwardingCodec.JSON;
+    private ForwardingCompression forwardingCompression = ForwardingCompression.NONE;
+    private LoadBalancingMode loadBalancingMode = LoadBalancingMode.CONSISTENT_HASHING;
+    private Map<String, Integer> peerWeights = Collections.emptyMap();
+    private Integer forwardingBatchSize = 1_000;
+    private Duration forwardingBatchTimeout = Duration.ZERO;
+    private Integer forwardingQueueSize = 4_000;
+    private boolean partitionReceiveBuffer = false;
+    private Integer clientConnectionsPerPeer = 1;
+    private Duration clientIdleTimeout = Duration.ofSeconds(10);
+    private Integer clientEventLoopThreadCount;
+    private Integer maxConcurrentStreamsPerConnection;
     private Integer batchSize = 48;
     private Integer batchDelay = 3_000;
     private Integer bufferSize = 512;
@@ -87,7 +100,20 @@ public class PeerForwarderConfiguration {
             @JsonProperty("batch_size") final Integer batchSize,
             @JsonProperty("batch_delay") final Integer batchDelay,
             @JsonProperty("buffer_size") final Integer bufferSize,
-            @JsonProperty("drain_timeout") final Duration drainTimeout
+            @JsonProperty("drain_timeout") final Duration drainTimeout,
+            @JsonProperty("max_in_flight_requests_per_peer") final Integer maxInFlightRequestsPerPeer,
+            @JsonProperty("forwarding_codec") final String forwardingCodec,
+            @JsonProperty("forwarding_compression") final String forwardingCompression,
+            @JsonProperty("load_balancing_mode") final String loadBalancingMode,
+            @JsonProperty("peer_weights") final Map<String, Integer> peerWeights,
+            @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
+            @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
+            @JsonProperty("forwarding_queue_size") final Integer forwardingQueueSize,
+            @JsonProperty("partition_receive_buffer") final Boolean partitionReceiveBuffer,
+            @JsonProperty("client_connections_per_peer") final Integer clientConnectionsPerPeer,
+            @JsonProperty("client_idle_timeout") final Duration clientIdleTimeout,
+            @JsonProperty("client_event_loop_thread_count") final Integer clientEventLoopThreadCount,
+            @JsonProperty("max_concurrent_streams_per_connection") final Integer maxConcurrentStreamsPerConnection
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -116,8 +142,23 @@ public class PeerForwarderConfiguration {
         setBatchDelay(batchDelay);
         setBufferSize(bufferSize);
         setDrainTimeout(drainTimeout);
+        setMaxInFlightRequestsPerPeer(maxInFlightRequestsPerPeer);
+        setForwardingCodec(forwardingCodec);
+        setForwardingCompression(forwardingCompression);
+        setLoadBalancingMode(loadBalancingMode);
+        setPeerWeights(peerWeights);
+        setForwardingBatchSize(forwardingBatchSize);
+        setForwardingBatchTimeout(forwardingBatchTimeout);
+        setForwardingQueueSize(forwardingQueueSize);
+        setPartitionReceiveBuffer(partitionReceiveBuffer);
+        setClientConnectionsPerPeer(clientConnectionsPerPeer);
+        setClientIdleTimeout(clientIdleTimeout);
+        setClientEventLoopThreadCount(clientEventLoopThreadCount);
+        setMaxConcurrentStreamsPerConnection(maxConcurrentStreamsPerConnection);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
+        validateLoadBalancing();
+        validateForwardingQueue();
     }
 
     public int getServerPort() {
@@ -200,6 +241,65 @@ public class PeerForwarderConfiguration {
         return clientThreadCount;
     }
 
+    public int getMaxInFlightRequestsPerPeer() {
+        return maxInFlightRequestsPerPeer;
+    }
+
+    public ForwardingCodec getForwardingCodec() {
+        return forwardingCodec;
+    }
+
+    public ForwardingCompression getForwardingCompression() {
+        return forwardingCompression;
+    }
+
+    public LoadBalancingMode getLoadBalancingMode() {
+        return loadBalancingMode;
+    }
+
+    public Map<String, Integer> getPeerWeights() {
+        return peerWeights;
+    }
+
+    public int getForwardingBatchSize() {
+        return forwardingBatchSize;
+    }
+
+    public Duration getForwardingBatchTimeout() {
+        return forwardingBatchTimeout;
+    }
+
+    public int getForwardingQueueSize() {
+        return forwardingQueueSize;
+    }
+
+    public boolean isPartitionReceiveBuffer() {
+        return partitionReceiveBuffer;
+    }
+
+    public int getClientConnectionsPerPeer() {
+        return clientConnectionsPerPeer;
+    }
+
+    public Duration getClientIdleTimeout() {
+        return clientIdleTimeout;
+    }
+
+    /**
+     * @return number of threads of the event loop group shared by the clients of all peers, or null if the clients
+     * use the common event loop group
+     */
+    public Integer getClientEventLoopThreadCount() {
+        return clientEventLoopThreadCount;
+    }
+
+    /**
+     * @return maximum number of concurrent HTTP/2 streams the server allows on a connection, or null if not limited
+     */
+    public Integer getMaxConcurrentStreamsPerConnection() {
+        return maxConcurrentStreamsPerConnection;
+    }
+
     public int getBatchSize() {
         return batchSize;
     }
@@ -409,6 +509,111 @@ public class PeerForwarderConfiguration {
         }
     }
 
+    private void setMaxInFlightRequestsPerPeer(final Integer maxInFlightRequestsPerPeer) {
+        if (maxInFlightRequestsPerPeer != null) {
+            if (maxInFlightRequestsPerPeer <= 0) {
+                throw new IllegalArgumentException("Maximum in-flight requests per peer must be a positive integer.");
+            }
+            this.maxInFlightRequestsPerPeer = maxInFlightRequestsPerPeer;
+        }
+    }
+
+    private void setForwardingCodec(final String forwardingCodec) {
+        if (forwardingCodec != null) {
+            this.forwardingCodec = ForwardingCodec.getByName(forwardingCodec);
+        }
+    }
+
+    private void setForwardingCompression(final String forwardingCompression) {
+        if (forwardingCompression != null) {
+            this.forwardingCompression = ForwardingCompression.getByName(forwardingCompression);
+        }
+    }
+
+    private void setLoadBalancingMode(final String loadBalancingMode) {
+        if (loadBalancingMode != null) {
+            this.loadBalancingMode = LoadBalancingMode.getByName(loadBalancingMode);
+        }
+    }
+
+    private void setPeerWeights(final Map<String, Integer> peerWeights) {
+        if (peerWeights != null) {
+            if (peerWeights.values().stream().anyMatch(weight -> weight == null || weight <= 0)) {
+                throw new IllegalArgumentException("Peer weights must be positive integers.");
+            }
+            this.peerWeights = peerWeights;
+        }
+    }
+
+    private void setForwardingBatchSize(final Integer forwardingBatchSize) {
+        if (forwardingBatchSize != null) {
+            if (forwardingBatchSize <= 0) {
+                throw new IllegalArgumentException("Forwarding batch size must be a positive integer.");
+            }
+            this.forwardingBatchSize = forwardingBatchSize;
+        }
+    }
+
+    private void setForwardingBatchTimeout(final Duration forwardingBatchTimeout) {
+        if (forwardingBatchTimeout != null) {
+            if (forwardingBatchTimeout.isNegative()) {
+                throw new IllegalArgumentException("Forwarding batch timeout must be non-negative.");
+            }
+            this.forwardingBatchTimeout = forwardingBatchTimeout;
+        }
+    }
+
+    private void setForwardingQueueSize(final Integer forwardingQueueSize) {
+        if (forwardingQueueSize != null) {
+            if (forwardingQueueSize <= 0) {
+                throw new IllegalArgumentException("Forwarding queue size must be a positive integer.");
+            }
+            this.forwardingQueueSize = forwardingQueueSize;
+        }
+    }
+
+    private void setPartitionReceiveBuffer(final Boolean partitionReceiveBuffer) {
+        if (partitionReceiveBuffer != null) {
+            this.partitionReceiveBuffer = partitionReceiveBuffer;
+        }
+    }
+
+    private void setClientConnectionsPerPeer(final Integer clientConnectionsPerPeer) {
+        if (clientConnectionsPerPeer != null) {
+            if (clientConnectionsPerPeer <= 0) {
+                throw new IllegalArgumentException("Client connections per peer must be a positive integer.");
+            }
+            this.clientConnectionsPerPeer = clientConnectionsPerPeer;
+        }
+    }
+
+    private void setClientIdleTimeout(final Duration clientIdleTimeout) {
+        if (clientIdleTimeout != null) {
+            if (clientIdleTimeout.isNegative()) {
+                throw new IllegalArgumentException("Client idle timeout must be non-negative.");
+            }
+            this.clientIdleTimeout = clientIdleTimeout;
+        }
+    }
+
+    private void setClientEventLoopThreadCount(final Integer clientEventLoopThreadCount) {
+        if (clientEventLoopThreadCount != null) {
+            if (clientEventLoopThreadCount <= 0) {
+                throw new IllegalArgumentException("Client event loop thread count must be a positive integer.");
+            }
+            this.clientEventLoopThreadCount = clientEventLoopThreadCount;
+        }
+    }
+
+    private void setMaxConcurrentStreamsPerConnection(final Integer maxConcurrentStreamsPerConnection) {
+        if (maxConcurrentStreamsPerConnection != null) {
+            if (maxConcurrentStreamsPerConnection <= 0) {
+                throw new IllegalArgumentException("Maximum concurrent streams per connection must be a positive integer.");
+            }
+            this.maxConcurrentStreamsPerConnection = maxConcurrentStreamsPerConnection;
+        }
+    }
+
     private void setBatchSize(final Integer batchSize) {
         if (batchSize != null) {
             if (batchSize <= 0) {
@@ -452,6 +657,16 @@ public class PeerForwarderConfiguration {
             throw new IllegalArgumentException("Mutual TLS is only available when SSL is enabled.");
     }
 
+    private void validateLoadBalancing() {
+        if (loadBalancingMode == LoadBalancingMode.WEIGHTED && peerWeights.isEmpty())
+            throw new IllegalArgumentException("Peer weights are required when load balancing mode is weighted.");
+    }
+
+    private void validateForwardingQueue() {
+        if (forwardingQueueSize < forwardingBatchSize)
+            throw new IllegalArgumentException("Forwarding queue size must be greater than or equal to forwarding batch size.");
+    }
+
     private void setDrainTimeout(final Duration drainTimeout) {
         if (drainTimeout != null) {
             if (drainTimeout.isNegative()) {
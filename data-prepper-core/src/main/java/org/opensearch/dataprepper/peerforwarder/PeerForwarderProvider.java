@@ -14,6 +14,7 @@ import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ToIntFunction;
 
 public class PeerForwarderProvider {
 
@@ -35,16 +36,34 @@ public class PeerForwarderProvider {
     }
 
     public PeerForwarder register(final String pipelineName, final String pluginId, final Set<String> identificationKeys) {
+        return register(pipelineName, pluginId, identificationKeys, 1);
+    }
+
+    /**
+     * Registers a processor which requires peer forwarding and creates its receive buffer. If the receive buffer is
+     * partitioned, it has a partition for each instance of the processor.
+     *
+     * @param pipelineName name of the pipeline of the processor
+     * @param pluginId id of the processor
+     * @param identificationKeys identification keys of the processor
+     * @param numberOfProcessorInstances number of instances of the processor, each used by a single process worker
+     * @return the peer forwarder of the processor
+     */
+    public PeerForwarder register(final String pipelineName,
+                                  final String pluginId,
+                                  final Set<String> identificationKeys,
+                                  final int numberOfProcessorInstances) {
         if (pipelinePeerForwarderReceiveBufferMap.containsKey(pipelineName) &&
                 pipelinePeerForwarderReceiveBufferMap.get(pipelineName).containsKey(pluginId)) {
             throw new RuntimeException("Data Prepper 2.0 will only support a single peer-forwarder per pipeline/plugin type");
         }
 
-        final PeerForwarderReceiveBuffer<Record<Event>> peerForwarderReceiveBuffer = createBufferPerPipelineProcessor(pipelineName, pluginId);
+        final PeerForwarderReceiveBuffer<Record<Event>> peerForwarderReceiveBuffer =
+                createBufferPerPipelineProcessor(pipelineName, pluginId, identificationKeys, numberOfProcessorInstances);
 
         if (isPeerForwardingRequired()) {
             if (hashRing == null) {
-                hashRing = peerForwarderClientFactory.createHashRing();
+                hashRing = peerForwarderClientFactory.createHashRing(peerForwarderClient);
             }
             return new RemotePeerForwarder(
                     peerForwarderClient,
@@ -53,8 +72,7 @@ public class PeerForwarderProvider {
                     pipelineName,
                     pluginId,
                     identificationKeys,
-                    pluginMetrics,
-                    peerForwarderConfiguration.getBatchDelay()
+                    pluginMetrics
             );
         }
         else {
@@ -62,9 +80,17 @@ public class PeerForwarderProvider {
         }
     }
 
-    private PeerForwarderReceiveBuffer<Record<Event>> createBufferPerPipelineProcessor(final String pipelineName, final String pluginId) {
-        final PeerForwarderReceiveBuffer<Record<Event>> peerForwarderReceiveBuffer = new
-                PeerForwarderReceiveBuffer<>(peerForwarderConfiguration.getBufferSize(), peerForwarderConfiguration.getBatchSize());
+    private PeerForwarderReceiveBuffer<Record<Event>> createBufferPerPipelineProcessor(final String pipelineName,
+                                                                                       final String pluginId,
+                                                                                       final Set<String> identificationKeys,
+                                                                                       final int numberOfProcessorInstances) {
+        final int numberOfPartitions = peerForwarderConfiguration.isPartitionReceiveBuffer() ? numberOfProcessorInstances : 1;
+        final PeerForwarderReceiveBuffer<Record<Event>> peerForwarderReceiveBuffer = new PeerForwarderReceiveBuffer<>(
+                peerForwarderConfiguration.getBufferSize(),
+                peerForwarderConfiguration.getBatchSize(),
+                numberOfPartitions,
+                createPartitioner(identificationKeys),
+                PluginMetrics.fromNames(pluginId, pipelineName));
 
         final Map<String, PeerForwarderReceiveBuffer<Record<Event>>> pluginsBufferMap =
                 pipelinePeerForwarderReceiveBufferMap.computeIfAbsent(pipelineName, k -> new HashMap<>());
@@ -74,6 +100,19 @@ public class PeerForwarderProvider {
         return peerForwarderReceiveBuffer;
     }
 
+    private static ToIntFunction<Record<Event>> createPartitioner(final Set<String> identificationKeys) {
+        return record -> {
+            final Event event = record.getData();
+            int hash = 1;
+            for (final String identificationKey : identificationKeys) {
+                final Object identificationKeyValue = event.get(identificationKey, Object.class);
+                hash = 31 * hash + (identificationKeyValue == null ? 0 : identificationKeyValue.toString().hashCode());
+            }
+            // spread the higher bits, as the partition is the hash modulo a small number of partitions
+            return hash ^ (hash >>> 16);
+        };
+    }
+
     public boolean isPeerForwardingRequired() {
         return arePeersConfigured() && pipelinePeerForwarderReceiveBufferMap.size() > 0;
     }
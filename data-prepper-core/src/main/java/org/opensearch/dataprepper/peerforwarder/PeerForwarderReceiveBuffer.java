@@ -5,56 +5,117 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.record.Record;
-import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.AbstractMap;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Objects;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
 
 import static java.lang.String.format;
 
 /**
  * Buffer created for each stateful processor which implements {@link org.opensearch.dataprepper.model.peerforwarder.RequiresPeerForwarding}
  * interface.
+ * <p>
+ * Records are kept in partitions, each of which holds the written chunks of records with the time they were written.
+ * With a single partition, all process workers read the same records. With a partition per process worker, a record
+ * is written to the partition its partitioner selects, and {@link #drain(int)} only reads the records of a partition,
+ * so the records with the same identification keys are read by the same process worker. The capacity of the buffer
+ * is shared by all partitions, and the records read are counted with a striped counter until they are checkpointed.
+ * <p>
+ * Records written with a {@link Reservation} are added to the partitions as they are written, but they are only read
+ * once the reservation is committed, and they are removed again if the reservation is closed without being committed.
  *
  * @since 2.0
  */
 public class PeerForwarderReceiveBuffer<T extends Record<?>> implements Buffer<T> {
     private static final Logger LOG = LoggerFactory.getLogger(PeerForwarderReceiveBuffer.class);
+    static final String RECORDS_IN_BUFFER = "peerForwarderRecordsInBuffer";
+    static final String RECORDS_IN_FLIGHT = "peerForwarderRecordsInFlight";
+    static final String BUFFER_LATENCY = "peerForwarderBufferLatency";
 
     private final int bufferSize;
     private final int batchSize;
     private final Semaphore capacitySemaphore;
-    private final LinkedBlockingQueue<T> blockingQueue;
-    private int recordsInFlight = 0;
+    private final Partition<T>[] partitions;
+    private final ToIntFunction<T> partitioner;
+    private final LongAdder recordsInFlight;
+    private final LongAdder recordsInBuffer;
+    private final Timer bufferLatencyTimer;
+    private final AtomicInteger nextPartition;
+    private final AtomicInteger waitingReaders;
+    private final Lock readLock;
+    private final Condition recordsWritten;
 
-    public PeerForwarderReceiveBuffer(final int bufferSize, final int batchSize) {
+    /**
+     * @param bufferSize maximum number of records in the buffer which are not checkpointed
+     * @param batchSize maximum number of records returned by a read
+     * @param numberOfPartitions number of partitions of the buffer
+     * @param partitioner function returning the partition of a record, modulo the number of partitions
+     * @param pluginMetrics metrics of the plugin the buffer receives records for
+     */
+    @SuppressWarnings("unchecked")
+    public PeerForwarderReceiveBuffer(final int bufferSize,
+                                      final int batchSize,
+                                      final int numberOfPartitions,
+                                      final ToIntFunction<T> partitioner,
+                                      final PluginMetrics pluginMetrics) {
+        if (numberOfPartitions <= 0) {
+            throw new IllegalArgumentException("Number of partitions must be a positive integer.");
+        }
         this.bufferSize = bufferSize;
         this.batchSize = batchSize;
-        this.blockingQueue = new LinkedBlockingQueue<>(bufferSize);
-        this.capacitySemaphore = new Semaphore(bufferSize);
+        this.partitioner = Objects.requireNonNull(partitioner);
+        capacitySemaphore = new Semaphore(bufferSize);
+        partitions = new Partition[numberOfPartitions];
+        for (int i = 0; i < numberOfPartitions; i++) {
+            partitions[i] = new Partition<>();
+        }
+        recordsInFlight = pluginMetrics.gauge(RECORDS_IN_FLIGHT, new LongAdder(), LongAdder::doubleValue);
+        recordsInBuffer = pluginMetrics.gauge(RECORDS_IN_BUFFER, new LongAdder(), LongAdder::doubleValue);
+        bufferLatencyTimer = pluginMetrics.timer(BUFFER_LATENCY);
+        nextPartition = new AtomicInteger();
+        waitingReaders = new AtomicInteger();
+        readLock = new ReentrantLock();
+        recordsWritten = readLock.newCondition();
+    }
+
+    public PeerForwarderReceiveBuffer(final int bufferSize, final int batchSize, final PluginMetrics pluginMetrics) {
+        this(bufferSize, batchSize, 1, record -> 0, pluginMetrics);
     }
 
     @Override
     public void write(final T record, final int timeoutInMillis) throws TimeoutException {
+        Objects.requireNonNull(record);
         try {
             final boolean permitAcquired = capacitySemaphore.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS);
             if (!permitAcquired) {
                 throw new TimeoutException("Peer forwarder buffer is full, timed out waiting for a slot");
             }
-            blockingQueue.offer(record);
+            addRecords(Collections.singletonList(record));
         } catch (InterruptedException ex) {
             LOG.error("Peer forwarder buffer is full, interrupted while waiting to write the record", ex);
             throw new TimeoutException("Peer forwarder buffer is full, timed out waiting for a slot");
@@ -63,7 +124,29 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> implements Buffer<T
 
     @Override
     public void writeAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
-        final int size = records.size();
+        acquireCapacity(records.size(), timeoutInMillis);
+        addRecords(records);
+    }
+
+    /**
+     * Reserves capacity in the buffer for a number of records, which are written with
+     * {@link Reservation#writeAll(Collection)} and read once the reservation is committed with
+     * {@link Reservation#commit()}. Closing the reservation releases the capacity which was not committed and removes
+     * the records which were written without being committed, so the records of a request are either all read from the
+     * buffer or none of them are.
+     *
+     * @param numberOfRecords number of records to reserve capacity for
+     * @param timeoutInMillis maximum time to wait for the capacity
+     * @return the reservation, which must be closed
+     * @throws SizeOverflowException if the number of records is greater than the size of the buffer
+     * @throws TimeoutException if the capacity is not available within the timeout
+     */
+    public Reservation reserve(final int numberOfRecords, final int timeoutInMillis) throws Exception {
+        acquireCapacity(numberOfRecords, timeoutInMillis);
+        return new Reservation(numberOfRecords);
+    }
+
+    private void acquireCapacity(final int size, final int timeoutInMillis) throws Exception {
         if (size > bufferSize) {
             throw new SizeOverflowException(format("Peer forwarder buffer capacity too small for the size of records: %d", size));
         }
@@ -74,7 +157,6 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> implements Buffer<T
                         format("Peer forwarder buffer does not have enough capacity left for the size of records: %d, " +
                                         "timed out waiting for slots.", size));
             }
-            blockingQueue.addAll(records);
         } catch (InterruptedException ex) {
             LOG.error("Peer forwarder buffer does not have enough capacity left for the size of records: {}, " +
                             "interrupted while waiting to write the records", size, ex);
@@ -84,38 +166,339 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> implements Buffer<T
         }
     }
 
+    private void addRecords(final Collection<T> records) {
+        final long writeTime = System.nanoTime();
+        final List<List<T>> partitionedRecords = partitionRecords(records);
+        for (int i = 0; i < partitions.length; i++) {
+            if (!partitionedRecords.get(i).isEmpty()) {
+                partitions[i].add(new Chunk<>(partitionedRecords.get(i), writeTime));
+            }
+        }
+        recordsInBuffer.add(records.size());
+        signalWaitingReaders();
+    }
+
+    /**
+     * @return copies of the records of each partition, in the order of the partitions
+     */
+    private List<List<T>> partitionRecords(final Collection<T> records) {
+        if (partitions.length == 1) {
+            return Collections.singletonList(new ArrayList<>(records));
+        }
+        final List<List<T>> partitionedRecords = new ArrayList<>(partitions.length);
+        for (int i = 0; i < partitions.length; i++) {
+            partitionedRecords.add(new ArrayList<>());
+        }
+        for (final T record : records) {
+            partitionedRecords.get(getPartitionIndex(partitioner.applyAsInt(record))).add(record);
+        }
+        return partitionedRecords;
+    }
+
+    private void signalWaitingReaders() {
+        if (waitingReaders.get() > 0) {
+            readLock.lock();
+            try {
+                recordsWritten.signalAll();
+            } finally {
+                readLock.unlock();
+            }
+        }
+    }
+
     @Override
     public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis) {
         final List<T> records = new ArrayList<>();
-        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
         try {
-            while (stopwatch.elapsed(TimeUnit.MILLISECONDS) < timeoutInMillis && records.size() < batchSize) {
-                final T record = blockingQueue.poll(timeoutInMillis, TimeUnit.MILLISECONDS);
-                if (record != null) { //record can be null, avoiding adding nulls
-                    records.add(record);
-                }
-                if (records.size() < batchSize) {
-                    blockingQueue.drainTo(records, batchSize - records.size());
-                }
+            drainPartitions(records);
+            long remainingNanos = deadline - System.nanoTime();
+            while (records.size() < batchSize && remainingNanos > 0) {
+                awaitRecords(remainingNanos);
+                drainPartitions(records);
+                remainingNanos = deadline - System.nanoTime();
             }
         } catch (InterruptedException ex) {
             LOG.info("Peer forwarder buffer - Interrupt received while reading from buffer");
             throw new RuntimeException(ex);
         }
+        return createReadResult(records);
+    }
+
+    private void awaitRecords(final long timeoutNanos) throws InterruptedException {
+        readLock.lock();
+        waitingReaders.incrementAndGet();
+        try {
+            // records written before the reader is counted as waiting do not signal the reader
+            if (!hasBufferedRecords()) {
+                recordsWritten.awaitNanos(timeoutNanos);
+            }
+        } finally {
+            waitingReaders.decrementAndGet();
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the records in the buffer, up to the batch size, without waiting for records to be written. The
+     * partitions are read starting from a different partition on each call.
+     *
+     * @return the records read and the checkpoint state of the records
+     */
+    public Map.Entry<Collection<T>, CheckpointState> drain() {
+        if (!hasBufferedRecords()) {
+            return createReadResult(Collections.emptyList());
+        }
+        final List<T> records = new ArrayList<>();
+        drainPartitions(records);
+        return createReadResult(records);
+    }
+
+    /**
+     * Reads the records in a partition of the buffer, up to the batch size, without waiting for records to be written.
+     *
+     * @param partition the partition, modulo the number of partitions
+     * @return the records read and the checkpoint state of the records
+     */
+    public Map.Entry<Collection<T>, CheckpointState> drain(final int partition) {
+        final Partition<T> partitionToDrain = partitions[getPartitionIndex(partition)];
+        if (partitionToDrain.isEmpty()) {
+            return createReadResult(Collections.emptyList());
+        }
+        final List<T> records = new ArrayList<>();
+        partitionToDrain.drainTo(records, batchSize, bufferLatencyTimer);
+        return createReadResult(records);
+    }
+
+    private void drainPartitions(final List<T> records) {
+        final int firstPartition = getPartitionIndex(nextPartition.getAndIncrement());
+        for (int i = 0; i < partitions.length && records.size() < batchSize; i++) {
+            partitions[(firstPartition + i) % partitions.length].drainTo(records, batchSize, bufferLatencyTimer);
+        }
+    }
+
+    private Map.Entry<Collection<T>, CheckpointState> createReadResult(final Collection<T> records) {
         final CheckpointState checkpointState = new CheckpointState(records.size());
-        recordsInFlight += checkpointState.getNumRecordsToBeChecked();
+        recordsInBuffer.add(-records.size());
+        recordsInFlight.add(records.size());
         return new AbstractMap.SimpleEntry<>(records, checkpointState);
     }
 
+    private int getPartitionIndex(final int partition) {
+        return Math.floorMod(partition, partitions.length);
+    }
+
+    private boolean hasBufferedRecords() {
+        for (final Partition<T> partition : partitions) {
+            if (!partition.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getNumberOfPartitions() {
+        return partitions.length;
+    }
+
     @Override
     public void checkpoint(final CheckpointState checkpointState) {
         final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
         capacitySemaphore.release(numCheckedRecords);
-        recordsInFlight -= checkpointState.getNumRecordsToBeChecked();
+        recordsInFlight.add(-numCheckedRecords);
     }
 
     @Override
     public boolean isEmpty() {
-        return blockingQueue.isEmpty() && recordsInFlight == 0;
+        return !hasBufferedRecords() && recordsInFlight.sum() == 0;
+    }
+
+    /**
+     * Capacity reserved in the buffer by {@link #reserve(int, int)}.
+     */
+    public class Reservation implements AutoCloseable {
+        private final List<PendingChunk<T>> pendingChunks;
+        private int reservedRecords;
+        private int writtenRecords;
+
+        private Reservation(final int reservedRecords) {
+            this.reservedRecords = reservedRecords;
+            pendingChunks = new ArrayList<>();
+        }
+
+        /**
+         * Reserves capacity for more records, waiting for the capacity within the timeout.
+         *
+         * @param numberOfRecords number of records to reserve capacity for
+         * @param timeoutInMillis maximum time to wait for the capacity
+         * @throws SizeOverflowException if the reservation would be greater than the size of the buffer
+         * @throws TimeoutException if the capacity is not available within the timeout
+         */
+        public void extend(final int numberOfRecords, final int timeoutInMillis) throws Exception {
+            if (reservedRecords + writtenRecords + numberOfRecords > bufferSize) {
+                throw new SizeOverflowException(format("Peer forwarder buffer capacity too small for the size of records: %d",
+                        reservedRecords + writtenRecords + numberOfRecords));
+            }
+            acquireCapacity(numberOfRecords, timeoutInMillis);
+            reservedRecords += numberOfRecords;
+        }
+
+        /**
+         * Writes records to the buffer into the reserved capacity, without waiting. The records are not read before
+         * the reservation is committed.
+         *
+         * @param records the records to write
+         * @throws SizeOverflowException if there are more records than the capacity left in the reservation
+         */
+        public void writeAll(final Collection<T> records) throws SizeOverflowException {
+            if (records.size() > reservedRecords) {
+                throw new SizeOverflowException(format("Peer forwarder buffer reservation too small for the size of records: %d",
+                        records.size()));
+            }
+            if (records.isEmpty()) {
+                return;
+            }
+            final List<List<T>> partitionedRecords = partitionRecords(records);
+            for (int i = 0; i < partitions.length; i++) {
+                if (!partitionedRecords.get(i).isEmpty()) {
+                    final Chunk<T> chunk = new Chunk<>(partitionedRecords.get(i));
+                    partitions[i].add(chunk);
+                    pendingChunks.add(new PendingChunk<>(partitions[i], chunk));
+                }
+            }
+            reservedRecords -= records.size();
+            writtenRecords += records.size();
+        }
+
+        /**
+         * Makes the records written to the reservation readable.
+         */
+        public void commit() {
+            final long writeTime = System.nanoTime();
+            for (final PendingChunk<T> pendingChunk : pendingChunks) {
+                pendingChunk.partition.commit(pendingChunk.chunk, writeTime);
+            }
+            pendingChunks.clear();
+            recordsInBuffer.add(writtenRecords);
+            writtenRecords = 0;
+            signalWaitingReaders();
+        }
+
+        /**
+         * Removes the records which were written without being committed, and releases their capacity and the
+         * reserved capacity which was not written.
+         */
+        @Override
+        public void close() {
+            for (final PendingChunk<T> pendingChunk : pendingChunks) {
+                pendingChunk.partition.remove(pendingChunk.chunk);
+            }
+            pendingChunks.clear();
+            capacitySemaphore.release(reservedRecords + writtenRecords);
+            reservedRecords = 0;
+            writtenRecords = 0;
+        }
+    }
+
+    /**
+     * Records of a partition, in chunks of the records written at once.
+     */
+    private static class Partition<T> {
+        private final Lock lock = new ReentrantLock();
+        private final Deque<Chunk<T>> chunks = new ArrayDeque<>();
+        private volatile int size;
+
+        private void add(final Chunk<T> chunk) {
+            lock.lock();
+            try {
+                chunks.add(chunk);
+                if (chunk.committed) {
+                    size += chunk.records.size();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void commit(final Chunk<T> chunk, final long writeTime) {
+            lock.lock();
+            try {
+                chunk.committed = true;
+                chunk.writeTime = writeTime;
+                size += chunk.records.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(final Chunk<T> chunk) {
+            lock.lock();
+            try {
+                chunks.remove(chunk);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void drainTo(final List<T> records, final int maxRecords, final Timer bufferLatencyTimer) {
+            if (isEmpty()) {
+                return;
+            }
+            final long readTime = System.nanoTime();
+            lock.lock();
+            try {
+                final Iterator<Chunk<T>> chunkIterator = chunks.iterator();
+                while (records.size() < maxRecords && chunkIterator.hasNext()) {
+                    final Chunk<T> chunk = chunkIterator.next();
+                    if (!chunk.committed) {
+                        continue;
+                    }
+                    final int recordsToTake = Math.min(maxRecords - records.size(), chunk.records.size() - chunk.offset);
+                    records.addAll(chunk.records.subList(chunk.offset, chunk.offset + recordsToTake));
+                    chunk.offset += recordsToTake;
+                    size -= recordsToTake;
+                    bufferLatencyTimer.record(readTime - chunk.writeTime, TimeUnit.NANOSECONDS);
+                    if (chunk.offset == chunk.records.size()) {
+                        chunkIterator.remove();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static class Chunk<T> {
+        private final List<T> records;
+        private long writeTime;
+        private boolean committed;
+        private int offset;
+
+        private Chunk(final List<T> records, final long writeTime) {
+            this.records = records;
+            this.writeTime = writeTime;
+            committed = true;
+        }
+
+        /**
+         * Creates a chunk of a {@link Reservation}, which is not read until it is committed.
+         */
+        private Chunk(final List<T> records) {
+            this.records = records;
+        }
+    }
+
+    private static class PendingChunk<T> {
+        private final Partition<T> partition;
+        private final Chunk<T> chunk;
+
+        private PendingChunk(final Partition<T> partition, final Chunk<T> chunk) {
+            this.partition = partition;
+            this.chunk = chunk;
+        }
     }
 }
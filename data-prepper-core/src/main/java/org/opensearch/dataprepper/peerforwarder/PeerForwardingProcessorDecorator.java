@@ -9,20 +9,28 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.peerforwarder.RequiresPeerForwarding;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
-import org.apache.commons.collections.CollectionUtils;
+import com.google.common.collect.Iterators;
 import org.opensearch.dataprepper.peerforwarder.exception.EmptyPeerForwarderPluginIdentificationKeysException;
 import org.opensearch.dataprepper.peerforwarder.exception.UnsupportedPeerForwarderPluginException;
 
+import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+/**
+ * Decorates a processor which requires peer forwarding. Records are forwarded before the inner processor is executed,
+ * and the inner processor is executed with the records to process locally followed by the records received from peers.
+ */
 public class PeerForwardingProcessorDecorator implements Processor<Record<Event>, Record<Event>> {
     private final PeerForwarder peerForwarder;
     private final Processor innerProcessor;
+    private final int partition;
 
     public static List<Processor> decorateProcessors(
             final List<Processor> processors,
@@ -65,26 +73,60 @@ public class PeerForwardingProcessorDecorator implements Processor<Record<Event>
                     "Peer Forwarder Plugin: %s cannot have empty identification keys." + pluginId);
         }
 
-        final PeerForwarder peerForwarder = peerForwarderProvider.register(pipelineName, pluginId, identificationKeys);
+        final PeerForwarder peerForwarder = peerForwarderProvider.register(pipelineName, pluginId, identificationKeys, processors.size());
 
-        return processors.stream().map(processor -> new PeerForwardingProcessorDecorator(peerForwarder, processor))
+        // each processor instance is used by a single process worker, and receives the records of its own partition
+        return IntStream.range(0, processors.size())
+                .mapToObj(partition -> new PeerForwardingProcessorDecorator(peerForwarder, processors.get(partition), partition))
                 .collect(Collectors.toList());
     }
 
-    private PeerForwardingProcessorDecorator(final PeerForwarder peerForwarder, final Processor innerProcessor) {
+    private PeerForwardingProcessorDecorator(final PeerForwarder peerForwarder, final Processor innerProcessor, final int partition) {
         this.peerForwarder = peerForwarder;
         this.innerProcessor = innerProcessor;
+        this.partition = partition;
     }
 
     @Override
     public Collection<Record<Event>> execute(final Collection<Record<Event>> records) {
         final Collection<Record<Event>> recordsToProcessOnLocalPeer = peerForwarder.forwardRecords(records);
-        final Collection<Record<Event>> receivedRecordsFromBuffer = peerForwarder.receiveRecords();
+        final Collection<Record<Event>> receivedRecordsFromBuffer = peerForwarder.receiveRecords(partition);
+
+        return innerProcessor.execute(concatenate(recordsToProcessOnLocalPeer, receivedRecordsFromBuffer));
+    }
+
+    private static Collection<Record<Event>> concatenate(final Collection<Record<Event>> first,
+                                                         final Collection<Record<Event>> second) {
+        if (second.isEmpty()) {
+            return first;
+        }
+        if (first.isEmpty()) {
+            return second;
+        }
+        return new ConcatenatedCollection<>(first, second);
+    }
+
+    /**
+     * Read only view of two collections, which iterates over the elements of the first and then the second collection.
+     */
+    private static class ConcatenatedCollection<T> extends AbstractCollection<T> {
+        private final Collection<T> first;
+        private final Collection<T> second;
+
+        private ConcatenatedCollection(final Collection<T> first, final Collection<T> second) {
+            this.first = first;
+            this.second = second;
+        }
 
-        final Collection<Record<Event>> recordsToProcessLocally = CollectionUtils.union(
-                recordsToProcessOnLocalPeer, receivedRecordsFromBuffer);
+        @Override
+        public Iterator<T> iterator() {
+            return Iterators.unmodifiableIterator(Iterators.concat(first.iterator(), second.iterator()));
+        }
 
-        return innerProcessor.execute(recordsToProcessLocally);
+        @Override
+        public int size() {
+            return first.size() + second.size();
+        }
     }
 
     @Override
@@ -17,10 +17,6 @@ import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetAddress;
-import java.net.NetworkInterface;
-import java.net.SocketException;
-import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -28,10 +24,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 class RemotePeerForwarder implements PeerForwarder {
     private static final Logger LOG = LoggerFactory.getLogger(RemotePeerForwarder.class);
-    private static final int READ_BATCH_DELAY = 3_000;
     static final String RECORDS_ACTUALLY_PROCESSED_LOCALLY = "recordsActuallyProcessedLocally";
     static final String RECORDS_TO_BE_PROCESSED_LOCALLY = "recordsToBeProcessedLocally";
     static final String RECORDS_TO_BE_FORWARDED = "recordsToBeForwarded";
@@ -57,7 +53,6 @@ class RemotePeerForwarder implements PeerForwarder {
     private final Counter recordsMissingIdentificationKeys;
     private final Counter requestsFailedCounter;
     private final Counter requestsSuccessfulCounter;
-    private final Integer batchDelay;
 
     RemotePeerForwarder(final PeerForwarderClient peerForwarderClient,
                         final HashRing hashRing,
@@ -65,15 +60,13 @@ class RemotePeerForwarder implements PeerForwarder {
                         final String pipelineName,
                         final String pluginId,
                         final Set<String> identificationKeys,
-                        final PluginMetrics pluginMetrics,
-                        final Integer batchDelay) {
+                        final PluginMetrics pluginMetrics) {
         this.peerForwarderClient = peerForwarderClient;
         this.hashRing = hashRing;
         this.peerForwarderReceiveBuffer = peerForwarderReceiveBuffer;
         this.pipelineName = pipelineName;
         this.pluginId = pluginId;
         this.identificationKeys = identificationKeys;
-        this.batchDelay = batchDelay;
         recordsActuallyProcessedLocallyCounter = pluginMetrics.counter(RECORDS_ACTUALLY_PROCESSED_LOCALLY);
         recordsToBeProcessedLocallyCounter = pluginMetrics.counter(RECORDS_TO_BE_PROCESSED_LOCALLY);
         recordsToBeForwardedCounter = pluginMetrics.counter(RECORDS_TO_BE_FORWARDED);
@@ -85,45 +78,88 @@ class RemotePeerForwarder implements PeerForwarder {
         requestsSuccessfulCounter = pluginMetrics.counter(REQUESTS_SUCCESSFUL);
     }
 
+    /**
+     * Forwards records to the peers they are assigned to. Requests to all destination peers are sent concurrently,
+     * and records are processed locally if they are assigned to this node or if forwarding them to their peer failed.
+     * If all peers are this node or all records are assigned to it, the records are returned as they are.
+     */
     public Collection<Record<Event>> forwardRecords(final Collection<Record<Event>> records) {
+        if (hashRing.isLocalOnly()) {
+            recordsToBeProcessedLocallyCounter.increment(records.size());
+            recordsActuallyProcessedLocallyCounter.increment(records.size());
+            return records;
+        }
+
         final Map<String, List<Record<Event>>> groupedRecords = groupRecordsBasedOnIdentificationKeys(records, identificationKeys);
 
         final List<Record<Event>> recordsToProcessLocally = new ArrayList<>();
+        final Map<String, CompletableFuture<AggregatedHttpResponse>> forwardingRequests = new HashMap<>();
 
         for (final Map.Entry<String, List<Record<Event>>> entry : groupedRecords.entrySet()) {
             final String destinationIp = entry.getKey();
 
-            if (isAddressDefinedLocally(destinationIp)) {
+            if (hashRing.isLocalAddress(destinationIp)) {
                 recordsToProcessLocally.addAll(entry.getValue());
                 recordsToBeProcessedLocallyCounter.increment(entry.getValue().size());
             } else {
                 recordsToBeForwardedCounter.increment(entry.getValue().size());
-                AggregatedHttpResponse httpResponse;
+                CompletableFuture<AggregatedHttpResponse> httpResponseFuture;
                 try {
-                    httpResponse = peerForwarderClient.serializeRecordsAndSendHttpRequest(entry.getValue(),
+                    httpResponseFuture = peerForwarderClient.serializeRecordsAndSendHttpRequestAsync(entry.getValue(),
                             destinationIp, pluginId, pipelineName);
                 } catch (final Exception ex) {
-                    httpResponse = null;
-                    LOG.warn("Unable to send request to peer, processing locally.", ex);
+                    httpResponseFuture = CompletableFuture.failedFuture(ex);
                 }
+                forwardingRequests.put(destinationIp, httpResponseFuture);
+            }
+        }
 
-                if (httpResponse == null || httpResponse.status() != HttpStatus.OK) {
-                    recordsToProcessLocally.addAll(entry.getValue());
-                    recordsFailedForwardingCounter.increment(entry.getValue().size());
-                    requestsFailedCounter.increment();
-                } else {
-                    recordsSuccessfullyForwardedCounter.increment(entry.getValue().size());
-                    requestsSuccessfulCounter.increment();
-                }
+        if (forwardingRequests.isEmpty()) {
+            recordsActuallyProcessedLocallyCounter.increment(records.size());
+            return records;
+        }
+
+        for (final Map.Entry<String, CompletableFuture<AggregatedHttpResponse>> request : forwardingRequests.entrySet()) {
+            final List<Record<Event>> forwardedRecords = groupedRecords.get(request.getKey());
+            final AggregatedHttpResponse httpResponse = getHttpResponse(request.getValue());
+
+            if (httpResponse == null || httpResponse.status() != HttpStatus.OK) {
+                recordsToProcessLocally.addAll(forwardedRecords);
+                recordsFailedForwardingCounter.increment(forwardedRecords.size());
+                requestsFailedCounter.increment();
+            } else {
+                recordsSuccessfullyForwardedCounter.increment(forwardedRecords.size());
+                requestsSuccessfulCounter.increment();
             }
         }
         recordsActuallyProcessedLocallyCounter.increment(recordsToProcessLocally.size());
         return recordsToProcessLocally;
     }
 
+    private AggregatedHttpResponse getHttpResponse(final CompletableFuture<AggregatedHttpResponse> httpResponseFuture) {
+        try {
+            return httpResponseFuture.join();
+        } catch (final Exception ex) {
+            LOG.warn("Unable to send request to peer, processing locally.", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Receives the records forwarded by peers which are in the buffer, without waiting for more records.
+     */
     public Collection<Record<Event>> receiveRecords() {
-        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = peerForwarderReceiveBuffer.read(batchDelay);
+        return receiveRecords(peerForwarderReceiveBuffer.drain());
+    }
 
+    /**
+     * Receives the records forwarded by peers which are in a partition of the buffer, without waiting for more records.
+     */
+    public Collection<Record<Event>> receiveRecords(final int partition) {
+        return receiveRecords(peerForwarderReceiveBuffer.drain(partition));
+    }
+
+    private Collection<Record<Event>> receiveRecords(final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult) {
         final Collection<Record<Event>> records = readResult.getKey();
         final CheckpointState checkpointState = readResult.getValue();
 
@@ -166,22 +202,4 @@ class RemotePeerForwarder implements PeerForwarder {
         return groupedRecords;
     }
 
-    private boolean isAddressDefinedLocally(final String address) {
-        final InetAddress inetAddress;
-        try {
-            inetAddress = InetAddress.getByName(address);
-        } catch (final UnknownHostException e) {
-            return false;
-        }
-        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
-            return true;
-        } else {
-            try {
-                return NetworkInterface.getByInetAddress(inetAddress) != null;
-            } catch (final SocketException e) {
-                return false;
-            }
-        }
-    }
-
 }
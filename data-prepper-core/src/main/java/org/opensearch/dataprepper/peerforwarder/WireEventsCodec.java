@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.MediaType;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes and decodes the {@link WireEvents} sent between peers with a {@link ForwardingCodec} and
+ * {@link ForwardingCompression}. Requests which are not Smile are decoded with the object mapper of the peer
+ * forwarder, so that requests from peers using the JSON codec are still accepted.
+ * <p>
+ * The number of wire events of a request is sent in the {@link #EVENT_COUNT_HEADER} header rather than in the encoded
+ * {@link WireEvents}, so that peers which do not know it can still decode the wire events.
+ *
+ * @since 2.1
+ */
+public class WireEventsCodec {
+    public static final MediaType SMILE = MediaType.create("application", "x-jackson-smile");
+    public static final String GZIP = "gzip";
+    public static final String EVENT_COUNT_HEADER = "x-peer-forwarder-event-count";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileObjectMapper;
+
+    public WireEventsCodec(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        final SmileFactory smileFactory = new SmileFactory();
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        smileObjectMapper = new ObjectMapper(smileFactory).registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * Encodes wire events.
+     *
+     * @param wireEvents wire events to encode
+     * @param codec codec to encode with
+     * @param compression compression to apply to the encoded wire events
+     * @return the encoded wire events
+     * @throws IOException if the wire events cannot be encoded
+     */
+    public byte[] encode(final WireEvents wireEvents, final ForwardingCodec codec, final ForwardingCompression compression)
+            throws IOException {
+        final ByteArrayOutputStream encodedWireEvents = new ByteArrayOutputStream();
+        try (final OutputStream outputStream = compression == ForwardingCompression.GZIP ?
+                new GZIPOutputStream(encodedWireEvents) : encodedWireEvents) {
+            getObjectMapper(codec).writeValue(outputStream, wireEvents);
+        }
+        return encodedWireEvents.toByteArray();
+    }
+
+    /**
+     * Decodes wire events from the content of a request.
+     *
+     * @param contentType content type of the request, the codec is Smile if it is {@link #SMILE}
+     * @param contentEncoding content encoding of the request, the content is decompressed if it is {@link #GZIP}
+     * @param content content of the request
+     * @return the decoded wire events
+     * @throws IOException if the content cannot be decoded
+     */
+    public WireEvents decode(final MediaType contentType, final String contentEncoding, final HttpData content)
+            throws IOException {
+        try (final InputStream inputStream = openContent(contentEncoding, content)) {
+            return getObjectMapper(contentType).readValue(inputStream, WireEvents.class);
+        }
+    }
+
+    /**
+     * Creates a reader of the wire events in the content of a request, which decodes one wire event at a time.
+     *
+     * @param contentType content type of the request, the codec is Smile if it is {@link #SMILE}
+     * @param contentEncoding content encoding of the request, the content is decompressed if it is {@link #GZIP}
+     * @param eventCount value of the {@link #EVENT_COUNT_HEADER} header of the request, or null if it was not sent
+     * @param content content of the request
+     * @return the reader of the wire events, which has read the destination of the wire events
+     * @throws IOException if the event count is invalid or the destination of the wire events cannot be decoded
+     */
+    public WireEventsReader createReader(final MediaType contentType,
+                                         final String contentEncoding,
+                                         final String eventCount,
+                                         final HttpData content) throws IOException {
+        return new WireEventsReader(getObjectMapper(contentType), () -> openContent(contentEncoding, content),
+                parseEventCount(eventCount));
+    }
+
+    public MediaType getMediaType(final ForwardingCodec codec) {
+        return codec == ForwardingCodec.SMILE ? SMILE : MediaType.PLAIN_TEXT_UTF_8;
+    }
+
+    private static int parseEventCount(final String eventCount) throws IOException {
+        if (eventCount == null) {
+            return -1;
+        }
+        try {
+            final int parsedEventCount = Integer.parseInt(eventCount);
+            if (parsedEventCount >= 0) {
+                return parsedEventCount;
+            }
+        } catch (final NumberFormatException e) {
+            // handled below
+        }
+        throw new IOException("Invalid wire event count: " + eventCount);
+    }
+
+    private InputStream openContent(final String contentEncoding, final HttpData content) throws IOException {
+        final InputStream contentStream = content.toInputStream();
+        return GZIP.equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(contentStream) : contentStream;
+    }
+
+    private ObjectMapper getObjectMapper(final MediaType contentType) {
+        return getObjectMapper(contentType != null && contentType.is(SMILE) ? ForwardingCodec.SMILE : ForwardingCodec.JSON);
+    }
+
+    private ObjectMapper getObjectMapper(final ForwardingCodec codec) {
+        return codec == ForwardingCodec.SMILE ? smileObjectMapper : objectMapper;
+    }
+}
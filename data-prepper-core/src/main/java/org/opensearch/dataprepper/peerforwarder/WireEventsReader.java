@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the {@link WireEvent}s of encoded {@link WireEvents} one at a time, without deserializing all of them at once.
+ * The destination of the wire events is read before the first wire event. If the destination is encoded after the wire
+ * events, as it is by peers which do not order the properties of {@link WireEvents}, the wire events are skipped
+ * while looking for the destination and the content is read again. The number of wire events is known before the first
+ * wire event if the peer encoded it, and reading more wire events than that fails.
+ *
+ * @since 2.1
+ */
+public class WireEventsReader implements Closeable {
+    static final String EVENTS = "events";
+    static final String DESTINATION_PLUGIN_ID = "destinationPluginId";
+    static final String DESTINATION_PIPELINE_NAME = "destinationPipelineName";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader wireEventReader;
+    private final ContentSupplier contentSupplier;
+    private JsonParser parser;
+    private String destinationPluginId;
+    private String destinationPipelineName;
+    private final int eventCount;
+    private int eventsRead;
+    private boolean hasEvents;
+
+    @FunctionalInterface
+    interface ContentSupplier {
+        InputStream get() throws IOException;
+    }
+
+    WireEventsReader(final ObjectMapper objectMapper, final ContentSupplier contentSupplier, final int eventCount) throws IOException {
+        this.objectMapper = objectMapper;
+        this.contentSupplier = contentSupplier;
+        this.eventCount = eventCount;
+        wireEventReader = objectMapper.readerFor(WireEvent.class);
+        parser = createParser();
+        if (!readDestination()) {
+            parser.close();
+            parser = createParser();
+            hasEvents = moveToEvents();
+        }
+    }
+
+    public String getDestinationPluginId() {
+        return destinationPluginId;
+    }
+
+    public String getDestinationPipelineName() {
+        return destinationPipelineName;
+    }
+
+    /**
+     * @return the number of wire events, or -1 if the peer did not send it
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Reads the next wire event.
+     *
+     * @return the next wire event, or null if all wire events were read
+     * @throws IOException if the content cannot be decoded
+     */
+    public WireEvent next() throws IOException {
+        if (!hasEvents) {
+            return null;
+        }
+        final JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            hasEvents = false;
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a wire event object");
+        }
+        if (eventCount >= 0 && eventsRead >= eventCount) {
+            throw new JsonParseException(parser, "Expected no more than " + eventCount + " wire events");
+        }
+        eventsRead++;
+        return wireEventReader.readValue(parser);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private JsonParser createParser() throws IOException {
+        final JsonParser jsonParser = objectMapper.createParser(contentSupplier.get());
+        if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+            jsonParser.close();
+            throw new JsonParseException(jsonParser, "Expected a wire events object");
+        }
+        return jsonParser;
+    }
+
+    /**
+     * Reads the properties of the wire events until the destination is known and the parser is at the start of the
+     * wire events, or until the end of the wire events.
+     *
+     * @return false if the wire events were skipped before the destination was known
+     */
+    private boolean readDestination() throws IOException {
+        boolean skippedEvents = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken valueToken = parser.nextToken();
+            if (DESTINATION_PLUGIN_ID.equals(fieldName)) {
+                destinationPluginId = parser.getValueAsString();
+            } else if (DESTINATION_PIPELINE_NAME.equals(fieldName)) {
+                destinationPipelineName = parser.getValueAsString();
+            } else if (EVENTS.equals(fieldName) && valueToken == JsonToken.START_ARRAY
+                    && destinationPluginId != null && destinationPipelineName != null) {
+                hasEvents = true;
+                return true;
+            } else {
+                skippedEvents |= EVENTS.equals(fieldName) && valueToken == JsonToken.START_ARRAY;
+                parser.skipChildren();
+            }
+        }
+        verifyEndOfObject();
+        return !skippedEvents;
+    }
+
+    private boolean moveToEvents() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken valueToken = parser.nextToken();
+            if (EVENTS.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        verifyEndOfObject();
+        return false;
+    }
+
+    private void verifyEndOfObject() throws IOException {
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Expected the end of the wire events object");
+        }
+    }
+}
@@ -8,41 +8,86 @@ package org.opensearch.dataprepper.peerforwarder.client;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.client.UnprocessedRequestException;
 import com.linecorp.armeria.client.WebClient;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.RequestHeadersBuilder;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCodec;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCompression;
 import org.opensearch.dataprepper.peerforwarder.PeerClientPool;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderClientFactory;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.peerforwarder.WireEventsCodec;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI;
 
+/**
+ * Sends records to peers. Requests are sent asynchronously, so that a batch can be forwarded to all of its
+ * destination peers at once. At most {@link PeerForwarderConfiguration#getMaxInFlightRequestsPerPeer()} requests are
+ * in flight to a single peer. The records sent to a peer by all process workers are queued in a
+ * {@link PeerForwarderSendQueue}, which coalesces them into requests of up to
+ * {@link PeerForwarderConfiguration#getForwardingBatchSize()} records. Records are not coalesced beyond
+ * {@link PeerForwarderConfiguration#getBufferSize()}, as peers write the records of a request into their buffer all at
+ * once.
+ * <p>
+ * Records are encoded with the {@link ForwardingCodec} and {@link ForwardingCompression} of the configuration.
+ */
 public class PeerForwarderClient {
     private static final Logger LOG = LoggerFactory.getLogger(PeerForwarderClient.class);
     static final String REQUESTS = "requests";
     static final String CLIENT_REQUEST_FORWARDING_LATENCY = "clientRequestForwardingLatency";
+    static final String FORWARDING_BATCH_FILL_RATIO = "forwardingBatchFillRatio";
+    static final String FORWARDING_BATCH_LINGER = "forwardingBatchLinger";
+    static final String FORWARDING_QUEUE_FILL_RATIO = "forwardingQueueFillRatio";
+    static final String FORWARDED_BYTES = "forwardedBytes";
+    static final String PEER_TAG = "peer";
+    static final String BATCH_TIMEOUT_THREAD_NAME = "peer-forwarder-batch-timeout";
 
     private final PeerForwarderClientFactory peerForwarderClientFactory;
-    private final ObjectMapper objectMapper;
+    private final WireEventsCodec wireEventsCodec;
+    private final ForwardingCodec forwardingCodec;
+    private final ForwardingCompression forwardingCompression;
     private final ExecutorService executorService;
     private final Counter requestsCounter;
     private final Timer clientRequestForwardingLatencyTimer;
+    private final DistributionSummary forwardingBatchFillRatioSummary;
+    private final Timer forwardingBatchLingerTimer;
+    private final int maxInFlightRequestsPerPeer;
+    private final int forwardingBatchSize;
+    private final int forwardingQueueSize;
+    private final long forwardingBatchTimeoutNanos;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final Map<String, PeerForwarderSendQueue> sendQueues;
+    private Set<String> peers;
+    private final PluginMetrics pluginMetrics;
 
     private PeerClientPool peerClientPool;
 
@@ -51,10 +96,23 @@ public class PeerForwarderClient {
                                final ObjectMapper objectMapper,
                                final PluginMetrics pluginMetrics) {
         this.peerForwarderClientFactory = peerForwarderClientFactory;
-        this.objectMapper = objectMapper;
+        wireEventsCodec = new WireEventsCodec(objectMapper);
+        forwardingCodec = peerForwarderConfiguration.getForwardingCodec();
+        forwardingCompression = peerForwarderConfiguration.getForwardingCompression();
         executorService = Executors.newFixedThreadPool(peerForwarderConfiguration.getClientThreadCount());
+        maxInFlightRequestsPerPeer = peerForwarderConfiguration.getMaxInFlightRequestsPerPeer();
+        forwardingBatchSize = Math.min(peerForwarderConfiguration.getForwardingBatchSize(), peerForwarderConfiguration.getBufferSize());
+        forwardingQueueSize = peerForwarderConfiguration.getForwardingQueueSize();
+        forwardingBatchTimeoutNanos = peerForwarderConfiguration.getForwardingBatchTimeout().toNanos();
+        scheduledExecutorService = forwardingBatchTimeoutNanos > 0 ?
+                Executors.newSingleThreadScheduledExecutor(PeerForwarderClient::createBatchTimeoutThread) : null;
+        sendQueues = new ConcurrentHashMap<>();
+        this.pluginMetrics = pluginMetrics;
         requestsCounter = pluginMetrics.counter(REQUESTS);
         clientRequestForwardingLatencyTimer = pluginMetrics.timer(CLIENT_REQUEST_FORWARDING_LATENCY);
+        forwardingBatchFillRatioSummary = pluginMetrics.summary(FORWARDING_BATCH_FILL_RATIO);
+        forwardingBatchLingerTimer = pluginMetrics.timer(FORWARDING_BATCH_LINGER);
+        pluginMetrics.gauge(FORWARDING_QUEUE_FILL_RATIO, this, PeerForwarderClient::getMaxQueueFillRatio);
     }
 
     public AggregatedHttpResponse serializeRecordsAndSendHttpRequest(
@@ -62,33 +120,146 @@ public class PeerForwarderClient {
             final String ipAddress,
             final String pluginId,
             final String pipelineName) {
+        return getAggregatedHttpResponse(
+                serializeRecordsAndSendHttpRequestAsync(records, ipAddress, pluginId, pipelineName));
+    }
+
+    /**
+     * Serializes records and sends them to a peer without waiting for the response. The records are queued with the
+     * records of other callers for the same peer, waiting only while the queue of the peer is full.
+     *
+     * @param records records to send
+     * @param ipAddress address of the peer
+     * @param pluginId id of the plugin the records are forwarded for
+     * @param pipelineName name of the pipeline the records are forwarded for
+     * @return future which completes with the response of the peer, or exceptionally if the request failed
+     */
+    public CompletableFuture<AggregatedHttpResponse> serializeRecordsAndSendHttpRequestAsync(
+            final Collection<Record<Event>> records,
+            final String ipAddress,
+            final String pluginId,
+            final String pipelineName) {
         // TODO: Initialize this in the constructor in future.
         //  It doesn't work right now as default certificate and private key file paths are not valid while loading constructor.
         if (peerClientPool == null) {
             peerClientPool = peerForwarderClientFactory.setPeerClientPool();
         }
 
+        final PeerForwarderSendQueue sendQueue = getSendQueue(ipAddress);
+
+        try {
+            return sendQueue.add(records, pluginId, pipelineName);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error("Peer forwarding interrupted.");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Gets the send queue of a peer. Queues are created under the same lock which {@link #retainPeers(Collection)}
+     * removes them with, so that no queue is kept for a peer which already left the peer list. Records routed to such
+     * a peer by a worker which has not seen the change yet are sent with a queue which is not kept.
+     */
+    private PeerForwarderSendQueue getSendQueue(final String ipAddress) {
+        final PeerForwarderSendQueue sendQueue = sendQueues.get(ipAddress);
+        if (sendQueue != null) {
+            return sendQueue;
+        }
+        synchronized (sendQueues) {
+            if (peers != null && !peers.contains(ipAddress)) {
+                return createSendQueue(ipAddress);
+            }
+            return sendQueues.computeIfAbsent(ipAddress, this::createSendQueue);
+        }
+    }
+
+    private PeerForwarderSendQueue createSendQueue(final String ipAddress) {
         final WebClient client = peerClientPool.getClient(ipAddress);
+        final Counter forwardedBytesCounter = pluginMetrics.counterWithTags(FORWARDED_BYTES, PEER_TAG, ipAddress);
 
-        final String serializedJsonString = getSerializedJsonString(records, pluginId, pipelineName);
+        return new PeerForwarderSendQueue(
+                (queuedRecords, destinationPluginId, destinationPipelineName) -> sendHttpRequest(
+                        client, forwardedBytesCounter, queuedRecords, destinationPluginId, destinationPipelineName),
+                maxInFlightRequestsPerPeer,
+                forwardingBatchSize,
+                forwardingQueueSize,
+                forwardingBatchTimeoutNanos,
+                scheduledExecutorService,
+                forwardingBatchFillRatioSummary,
+                forwardingBatchLingerTimer);
+    }
 
-        final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponseCompletableFuture = clientRequestForwardingLatencyTimer.record(() ->
-            processHttpRequest(client, serializedJsonString)
-        );
+    private CompletableFuture<AggregatedHttpResponse> sendHttpRequest(final WebClient client,
+                                                                      final Counter forwardedBytesCounter,
+                                                                      final Collection<Record<Event>> records,
+                                                                      final String pluginId,
+                                                                      final String pipelineName) {
+        final long startTime = System.nanoTime();
+        final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponseCompletableFuture =
+                CompletableFuture.supplyAsync(() -> createHttpRequest(forwardedBytesCounter, records, pluginId, pipelineName), executorService)
+                        .thenCompose(httpRequest -> processHttpRequest(client, httpRequest))
+                        .whenComplete((response, throwable) ->
+                                clientRequestForwardingLatencyTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS));
         requestsCounter.increment();
 
-        return getAggregatedHttpResponse(aggregatedHttpResponseCompletableFuture);
+        return aggregatedHttpResponseCompletableFuture;
     }
 
-    private String getSerializedJsonString(final Collection<Record<Event>> records, final String pluginId, final String pipelineName) {
+    /**
+     * Creates the thread which sends queued records once their batch timeout elapses. It is a daemon thread, so that
+     * it does not keep Data Prepper running once the pipelines are shut down.
+     */
+    static Thread createBatchTimeoutThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, BATCH_TIMEOUT_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private double getMaxQueueFillRatio() {
+        int maxQueuedRecordCount = 0;
+        for (final PeerForwarderSendQueue sendQueue : sendQueues.values()) {
+            maxQueuedRecordCount = Math.max(maxQueuedRecordCount, sendQueue.getQueuedRecordCount());
+        }
+        return (double) maxQueuedRecordCount / forwardingQueueSize;
+    }
+
+    /**
+     * Removes the send queues of peers which are not in the peer list anymore, and keeps no new queues for them.
+     * Records already queued for a removed peer are still sent to it.
+     *
+     * @param peers addresses of the current peers
+     */
+    public void retainPeers(final Collection<String> peers) {
+        final Set<String> currentPeers = new HashSet<>(peers);
+        synchronized (sendQueues) {
+            this.peers = currentPeers;
+            sendQueues.keySet().retainAll(currentPeers);
+        }
+    }
+
+    private HttpRequest createHttpRequest(final Counter forwardedBytesCounter,
+                                          final Collection<Record<Event>> records,
+                                          final String pluginId,
+                                          final String pipelineName) {
         final List<WireEvent> wireEventList = getWireEventList(records);
         final WireEvents wireEvents = new WireEvents(wireEventList, pluginId, pipelineName);
 
+        final byte[] encodedWireEvents;
         try {
-            return objectMapper.writeValueAsString(wireEvents);
-        } catch (JsonProcessingException e) {
+            encodedWireEvents = wireEventsCodec.encode(wireEvents, forwardingCodec, forwardingCompression);
+        } catch (final IOException e) {
             throw new RuntimeException(e);
         }
+        forwardedBytesCounter.increment(encodedWireEvents.length);
+
+        final RequestHeadersBuilder requestHeadersBuilder = RequestHeaders.builder(HttpMethod.POST, DEFAULT_PEER_FORWARDING_URI)
+                .contentType(wireEventsCodec.getMediaType(forwardingCodec))
+                .set(WireEventsCodec.EVENT_COUNT_HEADER, Integer.toString(wireEventList.size()));
+        if (forwardingCompression == ForwardingCompression.GZIP) {
+            requestHeadersBuilder.set(HttpHeaderNames.CONTENT_ENCODING, WireEventsCodec.GZIP);
+        }
+        return HttpRequest.of(requestHeadersBuilder.build(), HttpData.wrap(encodedWireEvents));
     }
 
     private List<WireEvent> getWireEventList(final Collection<Record<Event>> records) {
@@ -102,6 +273,14 @@ public class PeerForwarderClient {
     }
 
     private WireEvent getWireEvent(final Event event) {
+        if (forwardingCodec == ForwardingCodec.SMILE) {
+            return new WireEvent(
+                    event.getMetadata().getEventType(),
+                    event.getMetadata().getTimeReceived(),
+                    event.getMetadata().getAttributes(),
+                    event.toMap()
+            );
+        }
         return new WireEvent(
                 event.getMetadata().getEventType(),
                 event.getMetadata().getTimeReceived(),
@@ -110,12 +289,8 @@ public class PeerForwarderClient {
         );
     }
 
-    private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client, final String content) {
-        return CompletableFuture.supplyAsync(() ->
-        {
-            final CompletableFuture<AggregatedHttpResponse> aggregate = client.post(DEFAULT_PEER_FORWARDING_URI, content).aggregate();
-            return aggregate.join();
-        }, executorService);
+    private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client, final HttpRequest httpRequest) {
+        return client.execute(httpRequest).aggregate();
     }
 
     private AggregatedHttpResponse getAggregatedHttpResponse(final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponseCompletableFuture) throws UnprocessedRequestException {
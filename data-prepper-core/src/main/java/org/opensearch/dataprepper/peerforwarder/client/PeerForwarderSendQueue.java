@@ -0,0 +1,293 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.client;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue of the records sent to a single peer, which coalesces the records of all process workers into fewer requests.
+ * <p>
+ * The records of a destination plugin are sent once the queued records reach the batch size, or once the oldest of
+ * them waited for the batch timeout, and a request permit for the peer is available. Otherwise, they are sent when a
+ * request to the peer completes, or when the batch timeout elapses. The records of one call are never split across
+ * requests, so a request can exceed the batch size if a single call does. Adding records waits while the queue is full.
+ */
+class PeerForwarderSendQueue {
+    private final RequestSender requestSender;
+    private final Semaphore permits;
+    private final int batchSize;
+    private final int queueSize;
+    private final long batchTimeoutNanos;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final DistributionSummary batchFillRatioSummary;
+    private final Timer batchLingerTimer;
+    private final Lock lock;
+    private final Condition notFull;
+    private final Map<Destination, DestinationRecords> queuedRecords;
+    private int queuedRecordCount;
+    private boolean flushScheduled;
+
+    @FunctionalInterface
+    interface RequestSender {
+        CompletableFuture<AggregatedHttpResponse> send(Collection<Record<Event>> records, String pluginId, String pipelineName);
+    }
+
+    PeerForwarderSendQueue(final RequestSender requestSender,
+                           final int maxInFlightRequests,
+                           final int batchSize,
+                           final int queueSize,
+                           final long batchTimeoutNanos,
+                           final ScheduledExecutorService scheduledExecutorService,
+                           final DistributionSummary batchFillRatioSummary,
+                           final Timer batchLingerTimer) {
+        this.requestSender = requestSender;
+        this.batchSize = batchSize;
+        this.queueSize = queueSize;
+        this.batchTimeoutNanos = batchTimeoutNanos;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.batchFillRatioSummary = batchFillRatioSummary;
+        this.batchLingerTimer = batchLingerTimer;
+        permits = new Semaphore(maxInFlightRequests);
+        lock = new ReentrantLock();
+        notFull = lock.newCondition();
+        queuedRecords = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds records to the queue, waiting while the queue is full.
+     *
+     * @param records records to send
+     * @param pluginId id of the plugin the records are forwarded for
+     * @param pipelineName name of the pipeline the records are forwarded for
+     * @return future which completes with the response of the request the records were sent with
+     * @throws InterruptedException if interrupted while waiting for the queue
+     */
+    CompletableFuture<AggregatedHttpResponse> add(final Collection<Record<Event>> records,
+                                                  final String pluginId,
+                                                  final String pipelineName) throws InterruptedException {
+        final QueuedRecords recordsToQueue = new QueuedRecords(records);
+        lock.lock();
+        try {
+            while (queuedRecordCount > 0 && queuedRecordCount + records.size() > queueSize) {
+                notFull.await();
+            }
+            queuedRecords.computeIfAbsent(new Destination(pluginId, pipelineName), DestinationRecords::new)
+                    .add(recordsToQueue);
+            queuedRecordCount += records.size();
+        } finally {
+            lock.unlock();
+        }
+
+        flush();
+        return recordsToQueue.responseFuture;
+    }
+
+    int getQueuedRecordCount() {
+        lock.lock();
+        try {
+            return queuedRecordCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sends the queued records which are ready to be sent, for as long as request permits are available.
+     */
+    private void flush() {
+        while (true) {
+            final Batch batch;
+            lock.lock();
+            try {
+                final DestinationRecords destinationRecords = getReadyDestinationRecords(System.nanoTime());
+                if (destinationRecords == null) {
+                    scheduleFlush();
+                    return;
+                }
+                if (!permits.tryAcquire()) {
+                    // flushed again when an in flight request completes
+                    return;
+                }
+                batch = takeBatch(destinationRecords);
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            send(batch);
+        }
+    }
+
+    private DestinationRecords getReadyDestinationRecords(final long now) {
+        for (final DestinationRecords destinationRecords : queuedRecords.values()) {
+            if (destinationRecords.recordCount >= batchSize ||
+                    now - destinationRecords.getOldestQueuedTime() >= batchTimeoutNanos) {
+                return destinationRecords;
+            }
+        }
+        return null;
+    }
+
+    private Batch takeBatch(final DestinationRecords destinationRecords) {
+        final List<QueuedRecords> batchRecords = new ArrayList<>();
+        int batchRecordCount = 0;
+        do {
+            final QueuedRecords records = destinationRecords.records.poll();
+            batchRecords.add(records);
+            batchRecordCount += records.records.size();
+        } while (!destinationRecords.records.isEmpty() &&
+                batchRecordCount + destinationRecords.records.peek().records.size() <= batchSize);
+
+        destinationRecords.recordCount -= batchRecordCount;
+        queuedRecordCount -= batchRecordCount;
+        // move the destination to the end, so that other destinations are sent before its remaining records
+        queuedRecords.remove(destinationRecords.destination);
+        if (!destinationRecords.records.isEmpty()) {
+            queuedRecords.put(destinationRecords.destination, destinationRecords);
+        }
+        return new Batch(destinationRecords.destination, batchRecords, batchRecordCount);
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled || queuedRecords.isEmpty() || scheduledExecutorService == null) {
+            return;
+        }
+        long oldestQueuedTime = Long.MAX_VALUE;
+        for (final DestinationRecords destinationRecords : queuedRecords.values()) {
+            oldestQueuedTime = Math.min(oldestQueuedTime, destinationRecords.getOldestQueuedTime());
+        }
+        final long delayNanos = oldestQueuedTime + batchTimeoutNanos - System.nanoTime();
+        flushScheduled = true;
+        scheduledExecutorService.schedule(this::scheduledFlush, Math.max(delayNanos, 0), TimeUnit.NANOSECONDS);
+    }
+
+    private void scheduledFlush() {
+        lock.lock();
+        try {
+            flushScheduled = false;
+        } finally {
+            lock.unlock();
+        }
+        flush();
+    }
+
+    private void send(final Batch batch) {
+        batchFillRatioSummary.record((double) batch.recordCount / batchSize);
+        batchLingerTimer.record(System.nanoTime() - batch.records.get(0).queuedTime, TimeUnit.NANOSECONDS);
+
+        final Collection<Record<Event>> records = new ArrayList<>(batch.recordCount);
+        for (final QueuedRecords queuedRecords : batch.records) {
+            records.addAll(queuedRecords.records);
+        }
+
+        CompletableFuture<AggregatedHttpResponse> responseFuture;
+        try {
+            responseFuture = requestSender.send(records, batch.destination.pluginId, batch.destination.pipelineName);
+        } catch (final Exception e) {
+            responseFuture = CompletableFuture.failedFuture(e);
+        }
+        responseFuture.whenComplete((response, throwable) -> {
+            permits.release();
+            for (final QueuedRecords queuedRecords : batch.records) {
+                if (throwable == null) {
+                    queuedRecords.responseFuture.complete(response);
+                } else {
+                    queuedRecords.responseFuture.completeExceptionally(throwable);
+                }
+            }
+            flush();
+        });
+    }
+
+    private static class Destination {
+        private final String pluginId;
+        private final String pipelineName;
+
+        private Destination(final String pluginId, final String pipelineName) {
+            this.pluginId = pluginId;
+            this.pipelineName = pipelineName;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Destination that = (Destination) o;
+            return Objects.equals(pluginId, that.pluginId) && Objects.equals(pipelineName, that.pipelineName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pluginId, pipelineName);
+        }
+    }
+
+    private static class DestinationRecords {
+        private final Destination destination;
+        private final Deque<QueuedRecords> records = new ArrayDeque<>();
+        private int recordCount;
+
+        private DestinationRecords(final Destination destination) {
+            this.destination = destination;
+        }
+
+        private void add(final QueuedRecords queuedRecords) {
+            records.add(queuedRecords);
+            recordCount += queuedRecords.records.size();
+        }
+
+        private long getOldestQueuedTime() {
+            return records.peek().queuedTime;
+        }
+    }
+
+    private static class QueuedRecords {
+        private final Collection<Record<Event>> records;
+        private final long queuedTime;
+        private final CompletableFuture<AggregatedHttpResponse> responseFuture;
+
+        private QueuedRecords(final Collection<Record<Event>> records) {
+            this.records = records;
+            queuedTime = System.nanoTime();
+            responseFuture = new CompletableFuture<>();
+        }
+    }
+
+    private static class Batch {
+        private final Destination destination;
+        private final List<QueuedRecords> records;
+        private final int recordCount;
+
+        private Batch(final Destination destination, final List<QueuedRecords> records, final int recordCount) {
+            this.destination = destination;
+            this.records = records;
+            this.recordCount = recordCount;
+        }
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.peerforwarder.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarder;
 
 import java.time.Instant;
@@ -12,6 +13,9 @@ import java.util.Map;
 
 /**
  * A class for {@link org.opensearch.dataprepper.model.event.EventType} and JSON representation of event data used by {@link PeerForwarder}
+ * <p>
+ * Binary codecs send the event data as a map instead, so that it is not encoded as a JSON string inside the encoded
+ * wire event. Exactly one of {@link #getEventData()} and {@link #getEventDataMap()} is set.
  *
  * @since 2.0
  */
@@ -19,7 +23,10 @@ public class WireEvent {
     private String eventType;
     private Instant eventTimeReceived;
     private Map<String, Object> eventAttributes;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String eventData;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Object> eventDataMap;
 
     public WireEvent() {
     }
@@ -36,6 +43,16 @@ public class WireEvent {
         this.eventData = eventData;
     }
 
+    public WireEvent(final String eventType,
+                     final Instant eventTimeReceived,
+                     final Map<String, Object> eventAttributes,
+                     final Map<String, Object> eventDataMap) {
+        this.eventType = eventType;
+        this.eventTimeReceived = eventTimeReceived;
+        this.eventAttributes = eventAttributes;
+        this.eventDataMap = eventDataMap;
+    }
+
     public String getEventType() {
         return eventType;
     }
@@ -51,4 +68,8 @@ public class WireEvent {
     public String getEventData() {
         return eventData;
     }
+
+    public Map<String, Object> getEventDataMap() {
+        return eventDataMap;
+    }
 }
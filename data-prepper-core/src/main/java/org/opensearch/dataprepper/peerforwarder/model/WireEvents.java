@@ -5,15 +5,19 @@
 
 package org.opensearch.dataprepper.peerforwarder.model;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarder;
 
 import java.util.List;
 
 /**
  * A class to serialize lsit of {@link WireEvent} and destination plugin ID used by {@link PeerForwarder}
+ * <p>
+ * The destination is serialized before the events, so that a receiver can stream the events into its buffer.
  *
  * @since 2.0
  */
+@JsonPropertyOrder({"destinationPluginId", "destinationPipelineName", "events"})
 public class WireEvents {
     private List<WireEvent> events;
     private String destinationPluginId;
@@ -81,6 +81,9 @@ public class PeerForwarderHttpServerProvider implements Provider<Server> {
 
         sb.maxNumConnections(peerForwarderConfiguration.getMaxConnectionCount());
         sb.requestTimeout(Duration.ofMillis(peerForwarderConfiguration.getRequestTimeout()));
+        if (peerForwarderConfiguration.getMaxConcurrentStreamsPerConnection() != null) {
+            sb.http2MaxStreamsPerConnection(peerForwarderConfiguration.getMaxConcurrentStreamsPerConnection());
+        }
         final int threadCount = peerForwarderConfiguration.getServerThreadCount();
         final ScheduledThreadPoolExecutor blockingTaskExecutor = new ScheduledThreadPoolExecutor(threadCount);
         sb.blockingTaskExecutor(blockingTaskExecutor, true);
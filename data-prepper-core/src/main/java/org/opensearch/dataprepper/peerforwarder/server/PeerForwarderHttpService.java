@@ -10,32 +10,43 @@ import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.record.Record;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.server.annotation.Blocking;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.model.trace.JacksonSpan;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderReceiveBuffer;
+import org.opensearch.dataprepper.peerforwarder.WireEventsCodec;
+import org.opensearch.dataprepper.peerforwarder.WireEventsReader;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
-import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An annotated HTTP service class to handle POST requests used by {@link PeerForwarderHttpServerProvider}
+ * <p>
+ * The codec and compression of a request are detected by {@link WireEventsCodec} from its headers. Requests are
+ * handled by the blocking task executor of the server. The events of a request are decoded one at a time and written
+ * to the {@link PeerForwarderReceiveBuffer} in chunks, so that a full buffer holds back the request instead of all of
+ * its events being decoded at once. The chunks are written into a {@link PeerForwarderReceiveBuffer.Reservation}, so
+ * that a request which fails is not partially read and the events re-processed by the peer are not duplicated.
  *
  * @since 2.0
  */
+@Blocking
 public class PeerForwarderHttpService {
     private static final Logger LOG = LoggerFactory.getLogger(PeerForwarderHttpService.class);
     private static final String TRACE_EVENT_TYPE = "TRACE";
@@ -44,7 +55,7 @@ public class PeerForwarderHttpService {
     private final ResponseHandler responseHandler;
     private final PeerForwarderProvider peerForwarderProvider;
     private final PeerForwarderConfiguration peerForwarderConfiguration;
-    private final ObjectMapper objectMapper;
+    private final WireEventsCodec wireEventsCodec;
     private final Timer serverRequestProcessingLatencyTimer;
 
     public PeerForwarderHttpService(final ResponseHandler responseHandler,
@@ -55,7 +66,7 @@ public class PeerForwarderHttpService {
         this.responseHandler = responseHandler;
         this.peerForwarderProvider = peerForwarderProvider;
         this.peerForwarderConfiguration = peerForwarderConfiguration;
-        this.objectMapper = objectMapper;
+        wireEventsCodec = new WireEventsCodec(objectMapper);
         serverRequestProcessingLatencyTimer = pluginMetrics.timer(SERVER_REQUEST_PROCESSING_LATENCY);
     }
 
@@ -66,18 +77,20 @@ public class PeerForwarderHttpService {
 
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) {
 
-        WireEvents wireEvents;
         final HttpData content = aggregatedHttpRequest.content();
+        final WireEventsReader wireEventsReader;
         try {
-            wireEvents = objectMapper.readValue(content.toStringUtf8(), WireEvents.class);
-        } catch (JsonProcessingException e) {
-            final String message = "Failed to write the request content due to bad request data format. Needs to be JSON object";
-            LOG.error(message, e);
-            return responseHandler.handleException(e, message);
+            wireEventsReader = wireEventsCodec.createReader(aggregatedHttpRequest.contentType(),
+                    aggregatedHttpRequest.headers().get(HttpHeaderNames.CONTENT_ENCODING),
+                    aggregatedHttpRequest.headers().get(WireEventsCodec.EVENT_COUNT_HEADER), content);
+        } catch (final IOException e) {
+            return handleBadRequestDataFormat(e);
         }
 
-        try {
-            writeEventsToBuffer(wireEvents);
+        try (wireEventsReader) {
+            writeEventsToBuffer(wireEventsReader);
+        } catch (final IOException e) {
+            return handleBadRequestDataFormat(e);
         } catch (Exception e) {
             final String message = String.format("Failed to write the request of size %d due to:", content.length());
             LOG.error(message, e);
@@ -87,21 +100,58 @@ public class PeerForwarderHttpService {
         return HttpResponse.of(HttpStatus.OK);
     }
 
-    private void writeEventsToBuffer(final WireEvents wireEvents) throws Exception {
-        final PeerForwarderReceiveBuffer<Record<Event>> recordPeerForwarderReceiveBuffer = getPeerForwarderBuffer(wireEvents);
+    private HttpResponse handleBadRequestDataFormat(final IOException e) {
+        final String message = "Failed to write the request content due to bad request data format. Needs to be JSON or Smile object";
+        LOG.error(message, e);
+        return responseHandler.handleException(e, message);
+    }
 
-        if (wireEvents.getEvents() != null) {
-            final Collection<Record<Event>> jacksonEvents = wireEvents.getEvents().stream()
-                    .map(this::transformEvent)
-                    .collect(Collectors.toList());
+    /**
+     * Writes the events to the buffer in chunks of the batch size as they are decoded, into capacity reserved for the
+     * request. The capacity for all events is reserved before they are decoded if their number is known, otherwise it
+     * is reserved for each chunk. The events are only read from the buffer once all of them were written, and they are
+     * removed from the buffer if the request fails. Waiting for capacity is limited by the request timeout.
+     */
+    private void writeEventsToBuffer(final WireEventsReader wireEventsReader) throws Exception {
+        final PeerForwarderReceiveBuffer<Record<Event>> recordPeerForwarderReceiveBuffer = getPeerForwarderBuffer(wireEventsReader);
+        final int chunkSize = peerForwarderConfiguration.getBatchSize();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(peerForwarderConfiguration.getRequestTimeout());
+        final int eventCount = wireEventsReader.getEventCount();
+        final boolean reserveChunks = eventCount < 0;
+
+        try (final PeerForwarderReceiveBuffer<Record<Event>>.Reservation reservation =
+                     recordPeerForwarderReceiveBuffer.reserve(reserveChunks ? 0 : eventCount, getRemainingTimeoutInMillis(deadline))) {
+            List<Record<Event>> records = new ArrayList<>(chunkSize);
+            WireEvent wireEvent;
+            while ((wireEvent = wireEventsReader.next()) != null) {
+                records.add(transformEvent(wireEvent));
+                if (records.size() >= chunkSize) {
+                    writeChunk(reservation, records, reserveChunks, deadline);
+                    records = new ArrayList<>(chunkSize);
+                }
+            }
+            writeChunk(reservation, records, reserveChunks, deadline);
+            reservation.commit();
+        }
+    }
 
-            recordPeerForwarderReceiveBuffer.writeAll(jacksonEvents, peerForwarderConfiguration.getRequestTimeout());
+    private static void writeChunk(final PeerForwarderReceiveBuffer<Record<Event>>.Reservation reservation,
+                                   final List<Record<Event>> records,
+                                   final boolean reserveChunk,
+                                   final long deadline) throws Exception {
+        if (reserveChunk) {
+            reservation.extend(records.size(), getRemainingTimeoutInMillis(deadline));
         }
+        reservation.writeAll(records);
+    }
+
+    private static int getRemainingTimeoutInMillis(final long deadline) {
+        return (int) Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
     }
 
-    private PeerForwarderReceiveBuffer<Record<Event>> getPeerForwarderBuffer(final WireEvents wireEvents) {
-        final String destinationPluginId = wireEvents.getDestinationPluginId();
-        final String destinationPipelineName = wireEvents.getDestinationPipelineName();
+    private PeerForwarderReceiveBuffer<Record<Event>> getPeerForwarderBuffer(final WireEventsReader wireEventsReader) {
+        final String destinationPluginId = wireEventsReader.getDestinationPluginId();
+        final String destinationPipelineName = wireEventsReader.getDestinationPipelineName();
 
         final Map<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap =
                 peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap();
@@ -115,13 +165,18 @@ public class PeerForwarderHttpService {
         Event event;
 
         if (wireEvent.getEventType().equalsIgnoreCase(TRACE_EVENT_TYPE)) {
-            event = JacksonSpan.builder()
-                    .withJsonData(wireEvent.getEventData())
+            final JacksonSpan.Builder spanBuilder = JacksonSpan.builder();
+            if (wireEvent.getEventDataMap() != null) {
+                spanBuilder.withData(wireEvent.getEventDataMap());
+            } else {
+                spanBuilder.withJsonData(wireEvent.getEventData());
+            }
+            event = spanBuilder
                     .withEventMetadata(eventMetadata)
                     .build();
         } else {
             event = JacksonEvent.builder()
-                    .withData(wireEvent.getEventData())
+                    .withData(wireEvent.getEventDataMap() != null ? wireEvent.getEventDataMap() : wireEvent.getEventData())
                     .withEventMetadata(eventMetadata)
                     .build();
         }
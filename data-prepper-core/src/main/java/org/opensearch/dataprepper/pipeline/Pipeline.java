@@ -14,6 +14,8 @@ import com.google.common.base.Preconditions;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 import org.opensearch.dataprepper.pipeline.common.PipelineThreadFactory;
 import org.opensearch.dataprepper.pipeline.common.PipelineThreadPoolExecutor;
+import org.opensearch.dataprepper.pipeline.common.VirtualThreadFactory;
+import org.opensearch.dataprepper.pipeline.common.VirtualThreadsOption;
 import org.opensearch.dataprepper.pipeline.router.Router;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +53,7 @@ public class Pipeline {
     private final Duration processorShutdownTimeout;
     private final Duration sinkShutdownTimeout;
     private final Duration peerForwarderDrainTimeout;
+    private final int maxInFlightBatches;
     private final ExecutorService processorExecutorService;
     private final ExecutorService sinkExecutorService;
 
@@ -85,8 +88,46 @@ public class Pipeline {
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
             final Duration peerForwarderDrainTimeout) {
+        this(name, source, buffer, processorSets, sinks, router, processorThreads, readBatchTimeoutInMillis,
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, 1, VirtualThreadsOption.NONE);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} whose {@link ProcessWorker}s keep up to maxInFlightBatches batches in flight to
+     * the sinks. A worker reads and processes the next batch while the sinks are still writing the previous ones.
+     * Each batch is checkpointed in the {@link Buffer} once all of its sinks have completed. The sink dispatch, and
+     * optionally the process workers, can run on virtual threads when the JVM supports them.
+     *
+     * @param name                     name of the pipeline
+     * @param source                   source from where the pipeline reads the records
+     * @param buffer                   buffer for the source to queue records
+     * @param processorSets            processor sets that will be applied to records
+     * @param sinks                    sink to which the transformed records are posted
+     * @param processorThreads         configured or default threads to parallelize processor work
+     * @param readBatchTimeoutInMillis configured or default timeout for reading batch of records from buffer
+     * @param processorShutdownTimeout configured or default timeout before forcefully terminating the processor workers
+     * @param sinkShutdownTimeout      configured or default timeout before forcefully terminating the sink workers
+     * @param peerForwarderDrainTimeout configured or default timeout before considering the peer forwarder drained and ready for termination
+     * @param maxInFlightBatches       configured or default maximum number of batches each worker has in flight to the sinks
+     * @param virtualThreadsOption     configured or default executors which run on virtual threads
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout,
+            final int maxInFlightBatches,
+            @Nonnull final VirtualThreadsOption virtualThreadsOption) {
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
+        Preconditions.checkArgument(maxInFlightBatches > 0, "maxInFlightBatches must be greater than 0");
         this.name = name;
         this.source = source;
         this.buffer = buffer;
@@ -98,12 +139,31 @@ public class Pipeline {
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
+        this.maxInFlightBatches = maxInFlightBatches;
+
+        final boolean useVirtualThreads = virtualThreadsOption != VirtualThreadsOption.NONE && VirtualThreadFactory.isSupported();
+        if (virtualThreadsOption != VirtualThreadsOption.NONE && !useVirtualThreads) {
+            LOG.warn("Pipeline [{}] - virtual threads are not supported by Java {}, using platform threads instead",
+                    name, System.getProperty("java.version"));
+        }
+
+        final String processorWorkerPrefix = format("%s-processor-worker", name);
         this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-processor-worker", name)), this);
+                useVirtualThreads && virtualThreadsOption.isProcessWorkersOnVirtualThreads() ?
+                        new VirtualThreadFactory(processorWorkerPrefix) : new PipelineThreadFactory(processorWorkerPrefix),
+                this);
 
-        // TODO: allow this to be configurable as well?
-        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-sink-worker", name)), this);
+        final String sinkWorkerPrefix = format("%s-sink-worker", name);
+        if (useVirtualThreads && virtualThreadsOption.isSinksOnVirtualThreads()) {
+            // sinks mostly block on I/O, so every sink task gets its own virtual thread instead of a pooled one
+            this.sinkExecutorService = PipelineThreadPoolExecutor.newThreadPerTaskExecutor(
+                    new VirtualThreadFactory(sinkWorkerPrefix), this);
+        } else {
+            // TODO: allow this to be configurable as well?
+            // every in-flight batch of every worker gets a sink thread, so the sinks write the batches concurrently
+            this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads * maxInFlightBatches,
+                    new PipelineThreadFactory(sinkWorkerPrefix), this);
+        }
 
         stopRequested = false;
     }
@@ -158,6 +218,10 @@ public class Pipeline {
         return readBatchTimeoutInMillis;
     }
 
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
     /**
      * Executes the current pipeline i.e. reads the data from {@link Source}, executes optional {@link Processor} on the
      * read data and outputs to {@link Sink}.
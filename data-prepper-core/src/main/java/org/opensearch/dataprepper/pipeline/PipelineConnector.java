@@ -6,17 +6,19 @@
 package org.opensearch.dataprepper.pipeline;
 
 import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.sink.Sink;
 import org.opensearch.dataprepper.model.source.Source;
+import org.opensearch.dataprepper.model.event.CompactEvent;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
-import org.opensearch.dataprepper.model.trace.Span;
-import org.opensearch.dataprepper.model.trace.JacksonSpan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -27,6 +29,7 @@ import static java.lang.String.format;
  *
  * @param <T>
  */
+@SuppressWarnings("unchecked")
 public final class PipelineConnector<T extends Record<?>> implements Source<T>, Sink<T> {
     private static final Logger LOG = LoggerFactory.getLogger(PipelineConnector.class);
     private static final int DEFAULT_WRITE_TIMEOUT = Integer.MAX_VALUE;
@@ -54,46 +57,38 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
         isStopRequested.set(true);
     }
 
+    /**
+     * Hands the records to the buffer of the connected pipeline with a single {@link Buffer#writeAll(Collection, int)}.
+     * Events are copied with {@link JacksonEvent#copy()}, so the pipelines share the event data until either of
+     * them modifies it.
+     */
     @Override
     public void output(final Collection<T> records) {
         if (buffer != null && !isStopRequested.get()) {
-            for (T record : records) {
-		if(record.getData() instanceof JacksonSpan) {
-		    try {
-		        final Span spanEvent = (Span)record.getData();
-			Span newSpanEvent = JacksonSpan.builder()
-				  .withData(spanEvent.toMap())
-				  .withEventMetadata(spanEvent.getMetadata())
-			          .build(); 
-			record = (T) (new Record<>(newSpanEvent));
-		    } catch (Exception ex) {
-                        LOG.error("PipelineConnector [{}-{}]:  exception while duplicating the event [{}]",
-                                sinkPipelineName, sourcePipelineName, ex);
-                    }
-		} else if(record.getData() instanceof Event) {
-		    try {
-		        final Event recordEvent = (Event)record.getData();
-			Event newRecordEvent = JacksonEvent.builder() 
-			          .withData(recordEvent.toMap()) 
-				  .withEventMetadata(recordEvent.getMetadata()) 
-			          .build(); 
-			record = (T) (new Record<>(newRecordEvent));
-		    } catch (Exception ex) {
-                        LOG.error("PipelineConnector [{}-{}]:  exception while duplicating the event [{}]",
-                                sinkPipelineName, sourcePipelineName, ex);
-                    }
-		}
-
-                while (true) {
-                    try {
-                        buffer.write(record, DEFAULT_WRITE_TIMEOUT);
-                        break;
-                    } catch (TimeoutException ex) {
-                        LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
-                                sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
-                    }
-                }
+            final List<T> copiedRecords = new ArrayList<>(records.size());
+            for (final T record : records) {
+                copiedRecords.add(copyRecord(record));
+            }
 
+            while (true) {
+                try {
+                    buffer.writeAll(copiedRecords, DEFAULT_WRITE_TIMEOUT);
+                    break;
+                } catch (final SizeOverflowException | UnsupportedOperationException ex) {
+                    // the buffer cannot take all records at once
+                    LOG.debug("PipelineConnector [{}-{}]: Unable to write all records to pipeline [{}] at once, writing them individually",
+                            sinkPipelineName, sourcePipelineName, sourcePipelineName);
+                    writeIndividually(copiedRecords);
+                    break;
+                } catch (final TimeoutException ex) {
+                    LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
+                            sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
+                } catch (final Exception ex) {
+                    LOG.error("PipelineConnector [{}-{}]: Failed writing to pipeline [{}]",
+                            sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
+                    throw new RuntimeException(format("PipelineConnector [%s-%s]: Failed writing to pipeline [%s]",
+                            sinkPipelineName, sourcePipelineName, sourcePipelineName), ex);
+                }
             }
         } else {
             LOG.error("PipelineConnector [{}-{}]: Pipeline [{}] is currently not initialized or has been halted",
@@ -103,6 +98,41 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
         }
     }
 
+    private T copyRecord(final T record) {
+        try {
+            if (record.getData() instanceof JacksonEvent) {
+                return (T) new Record<>(((JacksonEvent) record.getData()).copy());
+            } else if (record.getData() instanceof CompactEvent) {
+                return (T) new Record<>(((CompactEvent) record.getData()).copy());
+            } else if (record.getData() instanceof Event) {
+                final Event recordEvent = (Event) record.getData();
+                final Event newRecordEvent = JacksonEvent.builder()
+                        .withData(recordEvent.toMap())
+                        .withEventMetadata(recordEvent.getMetadata())
+                        .build();
+                return (T) new Record<>(newRecordEvent);
+            }
+        } catch (final Exception ex) {
+            LOG.error("PipelineConnector [{}-{}]:  exception while duplicating the event [{}]",
+                    sinkPipelineName, sourcePipelineName, ex);
+        }
+        return record;
+    }
+
+    private void writeIndividually(final Collection<T> records) {
+        for (final T record : records) {
+            while (true) {
+                try {
+                    buffer.write(record, DEFAULT_WRITE_TIMEOUT);
+                    break;
+                } catch (final TimeoutException ex) {
+                    LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
+                            sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
+                }
+            }
+        }
+    }
+
     @Override
     public void shutdown() {
         //TODO: Cleanup resources
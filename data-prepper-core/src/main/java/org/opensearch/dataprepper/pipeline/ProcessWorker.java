@@ -10,15 +10,23 @@ import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.pipeline.common.FutureHelper;
-import org.opensearch.dataprepper.pipeline.common.FutureHelperResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Future;
 
+/**
+ * Reads batches from the {@link Buffer}, runs them through the processors and publishes them to the sinks. Up to
+ * {@link Pipeline#getMaxInFlightBatches()} batches are in flight to the sinks at any time. Once that limit is
+ * reached the worker waits for the oldest batch before it publishes the next one. A batch is only checkpointed in
+ * the buffer after all of its sinks have completed, and batches are checkpointed in the order they were read.
+ */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ProcessWorker implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(ProcessWorker.class);
@@ -26,6 +34,8 @@ public class ProcessWorker implements Runnable {
     private final Buffer readBuffer;
     private final List<Processor> processors;
     private final Pipeline pipeline;
+    private final int maxInFlightBatches;
+    private final Deque<InFlightBatch> inFlightBatches;
     private boolean isEmptyRecordsLogged = false;
 
     public ProcessWorker(
@@ -35,6 +45,8 @@ public class ProcessWorker implements Runnable {
         this.readBuffer = readBuffer;
         this.processors = processors;
         this.pipeline = pipeline;
+        this.maxInFlightBatches = pipeline.getMaxInFlightBatches();
+        this.inFlightBatches = new ArrayDeque<>(maxInFlightBatches);
     }
 
     @Override
@@ -74,6 +86,11 @@ public class ProcessWorker implements Runnable {
             LOG.info("Processor shutdown phase 5 complete.");
         } catch (final Exception e) {
             LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
+        } finally {
+            // the batches still in flight have been processed, so they are checkpointed once their sinks complete
+            while (!inFlightBatches.isEmpty()) {
+                completeOldestBatch();
+            }
         }
     }
 
@@ -94,11 +111,25 @@ public class ProcessWorker implements Runnable {
         for (final Processor processor : processors) {
             records = processor.execute(records);
         }
-        if (!records.isEmpty()) {
-            postToSink(records);
+        final List<Future<Void>> sinkFutures = records.isEmpty() ? Collections.emptyList() : postToSink(records);
+        inFlightBatches.addLast(new InFlightBatch(sinkFutures, checkpointState));
+        // Checkpoint the batches read from the buffer after being processed by processors and sinks.
+        while (inFlightBatches.size() >= maxInFlightBatches) {
+            completeOldestBatch();
+        }
+        checkpointCompletedBatches();
+    }
+
+    private void completeOldestBatch() {
+        final InFlightBatch inFlightBatch = inFlightBatches.removeFirst();
+        FutureHelper.awaitFuturesIndefinitely(inFlightBatch.sinkFutures);
+        readBuffer.checkpoint(inFlightBatch.checkpointState);
+    }
+
+    private void checkpointCompletedBatches() {
+        while (!inFlightBatches.isEmpty() && inFlightBatches.peekFirst().isDone()) {
+            completeOldestBatch();
         }
-        // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-        readBuffer.checkpoint(checkpointState);
     }
 
     private boolean areComponentsReadyForShutdown() {
@@ -109,13 +140,25 @@ public class ProcessWorker implements Runnable {
 
     /**
      * TODO Add isolator pattern - Fail if one of the Sink fails [isolator Pattern]
-     * Uses the pipeline method to publish to sinks, waits for each of the sink result to be true before attempting to
-     * process more records from buffer.
+     * Uses the pipeline method to publish to sinks. The returned futures are awaited before the batch is
+     * checkpointed.
      */
-    private boolean postToSink(final Collection<Record> records) {
+    private List<Future<Void>> postToSink(final Collection<Record> records) {
         LOG.debug("Pipeline Worker: Submitting {} processed records to sinks", records.size());
-        final List<Future<Void>> sinkFutures = pipeline.publishToSinks(records);
-        final FutureHelperResult<Void> futureResults = FutureHelper.awaitFuturesIndefinitely(sinkFutures);
-        return futureResults.getFailedReasons().size() == 0;
+        return pipeline.publishToSinks(records);
+    }
+
+    private static class InFlightBatch {
+        private final List<Future<Void>> sinkFutures;
+        private final CheckpointState checkpointState;
+
+        private InFlightBatch(final List<Future<Void>> sinkFutures, final CheckpointState checkpointState) {
+            this.sinkFutures = sinkFutures;
+            this.checkpointState = checkpointState;
+        }
+
+        private boolean isDone() {
+            return sinkFutures.stream().allMatch(Future::isDone);
+        }
     }
 }
@@ -14,6 +14,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -50,6 +51,18 @@ public class PipelineThreadPoolExecutor extends ThreadPoolExecutor {
                 new LinkedBlockingQueue<>(), threadFactory, pipeline);
     }
 
+    /**
+     * Creates an executor which starts a new thread for every submitted task and lets the thread terminate once the
+     * task completes. This is intended for a {@link VirtualThreadFactory}, where threads are cheap and should not be
+     * pooled, while keeping the failure handling of {@link #afterExecute(Runnable, Throwable)}.
+     */
+    public static PipelineThreadPoolExecutor newThreadPerTaskExecutor(
+            final ThreadFactory threadFactory,
+            final Pipeline pipeline) {
+        return new PipelineThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), threadFactory, pipeline);
+    }
+
     /**
      * Overriding the {@link ThreadPoolExecutor#afterExecute(Runnable, Throwable)} to tune the behavior when process
      * worker encounters an exception in one of its worker execution. The below method will be invoked upon completion
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.common;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ThreadFactory which creates named virtual threads. Data Prepper is compiled for Java 11, so the virtual thread
+ * builder is looked up at runtime. Use {@link #isSupported()} to check whether the running JVM provides virtual
+ * threads before creating this factory.
+ */
+public class VirtualThreadFactory implements ThreadFactory {
+    private static final AtomicInteger poolNumber = new AtomicInteger(1);
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle UNSTARTED;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle unstarted = null;
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            name = lookup.findVirtual(builderClass, "name", MethodType.methodType(builderClass, String.class));
+            unstarted = lookup.findVirtual(builderClass, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+        } catch (final ReflectiveOperationException e) {
+            // virtual threads are only available from Java 21
+            ofVirtual = null;
+            name = null;
+            unstarted = null;
+        }
+        OF_VIRTUAL = ofVirtual != null && canCreateVirtualThreads(ofVirtual) ? ofVirtual : null;
+        NAME = name;
+        UNSTARTED = unstarted;
+    }
+
+    /**
+     * Java 19 and 20 provide virtual threads as a preview feature, whose builder throws
+     * {@link UnsupportedOperationException} unless preview features are enabled, so the builder is created once.
+     */
+    private static boolean canCreateVirtualThreads(final MethodHandle ofVirtual) {
+        try {
+            ofVirtual.invoke();
+            return true;
+        } catch (final Throwable e) {
+            return false;
+        }
+    }
+
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+    private final String namePrefix;
+
+    public VirtualThreadFactory(final String namePrefix) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by Java " +
+                    System.getProperty("java.version"));
+        }
+        this.namePrefix = namePrefix + "-" + poolNumber.getAndIncrement() + "-virtual-thread-";
+    }
+
+    /**
+     * @return true if the running JVM can create virtual threads
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        try {
+            final Object builder = NAME.invoke(OF_VIRTUAL.invoke(), namePrefix + threadNumber.getAndIncrement());
+            return (Thread) UNSTARTED.invoke(builder, runnable);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Unable to create a virtual thread", e);
+        }
+    }
+}
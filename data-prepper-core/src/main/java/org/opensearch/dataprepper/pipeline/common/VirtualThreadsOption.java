@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.common;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Selects which {@link org.opensearch.dataprepper.pipeline.Pipeline} executors run on virtual threads.
+ */
+public enum VirtualThreadsOption {
+    NONE("none", false, false),
+    SINKS("sinks", true, false),
+    ALL("all", true, true);
+
+    private static final Map<String, VirtualThreadsOption> OPTIONS_MAP = Arrays.stream(VirtualThreadsOption.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+    private final boolean sinksOnVirtualThreads;
+    private final boolean processWorkersOnVirtualThreads;
+
+    VirtualThreadsOption(final String option, final boolean sinksOnVirtualThreads, final boolean processWorkersOnVirtualThreads) {
+        this.option = option.toLowerCase();
+        this.sinksOnVirtualThreads = sinksOnVirtualThreads;
+        this.processWorkersOnVirtualThreads = processWorkersOnVirtualThreads;
+    }
+
+    public boolean isSinksOnVirtualThreads() {
+        return sinksOnVirtualThreads;
+    }
+
+    public boolean isProcessWorkersOnVirtualThreads() {
+        return processWorkersOnVirtualThreads;
+    }
+
+    public static VirtualThreadsOption fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option.toLowerCase());
+    }
+}
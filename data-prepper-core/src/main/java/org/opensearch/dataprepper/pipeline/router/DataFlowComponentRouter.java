@@ -9,9 +9,12 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -20,10 +23,11 @@ import java.util.function.BiConsumer;
  * intended to help break apart {@link Router} for better testing.
  */
 class DataFlowComponentRouter {
+    private static final BitSet NO_MATCHES = new BitSet();
 
     <C> void route(final Collection<Record> allRecords,
                    final DataFlowComponent<C> dataFlowComponent,
-                   final Map<Record, Set<String>> recordsToRoutes,
+                   final Map<String, BitSet> routeMatches,
                    final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
 
         final Collection<Record> recordsForComponent;
@@ -32,16 +36,56 @@ class DataFlowComponentRouter {
         if (dataFlowComponentRoutes.isEmpty()) {
             recordsForComponent = allRecords;
         } else {
-            recordsForComponent = new ArrayList<>();
-            for (Record event : allRecords) {
-                final Set<String> routesForEvent = recordsToRoutes
-                        .getOrDefault(event, Collections.emptySet());
+            recordsForComponent = selectRecords(allRecords, getComponentMatches(dataFlowComponentRoutes, routeMatches));
+        }
+        componentRecordsConsumer.accept(dataFlowComponent.getComponent(), recordsForComponent);
+    }
+
+    private static BitSet getComponentMatches(final Set<String> dataFlowComponentRoutes,
+                                              final Map<String, BitSet> routeMatches) {
+        if (dataFlowComponentRoutes.size() == 1) {
+            final BitSet matches = routeMatches.get(dataFlowComponentRoutes.iterator().next());
+            return matches != null ? matches : NO_MATCHES;
+        }
 
-                if (routesForEvent.stream().anyMatch(dataFlowComponentRoutes::contains)) {
-                    recordsForComponent.add(event);
+        final BitSet componentMatches = new BitSet();
+        for (String route : dataFlowComponentRoutes) {
+            final BitSet matches = routeMatches.get(route);
+            if (matches != null) {
+                componentMatches.or(matches);
+            }
+        }
+        return componentMatches;
+    }
+
+    /**
+     * Selects the matching records. The records are not copied when none or all of them match. Otherwise, the
+     * matching records are copied into a list of the exact size, directly by position if the records are a
+     * random access list.
+     */
+    private static Collection<Record> selectRecords(final Collection<Record> allRecords, final BitSet matches) {
+        final int matchCount = matches.cardinality();
+        if (matchCount == 0) {
+            return Collections.emptyList();
+        }
+        if (matchCount == allRecords.size()) {
+            return allRecords;
+        }
+
+        final List<Record> selectedRecords = new ArrayList<>(matchCount);
+        if (allRecords instanceof List && allRecords instanceof RandomAccess) {
+            final List<Record> recordList = (List<Record>) allRecords;
+            for (int index = matches.nextSetBit(0); index >= 0; index = matches.nextSetBit(index + 1)) {
+                selectedRecords.add(recordList.get(index));
+            }
+        } else {
+            int index = 0;
+            for (Record record : allRecords) {
+                if (matches.get(index++)) {
+                    selectedRecords.add(record);
                 }
             }
         }
-        componentRecordsConsumer.accept(dataFlowComponent.getComponent(), recordsForComponent);
+        return selectedRecords;
     }
 }
@@ -12,12 +12,11 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 class RouteEventEvaluator {
 
@@ -31,43 +30,51 @@ class RouteEventEvaluator {
         this.routes = routes;
     }
 
-    Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
-        final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+    /**
+     * Evaluates the condition of every route against a batch of records. Each condition is evaluated once for the
+     * whole batch, routes sharing a condition share the same result.
+     *
+     * @param records the records to route
+     * @return the positions of the matching records, in iteration order of records, by route name. The returned
+     * {@link BitSet}s may be shared between routes and must not be modified.
+     */
+    Map<String, BitSet> evaluateEventRoutes(final Collection<Record> records) {
+        if (routes.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-        int nonEventRecords = 0;
+        final Map<String, BitSet> routeMatches = new HashMap<>();
 
+        int nonEventRecords = 0;
         for (Record record : records) {
-
-            final Object data = record.getData();
-
-            if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
-            } else {
+            if (!(record.getData() instanceof Event)) {
                 nonEventRecords++;
-                recordsToRoutes.put(record, Collections.emptySet());
             }
         }
 
         if (nonEventRecords > 0) {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
+        if (nonEventRecords == records.size()) {
+            return routeMatches;
+        }
 
-        return recordsToRoutes;
+        final Map<String, BitSet> conditionMatches = new HashMap<>();
+        for (ConditionalRoute route : routes) {
+            final BitSet matches = conditionMatches.computeIfAbsent(route.getCondition(),
+                    condition -> evaluateCondition(condition, records));
+            routeMatches.put(route.getName(), matches);
+        }
+        return routeMatches;
     }
 
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
-        for (ConditionalRoute route : routes) {
-            try {
-                if (evaluator.evaluate(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
-                }
-            } catch (final Exception ex) {
-                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
-            }
+    @SuppressWarnings("unchecked")
+    private BitSet evaluateCondition(final String condition, final Collection<Record> records) {
+        try {
+            return evaluator.evaluateConditional(condition, (Collection) records);
+        } catch (final Exception ex) {
+            LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
+            return new BitSet();
         }
-        return matchRoutes;
     }
 }
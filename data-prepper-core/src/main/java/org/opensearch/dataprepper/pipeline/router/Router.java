@@ -8,14 +8,16 @@ package org.opensearch.dataprepper.pipeline.router;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.BiConsumer;
 
 /**
- * Provides routing of event records over a collection of {@link DataFlowComponent} objects.
+ * Provides routing of event records over a collection of {@link DataFlowComponent} objects. Routes are only evaluated
+ * when at least one of the components has routes.
  */
 public class Router {
     private final RouteEventEvaluator routeEventEvaluator;
@@ -35,10 +37,21 @@ public class Router {
         Objects.requireNonNull(dataFlowComponents);
         Objects.requireNonNull(componentRecordsConsumer);
 
-        final Map<Record, Set<String>> recordsToRoutes = routeEventEvaluator.evaluateEventRoutes(allRecords);
+        final Map<String, BitSet> routeMatches = hasRoutedComponent(dataFlowComponents)
+                ? routeEventEvaluator.evaluateEventRoutes(allRecords)
+                : Collections.emptyMap();
 
         for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
-            dataFlowComponentRouter.route(allRecords, dataFlowComponent, recordsToRoutes, componentRecordsConsumer);
+            dataFlowComponentRouter.route(allRecords, dataFlowComponent, routeMatches, componentRecordsConsumer);
         }
     }
+
+    private static <C> boolean hasRoutedComponent(final Collection<DataFlowComponent<C>> dataFlowComponents) {
+        for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
+            if (!dataFlowComponent.getRoutes().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -21,6 +21,9 @@ public class RouterFactory {
     }
 
     public Router createRouter(final Set<ConditionalRoute> routes) {
+        for (final ConditionalRoute route : routes) {
+            expressionEvaluator.precompile(route.getCondition());
+        }
         final RouteEventEvaluator routeEventEvaluator = new RouteEventEvaluator(expressionEvaluator, routes);
         return new Router(routeEventEvaluator, dataFlowComponentRouter);
     }
@@ -35,6 +35,9 @@ public class TestDataProvider {
     public static final Integer DEFAULT_WORKERS = 1;
     public static final Integer DEFAULT_READ_BATCH_DELAY = 3_000;
     public static final Integer TEST_DELAY = 3_000;
+    public static final Integer DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
+    public static final Integer TEST_MAX_IN_FLIGHT_BATCHES = 4;
+    public static final String TEST_VIRTUAL_THREADS = "all";
     public static final String VALID_MULTIPLE_PIPELINE_CONFIG_FILE = "src/test/resources/valid_multiple_pipeline_configuration.yml";
     public static final String VALID_SINGLE_PIPELINE_EMPTY_SOURCE_PLUGIN_FILE = "src/test/resources/single_pipeline_valid_empty_source_plugin_settings.yml";
     public static final String CONNECTED_PIPELINE_ROOT_SOURCE_INCORRECT = "src/test/resources/connected_pipeline_incorrect_root_source.yml";
@@ -80,6 +83,19 @@ public class TestDataProvider {
     public static final String INVALID_PEER_FORWARDER_WITH_DISCOVERY_MODE_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_discovery_mode_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_BUFFER_SIZE_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_buffer_size_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_BATCH_SIZE_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_batch_size_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_MAX_IN_FLIGHT_REQUESTS_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_max_in_flight_requests_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_FORWARDING_CODEC_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_forwarding_codec_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_FORWARDING_COMPRESSION_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_forwarding_compression_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_LOAD_BALANCING_MODE_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_load_balancing_mode_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_PEER_WEIGHTS_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_peer_weights_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_WEIGHTED_WITHOUT_PEER_WEIGHTS_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_weighted_without_peer_weights_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_FORWARDING_BATCH_SIZE_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_forwarding_batch_size_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_FORWARDING_BATCH_TIMEOUT_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_forwarding_batch_timeout_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_FORWARDING_QUEUE_SIZE_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_forwarding_queue_size_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_CLIENT_CONNECTIONS_PER_PEER_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_client_connections_per_peer_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_CLIENT_IDLE_TIMEOUT_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_client_idle_timeout_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_CLIENT_EVENT_LOOP_THREAD_COUNT_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_client_event_loop_thread_count_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_MAX_CONCURRENT_STREAMS_PER_CONNECTION_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_max_concurrent_streams_per_connection_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_ACM_WITHOUT_ARN_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_acm_without_arn_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_ACM_WITHOUT_REGION_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_acm_without_region_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_CLOUD_MAP_WITHOUT_SERVICE_NAME_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_cloud_map_without_service_name_config.yml";
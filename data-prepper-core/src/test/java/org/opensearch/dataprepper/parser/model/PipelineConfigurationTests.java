@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.model.configuration.PipelineModel;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.configuration.SinkModel;
+import org.opensearch.dataprepper.pipeline.common.VirtualThreadsOption;
 import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +54,8 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES);
+        when(pipelineModel.getVirtualThreads()).thenReturn(TestDataProvider.TEST_VIRTUAL_THREADS);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
 
         final PluginSetting actualSourcePluginSetting = pipelineConfiguration.getSourcePluginSetting();
@@ -70,6 +73,8 @@ class PipelineConfigurationTests {
         comparePluginSettings(actualSinkPluginSettings.get(1), TestDataProvider.VALID_PLUGIN_SETTING_2);
         assertThat(pipelineConfiguration.getWorkers(), CoreMatchers.is(TestDataProvider.TEST_WORKERS));
         assertThat(pipelineConfiguration.getReadBatchDelay(), CoreMatchers.is(TestDataProvider.TEST_DELAY));
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), CoreMatchers.is(TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES));
+        assertThat(pipelineConfiguration.getVirtualThreadsOption(), CoreMatchers.is(VirtualThreadsOption.ALL));
 
         pipelineConfiguration.updateCommonPipelineConfiguration(TestDataProvider.TEST_PIPELINE_NAME);
         assertThat(actualSourcePluginSetting.getPipelineName(), is(equalTo(TestDataProvider.TEST_PIPELINE_NAME)));
@@ -95,6 +100,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getProcessors()).thenReturn(null);
         when(pipelineModel.getWorkers()).thenReturn(null);
         when(pipelineModel.getReadBatchDelay()).thenReturn(null);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
         final PluginSetting actualSourcePluginSetting = pipelineConfiguration.getSourcePluginSetting();
         final PluginSetting actualBufferPluginSetting = pipelineConfiguration.getBufferPluginSetting();
@@ -110,6 +116,8 @@ class PipelineConfigurationTests {
         comparePluginSettings(actualSinkPluginSettings.get(0), TestDataProvider.VALID_PLUGIN_SETTING_1);
         assertThat(pipelineConfiguration.getWorkers(), CoreMatchers.is(TestDataProvider.DEFAULT_WORKERS));
         assertThat(pipelineConfiguration.getReadBatchDelay(), CoreMatchers.is(TestDataProvider.DEFAULT_READ_BATCH_DELAY));
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), CoreMatchers.is(TestDataProvider.DEFAULT_MAX_IN_FLIGHT_BATCHES));
+        assertThat(pipelineConfiguration.getVirtualThreadsOption(), CoreMatchers.is(VirtualThreadsOption.NONE));
     }
 
     @Test
@@ -119,6 +127,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES);
 
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
 
@@ -133,6 +142,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
         assertThat(pipelineConfiguration.getProcessorPluginSettings(), isA(Iterable.class));
         assertThat(pipelineConfiguration.getProcessorPluginSettings().size(), is(0));
@@ -146,6 +156,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES);
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
         assertThat(pipelineConfiguration.getProcessorPluginSettings(), isA(Iterable.class));
         assertThat(pipelineConfiguration.getProcessorPluginSettings().size(), is(0));
@@ -159,6 +170,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(Collections.emptyList());
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES);
 
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
 
@@ -173,6 +185,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(new ArrayList<>());
         when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES);
 
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
 
@@ -187,6 +200,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getSinks()).thenReturn(sinks);
         when(pipelineModel.getWorkers()).thenReturn(0);
         when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES);
         final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
         assertThat(actual.getMessage(), equalTo("Invalid configuration, workers cannot be 0"));
     }
@@ -203,6 +217,33 @@ class PipelineConfigurationTests {
         assertThat(actual.getMessage(), equalTo("Invalid configuration, delay cannot be 0"));
     }
 
+    @Test
+    void testInvalidMaxInFlightBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(0);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, max_in_flight_batches cannot be 0"));
+    }
+
+    @Test
+    void testInvalidVirtualThreadsConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES);
+        when(pipelineModel.getVirtualThreads()).thenReturn("processors");
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, virtual_threads cannot be processors"));
+    }
+
     @Test
     void testSinksWithRoutes() {
         final List<Collection<String>> orderedSinkRoutes = new ArrayList<>();
@@ -218,6 +259,7 @@ class PipelineConfigurationTests {
         when(pipelineModel.getProcessors()).thenReturn(null);
         when(pipelineModel.getWorkers()).thenReturn(null);
         when(pipelineModel.getReadBatchDelay()).thenReturn(null);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(null);
 
         final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
 
@@ -14,7 +14,9 @@ import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.Mockito.mock;
@@ -133,4 +135,79 @@ class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testIsLocalAddress() {
+        when(peerListProvider.getPeerList()).thenReturn(List.of("127.0.0.1", "10.10.0.1"));
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+
+        Assertions.assertTrue(hashRing.isLocalAddress("127.0.0.1"));
+        Assertions.assertTrue(hashRing.isLocalAddress("localhost"));
+        Assertions.assertFalse(hashRing.isLocalAddress("10.10.0.1"));
+    }
+
+    @Test
+    void testEndpointChangeUpdatesServerIpsAndLocalAddresses() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+        Assertions.assertFalse(hashRing.isLocalAddress("10.10.0.1"));
+
+        when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("127.0.0.1"));
+        hashRing.accept(Collections.emptyList());
+
+        Assertions.assertEquals(Optional.of("127.0.0.1"), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1));
+        Assertions.assertEquals(Optional.of("127.0.0.1"), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2));
+        Assertions.assertTrue(hashRing.isLocalAddress("127.0.0.1"));
+    }
+
+    @Test
+    void testGetServerIpDistributesKeysAcrossAllServers() {
+        hashRing = new HashRing(peerListProvider, PeerForwarderClientFactory.NUM_VIRTUAL_NODES);
+
+        final Map<String, Integer> keysPerServer = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            keysPerServer.merge(hashRing.getServerIp(List.of("key" + i)).orElseThrow(), 1, Integer::sum);
+        }
+
+        Assertions.assertEquals(SERVER_IPS.size(), keysPerServer.size());
+        keysPerServer.values().forEach(keys -> Assertions.assertTrue(keys > 2_000));
+    }
+
+    @Test
+    void testIsLocalOnly() {
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        Assertions.assertFalse(hashRing.isLocalOnly());
+
+        when(peerListProvider.getPeerList()).thenReturn(List.of("127.0.0.1", "localhost"));
+        hashRing.accept(Collections.emptyList());
+        Assertions.assertTrue(hashRing.isLocalOnly());
+
+        when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
+        hashRing.accept(Collections.emptyList());
+        Assertions.assertTrue(hashRing.isLocalOnly());
+    }
+
+    @Test
+    void testGetServerIpWithPeerWeightsAssignsMoreKeysToHeavierPeer() {
+        hashRing = new HashRing(peerListProvider, PeerForwarderClientFactory.NUM_VIRTUAL_NODES,
+                Map.of("10.10.0.1", 4));
+
+        final Map<String, Integer> keysPerServer = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            keysPerServer.merge(hashRing.getServerIp(List.of("key" + i)).orElseThrow(), 1, Integer::sum);
+        }
+
+        Assertions.assertTrue(keysPerServer.get("10.10.0.1") > 5_000);
+        Assertions.assertTrue(keysPerServer.get("10.10.0.2") < 2_500);
+        Assertions.assertTrue(keysPerServer.get("10.10.0.3") < 2_500);
+    }
+
+    @Test
+    void testGetServerIpWithPeerWeightsIsTheSameForAllRingsWithTheSameWeights() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, Map.of("10.10.0.1", 4));
+        final HashRing otherHashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, Map.of("10.10.0.1", 4));
+
+        for (int i = 0; i < 1_000; i++) {
+            Assertions.assertEquals(hashRing.getServerIp(List.of("key" + i)), otherHashRing.getServerIp(List.of("key" + i)));
+        }
+    }
+}
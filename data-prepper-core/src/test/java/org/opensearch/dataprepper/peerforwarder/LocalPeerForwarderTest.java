@@ -43,4 +43,12 @@ class LocalPeerForwarderTest {
         assertThat(records, is(empty()));
     }
 
+    @Test
+    void receiveRecords_with_partition_should_return_empty_collection() {
+        final LocalPeerForwarder localPeerForwarder = new LocalPeerForwarder();
+        final Collection<Record<Event>> records = localPeerForwarder.receiveRecords(1);
+
+        assertThat(records, is(empty()));
+    }
+
 }
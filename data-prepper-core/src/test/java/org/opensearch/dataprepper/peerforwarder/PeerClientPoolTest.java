@@ -5,8 +5,10 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
+import com.linecorp.armeria.client.ConnectionPoolListener;
 import com.linecorp.armeria.client.WebClient;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -18,10 +20,12 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Objects;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(MockitoExtension.class)
@@ -85,4 +89,21 @@ class PeerClientPoolTest {
         assertThat(client.uri(), equalTo(URI.create("https://" + address + ":" + PORT + "/")));
     }
 
+    @Test
+    void getClient_returns_clients_sharing_client_factory() {
+        final PeerClientPool objectUnderTest = new PeerClientPool();
+        objectUnderTest.setPort(PORT);
+        objectUnderTest.setConnectionsPerPeer(2);
+        objectUnderTest.setIdleTimeout(Duration.ofSeconds(30));
+        objectUnderTest.setEventLoopThreadCount(1);
+        objectUnderTest.setConnectionPoolListener(ConnectionPoolListener.noop());
+
+        final WebClient client = objectUnderTest.getClient(VALID_ADDRESS);
+        final WebClient otherClient = objectUnderTest.getClient(LOCALHOST);
+
+        assertThat(client.uri(), equalTo(URI.create("http://" + VALID_ADDRESS + ":" + PORT + "/")));
+        assertThat(otherClient.uri(), equalTo(URI.create("http://" + LOCALHOST + ":" + PORT + "/")));
+        assertThat(client.options().factory(), sameInstance(otherClient.options().factory()));
+        assertThat(objectUnderTest.getClient(VALID_ADDRESS), sameInstance(client));
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.linecorp.armeria.common.SessionProtocol;
+import io.micrometer.core.instrument.Counter;
+import io.netty.util.AttributeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.peerforwarder.PeerConnectionPoolListener.ACTIVE_CONNECTIONS;
+import static org.opensearch.dataprepper.peerforwarder.PeerConnectionPoolListener.CONNECTIONS_CLOSED;
+import static org.opensearch.dataprepper.peerforwarder.PeerConnectionPoolListener.CONNECTIONS_OPENED;
+import static org.opensearch.dataprepper.peerforwarder.PeerConnectionPoolListener.PEER_TAG;
+
+@ExtendWith(MockitoExtension.class)
+class PeerConnectionPoolListenerTest {
+    private static final String PEER_ADDRESS = "10.10.10.5";
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter counter;
+
+    @Mock
+    private AttributeMap attributeMap;
+
+    private InetSocketAddress remoteAddress;
+    private InetSocketAddress localAddress;
+
+    @BeforeEach
+    void setUp() {
+        remoteAddress = InetSocketAddress.createUnresolved(PEER_ADDRESS, 4994);
+        localAddress = InetSocketAddress.createUnresolved("127.0.0.1", 50000);
+    }
+
+    private PeerConnectionPoolListener createObjectUnderTest() {
+        return new PeerConnectionPoolListener(pluginMetrics);
+    }
+
+    @Test
+    void connectionOpen_and_connectionClosed_update_active_connections_and_counters_of_the_peer() {
+        when(pluginMetrics.gaugeWithTags(eq(ACTIVE_CONNECTIONS), any(AtomicInteger.class), eq(PEER_TAG), eq(PEER_ADDRESS)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        final PeerConnectionPoolListener objectUnderTest = createObjectUnderTest();
+
+        when(pluginMetrics.counterWithTags(CONNECTIONS_OPENED, PEER_TAG, PEER_ADDRESS)).thenReturn(counter);
+        objectUnderTest.connectionOpen(SessionProtocol.HTTP, remoteAddress, localAddress, attributeMap);
+        objectUnderTest.connectionOpen(SessionProtocol.HTTP, remoteAddress, localAddress, attributeMap);
+
+        final ArgumentCaptor<AtomicInteger> activeConnectionsCaptor = ArgumentCaptor.forClass(AtomicInteger.class);
+        verify(pluginMetrics).gaugeWithTags(eq(ACTIVE_CONNECTIONS), activeConnectionsCaptor.capture(), eq(PEER_TAG), eq(PEER_ADDRESS));
+        final AtomicInteger activeConnections = activeConnectionsCaptor.getValue();
+        assertThat(activeConnections.get(), equalTo(2));
+
+        when(pluginMetrics.counterWithTags(CONNECTIONS_CLOSED, PEER_TAG, PEER_ADDRESS)).thenReturn(counter);
+        objectUnderTest.connectionClosed(SessionProtocol.HTTP, remoteAddress, localAddress, attributeMap);
+        assertThat(activeConnections.get(), equalTo(1));
+
+        verify(counter, times(3)).increment();
+    }
+
+    @Test
+    void connectionOpen_updates_a_separate_active_connections_gauge_per_peer() {
+        final String otherPeerAddress = "10.10.10.6";
+        final InetSocketAddress otherRemoteAddress = InetSocketAddress.createUnresolved(otherPeerAddress, 4994);
+        when(pluginMetrics.gaugeWithTags(eq(ACTIVE_CONNECTIONS), any(AtomicInteger.class), eq(PEER_TAG), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(pluginMetrics.counterWithTags(eq(CONNECTIONS_OPENED), eq(PEER_TAG), anyString())).thenReturn(counter);
+        final PeerConnectionPoolListener objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.connectionOpen(SessionProtocol.HTTP, remoteAddress, localAddress, attributeMap);
+        objectUnderTest.connectionOpen(SessionProtocol.HTTP, otherRemoteAddress, localAddress, attributeMap);
+        objectUnderTest.connectionOpen(SessionProtocol.HTTP, otherRemoteAddress, localAddress, attributeMap);
+
+        final ArgumentCaptor<AtomicInteger> peerActiveConnectionsCaptor = ArgumentCaptor.forClass(AtomicInteger.class);
+        verify(pluginMetrics).gaugeWithTags(eq(ACTIVE_CONNECTIONS), peerActiveConnectionsCaptor.capture(), eq(PEER_TAG), eq(PEER_ADDRESS));
+        final ArgumentCaptor<AtomicInteger> otherPeerActiveConnectionsCaptor = ArgumentCaptor.forClass(AtomicInteger.class);
+        verify(pluginMetrics).gaugeWithTags(eq(ACTIVE_CONNECTIONS), otherPeerActiveConnectionsCaptor.capture(), eq(PEER_TAG), eq(otherPeerAddress));
+
+        assertThat(peerActiveConnectionsCaptor.getValue().get(), equalTo(1));
+        assertThat(otherPeerActiveConnectionsCaptor.getValue().get(), equalTo(2));
+    }
+}
@@ -17,15 +17,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.peerforwarder.certificate.CertificateProviderFactory;
+import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.plugins.certificate.CertificateProvider;
 import org.opensearch.dataprepper.plugins.certificate.model.Certificate;
 
+import java.time.Duration;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -46,6 +49,9 @@ class PeerForwarderClientFactoryTest {
     @Mock
     PluginMetrics pluginMetrics;
 
+    @Mock
+    PeerForwarderClient peerForwarderClient;
+
     private PeerForwarderClientFactory createObjectUnderTest() {
         return new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory, pluginMetrics);
     }
@@ -55,8 +61,31 @@ class PeerForwarderClientFactoryTest {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
         when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(Collections.singletonList("10.10.0.1"));
 
-        HashRing hashRing = createObjectUnderTest().createHashRing();
+        HashRing hashRing = createObjectUnderTest().createHashRing(peerForwarderClient);
+        assertThat(hashRing, new IsInstanceOf(HashRing.class));
+        verify(peerForwarderClient).retainPeers(Collections.singletonList("10.10.0.1"));
+    }
+
+    @Test
+    void testCreateHashRing_with_weighted_load_balancing_mode_uses_peer_weights() {
+        when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
+        when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(Collections.singletonList("10.10.0.1"));
+        when(peerForwarderConfiguration.getLoadBalancingMode()).thenReturn(LoadBalancingMode.WEIGHTED);
+        when(peerForwarderConfiguration.getPeerWeights()).thenReturn(Collections.singletonMap("10.10.0.1", 2));
+
+        HashRing hashRing = createObjectUnderTest().createHashRing(peerForwarderClient);
+        assertThat(hashRing, new IsInstanceOf(HashRing.class));
+    }
+
+    @Test
+    void testCreateHashRing_with_consistent_hashing_load_balancing_mode_does_not_use_peer_weights() {
+        when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
+        when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(Collections.singletonList("10.10.0.1"));
+        when(peerForwarderConfiguration.getLoadBalancingMode()).thenReturn(LoadBalancingMode.CONSISTENT_HASHING);
+
+        HashRing hashRing = createObjectUnderTest().createHashRing(peerForwarderClient);
         assertThat(hashRing, new IsInstanceOf(HashRing.class));
+        verify(peerForwarderConfiguration, never()).getPeerWeights();
     }
 
     @Test
@@ -65,7 +94,7 @@ class PeerForwarderClientFactoryTest {
 
         PeerForwarderClientFactory peerForwarderClientFactory = createObjectUnderTest();
 
-        assertThrows(RuntimeException.class, peerForwarderClientFactory::createHashRing);
+        assertThrows(RuntimeException.class, () -> peerForwarderClientFactory.createHashRing(peerForwarderClient));
     }
 
     @Test
@@ -77,6 +106,21 @@ class PeerForwarderClientFactoryTest {
         assertThat(returnedPeerClientPool, equalTo(peerClientPool));
     }
 
+    @Test
+    void setPeerClientPool_should_supply_client_factory_settings() {
+        final Duration clientIdleTimeout = Duration.ofSeconds(30);
+        when(peerForwarderConfiguration.getClientConnectionsPerPeer()).thenReturn(2);
+        when(peerForwarderConfiguration.getClientIdleTimeout()).thenReturn(clientIdleTimeout);
+        when(peerForwarderConfiguration.getClientEventLoopThreadCount()).thenReturn(4);
+
+        createObjectUnderTest().setPeerClientPool();
+
+        verify(peerClientPool).setConnectionsPerPeer(2);
+        verify(peerClientPool).setIdleTimeout(clientIdleTimeout);
+        verify(peerClientPool).setEventLoopThreadCount(4);
+        verify(peerClientPool).setConnectionPoolListener(any(PeerConnectionPoolListener.class));
+    }
+
     @Nested
     class WithSsl {
 
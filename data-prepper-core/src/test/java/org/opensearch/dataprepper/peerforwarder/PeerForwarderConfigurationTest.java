@@ -23,6 +23,8 @@ import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -54,6 +56,19 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.isUseAcmCertificateForSsl(), equalTo(false));
         assertThat(peerForwarderConfiguration.getDiscoveryMode(), equalTo(DiscoveryMode.LOCAL_NODE));
         assertThat(peerForwarderConfiguration.getClientThreadCount(), equalTo(200));
+        assertThat(peerForwarderConfiguration.getMaxInFlightRequestsPerPeer(), equalTo(8));
+        assertThat(peerForwarderConfiguration.getForwardingCodec(), equalTo(ForwardingCodec.JSON));
+        assertThat(peerForwarderConfiguration.getForwardingCompression(), equalTo(ForwardingCompression.NONE));
+        assertThat(peerForwarderConfiguration.getLoadBalancingMode(), equalTo(LoadBalancingMode.CONSISTENT_HASHING));
+        assertThat(peerForwarderConfiguration.getPeerWeights(), equalTo(Collections.emptyMap()));
+        assertThat(peerForwarderConfiguration.getForwardingBatchSize(), equalTo(1000));
+        assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.ZERO));
+        assertThat(peerForwarderConfiguration.getForwardingQueueSize(), equalTo(4000));
+        assertThat(peerForwarderConfiguration.isPartitionReceiveBuffer(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getClientConnectionsPerPeer(), equalTo(1));
+        assertThat(peerForwarderConfiguration.getClientIdleTimeout(), equalTo(Duration.ofSeconds(10)));
+        assertThat(peerForwarderConfiguration.getClientEventLoopThreadCount(), equalTo(null));
+        assertThat(peerForwarderConfiguration.getMaxConcurrentStreamsPerConnection(), equalTo(null));
         assertThat(peerForwarderConfiguration.getBatchSize(), equalTo(48));
         assertThat(peerForwarderConfiguration.getBufferSize(), equalTo(512));
         assertThat(peerForwarderConfiguration.getAuthentication(), equalTo(ForwardingAuthentication.UNAUTHENTICATED));
@@ -80,6 +95,17 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getAwsCloudMapNamespaceName(), equalTo(null));
         assertThat(peerForwarderConfiguration.getAwsCloudMapServiceName(), equalTo(null));
         assertThat(peerForwarderConfiguration.getClientThreadCount(), equalTo(100));
+        assertThat(peerForwarderConfiguration.getMaxInFlightRequestsPerPeer(), equalTo(4));
+        assertThat(peerForwarderConfiguration.getForwardingCodec(), equalTo(ForwardingCodec.SMILE));
+        assertThat(peerForwarderConfiguration.getForwardingCompression(), equalTo(ForwardingCompression.GZIP));
+        assertThat(peerForwarderConfiguration.getForwardingBatchSize(), equalTo(500));
+        assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.ofMillis(20)));
+        assertThat(peerForwarderConfiguration.getForwardingQueueSize(), equalTo(2000));
+        assertThat(peerForwarderConfiguration.isPartitionReceiveBuffer(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getClientConnectionsPerPeer(), equalTo(2));
+        assertThat(peerForwarderConfiguration.getClientIdleTimeout(), equalTo(Duration.ofSeconds(30)));
+        assertThat(peerForwarderConfiguration.getClientEventLoopThreadCount(), equalTo(4));
+        assertThat(peerForwarderConfiguration.getMaxConcurrentStreamsPerConnection(), equalTo(100));
         assertThat(peerForwarderConfiguration.getBatchSize(), equalTo(100));
         assertThat(peerForwarderConfiguration.getBufferSize(), equalTo(100));
         assertThat(peerForwarderConfiguration.getAuthentication(), equalTo(ForwardingAuthentication.UNAUTHENTICATED));
@@ -154,6 +180,14 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getSslKeyFile(), equalTo(DEFAULT_PRIVATE_KEY_FILE_PATH));
     }
 
+    @Test
+    void testValidPeerForwarderConfig_with_weighted_load_balancing() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_weighted_load_balancing.yml");
+
+        assertThat(peerForwarderConfiguration.getLoadBalancingMode(), equalTo(LoadBalancingMode.WEIGHTED));
+        assertThat(peerForwarderConfiguration.getPeerWeights(), equalTo(Map.of("10.10.0.1", 2, "10.10.0.2", 1)));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_PORT_CONFIG_FILE,
@@ -162,6 +196,19 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_DISCOVERY_MODE_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_BUFFER_SIZE_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_BATCH_SIZE_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_MAX_IN_FLIGHT_REQUESTS_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_FORWARDING_CODEC_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_FORWARDING_COMPRESSION_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_LOAD_BALANCING_MODE_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_PEER_WEIGHTS_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_WEIGHTED_WITHOUT_PEER_WEIGHTS_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_FORWARDING_BATCH_SIZE_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_FORWARDING_BATCH_TIMEOUT_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_FORWARDING_QUEUE_SIZE_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_CLIENT_CONNECTIONS_PER_PEER_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_CLIENT_IDLE_TIMEOUT_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_CLIENT_EVENT_LOOP_THREAD_COUNT_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_MAX_CONCURRENT_STREAMS_PER_CONNECTION_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ACM_WITHOUT_ARN_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ACM_WITHOUT_REGION_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_CLOUD_MAP_WITHOUT_SERVICE_NAME_CONFIG_FILE,
@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,6 +30,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -61,7 +64,7 @@ class PeerForwarderProviderTest {
         pluginId = UUID.randomUUID().toString();
         identificationKeys = Collections.singleton(UUID.randomUUID().toString());
 
-        lenient().when(peerForwarderClientFactory.createHashRing()).thenReturn(hashRing);
+        lenient().when(peerForwarderClientFactory.createHashRing(any())).thenReturn(hashRing);
         lenient().when(peerForwarderConfiguration.getBufferSize()).thenReturn(512);
         lenient().when(peerForwarderConfiguration.getBatchSize()).thenReturn(48);
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.LOCAL_NODE);
@@ -109,7 +112,7 @@ class PeerForwarderProviderTest {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.AWS_CLOUD_MAP);
         createObjectUnderTest().register(pipelineName, pluginId, identificationKeys);
 
-        verify(peerForwarderClientFactory).createHashRing();
+        verify(peerForwarderClientFactory).createHashRing(any());
     }
 
     @Test
@@ -120,7 +123,7 @@ class PeerForwarderProviderTest {
         for (int i = 0; i < 10; i++)
             objectUnderTest.register(pipelineName, UUID.randomUUID().toString(), identificationKeys);
 
-        verify(peerForwarderClientFactory, times(1)).createHashRing();
+        verify(peerForwarderClientFactory, times(1)).createHashRing(any());
     }
 
     @Test
@@ -186,4 +189,18 @@ class PeerForwarderProviderTest {
         assertThat(pipelinePeerForwarderReceiveBufferMap.size(), equalTo(1));
         assertThat(pipelinePeerForwarderReceiveBufferMap.containsKey(pipelineName), equalTo(true));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @CsvSource({"false, 4, 1", "true, 4, 4", "true, 1, 1"})
+    void register_creates_receive_buffer_with_partition_per_processor_instance_if_partition_receive_buffer_is_enabled(
+            final boolean partitionReceiveBuffer, final int numberOfProcessorInstances, final int expectedNumberOfPartitions) {
+        when(peerForwarderConfiguration.isPartitionReceiveBuffer()).thenReturn(partitionReceiveBuffer);
+        final PeerForwarderProvider objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.register(pipelineName, pluginId, identificationKeys, numberOfProcessorInstances);
+
+        final PeerForwarderReceiveBuffer<Record<Event>> peerForwarderReceiveBuffer = objectUnderTest
+                .getPipelinePeerForwarderReceiveBufferMap().get(pipelineName).get(pluginId);
+        assertThat(peerForwarderReceiveBuffer.getNumberOfPartitions(), equalTo(expectedNumberOfPartitions));
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.record.Record;
@@ -14,8 +15,10 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -31,7 +34,12 @@ class PeerForwarderReceiveBufferTest {
     private static final int TEST_BATCH_READ_TIMEOUT = 5_000;
 
     PeerForwarderReceiveBuffer<Record<String>> createObjectUnderTest(final int bufferSize) {
-        return new PeerForwarderReceiveBuffer<>(bufferSize, TEST_BATCH_SIZE);
+        return new PeerForwarderReceiveBuffer<>(bufferSize, TEST_BATCH_SIZE, PluginMetrics.fromNames("pluginId", "pipelineName"));
+    }
+
+    PeerForwarderReceiveBuffer<Record<String>> createPartitionedObjectUnderTest(final int numberOfPartitions) {
+        return new PeerForwarderReceiveBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, numberOfPartitions,
+                record -> Integer.parseInt(record.getData()), PluginMetrics.fromNames("pluginId", "pipelineName"));
     }
 
     @Test
@@ -123,6 +131,110 @@ class PeerForwarderReceiveBufferTest {
         assertThat(readResult.getKey().size(), equalTo(2));
     }
 
+    @Test
+    void reserve_throws_if_number_of_records_is_greater_than_buffer_size() {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        assertThrows(SizeOverflowException.class, () -> peerForwarderReceiveBuffer.reserve(TEST_BUFFER_SIZE + 1, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void reserve_throws_TimeoutException_without_capacity_for_all_records() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(2);
+        peerForwarderReceiveBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        assertThrows(TimeoutException.class, () -> peerForwarderReceiveBuffer.reserve(2, TEST_WRITE_TIMEOUT));
+        peerForwarderReceiveBuffer.write(new Record<>("LAST_SLOT"), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    void reservation_writes_records_into_reserved_capacity_and_releases_the_rest_on_close() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(3);
+
+        try (final PeerForwarderReceiveBuffer<Record<String>>.Reservation reservation = peerForwarderReceiveBuffer.reserve(3, TEST_WRITE_TIMEOUT)) {
+            assertThrows(TimeoutException.class, () -> peerForwarderReceiveBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+            reservation.writeAll(generateBatchRecords(2));
+            assertThrows(SizeOverflowException.class, () -> reservation.writeAll(generateBatchRecords(2)));
+            reservation.commit();
+        }
+
+        peerForwarderReceiveBuffer.write(new Record<>("RELEASED_SLOT"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> peerForwarderReceiveBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+        assertThat(peerForwarderReceiveBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), is(3));
+    }
+
+    @Test
+    void reservation_records_are_not_read_before_commit() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        peerForwarderReceiveBuffer.write(new Record<>("COMMITTED"), TEST_WRITE_TIMEOUT);
+
+        try (final PeerForwarderReceiveBuffer<Record<String>>.Reservation reservation = peerForwarderReceiveBuffer.reserve(2, TEST_WRITE_TIMEOUT)) {
+            reservation.writeAll(generateBatchRecords(2));
+
+            final Collection<Record<String>> records = peerForwarderReceiveBuffer.read(TEST_WRITE_TIMEOUT).getKey();
+            assertThat(records.size(), equalTo(1));
+            assertThat(records.iterator().next().getData(), equalTo("COMMITTED"));
+            assertThat(peerForwarderReceiveBuffer.read(TEST_WRITE_TIMEOUT).getKey().size(), equalTo(0));
+
+            reservation.commit();
+        }
+
+        assertThat(peerForwarderReceiveBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), equalTo(2));
+    }
+
+    @Test
+    void reservation_removes_written_records_and_releases_their_capacity_on_close_without_commit() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createPartitionedObjectUnderTest(2);
+
+        try (final PeerForwarderReceiveBuffer<Record<String>>.Reservation reservation = peerForwarderReceiveBuffer.reserve(TEST_BUFFER_SIZE, TEST_WRITE_TIMEOUT)) {
+            reservation.writeAll(generatePartitionedRecords(4));
+            reservation.writeAll(generatePartitionedRecords(4));
+        }
+
+        assertThat(peerForwarderReceiveBuffer.isEmpty(), is(true));
+        assertThat(peerForwarderReceiveBuffer.drain(0).getKey().size(), equalTo(0));
+        assertThat(peerForwarderReceiveBuffer.drain(1).getKey().size(), equalTo(0));
+        peerForwarderReceiveBuffer.writeAll(generatePartitionedRecords(TEST_BUFFER_SIZE), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    void reservation_extend_reserves_more_capacity() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(4);
+
+        try (final PeerForwarderReceiveBuffer<Record<String>>.Reservation reservation = peerForwarderReceiveBuffer.reserve(0, TEST_WRITE_TIMEOUT)) {
+            assertThrows(SizeOverflowException.class, () -> reservation.writeAll(generateBatchRecords(1)));
+            reservation.extend(2, TEST_WRITE_TIMEOUT);
+            reservation.writeAll(generateBatchRecords(2));
+            reservation.extend(2, TEST_WRITE_TIMEOUT);
+            assertThrows(SizeOverflowException.class, () -> reservation.extend(1, TEST_WRITE_TIMEOUT));
+            reservation.writeAll(generateBatchRecords(2));
+            reservation.commit();
+        }
+
+        assertThrows(TimeoutException.class, () -> peerForwarderReceiveBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+        assertThat(peerForwarderReceiveBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), equalTo(3));
+    }
+
+    @Test
+    void reservation_extend_throws_TimeoutException_without_capacity() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(2);
+        peerForwarderReceiveBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        try (final PeerForwarderReceiveBuffer<Record<String>>.Reservation reservation = peerForwarderReceiveBuffer.reserve(1, TEST_WRITE_TIMEOUT)) {
+            assertThrows(TimeoutException.class, () -> reservation.extend(1, TEST_WRITE_TIMEOUT));
+        }
+        peerForwarderReceiveBuffer.write(new Record<>("LAST_SLOT"), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    void reservation_releases_all_capacity_on_close_without_writes() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(2);
+
+        peerForwarderReceiveBuffer.reserve(2, TEST_WRITE_TIMEOUT).close();
+
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(peerForwarderReceiveBuffer.isEmpty(), is(false));
+    }
+
     @Test
     void testReadEmptyBuffer() {
         final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
@@ -153,6 +265,36 @@ class PeerForwarderReceiveBufferTest {
         assertThat(finalCheckpointState.getNumRecordsToBeChecked(), is(testSize - TEST_BATCH_SIZE));
     }
 
+    @Test
+    void testDrainEmptyBuffer() {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> drainResult = peerForwarderReceiveBuffer.drain();
+
+        assertThat(drainResult.getKey().size(), is(0));
+        assertThat(drainResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @Test
+    void testBatchDrain() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        final int testSize = 5;
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(testSize), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> partialDrainResult = peerForwarderReceiveBuffer.drain();
+        assertThat(partialDrainResult.getKey().size(), is(TEST_BATCH_SIZE));
+        assertThat(partialDrainResult.getValue().getNumRecordsToBeChecked(), is(TEST_BATCH_SIZE));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> finalDrainResult = peerForwarderReceiveBuffer.drain();
+        assertThat(finalDrainResult.getKey().size(), is(testSize - TEST_BATCH_SIZE));
+        assertThat(finalDrainResult.getValue().getNumRecordsToBeChecked(), is(testSize - TEST_BATCH_SIZE));
+
+        Assertions.assertFalse(peerForwarderReceiveBuffer.isEmpty());
+        peerForwarderReceiveBuffer.checkpoint(partialDrainResult.getValue());
+        peerForwarderReceiveBuffer.checkpoint(finalDrainResult.getValue());
+        Assertions.assertTrue(peerForwarderReceiveBuffer.isEmpty());
+    }
+
     @Test
     void testBufferIsEmpty_without_write() {
         final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
@@ -185,6 +327,61 @@ class PeerForwarderReceiveBufferTest {
         Assertions.assertFalse(peerForwarderReceiveBuffer.isEmpty());
     }
 
+    @Test
+    void constructor_throws_if_number_of_partitions_is_not_positive() {
+        assertThrows(IllegalArgumentException.class, () -> createPartitionedObjectUnderTest(0));
+    }
+
+    @Test
+    void getNumberOfPartitions_returns_one_without_partitions() {
+        assertThat(createObjectUnderTest(TEST_BUFFER_SIZE).getNumberOfPartitions(), equalTo(1));
+    }
+
+    @Test
+    void drain_partition_returns_only_records_of_partition() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createPartitionedObjectUnderTest(2);
+        assertThat(peerForwarderReceiveBuffer.getNumberOfPartitions(), equalTo(2));
+        final Record<String> firstRecord = new Record<>("0");
+        final Record<String> secondRecord = new Record<>("1");
+        final Record<String> thirdRecord = new Record<>("2");
+        peerForwarderReceiveBuffer.writeAll(List.of(firstRecord, secondRecord, thirdRecord), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> firstPartitionResult = peerForwarderReceiveBuffer.drain(0);
+        assertThat(new ArrayList<>(firstPartitionResult.getKey()), equalTo(List.of(firstRecord, thirdRecord)));
+        assertThat(firstPartitionResult.getValue().getNumRecordsToBeChecked(), is(2));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> secondPartitionResult = peerForwarderReceiveBuffer.drain(1);
+        assertThat(new ArrayList<>(secondPartitionResult.getKey()), equalTo(List.of(secondRecord)));
+
+        assertThat(peerForwarderReceiveBuffer.drain(0).getKey().size(), is(0));
+        Assertions.assertFalse(peerForwarderReceiveBuffer.isEmpty());
+        peerForwarderReceiveBuffer.checkpoint(firstPartitionResult.getValue());
+        peerForwarderReceiveBuffer.checkpoint(secondPartitionResult.getValue());
+        Assertions.assertTrue(peerForwarderReceiveBuffer.isEmpty());
+    }
+
+    @Test
+    void drain_returns_records_of_all_partitions() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createPartitionedObjectUnderTest(3);
+        peerForwarderReceiveBuffer.writeAll(List.of(new Record<>("0"), new Record<>("1"), new Record<>("2")), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> drainResult = peerForwarderReceiveBuffer.drain();
+
+        assertThat(drainResult.getKey().size(), is(3));
+        assertThat(peerForwarderReceiveBuffer.drain().getKey().size(), is(0));
+    }
+
+    @Test
+    void read_returns_records_written_while_waiting() throws Exception {
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+
+        final CompletableFuture<Map.Entry<Collection<Record<String>>, CheckpointState>> readFuture =
+                CompletableFuture.supplyAsync(() -> peerForwarderReceiveBuffer.read(TEST_BATCH_READ_TIMEOUT));
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(TEST_BATCH_SIZE), TEST_WRITE_TIMEOUT);
+
+        assertThat(readFuture.get().getKey().size(), is(TEST_BATCH_SIZE));
+    }
+
     private Collection<Record<String>> generateBatchRecords(final int numRecords) {
         final Collection<Record<String>> results = new ArrayList<>();
         for (int i = 0; i < numRecords; i++) {
@@ -192,4 +389,12 @@ class PeerForwarderReceiveBufferTest {
         }
         return results;
     }
+
+    private Collection<Record<String>> generatePartitionedRecords(final int numRecords) {
+        final Collection<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(Integer.toString(i)));
+        }
+        return results;
+    }
 }
@@ -249,6 +249,49 @@ class PeerForwarder_ClientServerIT {
         }
     }
 
+    @Nested
+    class WithSmileCodecAndGzipCompression {
+
+        private PeerForwarderConfiguration peerForwarderConfiguration;
+        private PeerForwarderServer server;
+        private PeerForwarderProvider peerForwarderProvider;
+
+        @BeforeEach
+        void setUp() {
+            peerForwarderConfiguration = createConfiguration(false, ForwardingAuthentication.UNAUTHENTICATED,
+                    SSL_CERTIFICATE_FILE, SSL_KEY_FILE, true, false, ForwardingCodec.SMILE, ForwardingCompression.GZIP);
+
+            final CertificateProviderFactory certificateProviderFactory = new CertificateProviderFactory(peerForwarderConfiguration);
+            peerForwarderProvider = createPeerForwarderProvider(peerForwarderConfiguration, certificateProviderFactory);
+            peerForwarderProvider.register(pipelineName, pluginId, Collections.singleton(UUID.randomUUID().toString()));
+            server = createServer(peerForwarderConfiguration, certificateProviderFactory, peerForwarderProvider);
+            server.start();
+        }
+
+        @AfterEach
+        void tearDown() {
+            server.stop();
+        }
+
+        @Test
+        void send_Events_to_server() {
+            final PeerForwarderClient client = createClient(peerForwarderConfiguration);
+
+            final AggregatedHttpResponse httpResponse = client.serializeRecordsAndSendHttpRequest(outgoingRecords, LOCALHOST, pluginId, pipelineName);
+
+            assertThat(httpResponse.status(), equalTo(HttpStatus.OK));
+
+            final Collection<Record<Event>> receivedRecords = getServerSideRecords(peerForwarderProvider);
+            assertThat(receivedRecords, notNullValue());
+            assertThat(receivedRecords.size(), equalTo(outgoingRecords.size()));
+
+            final Set<String> receivedMessages = receivedRecords.stream()
+                    .map(receivedRecord -> receivedRecord.getData().get("message", String.class))
+                    .collect(Collectors.toSet());
+            assertThat(receivedMessages, equalTo(expectedMessages));
+        }
+    }
+
     @Nested
     class WithoutSSL {
 
@@ -455,6 +498,19 @@ class PeerForwarder_ClientServerIT {
             final String sslKeyFile,
             final boolean sslDisableVerification,
             final boolean sslFingerprintVerificationOnly) {
+        return createConfiguration(ssl, authentication, sslCertificateFile, sslKeyFile, sslDisableVerification,
+                sslFingerprintVerificationOnly, null, null);
+    }
+
+    private PeerForwarderConfiguration createConfiguration(
+            final boolean ssl,
+            final ForwardingAuthentication authentication,
+            final String sslCertificateFile,
+            final String sslKeyFile,
+            final boolean sslDisableVerification,
+            final boolean sslFingerprintVerificationOnly,
+            final ForwardingCodec forwardingCodec,
+            final ForwardingCompression forwardingCompression) {
         final Map<String, Object> authenticationMap = Collections.singletonMap(authentication.getName(), null);
         return new PeerForwarderConfiguration(
                 4994,
@@ -483,6 +539,19 @@ class PeerForwarder_ClientServerIT {
                 48,
                 3000,
                 512,
+                null,
+                null,
+                forwardingCodec != null ? forwardingCodec.getName() : null,
+                forwardingCompression != null ? forwardingCompression.getName() : null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         );
     }
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.apache.commons.collections.CollectionUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.peerforwarder.exception.EmptyPeerForwarderPluginIdentificationKeysException;
@@ -31,6 +32,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -102,6 +105,27 @@ class PeerForwardingProcessingDecoratorTest {
         assertThat(processors.size(), equalTo(0));
     }
 
+    @Test
+    void decorateProcessors_should_receive_records_of_partition_of_each_processor() {
+        final Set<String> identificationKeys = Set.of(TEST_IDENTIFICATION_KEY);
+        final PeerForwarder peerForwarder = mock(PeerForwarder.class);
+        final Collection<Record<Event>> testData = Collections.singletonList(record);
+        when(requiresPeerForwarding.getIdentificationKeys()).thenReturn(identificationKeys);
+        when(requiresPeerForwardingCopy.getIdentificationKeys()).thenReturn(identificationKeys);
+        when(peerForwarderProvider.register(pipelineName, pluginId, identificationKeys, 2)).thenReturn(peerForwarder);
+        when(peerForwarder.forwardRecords(testData)).thenReturn(testData);
+        when(peerForwarder.receiveRecords(anyInt())).thenReturn(Collections.emptyList());
+
+        final List<Processor> processors = createObjectUnderTesDecoratedProcessors(
+                List.of((Processor) requiresPeerForwarding, (Processor) requiresPeerForwardingCopy));
+        assertThat(processors.size(), equalTo(2));
+        processors.get(0).execute(testData);
+        processors.get(1).execute(testData);
+
+        verify(peerForwarder).receiveRecords(0);
+        verify(peerForwarder).receiveRecords(1);
+    }
+
     @Nested
     class WithRegisteredPeerForwarder {
         @Mock
@@ -113,7 +137,7 @@ class PeerForwardingProcessingDecoratorTest {
         void setUp() {
             identificationKeys = Set.of(TEST_IDENTIFICATION_KEY);
 
-            when(peerForwarderProvider.register(pipelineName, pluginId, identificationKeys)).thenReturn(peerForwarder);
+            when(peerForwarderProvider.register(pipelineName, pluginId, identificationKeys, 1)).thenReturn(peerForwarder);
             when(requiresPeerForwarding.getIdentificationKeys()).thenReturn(identificationKeys);
             processor = (Processor) requiresPeerForwarding;
         }
@@ -122,7 +146,7 @@ class PeerForwardingProcessingDecoratorTest {
         void PeerForwardingProcessingDecorator_should_have_interaction_with_getIdentificationKeys() {
             createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
             verify(requiresPeerForwarding, times(2)).getIdentificationKeys();
-            verify(peerForwarderProvider).register(pipelineName, pluginId, identificationKeys);
+            verify(peerForwarderProvider).register(pipelineName, pluginId, identificationKeys, 1);
         }
 
         @Test
@@ -150,7 +174,7 @@ class PeerForwardingProcessingDecoratorTest {
             Collection<Record<Event>> receiveTestData = Collections.singletonList(mock(Record.class));
 
             when(peerForwarder.forwardRecords(forwardTestData)).thenReturn(forwardTestData);
-            when(peerForwarder.receiveRecords()).thenReturn(receiveTestData);
+            when(peerForwarder.receiveRecords(0)).thenReturn(receiveTestData);
 
             final Collection<Record<Event>> expectedRecordsToProcessLocally = CollectionUtils.union(forwardTestData, receiveTestData);
 
@@ -168,6 +192,38 @@ class PeerForwardingProcessingDecoratorTest {
             assertThat(records, equalTo(expectedRecordsToProcessLocally));
         }
 
+        @Test
+        void PeerForwardingProcessingDecorator_execute_without_received_records_should_not_copy_records_to_process_locally() {
+            final Collection<Record<Event>> forwardTestData = List.of(record, mock(Record.class));
+            final Collection<Record<Event>> recordsToProcessLocally = List.of(record);
+            when(peerForwarder.forwardRecords(forwardTestData)).thenReturn(recordsToProcessLocally);
+            when(peerForwarder.receiveRecords(0)).thenReturn(Collections.emptyList());
+
+            final List<Processor> processors = createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
+            processors.get(0).execute(forwardTestData);
+
+            verify(processor).execute(same(recordsToProcessLocally));
+        }
+
+        @Test
+        void PeerForwardingProcessingDecorator_execute_should_execute_inner_processor_with_local_records_followed_by_received_records() {
+            final Record<Event> receivedRecord = mock(Record.class);
+            final Record<Event> otherReceivedRecord = mock(Record.class);
+            final Collection<Record<Event>> forwardTestData = Collections.singletonList(record);
+            when(peerForwarder.forwardRecords(forwardTestData)).thenReturn(forwardTestData);
+            when(peerForwarder.receiveRecords(0)).thenReturn(List.of(receivedRecord, otherReceivedRecord));
+
+            final List<Processor> processors = createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
+            processors.get(0).execute(forwardTestData);
+
+            final ArgumentCaptor<Collection<Record<Event>>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+            verify(processor).execute(recordsCaptor.capture());
+            final Collection<Record<Event>> recordsToProcessLocally = recordsCaptor.getValue();
+            assertThat(recordsToProcessLocally.size(), equalTo(3));
+            assertThat(new ArrayList<>(recordsToProcessLocally), equalTo(List.of(record, receivedRecord, otherReceivedRecord)));
+            assertThrows(UnsupportedOperationException.class, () -> recordsToProcessLocally.add(record));
+        }
+
         @Test
         void PeerForwardingProcessingDecorator_execute_will_call_inner_processors_execute() {
             final List<Processor> processors = createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
+import org.opensearch.dataprepper.peerforwarder.discovery.StaticPeerListProvider;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,16 +30,22 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -59,7 +66,6 @@ import org.apache.commons.lang3.RandomStringUtils;
 class RemotePeerForwarderTest {
     private static final int TEST_BUFFER_CAPACITY = 3;
     private static final int TEST_BATCH_SIZE = 3;
-    private static final int TEST_BATCH_DELAY = 3_000;
     private static final int TEST_TIMEOUT_IN_MILLIS = 500;
 
     @Mock
@@ -108,7 +114,7 @@ class RemotePeerForwarderTest {
         pipelineName = UUID.randomUUID().toString();
         pluginId = UUID.randomUUID().toString();
         identificationKeys = generateIdentificationKeys();
-        peerForwarderReceiveBuffer = new PeerForwarderReceiveBuffer<>(TEST_BUFFER_CAPACITY, TEST_BATCH_SIZE);
+        peerForwarderReceiveBuffer = new PeerForwarderReceiveBuffer<>(TEST_BUFFER_CAPACITY, TEST_BATCH_SIZE, PluginMetrics.fromNames("pluginId", "pipelineName"));
 
         when(pluginMetrics.counter(RECORDS_TO_BE_PROCESSED_LOCALLY)).thenReturn(recordsToBeProcessedLocallyCounter);
         when(pluginMetrics.counter(RECORDS_ACTUALLY_PROCESSED_LOCALLY)).thenReturn(recordsActuallyProcessedLocallyCounter);
@@ -119,6 +125,8 @@ class RemotePeerForwarderTest {
         when(pluginMetrics.counter(RECORDS_MISSING_IDENTIFICATION_KEYS)).thenReturn(recordsMissingIdentificationKeys);
         when(pluginMetrics.counter(REQUESTS_FAILED)).thenReturn(requestsFailedCounter);
         when(pluginMetrics.counter(REQUESTS_SUCCESSFUL)).thenReturn(requestsSuccessfulCounter);
+        lenient().when(hashRing.isLocalAddress(anyString()))
+                .thenAnswer(invocation -> StaticPeerListProvider.LOCAL_ENDPOINT.equals(invocation.getArgument(0)));
     }
 
     @AfterEach
@@ -136,7 +144,7 @@ class RemotePeerForwarderTest {
     }
 
     private RemotePeerForwarder createObjectUnderTest() {
-        return new RemotePeerForwarder(peerForwarderClient, hashRing, peerForwarderReceiveBuffer, pipelineName, pluginId, identificationKeys, pluginMetrics, TEST_BATCH_DELAY);
+        return new RemotePeerForwarder(peerForwarderClient, hashRing, peerForwarderReceiveBuffer, pipelineName, pluginId, identificationKeys, pluginMetrics);
     }
 
     @Test
@@ -161,7 +169,7 @@ class RemotePeerForwarderTest {
     void test_forwardRecords_with_one_local_ip_and_one_remote_ip_should_process_record_one_record_locally() {
         AggregatedHttpResponse aggregatedHttpResponse = mock(AggregatedHttpResponse.class);
         when(aggregatedHttpResponse.status()).thenReturn(HttpStatus.OK);
-        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString())).thenReturn(aggregatedHttpResponse);
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequestAsync(anyCollection(), anyString(), anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(aggregatedHttpResponse));
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
         lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
@@ -171,7 +179,7 @@ class RemotePeerForwarderTest {
         final Collection<Record<Event>> testRecords = generateBatchRecords(2);
 
         final Collection<Record<Event>> records = peerForwarder.forwardRecords(testRecords);
-        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequestAsync(anyList(), anyString(), anyString(), anyString());
         assertThat(records.size(), equalTo(1));
 
         verify(recordsToBeProcessedLocallyCounter).increment(1.0);
@@ -183,7 +191,7 @@ class RemotePeerForwarderTest {
 
     @Test
     void forwardRecords_should_return_all_input_events_when_client_throws() {
-        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString())).thenThrow(RuntimeException.class);
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequestAsync(anyCollection(), anyString(), anyString(), anyString())).thenThrow(RuntimeException.class);
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
         lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
@@ -193,7 +201,7 @@ class RemotePeerForwarderTest {
 
         final Collection<Record<Event>> inputRecords = generateBatchRecords(2);
         final Collection<Record<Event>> records = peerForwarder.forwardRecords(inputRecords);
-        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequestAsync(anyList(), anyString(), anyString(), anyString());
         assertThat(records, notNullValue());
         assertThat(records.size(), equalTo(inputRecords.size()));
         for (Record<Event> inputRecord : inputRecords) {
@@ -207,6 +215,100 @@ class RemotePeerForwarderTest {
         verify(requestsFailedCounter).increment();
     }
 
+    @Test
+    void forwardRecords_should_return_all_input_events_when_request_fails() {
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequestAsync(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException()));
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final Collection<Record<Event>> inputRecords = generateBatchRecords(2);
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(inputRecords);
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequestAsync(anyList(), anyString(), anyString(), anyString());
+        assertThat(records.size(), equalTo(inputRecords.size()));
+        for (Record<Event> inputRecord : inputRecords) {
+            assertThat(records, hasItem(inputRecord));
+        }
+
+        verify(recordsToBeProcessedLocallyCounter).increment(1.0);
+        verify(recordsActuallyProcessedLocallyCounter).increment(2.0);
+        verify(recordsToBeForwardedCounter).increment(1.0);
+        verify(recordsFailedForwardingCounter).increment(1.0);
+        verify(requestsFailedCounter).increment();
+    }
+
+    @Test
+    void forwardRecords_should_send_to_all_peers_before_waiting_and_process_only_records_of_failed_peers_locally() {
+        final CompletableFuture<AggregatedHttpResponse> successfulResponse = new CompletableFuture<>();
+        final CompletableFuture<AggregatedHttpResponse> failedResponse = new CompletableFuture<>();
+        final AggregatedHttpResponse aggregatedHttpResponse = mock(AggregatedHttpResponse.class);
+        when(aggregatedHttpResponse.status()).thenReturn(HttpStatus.OK);
+        final AtomicInteger requestsSent = new AtomicInteger();
+        final Runnable completeResponsesWhenAllRequestsAreSent = () -> {
+            if (requestsSent.incrementAndGet() == 2) {
+                successfulResponse.complete(aggregatedHttpResponse);
+                failedResponse.completeExceptionally(new RuntimeException());
+            }
+        };
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequestAsync(anyCollection(), eq("8.8.8.8"), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    completeResponsesWhenAllRequestsAreSent.run();
+                    return successfulResponse;
+                });
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequestAsync(anyCollection(), eq("8.8.4.4"), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    completeResponsesWhenAllRequestsAreSent.run();
+                    return failedResponse;
+                });
+
+        when(hashRing.getServerIp(List.of("value0", "value0"))).thenReturn(Optional.of("8.8.8.8"));
+        when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of("8.8.4.4"));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final List<Record<Event>> inputRecords = new ArrayList<>(generateBatchRecords(2));
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(inputRecords);
+
+        assertThat(records, equalTo(List.of(inputRecords.get(1))));
+
+        verify(recordsToBeForwardedCounter, times(2)).increment(1.0);
+        verify(recordsSuccessfullyForwardedCounter).increment(1.0);
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsFailedForwardingCounter).increment(1.0);
+        verify(requestsFailedCounter).increment();
+        verify(recordsActuallyProcessedLocallyCounter).increment(1.0);
+    }
+
+    @Test
+    void forwardRecords_with_local_only_hash_ring_should_process_all_records_locally_without_hashing() {
+        when(hashRing.isLocalOnly()).thenReturn(true);
+
+        final Collection<Record<Event>> testRecords = generateBatchRecords(2);
+        final Collection<Record<Event>> records = createObjectUnderTest().forwardRecords(testRecords);
+
+        assertThat(records, sameInstance(testRecords));
+        verify(hashRing, never()).getServerIp(anyList());
+        verifyNoInteractions(peerForwarderClient);
+        verify(recordsToBeProcessedLocallyCounter).increment(2.0);
+        verify(recordsActuallyProcessedLocallyCounter).increment(2.0);
+    }
+
+    @Test
+    void test_receiveRecords_from_empty_buffer_should_not_wait() {
+        final RemotePeerForwarder objectUnderTest = createObjectUnderTest();
+
+        final long startTime = System.nanoTime();
+        final Collection<Record<Event>> records = objectUnderTest.receiveRecords();
+
+        assertThat(records.size(), equalTo(0));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < TEST_TIMEOUT_IN_MILLIS, equalTo(true));
+        verify(recordsReceivedFromPeersCounter).increment(0.0);
+    }
+
     @Test
     void test_receiveRecords_should_return_record_from_buffer() throws Exception {
         final Collection<Record<Event>> testRecords = generateBatchRecords(3);
@@ -221,11 +323,25 @@ class RemotePeerForwarderTest {
         verify(recordsReceivedFromPeersCounter).increment(3.0);
     }
 
+    @Test
+    void test_receiveRecords_with_partition_should_return_record_from_buffer() throws Exception {
+        final Collection<Record<Event>> testRecords = generateBatchRecords(3);
+        peerForwarderReceiveBuffer.writeAll(testRecords, TEST_TIMEOUT_IN_MILLIS);
+
+        final RemotePeerForwarder objectUnderTest = createObjectUnderTest();
+        final Collection<Record<Event>> records = objectUnderTest.receiveRecords(0);
+
+        assertThat(records, equalTo(testRecords));
+        assertThat(peerForwarderReceiveBuffer.isEmpty(), equalTo(true));
+
+        verify(recordsReceivedFromPeersCounter).increment(3.0);
+    }
+
     @Test
     void test_receiveRecords_with_missing_identification_keys() throws Exception {
         AggregatedHttpResponse aggregatedHttpResponse = mock(AggregatedHttpResponse.class);
         when(aggregatedHttpResponse.status()).thenReturn(HttpStatus.OK);
-        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString())).thenReturn(aggregatedHttpResponse);
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequestAsync(anyCollection(), anyString(), anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(aggregatedHttpResponse));
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
         lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
@@ -241,7 +357,7 @@ class RemotePeerForwarderTest {
         testRecords.add(new Record<>(event));
 
         final Collection<Record<Event>> records = peerForwarder.forwardRecords(testRecords);
-        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequestAsync(anyList(), anyString(), anyString(), anyString());
         assertThat(records.size(), equalTo(2));
 
         verify(recordsToBeProcessedLocallyCounter).increment(2.0);
@@ -268,7 +384,7 @@ class RemotePeerForwarderTest {
         }
 
         final Collection<Record<Event>> records = peerForwarder.forwardRecords(testRecords);
-        verify(peerForwarderClient, times(0)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        verify(peerForwarderClient, times(0)).serializeRecordsAndSendHttpRequestAsync(anyList(), anyString(), anyString(), anyString());
         assertThat(records.size(), equalTo(2));
 
         verify(recordsToBeProcessedLocallyCounter).increment(2.0);
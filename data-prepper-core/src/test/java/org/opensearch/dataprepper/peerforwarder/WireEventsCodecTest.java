@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.MediaType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class WireEventsCodecTest {
+    private static final String PLUGIN_ID = "plugin_id";
+    private static final String PIPELINE_NAME = "pipeline_name";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private WireEventsCodec createObjectUnderTest() {
+        return new WireEventsCodec(objectMapper);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCodecsAndCompressions")
+    void decode_returns_encoded_wire_events(final ForwardingCodec codec, final ForwardingCompression compression) throws IOException {
+        final WireEventsCodec objectUnderTest = createObjectUnderTest();
+        final Instant timeReceived = Instant.now();
+        final String message = UUID.randomUUID().toString();
+        final WireEvents wireEvents = new WireEvents(List.of(
+                new WireEvent("LOG", timeReceived, Map.of("attribute", "value"), "{\"message\":\"" + message + "\"}"),
+                new WireEvent("LOG", timeReceived, Map.of(), Map.of("message", message, "list", List.of(1, 2)))),
+                PLUGIN_ID, PIPELINE_NAME);
+
+        final byte[] encodedWireEvents = objectUnderTest.encode(wireEvents, codec, compression);
+        final WireEvents decodedWireEvents = objectUnderTest.decode(objectUnderTest.getMediaType(codec),
+                compression == ForwardingCompression.GZIP ? WireEventsCodec.GZIP : null, HttpData.wrap(encodedWireEvents));
+
+        assertThat(decodedWireEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+        assertThat(decodedWireEvents.getDestinationPipelineName(), equalTo(PIPELINE_NAME));
+        assertThat(decodedWireEvents.getEvents().size(), equalTo(2));
+        final WireEvent jsonDataWireEvent = decodedWireEvents.getEvents().get(0);
+        assertThat(jsonDataWireEvent.getEventType(), equalTo("LOG"));
+        assertThat(jsonDataWireEvent.getEventTimeReceived(), equalTo(timeReceived));
+        assertThat(jsonDataWireEvent.getEventAttributes(), equalTo(Map.of("attribute", "value")));
+        assertThat(jsonDataWireEvent.getEventData(), equalTo("{\"message\":\"" + message + "\"}"));
+        assertThat(jsonDataWireEvent.getEventDataMap(), nullValue());
+        final WireEvent mapDataWireEvent = decodedWireEvents.getEvents().get(1);
+        assertThat(mapDataWireEvent.getEventData(), nullValue());
+        assertThat(mapDataWireEvent.getEventDataMap(), equalTo(Map.of("message", message, "list", List.of(1, 2))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCodecsAndCompressions")
+    void createReader_reads_encoded_wire_events(final ForwardingCodec codec, final ForwardingCompression compression) throws IOException {
+        final WireEventsCodec objectUnderTest = createObjectUnderTest();
+        final WireEvents wireEvents = new WireEvents(List.of(
+                new WireEvent("LOG", Instant.now(), Map.of(), "{\"message\":\"" + UUID.randomUUID() + "\"}"),
+                new WireEvent("LOG", Instant.now(), Map.of(), Map.of("message", UUID.randomUUID().toString()))),
+                PLUGIN_ID, PIPELINE_NAME);
+
+        final byte[] encodedWireEvents = objectUnderTest.encode(wireEvents, codec, compression);
+        try (final WireEventsReader wireEventsReader = objectUnderTest.createReader(objectUnderTest.getMediaType(codec),
+                compression == ForwardingCompression.GZIP ? WireEventsCodec.GZIP : null, "2", HttpData.wrap(encodedWireEvents))) {
+            assertThat(wireEventsReader.getEventCount(), equalTo(2));
+            assertThat(wireEventsReader.getDestinationPluginId(), equalTo(PLUGIN_ID));
+            assertThat(wireEventsReader.getDestinationPipelineName(), equalTo(PIPELINE_NAME));
+            assertThat(wireEventsReader.next().getEventData(), equalTo(wireEvents.getEvents().get(0).getEventData()));
+            assertThat(wireEventsReader.next().getEventDataMap(), equalTo(wireEvents.getEvents().get(1).getEventDataMap()));
+            assertThat(wireEventsReader.next(), nullValue());
+        }
+    }
+
+    @Test
+    void encode_writes_destination_before_events() throws IOException {
+        final WireEvents wireEvents = new WireEvents(List.of(
+                new WireEvent("LOG", Instant.now(), Map.of(), "{}")), PLUGIN_ID, PIPELINE_NAME);
+
+        final String encodedWireEvents = new String(
+                createObjectUnderTest().encode(wireEvents, ForwardingCodec.JSON, ForwardingCompression.NONE), StandardCharsets.UTF_8);
+
+        assertThat(encodedWireEvents.indexOf(PIPELINE_NAME) < encodedWireEvents.indexOf("\"events\""), equalTo(true));
+    }
+
+    @Test
+    void encode_with_JSON_codec_and_no_compression_is_readable_by_the_object_mapper() throws IOException {
+        final WireEvents wireEvents = new WireEvents(List.of(
+                new WireEvent("LOG", Instant.now(), Map.of(), "{}")), PLUGIN_ID, PIPELINE_NAME);
+
+        final byte[] encodedWireEvents = createObjectUnderTest().encode(wireEvents, ForwardingCodec.JSON, ForwardingCompression.NONE);
+
+        final WireEvents decodedWireEvents = objectMapper.readValue(new String(encodedWireEvents, StandardCharsets.UTF_8), WireEvents.class);
+        assertThat(decodedWireEvents.getEvents().get(0).getEventData(), equalTo("{}"));
+        assertThat(new String(encodedWireEvents, StandardCharsets.UTF_8).contains("eventDataMap"), equalTo(false));
+    }
+
+    @Test
+    void encode_with_JSON_codec_is_readable_by_peers_which_fail_on_unknown_properties() throws IOException {
+        final Instant timeReceived = Instant.now();
+        final WireEvents wireEvents = new WireEvents(List.of(
+                new WireEvent("LOG", timeReceived, Map.of("attribute", "value"), "{}")), PLUGIN_ID, PIPELINE_NAME);
+
+        final byte[] encodedWireEvents = createObjectUnderTest().encode(wireEvents, ForwardingCodec.JSON, ForwardingCompression.NONE);
+
+        final BaselineWireEvents decodedWireEvents = objectMapper.copy()
+                .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(encodedWireEvents, BaselineWireEvents.class);
+        assertThat(decodedWireEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+        assertThat(decodedWireEvents.getDestinationPipelineName(), equalTo(PIPELINE_NAME));
+        assertThat(decodedWireEvents.getEvents().size(), equalTo(1));
+        assertThat(decodedWireEvents.getEvents().get(0).getEventTimeReceived(), equalTo(timeReceived));
+        assertThat(decodedWireEvents.getEvents().get(0).getEventData(), equalTo("{}"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-1", "one", ""})
+    void createReader_with_invalid_event_count_throws(final String eventCount) throws IOException {
+        final WireEventsCodec objectUnderTest = createObjectUnderTest();
+        final byte[] encodedWireEvents = objectUnderTest.encode(new WireEvents(List.of(), PLUGIN_ID, PIPELINE_NAME),
+                ForwardingCodec.JSON, ForwardingCompression.NONE);
+
+        assertThrows(IOException.class,
+                () -> objectUnderTest.createReader(MediaType.JSON, null, eventCount, HttpData.wrap(encodedWireEvents)));
+    }
+
+    @Test
+    void encode_with_SMILE_codec_is_not_JSON() throws IOException {
+        final WireEvents wireEvents = new WireEvents(List.of(
+                new WireEvent("LOG", Instant.now(), Map.of(), Map.of("message", "value"))), PLUGIN_ID, PIPELINE_NAME);
+
+        final byte[] encodedWireEvents = createObjectUnderTest().encode(wireEvents, ForwardingCodec.SMILE, ForwardingCompression.NONE);
+
+        assertThat(encodedWireEvents[0], not(equalTo((byte) '{')));
+    }
+
+    @Test
+    void decode_with_unknown_content_type_uses_the_object_mapper() throws IOException {
+        final WireEvents wireEvents = new WireEvents(List.of(
+                new WireEvent("LOG", Instant.now(), Map.of(), "{}")), PLUGIN_ID, PIPELINE_NAME);
+        final String content = objectMapper.writeValueAsString(wireEvents);
+
+        final WireEvents decodedWireEvents = createObjectUnderTest().decode(null, null, HttpData.ofUtf8(content));
+
+        assertThat(decodedWireEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+    }
+
+    @Test
+    void decode_with_invalid_content_throws() {
+        final WireEventsCodec objectUnderTest = createObjectUnderTest();
+
+        assertThrows(IOException.class, () -> objectUnderTest.decode(MediaType.JSON, null, HttpData.ofUtf8("{")));
+        assertThrows(IOException.class, () -> objectUnderTest.decode(WireEventsCodec.SMILE, null, HttpData.ofUtf8("{")));
+        assertThrows(IOException.class, () -> objectUnderTest.decode(MediaType.JSON, WireEventsCodec.GZIP, HttpData.ofUtf8("{}")));
+    }
+
+    @Test
+    void getMediaType_returns_media_type_of_codec() {
+        final WireEventsCodec objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getMediaType(ForwardingCodec.SMILE), equalTo(WireEventsCodec.SMILE));
+        assertThat(objectUnderTest.getMediaType(ForwardingCodec.JSON), equalTo(MediaType.PLAIN_TEXT_UTF_8));
+    }
+
+    private static Stream<Arguments> provideCodecsAndCompressions() {
+        return Stream.of(ForwardingCodec.values())
+                .flatMap(codec -> Stream.of(ForwardingCompression.values()).map(compression -> arguments(codec, compression)));
+    }
+
+    /**
+     * The wire events as they are decoded by peers of Data Prepper 2.0.
+     */
+    private static class BaselineWireEvents {
+        private List<BaselineWireEvent> events;
+        private String destinationPluginId;
+        private String destinationPipelineName;
+
+        public List<BaselineWireEvent> getEvents() {
+            return events;
+        }
+
+        public String getDestinationPluginId() {
+            return destinationPluginId;
+        }
+
+        public String getDestinationPipelineName() {
+            return destinationPipelineName;
+        }
+    }
+
+    private static class BaselineWireEvent {
+        private String eventType;
+        private Instant eventTimeReceived;
+        private Map<String, Object> eventAttributes;
+        private String eventData;
+
+        public String getEventType() {
+            return eventType;
+        }
+
+        public Instant getEventTimeReceived() {
+            return eventTimeReceived;
+        }
+
+        public Map<String, Object> getEventAttributes() {
+            return eventAttributes;
+        }
+
+        public String getEventData() {
+            return eventData;
+        }
+    }
+}
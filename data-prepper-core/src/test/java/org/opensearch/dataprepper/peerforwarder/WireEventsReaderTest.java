@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WireEventsReaderTest {
+    private static final String PLUGIN_ID = "plugin_id";
+    private static final String PIPELINE_NAME = "pipeline_name";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final AtomicInteger contentReads = new AtomicInteger();
+
+    private WireEventsReader createObjectUnderTest(final String content) throws IOException {
+        return createObjectUnderTest(content, -1);
+    }
+
+    private WireEventsReader createObjectUnderTest(final String content, final int eventCount) throws IOException {
+        return new WireEventsReader(objectMapper, () -> {
+            contentReads.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        }, eventCount);
+    }
+
+    @Test
+    void next_returns_wire_events_in_order_after_destination_is_read() throws IOException {
+        final List<WireEvent> wireEvents = generateWireEvents(3);
+        final String content = objectMapper.writeValueAsString(new WireEvents(wireEvents, PLUGIN_ID, PIPELINE_NAME));
+
+        try (final WireEventsReader objectUnderTest = createObjectUnderTest(content, wireEvents.size())) {
+            assertThat(objectUnderTest.getDestinationPluginId(), equalTo(PLUGIN_ID));
+            assertThat(objectUnderTest.getDestinationPipelineName(), equalTo(PIPELINE_NAME));
+            assertThat(objectUnderTest.getEventCount(), equalTo(wireEvents.size()));
+            for (final WireEvent wireEvent : wireEvents) {
+                assertThat(objectUnderTest.next().getEventData(), equalTo(wireEvent.getEventData()));
+            }
+            assertThat(objectUnderTest.next(), nullValue());
+            assertThat(objectUnderTest.next(), nullValue());
+        }
+        assertThat(contentReads.get(), equalTo(1));
+    }
+
+    @Test
+    void next_returns_wire_events_if_destination_is_after_wire_events() throws IOException {
+        final List<WireEvent> wireEvents = generateWireEvents(2);
+        final String content = "{\"events\":" + objectMapper.writeValueAsString(wireEvents) +
+                ",\"destinationPluginId\":\"" + PLUGIN_ID + "\",\"destinationPipelineName\":\"" + PIPELINE_NAME + "\"}";
+
+        try (final WireEventsReader objectUnderTest = createObjectUnderTest(content)) {
+            assertThat(objectUnderTest.getDestinationPluginId(), equalTo(PLUGIN_ID));
+            assertThat(objectUnderTest.getDestinationPipelineName(), equalTo(PIPELINE_NAME));
+            assertThat(objectUnderTest.getEventCount(), equalTo(-1));
+            assertThat(objectUnderTest.next().getEventData(), equalTo(wireEvents.get(0).getEventData()));
+            assertThat(objectUnderTest.next().getEventData(), equalTo(wireEvents.get(1).getEventData()));
+            assertThat(objectUnderTest.next(), nullValue());
+        }
+        assertThat(contentReads.get(), equalTo(2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"destinationPluginId\":\"plugin_id\",\"destinationPipelineName\":\"pipeline_name\"}",
+            "{\"destinationPluginId\":\"plugin_id\",\"destinationPipelineName\":\"pipeline_name\",\"events\":null}"
+    })
+    void next_returns_null_without_wire_events(final String content) throws IOException {
+        try (final WireEventsReader objectUnderTest = createObjectUnderTest(content)) {
+            assertThat(objectUnderTest.getDestinationPluginId(), equalTo(PLUGIN_ID));
+            assertThat(objectUnderTest.next(), nullValue());
+        }
+    }
+
+    @Test
+    void next_throws_if_there_are_more_wire_events_than_the_event_count() throws IOException {
+        final String content = "{\"destinationPluginId\":\"" + PLUGIN_ID + "\",\"destinationPipelineName\":\"" + PIPELINE_NAME +
+                "\",\"events\":" + objectMapper.writeValueAsString(generateWireEvents(2)) + "}";
+
+        try (final WireEventsReader objectUnderTest = createObjectUnderTest(content, 1)) {
+            assertThat(objectUnderTest.getEventCount(), equalTo(1));
+            objectUnderTest.next();
+            assertThrows(IOException.class, objectUnderTest::next);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "[]", "{", "{\"destinationPluginId\":\"plugin_id\""})
+    void constructor_throws_if_content_is_not_wire_events(final String content) {
+        assertThrows(IOException.class, () -> createObjectUnderTest(content));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"destinationPluginId\":\"plugin_id\",\"destinationPipelineName\":\"pipeline_name\",\"events\":[",
+            "{\"destinationPluginId\":\"plugin_id\",\"destinationPipelineName\":\"pipeline_name\",\"events\":[1]}"
+    })
+    void next_throws_if_wire_events_are_invalid(final String content) throws IOException {
+        try (final WireEventsReader objectUnderTest = createObjectUnderTest(content)) {
+            assertThrows(IOException.class, objectUnderTest::next);
+        }
+    }
+
+    private static List<WireEvent> generateWireEvents(final int numberOfEvents) {
+        final List<WireEvent> wireEvents = new ArrayList<>();
+        for (int i = 0; i < numberOfEvents; i++) {
+            wireEvents.add(new WireEvent("LOG", Instant.now(), Map.of(), "{\"message\":\"" + UUID.randomUUID() + "\"}"));
+        }
+        return wireEvents;
+    }
+}
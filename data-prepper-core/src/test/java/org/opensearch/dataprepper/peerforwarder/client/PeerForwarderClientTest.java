@@ -5,9 +5,14 @@
 
 package org.opensearch.dataprepper.peerforwarder.client;
 
+import com.linecorp.armeria.common.AggregatedHttpRequest;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
@@ -25,6 +30,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.noop.NoopTimer;
@@ -34,9 +40,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCodec;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCompression;
 import org.opensearch.dataprepper.peerforwarder.PeerClientPool;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderClientFactory;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.peerforwarder.WireEventsCodec;
+import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
 
 import java.io.IOException;
@@ -45,17 +55,29 @@ import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -64,6 +86,10 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI;
 import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.REQUESTS;
 import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.CLIENT_REQUEST_FORWARDING_LATENCY;
+import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.FORWARDING_BATCH_FILL_RATIO;
+import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.FORWARDING_BATCH_LINGER;
+import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.FORWARDED_BYTES;
+import static org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient.PEER_TAG;
 
 @ExtendWith(MockitoExtension.class)
 class PeerForwarderClientTest {
@@ -88,15 +114,38 @@ class PeerForwarderClientTest {
 
     @Mock
     private Counter requestsCounter;
+
+    @Mock
+    private Counter forwardedBytesCounter;
+
+    @Mock
+    private DistributionSummary forwardingBatchFillRatioSummary;
     private NoopTimer clientRequestForwardingLatencyTimer;
+    private NoopTimer forwardingBatchLingerTimer;
+    private int forwardingBatchSize;
+    private int forwardingQueueSize;
+    private int bufferSize;
+    private Duration forwardingBatchTimeout;
+    private ForwardingCodec forwardingCodec;
+    private ForwardingCompression forwardingCompression;
 
     @BeforeEach
     void setUp() {
         clientRequestForwardingLatencyTimer = new NoopTimer(new Meter.Id("test", Tags.empty(), null, null, Meter.Type.TIMER));
+        forwardingBatchLingerTimer = new NoopTimer(new Meter.Id("linger", Tags.empty(), null, null, Meter.Type.TIMER));
         when(pluginMetrics.counter(REQUESTS)).thenReturn(requestsCounter);
         when(pluginMetrics.timer(CLIENT_REQUEST_FORWARDING_LATENCY)).thenReturn(clientRequestForwardingLatencyTimer);
+        when(pluginMetrics.timer(FORWARDING_BATCH_LINGER)).thenReturn(forwardingBatchLingerTimer);
+        when(pluginMetrics.summary(FORWARDING_BATCH_FILL_RATIO)).thenReturn(forwardingBatchFillRatioSummary);
+        lenient().when(pluginMetrics.counterWithTags(eq(FORWARDED_BYTES), eq(PEER_TAG), anyString())).thenReturn(forwardedBytesCounter);
         objectMapper = new ObjectMapper()
                 .registerModule(new JavaTimeModule());
+        forwardingCodec = ForwardingCodec.JSON;
+        forwardingCompression = ForwardingCompression.NONE;
+        forwardingBatchSize = 1000;
+        forwardingQueueSize = 4000;
+        bufferSize = 4000;
+        forwardingBatchTimeout = Duration.ZERO;
 
         when(peerForwarderClientFactory.setPeerClientPool()).thenReturn(peerClientPool);
     }
@@ -108,6 +157,13 @@ class PeerForwarderClientTest {
 
     private PeerForwarderClient createObjectUnderTest(final ObjectMapper objectMapper) {
         when(peerForwarderConfiguration.getClientThreadCount()).thenReturn(200);
+        when(peerForwarderConfiguration.getMaxInFlightRequestsPerPeer()).thenReturn(1);
+        when(peerForwarderConfiguration.getForwardingCodec()).thenReturn(forwardingCodec);
+        when(peerForwarderConfiguration.getForwardingCompression()).thenReturn(forwardingCompression);
+        when(peerForwarderConfiguration.getForwardingBatchSize()).thenReturn(forwardingBatchSize);
+        when(peerForwarderConfiguration.getForwardingQueueSize()).thenReturn(forwardingQueueSize);
+        when(peerForwarderConfiguration.getBufferSize()).thenReturn(bufferSize);
+        when(peerForwarderConfiguration.getForwardingBatchTimeout()).thenReturn(forwardingBatchTimeout);
         return new PeerForwarderClient(peerForwarderConfiguration, peerForwarderClientFactory, objectMapper, pluginMetrics);
     }
 
@@ -137,9 +193,23 @@ class PeerForwarderClientTest {
     }
 
     @Test
-    void test_serializeRecordsAndSendHttpRequest_with_bad_wireEvents_should_throw() throws JsonProcessingException {
+    void serializeRecordsAndSendHttpRequest_should_count_forwarded_bytes_of_peer() {
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(TEST_ADDRESS)).thenReturn(webClient);
+        when(webClient.execute(any(HttpRequest.class))).thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+        objectUnderTest.serializeRecordsAndSendHttpRequest(generateBatchRecords(1), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+
+        verify(pluginMetrics).counterWithTags(FORWARDED_BYTES, PEER_TAG, TEST_ADDRESS);
+        verify(forwardedBytesCounter).increment(doubleThat(bytes -> bytes > 0));
+        verify(requestsCounter).increment();
+    }
+
+    @Test
+    void test_serializeRecordsAndSendHttpRequest_with_bad_wireEvents_should_throw() throws IOException {
         ObjectMapper objectMapper = mock(ObjectMapper.class);
-        when(objectMapper.writeValueAsString(isA(WireEvents.class))).thenThrow(JsonProcessingException.class);
+        doThrow(JsonProcessingException.class).when(objectMapper).writeValue(any(OutputStream.class), isA(WireEvents.class));
 
         final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
 
@@ -158,7 +228,7 @@ class PeerForwarderClientTest {
 
         final WebClient webClient = mock(WebClient.class);
         when(peerClientPool.getClient(anyString())).thenReturn(webClient);
-        when(webClient.post(anyString(), anyString())).thenReturn(HttpResponse.ofJson(CompletableFuture.class));
+        when(webClient.execute(any(HttpRequest.class))).thenReturn(HttpResponse.ofJson(CompletableFuture.class));
 
         final PeerForwarderClient peerForwarderClient = createObjectUnderTest(objectMapper);
         final Collection<Record<Event>> records = generateBatchRecords(1);
@@ -174,6 +244,275 @@ class PeerForwarderClientTest {
         verify(peerForwarderClientFactory).setPeerClientPool();
     }
 
+    @Test
+    void serializeRecordsAndSendHttpRequestAsync_should_queue_records_while_request_to_the_same_peer_is_in_flight() throws Exception {
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        final CompletableFuture<HttpResponse> firstHttpResponse = new CompletableFuture<>();
+        when(webClient.execute(any(HttpRequest.class)))
+                .thenReturn(HttpResponse.from(firstHttpResponse))
+                .thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+        final Collection<Record<Event>> records = generateBatchRecords(1);
+
+        final CompletableFuture<AggregatedHttpResponse> firstResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(records, TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+        final CompletableFuture<AggregatedHttpResponse> secondResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(records, TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+
+        await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1)).until(() -> !secondResponse.isDone());
+        assertThat(firstResponse.isDone(), equalTo(false));
+        verify(webClient).execute(any(HttpRequest.class));
+
+        firstHttpResponse.complete(HttpResponse.of(HttpStatus.OK));
+
+        assertThat(firstResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        assertThat(secondResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        verify(webClient, times(2)).execute(any(HttpRequest.class));
+        verify(requestsCounter, times(2)).increment();
+    }
+
+    @Test
+    void serializeRecordsAndSendHttpRequestAsync_should_coalesce_queued_records_into_one_request() throws Exception {
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        final CompletableFuture<HttpResponse> firstHttpResponse = new CompletableFuture<>();
+        final ArgumentCaptor<HttpRequest> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        when(webClient.execute(httpRequestArgumentCaptor.capture()))
+                .thenReturn(HttpResponse.from(firstHttpResponse))
+                .thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+
+        final CompletableFuture<AggregatedHttpResponse> firstResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(generateBatchRecords(1), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+        final List<CompletableFuture<AggregatedHttpResponse>> queuedResponses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queuedResponses.add(objectUnderTest.serializeRecordsAndSendHttpRequestAsync(
+                    generateBatchRecords(2), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME));
+        }
+
+        firstHttpResponse.complete(HttpResponse.of(HttpStatus.OK));
+
+        assertThat(firstResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        for (final CompletableFuture<AggregatedHttpResponse> queuedResponse : queuedResponses) {
+            assertThat(queuedResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        }
+        verify(requestsCounter, times(2)).increment();
+        verify(forwardingBatchFillRatioSummary, times(2)).record(anyDouble());
+
+        final AggregatedHttpRequest coalescedRequest = httpRequestArgumentCaptor.getAllValues().get(1).aggregate().get();
+        final WireEvents wireEvents = new WireEventsCodec(objectMapper).decode(coalescedRequest.contentType(), null, coalescedRequest.content());
+        assertThat(wireEvents.getEvents().size(), equalTo(6));
+    }
+
+    @Test
+    void serializeRecordsAndSendHttpRequestAsync_should_not_coalesce_more_records_than_the_buffer_size() throws Exception {
+        bufferSize = 4;
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        final CompletableFuture<HttpResponse> firstHttpResponse = new CompletableFuture<>();
+        final ArgumentCaptor<HttpRequest> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        when(webClient.execute(httpRequestArgumentCaptor.capture()))
+                .thenReturn(HttpResponse.from(firstHttpResponse))
+                .thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+
+        final CompletableFuture<AggregatedHttpResponse> firstResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(generateBatchRecords(1), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+        final List<CompletableFuture<AggregatedHttpResponse>> queuedResponses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queuedResponses.add(objectUnderTest.serializeRecordsAndSendHttpRequestAsync(
+                    generateBatchRecords(2), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME));
+        }
+
+        firstHttpResponse.complete(HttpResponse.of(HttpStatus.OK));
+
+        assertThat(firstResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        for (final CompletableFuture<AggregatedHttpResponse> queuedResponse : queuedResponses) {
+            assertThat(queuedResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        }
+        verify(requestsCounter, times(3)).increment();
+        verify(forwardingBatchFillRatioSummary, times(3)).record(anyDouble());
+
+        final AggregatedHttpRequest coalescedRequest = httpRequestArgumentCaptor.getAllValues().get(1).aggregate().get();
+        final WireEvents wireEvents = new WireEventsCodec(objectMapper).decode(coalescedRequest.contentType(), null, coalescedRequest.content());
+        assertThat(wireEvents.getEvents().size(), equalTo(4));
+        assertThat(coalescedRequest.headers().get(WireEventsCodec.EVENT_COUNT_HEADER), equalTo("4"));
+    }
+
+    @Test
+    void serializeRecordsAndSendHttpRequestAsync_should_wait_while_the_queue_of_the_peer_is_full() throws Exception {
+        forwardingBatchSize = 2;
+        forwardingQueueSize = 2;
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        final CompletableFuture<HttpResponse> firstHttpResponse = new CompletableFuture<>();
+        when(webClient.execute(any(HttpRequest.class)))
+                .thenReturn(HttpResponse.from(firstHttpResponse))
+                .thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+        final Collection<Record<Event>> records = generateBatchRecords(2);
+
+        final CompletableFuture<AggregatedHttpResponse> firstResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(records, TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+        final CompletableFuture<AggregatedHttpResponse> secondResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(records, TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+        final CompletableFuture<CompletableFuture<AggregatedHttpResponse>> thirdRequest = CompletableFuture.supplyAsync(() ->
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(records, TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME));
+
+        await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1)).until(() -> !thirdRequest.isDone());
+        assertThat(secondResponse.isDone(), equalTo(false));
+
+        firstHttpResponse.complete(HttpResponse.of(HttpStatus.OK));
+
+        assertThat(firstResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        assertThat(secondResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        assertThat(thirdRequest.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        verify(requestsCounter, times(3)).increment();
+    }
+
+    @Test
+    void serializeRecordsAndSendHttpRequestAsync_should_send_queued_records_after_batch_timeout() throws Exception {
+        forwardingBatchTimeout = Duration.ofMillis(100);
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        when(webClient.execute(any(HttpRequest.class))).thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+
+        final CompletableFuture<AggregatedHttpResponse> firstResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(generateBatchRecords(1), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+        final CompletableFuture<AggregatedHttpResponse> secondResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(generateBatchRecords(1), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+
+        assertThat(firstResponse.isDone(), equalTo(false));
+
+        assertThat(firstResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        assertThat(secondResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        verify(webClient).execute(any(HttpRequest.class));
+        verify(requestsCounter).increment();
+    }
+
+    @Test
+    void createBatchTimeoutThread_should_create_a_named_daemon_thread() {
+        final Thread thread = PeerForwarderClient.createBatchTimeoutThread(() -> { });
+
+        assertThat(thread.isDaemon(), equalTo(true));
+        assertThat(thread.getName(), equalTo(PeerForwarderClient.BATCH_TIMEOUT_THREAD_NAME));
+    }
+
+    @Test
+    void serializeRecordsAndSendHttpRequestAsync_should_not_wait_for_in_flight_request_to_another_peer() throws Exception {
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        final CompletableFuture<HttpResponse> firstHttpResponse = new CompletableFuture<>();
+        when(webClient.execute(any(HttpRequest.class)))
+                .thenReturn(HttpResponse.from(firstHttpResponse))
+                .thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+        final Collection<Record<Event>> records = generateBatchRecords(1);
+
+        final CompletableFuture<AggregatedHttpResponse> firstResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(records, TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+        final CompletableFuture<AggregatedHttpResponse> secondResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(records, LOCAL_IP, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+
+        assertThat(secondResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        assertThat(firstResponse.isDone(), equalTo(false));
+
+        firstHttpResponse.complete(HttpResponse.of(HttpStatus.OK));
+        assertThat(firstResponse.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        verify(requestsCounter, times(2)).increment();
+    }
+
+    @Test
+    void retainPeers_should_remove_peers_which_left_and_still_send_their_queued_records() throws Exception {
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        final CompletableFuture<HttpResponse> httpResponse = new CompletableFuture<>();
+        when(webClient.execute(any(HttpRequest.class)))
+                .thenReturn(HttpResponse.from(httpResponse))
+                .thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+        final CompletableFuture<AggregatedHttpResponse> response =
+                objectUnderTest.serializeRecordsAndSendHttpRequestAsync(generateBatchRecords(3), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+
+        objectUnderTest.retainPeers(Collections.singletonList(LOCAL_IP));
+
+        httpResponse.complete(HttpResponse.of(HttpStatus.OK));
+        assertThat(response.get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+
+        objectUnderTest.serializeRecordsAndSendHttpRequestAsync(generateBatchRecords(1), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME)
+                .get(5, TimeUnit.SECONDS);
+        verify(peerClientPool, times(2)).getClient(TEST_ADDRESS);
+        verify(requestsCounter, times(2)).increment();
+    }
+
+    @Test
+    void retainPeers_should_not_keep_send_queues_for_peers_which_left() throws Exception {
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        when(webClient.execute(any(HttpRequest.class))).thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+        objectUnderTest.retainPeers(Collections.singletonList(LOCAL_IP));
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(objectUnderTest.serializeRecordsAndSendHttpRequestAsync(generateBatchRecords(1), TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME)
+                    .get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+            assertThat(objectUnderTest.serializeRecordsAndSendHttpRequestAsync(generateBatchRecords(1), LOCAL_IP, TEST_PLUGIN_ID, TEST_PIPELINE_NAME)
+                    .get(5, TimeUnit.SECONDS).status(), equalTo(HttpStatus.OK));
+        }
+
+        verify(peerClientPool, times(2)).getClient(TEST_ADDRESS);
+        verify(peerClientPool).getClient(LOCAL_IP);
+        verify(requestsCounter, times(4)).increment();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ForwardingCompression.class)
+    void serializeRecordsAndSendHttpRequest_should_send_records_with_configured_codec_and_compression(
+            final ForwardingCompression compression) throws Exception {
+        forwardingCodec = ForwardingCodec.SMILE;
+        forwardingCompression = compression;
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        final ArgumentCaptor<HttpRequest> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        when(webClient.execute(httpRequestArgumentCaptor.capture())).thenReturn(HttpResponse.of(HttpStatus.OK));
+
+        final PeerForwarderClient objectUnderTest = createObjectUnderTest(objectMapper);
+        final Collection<Record<Event>> records = generateBatchRecords(2);
+
+        final AggregatedHttpResponse aggregatedHttpResponse =
+                objectUnderTest.serializeRecordsAndSendHttpRequest(records, TEST_ADDRESS, TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        verify(requestsCounter).increment();
+
+        final AggregatedHttpRequest httpRequest = httpRequestArgumentCaptor.getValue().aggregate().get();
+        assertThat(httpRequest.path(), equalTo(DEFAULT_PEER_FORWARDING_URI));
+        assertThat(httpRequest.contentType(), equalTo(WireEventsCodec.SMILE));
+        final String contentEncoding = httpRequest.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+        assertThat(contentEncoding, equalTo(compression == ForwardingCompression.GZIP ? WireEventsCodec.GZIP : null));
+
+        final WireEvents wireEvents = new WireEventsCodec(objectMapper).decode(httpRequest.contentType(), contentEncoding, httpRequest.content());
+        assertThat(wireEvents.getDestinationPluginId(), equalTo(TEST_PLUGIN_ID));
+        assertThat(wireEvents.getDestinationPipelineName(), equalTo(TEST_PIPELINE_NAME));
+        assertThat(wireEvents.getEvents().size(), equalTo(2));
+        final Iterator<Record<Event>> recordIterator = records.iterator();
+        for (final WireEvent wireEvent : wireEvents.getEvents()) {
+            final Event event = recordIterator.next().getData();
+            assertThat(wireEvent.getEventData(), nullValue());
+            assertThat(wireEvent.getEventDataMap(), equalTo(event.toMap()));
+            assertThat(wireEvent.getEventType(), equalTo(event.getMetadata().getEventType()));
+        }
+    }
+
     private Collection<Record<Event>> generateBatchRecords(final int numRecords) {
         final Collection<Record<Event>> results = new ArrayList<>();
         for (int i = 0; i < numRecords; i++) {
@@ -16,6 +16,7 @@ import org.opensearch.dataprepper.peerforwarder.certificate.CertificateProviderF
 
 import static org.mockito.Mockito.when;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,4 +43,14 @@ class PeerForwarderHttpServerProviderTest {
         assertThat(server, instanceOf(Server.class));
     }
 
+    @Test
+    void get_should_create_a_server_with_max_concurrent_streams_per_connection() {
+        when(peerForwarderConfiguration.getMaxConnectionCount()).thenReturn(500);
+        when(peerForwarderConfiguration.getMaxConcurrentStreamsPerConnection()).thenReturn(100);
+        final Server server = createObjectUnderTest().get();
+
+        assertThat(server, instanceOf(Server.class));
+        assertThat(server.config().http2MaxStreamsPerConnection(), equalTo(100L));
+    }
+
 }
\ No newline at end of file
@@ -17,12 +17,14 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.RequestHeadersBuilder;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -30,27 +32,43 @@ import io.micrometer.core.instrument.noop.NoopTimer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCodec;
+import org.opensearch.dataprepper.peerforwarder.ForwardingCompression;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderReceiveBuffer;
+import org.opensearch.dataprepper.peerforwarder.WireEventsCodec;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvent;
 import org.opensearch.dataprepper.peerforwarder.model.WireEvents;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI;
 import static org.opensearch.dataprepper.peerforwarder.server.PeerForwarderHttpService.SERVER_REQUEST_PROCESSING_LATENCY;
@@ -68,7 +86,7 @@ class PeerForwarderHttpServiceTest {
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
     private final PeerForwarderReceiveBuffer peerForwarderReceiveBuffer =
-            new PeerForwarderReceiveBuffer(TEST_BATCH_SIZE, TEST_BUFFER_CAPACITY);
+            new PeerForwarderReceiveBuffer(TEST_BATCH_SIZE, TEST_BUFFER_CAPACITY, PluginMetrics.fromNames("pluginId", "pipelineName"));
 
     @Mock
     private PeerForwarderProvider peerForwarderProvider;
@@ -81,6 +99,12 @@ class PeerForwarderHttpServiceTest {
 
     @Mock
     private ResponseHandler responseHandler;
+
+    @Mock
+    private PeerForwarderReceiveBuffer<Record<Event>> mockPeerForwarderReceiveBuffer;
+
+    @Mock
+    private PeerForwarderReceiveBuffer<Record<Event>>.Reservation reservation;
     private Timer serverRequestProcessingLatencyTimer;
 
     @BeforeEach
@@ -136,12 +160,203 @@ class PeerForwarderHttpServiceTest {
         assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.REQUEST_ENTITY_TOO_LARGE));
     }
 
+    @ParameterizedTest
+    @EnumSource(ForwardingCompression.class)
+    void doPost_with_Smile_request_should_write_events_to_buffer(final ForwardingCompression compression) throws Exception {
+        when(peerForwarderConfiguration.getRequestTimeout()).thenReturn(1_000);
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+
+        final Instant timeReceived = Instant.now();
+        final WireEvents wireEvents = new WireEvents(List.of(
+                new WireEvent(LOG, timeReceived, Map.of(), Map.of(MESSAGE_KEY, MESSAGE, "list", List.of(1, 2)))),
+                PLUGIN_ID, PIPELINE_NAME);
+        final WireEventsCodec wireEventsCodec = new WireEventsCodec(objectMapper);
+        final RequestHeadersBuilder requestHeadersBuilder = RequestHeaders.builder()
+                .contentType(WireEventsCodec.SMILE)
+                .method(HttpMethod.POST)
+                .path(DEFAULT_PEER_FORWARDING_URI);
+        if (compression == ForwardingCompression.GZIP) {
+            requestHeadersBuilder.set(HttpHeaderNames.CONTENT_ENCODING, WireEventsCodec.GZIP);
+        }
+        final HttpData httpData = HttpData.wrap(wireEventsCodec.encode(wireEvents, ForwardingCodec.SMILE, compression));
+        final AggregatedHttpRequest aggregatedHttpRequest = HttpRequest.of(requestHeadersBuilder.build(), httpData).aggregate().get();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = createObjectUnderTest().doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferEntry = peerForwarderReceiveBuffer.read(100);
+        assertThat(bufferEntry.getKey().size(), equalTo(1));
+        final Event event = bufferEntry.getKey().iterator().next().getData();
+        assertThat(event.get(MESSAGE_KEY, String.class), equalTo(MESSAGE));
+        assertThat(event.get("list", List.class), equalTo(List.of(1, 2)));
+        assertThat(event.getMetadata().getEventType(), equalTo(LOG));
+        assertThat(event.getMetadata().getTimeReceived(), equalTo(timeReceived));
+    }
+
+    @Test
+    void doPost_should_wait_for_capacity_for_all_events_while_buffer_is_read() throws Exception {
+        when(peerForwarderConfiguration.getRequestTimeout()).thenReturn(10_000);
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(TEST_BUFFER_CAPACITY), 0);
+
+        final AggregatedHttpRequest aggregatedHttpRequest = generateRandomValidHTTPRequest(TEST_BUFFER_CAPACITY);
+        final List<Record<Event>> readRecords = Collections.synchronizedList(new ArrayList<>());
+        final Thread bufferReader = new Thread(() -> {
+            while (readRecords.size() < TEST_BUFFER_CAPACITY * 2 && !Thread.currentThread().isInterrupted()) {
+                final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferEntry = peerForwarderReceiveBuffer.read(10);
+                readRecords.addAll(bufferEntry.getKey());
+                peerForwarderReceiveBuffer.checkpoint(bufferEntry.getValue());
+            }
+        });
+        bufferReader.start();
+
+        final AggregatedHttpResponse aggregatedHttpResponse;
+        try {
+            aggregatedHttpResponse = createObjectUnderTest().doPost(aggregatedHttpRequest).aggregate().get();
+            bufferReader.join(10_000);
+        } finally {
+            bufferReader.interrupt();
+        }
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        assertThat(readRecords.size(), equalTo(TEST_BUFFER_CAPACITY * 2));
+    }
+
+    @Test
+    void doPost_should_return_REQUEST_TIMEOUT_without_writing_any_events_if_buffer_has_capacity_for_only_some_events() throws Exception {
+        when(peerForwarderConfiguration.getRequestTimeout()).thenReturn(100);
+        when(responseHandler.handleException(any(TimeoutException.class), anyString())).thenReturn(HttpResponse.of(HttpStatus.REQUEST_TIMEOUT));
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(1), 0);
+
+        final AggregatedHttpRequest aggregatedHttpRequest = generateRandomValidHTTPRequest(TEST_BUFFER_CAPACITY);
+
+        final AggregatedHttpResponse aggregatedHttpResponse = createObjectUnderTest().doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.REQUEST_TIMEOUT));
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferEntry = peerForwarderReceiveBuffer.read(100);
+        assertThat(bufferEntry.getKey().size(), equalTo(1));
+        peerForwarderReceiveBuffer.checkpoint(bufferEntry.getValue());
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(TEST_BUFFER_CAPACITY), 0);
+    }
+
+    @Test
+    void doPost_should_return_BAD_REQUEST_without_writing_any_events_if_an_event_after_the_first_is_invalid() throws Exception {
+        when(responseHandler.handleException(any(JsonProcessingException.class), anyString())).thenReturn(HttpResponse.of(HttpStatus.BAD_REQUEST));
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+
+        final WireEvent wireEvent = new WireEvent(LOG, Instant.now(), Map.of(), "{\"" + MESSAGE_KEY + "\":\"" + MESSAGE + "\"}");
+        final String content = "{\"destinationPluginId\":\"" + PLUGIN_ID + "\",\"destinationPipelineName\":\"" + PIPELINE_NAME +
+                "\",\"events\":[" + objectMapper.writeValueAsString(wireEvent) + ",1]}";
+        final RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.JSON)
+                .method(HttpMethod.POST)
+                .path(DEFAULT_PEER_FORWARDING_URI)
+                .set(WireEventsCodec.EVENT_COUNT_HEADER, "2")
+                .build();
+        final AggregatedHttpRequest aggregatedHttpRequest = HttpRequest.of(requestHeaders, HttpData.ofUtf8(content)).aggregate().get();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = createObjectUnderTest().doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.BAD_REQUEST));
+        assertThat(peerForwarderReceiveBuffer.isEmpty(), equalTo(true));
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(TEST_BUFFER_CAPACITY), 0);
+    }
+
+    @Test
+    void doPost_should_write_events_of_a_large_request_in_chunks_of_the_batch_size_into_a_reservation() throws Exception {
+        when(peerForwarderConfiguration.getBatchSize()).thenReturn(2);
+        when(peerForwarderConfiguration.getRequestTimeout()).thenReturn(1_000);
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, mockPeerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+        when(mockPeerForwarderReceiveBuffer.reserve(eq(5), anyInt())).thenReturn(reservation);
+
+        final AggregatedHttpResponse aggregatedHttpResponse = createObjectUnderTest().doPost(generateRandomValidHTTPRequest(5)).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        final ArgumentCaptor<Collection<Record<Event>>> chunkCaptor = ArgumentCaptor.forClass(Collection.class);
+        final InOrder inOrder = inOrder(reservation);
+        inOrder.verify(reservation, times(3)).writeAll(chunkCaptor.capture());
+        inOrder.verify(reservation).commit();
+        inOrder.verify(reservation).close();
+        assertThat(chunkCaptor.getAllValues().stream().map(Collection::size).collect(Collectors.toList()), equalTo(List.of(2, 2, 1)));
+        verify(reservation, never()).extend(anyInt(), anyInt());
+    }
+
+    @Test
+    void doPost_without_event_count_should_reserve_capacity_for_each_chunk() throws Exception {
+        when(peerForwarderConfiguration.getBatchSize()).thenReturn(2);
+        when(peerForwarderConfiguration.getRequestTimeout()).thenReturn(1_000);
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, mockPeerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+        when(mockPeerForwarderReceiveBuffer.reserve(eq(0), anyInt())).thenReturn(reservation);
+
+        final WireEvent wireEvent = new WireEvent(LOG, Instant.now(), Map.of(), "{\"" + MESSAGE_KEY + "\":\"" + MESSAGE + "\"}");
+        final WireEvents wireEvents = new WireEvents(List.of(wireEvent, wireEvent, wireEvent), PLUGIN_ID, PIPELINE_NAME);
+        final RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.JSON)
+                .method(HttpMethod.POST)
+                .path(DEFAULT_PEER_FORWARDING_URI)
+                .build();
+        final AggregatedHttpRequest aggregatedHttpRequest = HttpRequest.of(requestHeaders,
+                HttpData.ofUtf8(objectMapper.writeValueAsString(wireEvents))).aggregate().get();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = createObjectUnderTest().doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        final InOrder inOrder = inOrder(reservation);
+        inOrder.verify(reservation).extend(eq(2), anyInt());
+        inOrder.verify(reservation).writeAll(any());
+        inOrder.verify(reservation).extend(eq(1), anyInt());
+        inOrder.verify(reservation).writeAll(any());
+        inOrder.verify(reservation).commit();
+        inOrder.verify(reservation).close();
+    }
+
+    @Test
+    void doPost_with_destination_after_events_should_write_events_to_buffer() throws Exception {
+        when(peerForwarderConfiguration.getRequestTimeout()).thenReturn(1_000);
+        final HashMap<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
+        pipelinePeerForwarderReceiveBufferMap.put(PIPELINE_NAME, Map.of(PLUGIN_ID, peerForwarderReceiveBuffer));
+        when(peerForwarderProvider.getPipelinePeerForwarderReceiveBufferMap()).thenReturn(pipelinePeerForwarderReceiveBufferMap);
+
+        final WireEvent wireEvent = new WireEvent(LOG, Instant.now(), Map.of(), "{\"" + MESSAGE_KEY + "\":\"" + MESSAGE + "\"}");
+        final String content = "{\"events\":" + objectMapper.writeValueAsString(List.of(wireEvent, wireEvent)) +
+                ",\"destinationPluginId\":\"" + PLUGIN_ID + "\",\"destinationPipelineName\":\"" + PIPELINE_NAME + "\"}";
+        final RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.JSON)
+                .method(HttpMethod.POST)
+                .path(DEFAULT_PEER_FORWARDING_URI)
+                .build();
+        final AggregatedHttpRequest aggregatedHttpRequest = HttpRequest.of(requestHeaders, HttpData.ofUtf8(content)).aggregate().get();
+
+        final AggregatedHttpResponse aggregatedHttpResponse = createObjectUnderTest().doPost(aggregatedHttpRequest).aggregate().get();
+
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferEntry = peerForwarderReceiveBuffer.read(100);
+        assertThat(bufferEntry.getKey().size(), equalTo(2));
+        for (final Record<Event> record : bufferEntry.getKey()) {
+            assertThat(record.getData().get(MESSAGE_KEY, String.class), equalTo(MESSAGE));
+        }
+    }
+
     private AggregatedHttpRequest generateRandomValidHTTPRequest(final int numRecords) throws JsonProcessingException,
             ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
                 .contentType(MediaType.JSON)
                 .method(HttpMethod.POST)
                 .path(DEFAULT_PEER_FORWARDING_URI)
+                .set(WireEventsCodec.EVENT_COUNT_HEADER, Integer.toString(numRecords))
                 .build();
 
         final JacksonEvent event = JacksonEvent.builder()
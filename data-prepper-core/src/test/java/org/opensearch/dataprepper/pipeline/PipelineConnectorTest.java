@@ -7,8 +7,10 @@ package org.opensearch.dataprepper.pipeline;
 
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.CompactEvent;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.plugins.buffer.TestBuffer;
 import org.opensearch.dataprepper.model.trace.JacksonSpan;
@@ -17,6 +19,7 @@ import org.opensearch.dataprepper.model.trace.DefaultLink;
 import org.opensearch.dataprepper.model.trace.DefaultSpanEvent;
 
 
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
@@ -49,6 +52,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -171,13 +175,13 @@ public class PipelineConnectorTest {
 
     @Test
     public void testOutputBufferTimesOutThenSucceeds() throws Exception {
-        doThrow(new TimeoutException()).doNothing().when(buffer).write(any(), anyInt());
+        doThrow(new TimeoutException()).doNothing().when(buffer).writeAll(any(), anyInt());
 
         sut.start(buffer);
 
         sut.output(recordList);
 
-        verify(buffer, times(2)).write(eq(RECORD), anyInt());
+        verify(buffer, times(2)).writeAll(eq(recordList), anyInt());
     }
 
     @Test
@@ -186,7 +190,30 @@ public class PipelineConnectorTest {
 
         sut.output(recordList);
 
-        verify(buffer).write(eq(RECORD), anyInt());
+        verify(buffer).writeAll(eq(recordList), anyInt());
+        verify(buffer, never()).write(any(), anyInt());
+    }
+
+    @Test
+    public void testOutputWritesIndividuallyWhenRecordsDoNotFitIntoBuffer() throws Exception {
+        doThrow(new SizeOverflowException("too many records")).when(buffer).writeAll(any(), anyInt());
+        doThrow(new TimeoutException()).doNothing().when(buffer).write(any(), anyInt());
+
+        sut.start(buffer);
+
+        sut.output(recordList);
+
+        verify(buffer).writeAll(eq(recordList), anyInt());
+        verify(buffer, times(2)).write(eq(RECORD), anyInt());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testOutputThrowsWhenBufferFails() throws Exception {
+        doThrow(new IllegalStateException()).when(buffer).writeAll(any(), anyInt());
+
+        sut.start(buffer);
+
+        sut.output(recordList);
     }
 
     @Test
@@ -209,6 +236,37 @@ public class PipelineConnectorTest {
 	
     }
 
+    @Test
+    public void testEventBufferOutputCopiesOnWrite() throws Exception {
+        eut.start(eventBuffer);
+
+        eut.output(eventRecordList);
+
+        final Event copiedEvent = eventBuffer.read(1).getKey().iterator().next().getData();
+        copiedEvent.put(testKey, "modified");
+
+        Assertions.assertEquals(testValue, EVENT_RECORD.getData().get(testKey, String.class));
+        Assertions.assertEquals("modified", copiedEvent.get(testKey, String.class));
+    }
+
+    @Test
+    public void testCompactEventBufferOutputCopiesCompactEvent() throws Exception {
+        final Record<Event> compactEventRecord = new Record<>(CompactEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(testKey, testValue))
+                .build());
+        eut.start(eventBuffer);
+
+        eut.output(Collections.singletonList(compactEventRecord));
+
+        final Event copiedEvent = eventBuffer.read(1).getKey().iterator().next().getData();
+        assertThat(copiedEvent, instanceOf(CompactEvent.class));
+        copiedEvent.put(testKey, "modified");
+
+        Assertions.assertEquals(testValue, compactEventRecord.getData().get(testKey, String.class));
+        Assertions.assertEquals("modified", copiedEvent.get(testKey, String.class));
+    }
+
     @Test
     public void testSpanBufferOutputSuccess() throws Exception {
         sput.start(spanBuffer);
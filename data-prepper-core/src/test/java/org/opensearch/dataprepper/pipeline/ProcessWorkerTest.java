@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class ProcessWorkerTest {
+    @Mock
+    private Buffer buffer;
+
+    @Mock
+    private Pipeline pipeline;
+
+    @Mock
+    private Future<Void> firstSinkFuture;
+
+    @Mock
+    private Future<Void> secondSinkFuture;
+
+    private Collection<Record> firstRecords;
+    private Collection<Record> secondRecords;
+    private CheckpointState firstCheckpointState;
+    private CheckpointState secondCheckpointState;
+
+    @BeforeEach
+    void setUp() {
+        firstRecords = Collections.singletonList(mock(Record.class));
+        secondRecords = Collections.singletonList(mock(Record.class));
+        firstCheckpointState = new CheckpointState(1);
+        secondCheckpointState = new CheckpointState(1);
+
+        final Map.Entry<Collection, CheckpointState> firstReadResult = new AbstractMap.SimpleEntry<>(firstRecords, firstCheckpointState);
+        final Map.Entry<Collection, CheckpointState> secondReadResult = new AbstractMap.SimpleEntry<>(secondRecords, secondCheckpointState);
+        when(buffer.read(anyInt())).thenReturn(firstReadResult, secondReadResult);
+        when(buffer.isEmpty()).thenReturn(true);
+
+        when(pipeline.isStopRequested()).thenReturn(false, false, true);
+        when(pipeline.getPeerForwarderDrainTimeout()).thenReturn(Duration.ZERO);
+        when(pipeline.publishToSinks(firstRecords)).thenReturn(Collections.singletonList(firstSinkFuture));
+        when(pipeline.publishToSinks(secondRecords)).thenReturn(Collections.singletonList(secondSinkFuture));
+    }
+
+    private ProcessWorker createObjectUnderTest() {
+        return new ProcessWorker(buffer, Collections.emptyList(), pipeline);
+    }
+
+    @Test
+    void run_with_one_in_flight_batch_checkpoints_each_batch_before_publishing_the_next() throws Exception {
+        when(pipeline.getMaxInFlightBatches()).thenReturn(1);
+
+        createObjectUnderTest().run();
+
+        final InOrder inOrder = inOrder(pipeline, firstSinkFuture, secondSinkFuture, buffer);
+        inOrder.verify(pipeline).publishToSinks(firstRecords);
+        inOrder.verify(firstSinkFuture).get();
+        inOrder.verify(buffer).checkpoint(firstCheckpointState);
+        inOrder.verify(pipeline).publishToSinks(secondRecords);
+        inOrder.verify(secondSinkFuture).get();
+        inOrder.verify(buffer).checkpoint(secondCheckpointState);
+    }
+
+    @Test
+    void run_with_multiple_in_flight_batches_publishes_next_batch_before_checkpointing_previous_batch() throws Exception {
+        when(pipeline.getMaxInFlightBatches()).thenReturn(2);
+
+        createObjectUnderTest().run();
+
+        final InOrder inOrder = inOrder(pipeline, firstSinkFuture, secondSinkFuture, buffer);
+        inOrder.verify(pipeline).publishToSinks(firstRecords);
+        inOrder.verify(pipeline).publishToSinks(secondRecords);
+        inOrder.verify(firstSinkFuture).get();
+        inOrder.verify(buffer).checkpoint(firstCheckpointState);
+        inOrder.verify(secondSinkFuture).get();
+        inOrder.verify(buffer).checkpoint(secondCheckpointState);
+    }
+
+    @Test
+    void run_checkpoints_completed_batches_without_waiting_for_the_in_flight_limit() throws Exception {
+        when(pipeline.getMaxInFlightBatches()).thenReturn(3);
+        when(firstSinkFuture.isDone()).thenReturn(true);
+
+        createObjectUnderTest().run();
+
+        final InOrder inOrder = inOrder(pipeline, buffer);
+        inOrder.verify(pipeline).publishToSinks(firstRecords);
+        inOrder.verify(buffer).checkpoint(firstCheckpointState);
+        inOrder.verify(pipeline).publishToSinks(secondRecords);
+        inOrder.verify(buffer).checkpoint(secondCheckpointState);
+    }
+}
@@ -15,7 +15,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.SynchronousQueue;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -96,4 +100,24 @@ public class PipelineThreadPoolExecutorTest {
         verify(runnableFuture).get();
         verify(pipeline).shutdown();
     }
+
+    @Test
+    public void testNewThreadPerTaskExecutorDoesNotPoolThreads() {
+        final PipelineThreadPoolExecutor threadPerTaskExecutor = PipelineThreadPoolExecutor.newThreadPerTaskExecutor(
+                pipelineThreadFactory, pipeline);
+
+        assertThat(threadPerTaskExecutor.getCorePoolSize(), is(0));
+        assertThat(threadPerTaskExecutor.getMaximumPoolSize(), is(Integer.MAX_VALUE));
+        assertThat(threadPerTaskExecutor.getQueue(), instanceOf(SynchronousQueue.class));
+    }
+
+    @Test
+    public void testThreadPerTaskExecutorAfterExecuteNonNullThrowable() {
+        final PipelineThreadPoolExecutor threadPerTaskExecutor = PipelineThreadPoolExecutor.newThreadPerTaskExecutor(
+                pipelineThreadFactory, pipeline);
+
+        threadPerTaskExecutor.afterExecute(null, throwable);
+
+        verify(pipeline).shutdown();
+    }
 }
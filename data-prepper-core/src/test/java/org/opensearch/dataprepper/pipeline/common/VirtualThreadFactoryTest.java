@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadFactoryTest {
+
+    @Test
+    void isSupported_matches_the_running_jvm() {
+        final int javaVersion = Runtime.version().feature();
+        // virtual threads of Java 19 and 20 depend on whether preview features are enabled
+        assumeTrue(javaVersion < 19 || javaVersion >= 21);
+
+        assertThat(VirtualThreadFactory.isSupported(), is(javaVersion >= 21));
+    }
+
+    @Test
+    void newThread_creates_named_unstarted_thread() throws InterruptedException {
+        assumeTrue(VirtualThreadFactory.isSupported());
+
+        final Thread thread = new VirtualThreadFactory("test-pipeline-sink-worker").newThread(() -> { });
+
+        assertThat(thread.getName(), startsWith("test-pipeline-sink-worker-"));
+        assertThat(thread.getState(), is(Thread.State.NEW));
+        thread.start();
+        thread.join();
+    }
+
+    @Test
+    void constructor_throws_when_virtual_threads_are_not_supported() {
+        assumeFalse(VirtualThreadFactory.isSupported());
+
+        assertThrows(UnsupportedOperationException.class, () -> new VirtualThreadFactory("test-pipeline-sink-worker"));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class VirtualThreadsOptionTest {
+
+    @ParameterizedTest
+    @EnumSource(VirtualThreadsOption.class)
+    void fromOptionValue(final VirtualThreadsOption value) {
+        assertThat(VirtualThreadsOption.fromOptionValue(value.name()), is(value));
+    }
+
+    @Test
+    void fromOptionValue_returns_null_for_unknown_option() {
+        assertThat(VirtualThreadsOption.fromOptionValue("unknown"), nullValue());
+    }
+
+    @Test
+    void sinks_option_only_runs_sinks_on_virtual_threads() {
+        assertThat(VirtualThreadsOption.SINKS.isSinksOnVirtualThreads(), is(true));
+        assertThat(VirtualThreadsOption.SINKS.isProcessWorkersOnVirtualThreads(), is(false));
+    }
+
+    @Test
+    void all_option_runs_sinks_and_process_workers_on_virtual_threads() {
+        assertThat(VirtualThreadsOption.ALL.isSinksOnVirtualThreads(), is(true));
+        assertThat(VirtualThreadsOption.ALL.isProcessWorkersOnVirtualThreads(), is(true));
+    }
+
+    @Test
+    void none_option_runs_nothing_on_virtual_threads() {
+        assertThat(VirtualThreadsOption.NONE.isSinksOnVirtualThreads(), is(false));
+        assertThat(VirtualThreadsOption.NONE.isProcessWorkersOnVirtualThreads(), is(false));
+    }
+}
@@ -15,14 +15,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -55,6 +56,12 @@ class DataFlowComponentRouterTest {
         return new DataFlowComponentRouter();
     }
 
+    private static BitSet allMatching(final Collection<Record> records) {
+        final BitSet matches = new BitSet();
+        matches.set(0, records.size());
+        return matches;
+    }
+
     @Nested
     class ComponentWithNoRoutes {
 
@@ -69,8 +76,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_none_have_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+            final Map<String, BitSet> noMatchingRoutes = Collections.emptyMap();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, componentRecordsConsumer);
 
@@ -80,8 +86,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_all_have_routes() {
-            final Map<Record, Set<String>> allWithRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            final Map<String, BitSet> allWithRoutes = Collections.singletonMap(UUID.randomUUID().toString(), allMatching(recordsIn));
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, allWithRoutes, componentRecordsConsumer);
 
@@ -92,7 +97,7 @@ class DataFlowComponentRouterTest {
         void route_when_no_records() {
             recordsIn = Collections.emptyList();
 
-            final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
+            final Map<String, BitSet> noMatchingRoutes = Collections.emptyMap();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, componentRecordsConsumer);
 
@@ -118,8 +123,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+            final Map<String, BitSet> noMatchingRoutes = Collections.singletonMap(knownRoute, new BitSet());
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, componentRecordsConsumer);
 
@@ -128,8 +132,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_matching_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            final Map<String, BitSet> noMatchingRoutes = Collections.singletonMap(UUID.randomUUID().toString(), allMatching(recordsIn));
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, componentRecordsConsumer);
 
@@ -139,8 +142,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_all_have_matched_route() {
-            final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
+            final Map<String, BitSet> allMatchingRoutes = Collections.singletonMap(knownRoute, allMatching(recordsIn));
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, componentRecordsConsumer);
 
@@ -149,16 +151,24 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_matching_Events_when_some_have_matched_route() {
-            final Map<Record, Set<String>> someMatchingRoutes = new HashMap<>();
+            final BitSet knownRouteMatches = new BitSet();
+            final BitSet otherRouteMatches = new BitSet();
             boolean applyRoute = false;
             Collection<Record> expectedRecords = new ArrayList<>();
+            int index = 0;
             for (Record record : recordsIn) {
-                someMatchingRoutes.put(record, applyRoute ? Set.of(knownRoute, UUID.randomUUID().toString()) : Set.of(UUID.randomUUID().toString()) );
-                if(applyRoute)
+                otherRouteMatches.set(index);
+                if(applyRoute) {
+                    knownRouteMatches.set(index);
                     expectedRecords.add(record);
+                }
 
                 applyRoute = !applyRoute;
+                index++;
             }
+            final Map<String, BitSet> someMatchingRoutes = new HashMap<>();
+            someMatchingRoutes.put(knownRoute, knownRouteMatches);
+            someMatchingRoutes.put(UUID.randomUUID().toString(), otherRouteMatches);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, componentRecordsConsumer);
 
@@ -169,13 +179,32 @@ class DataFlowComponentRouterTest {
         void route_when_no_records() {
             recordsIn = Collections.emptyList();
 
-            final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
+            final Map<String, BitSet> noMatchingRoutes = Collections.emptyMap();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
 
+        @Test
+        void route_matching_Events_when_records_are_not_a_List() {
+            recordsIn = new LinkedHashSet<>(recordsIn);
+            final BitSet knownRouteMatches = new BitSet();
+            final Collection<Record> expectedRecords = new ArrayList<>();
+            int index = 0;
+            for (Record record : recordsIn) {
+                if (index % 3 == 0) {
+                    knownRouteMatches.set(index);
+                    expectedRecords.add(record);
+                }
+                index++;
+            }
+
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, Collections.singletonMap(knownRoute, knownRouteMatches), componentRecordsConsumer);
+
+            verify(componentRecordsConsumer).accept(testComponent, expectedRecords);
+        }
+
     }
 
     @Nested
@@ -196,8 +225,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+            final Map<String, BitSet> noMatchingRoutes = Collections.singletonMap(knownRoute, new BitSet());
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, componentRecordsConsumer);
 
@@ -206,8 +234,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_matching_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            final Map<String, BitSet> noMatchingRoutes = Collections.singletonMap(UUID.randomUUID().toString(), allMatching(recordsIn));
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, componentRecordsConsumer);
 
@@ -217,8 +244,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_all_have_matched_route() {
-            final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
+            final Map<String, BitSet> allMatchingRoutes = Collections.singletonMap(knownRoute, allMatching(recordsIn));
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, componentRecordsConsumer);
 
@@ -227,16 +253,24 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_matching_Events_when_some_have_matched_route() {
-            final Map<Record, Set<String>> someMatchingRoutes = new HashMap<>();
+            final BitSet knownRouteMatches = new BitSet();
+            final BitSet otherRouteMatches = new BitSet();
             boolean applyRoute = false;
             Collection<Record> expectedRecords = new ArrayList<>();
+            int index = 0;
             for (Record record : recordsIn) {
-                someMatchingRoutes.put(record, applyRoute ? Set.of(knownRoute, UUID.randomUUID().toString()) : Set.of(UUID.randomUUID().toString()) );
-                if(applyRoute)
+                otherRouteMatches.set(index);
+                if(applyRoute) {
+                    knownRouteMatches.set(index);
                     expectedRecords.add(record);
+                }
 
                 applyRoute = !applyRoute;
+                index++;
             }
+            final Map<String, BitSet> someMatchingRoutes = new HashMap<>();
+            someMatchingRoutes.put(knownRoute, knownRouteMatches);
+            someMatchingRoutes.put(UUID.randomUUID().toString(), otherRouteMatches);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, componentRecordsConsumer);
 
@@ -247,7 +281,7 @@ class DataFlowComponentRouterTest {
         void route_when_no_records() {
             recordsIn = Collections.emptyList();
 
-            final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
+            final Map<String, BitSet> noMatchingRoutes = Collections.emptyMap();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, componentRecordsConsumer);
 
@@ -17,13 +17,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.opensearch.dataprepper.expression.ExpressionEvaluationException;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -32,11 +34,13 @@ import java.util.stream.IntStream;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
-import static org.hamcrest.Matchers.empty;
-import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -65,51 +69,34 @@ class RouteEventEvaluatorTest {
 
         @Test
         void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+            final Map<String, BitSet> routeMatches = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches, is(anEmptyMap()));
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_all_empty_routes() {
+        void evaluateEventRoutes_with_Event_Records_returns_empty_map() {
             final Collection<Record> records = createEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+            final Map<String, BitSet> routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches, is(anEmptyMap()));
         }
 
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
+        void evaluateEventRoutes_with_non_Event_Records_returns_empty_map() {
             final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
+            final Map<String, BitSet> routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches, is(anEmptyMap()));
         }
     }
 
     @Nested
     @MockitoSettings(strictness = Strictness.LENIENT)
     class WithRoutes {
-        private Set<String> allRouteNames;
 
         @BeforeEach
         void setUp() {
@@ -118,123 +105,108 @@ class RouteEventEvaluatorTest {
                     .peek(r -> when(r.getCondition()).thenReturn(UUID.randomUUID().toString()))
                     .peek(r -> when(r.getName()).thenReturn(UUID.randomUUID().toString()))
                     .collect(Collectors.toList());
-
-            allRouteNames = routes
-                    .stream()
-                    .map(ConditionalRoute::getName)
-                    .collect(Collectors.toSet());
         }
 
         @Test
         void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+            final Map<String, BitSet> routeMatches = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches, is(anEmptyMap()));
 
             verifyNoInteractions(evaluator);
         }
 
-
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
+        void evaluateEventRoutes_with_non_Event_Records_returns_empty_map() {
             final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+            final Map<String, BitSet> routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches, is(anEmptyMap()));
 
             verifyNoInteractions(evaluator);
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes() {
+        void evaluateEventRoutes_with_Event_Records_returns_matching_records_by_route() {
             final List<Record> records = createEventRecords();
 
-            final Record recordMatchingAllRoutes = records.get(1);
-            final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
-            for (ConditionalRoute route : routes) {
-                when(evaluator.evaluate(route.getCondition(), eventMatchingAllRoutes))
-                        .thenReturn(true);
-
-                for (Record record : records) {
-                    if(recordMatchingAllRoutes == record)
-                        continue;
-
-                    when(evaluator.evaluate(route.getCondition(), (Event) record.getData()))
-                            .thenReturn(false);
-                }
+            final List<BitSet> expectedMatches = new ArrayList<>();
+            for (int i = 0; i < routes.size(); i++) {
+                final BitSet matches = new BitSet();
+                matches.set(i);
+                expectedMatches.add(matches);
+                when(evaluator.evaluateConditional(eq(routes.get(i).getCondition()), any()))
+                        .thenReturn(matches);
             }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+            final Map<String, BitSet> routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.size(), equalTo(routes.size()));
+            for (int i = 0; i < routes.size(); i++) {
+                assertThat(routeMatches.get(routes.get(i).getName()), equalTo(expectedMatches.get(i)));
             }
+        }
 
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
-
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+        @Test
+        void evaluateEventRoutes_with_Event_Records_returns_no_matches_for_routes_which_throw() {
+            final List<Record> records = createEventRecords();
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
-            }
+            final BitSet matches = new BitSet();
+            matches.set(1);
+            when(evaluator.evaluateConditional(eq(routes.get(0).getCondition()), any()))
+                    .thenReturn(matches);
+            when(evaluator.evaluateConditional(eq(routes.get(1).getCondition()), any()))
+                    .thenThrow(ExpressionEvaluationException.class);
+            when(evaluator.evaluateConditional(eq(routes.get(2).getCondition()), any()))
+                    .thenThrow(RuntimeException.class);
+
+            final Map<String, BitSet> routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
+
+            assertThat(routeMatches.size(), equalTo(routes.size()));
+            assertThat(routeMatches.get(routes.get(0).getName()), equalTo(matches));
+            assertThat(routeMatches.get(routes.get(1).getName()).isEmpty(), is(true));
+            assertThat(routeMatches.get(routes.get(2).getName()).isEmpty(), is(true));
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes_excludes_exceptions() {
+        void evaluateEventRoutes_evaluates_shared_conditions_once() {
             final List<Record> records = createEventRecords();
-
-            final Record recordMatchingAllRoutes = records.get(1);
-            final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
+            final String sharedCondition = UUID.randomUUID().toString();
             for (ConditionalRoute route : routes) {
-                when(evaluator.evaluate(route.getCondition(), eventMatchingAllRoutes))
-                        .thenReturn(true);
-
-                for (Record record : records) {
-                    if(recordMatchingAllRoutes == record)
-                        continue;
-
-                    when(evaluator.evaluate(route.getCondition(), (Event) record.getData()))
-                            .thenThrow(RuntimeException.class);
-                }
+                when(route.getCondition()).thenReturn(sharedCondition);
             }
+            final BitSet matches = new BitSet();
+            matches.set(0);
+            when(evaluator.evaluateConditional(eq(sharedCondition), any()))
+                    .thenReturn(matches);
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+            final Map<String, BitSet> routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
+            assertThat(routeMatches.size(), equalTo(routes.size()));
+            for (ConditionalRoute route : routes) {
+                assertThat(routeMatches.get(route.getName()), sameInstance(matches));
             }
+            verify(evaluator).evaluateConditional(eq(sharedCondition), any());
+        }
 
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
+        @Test
+        void evaluateEventRoutes_with_some_non_Event_Records_evaluates_all_records() {
+            final List<Record> records = new ArrayList<>(createEventRecords());
+            records.addAll(createNonEventRecords());
+            for (ConditionalRoute route : routes) {
+                when(evaluator.evaluateConditional(eq(route.getCondition()), any()))
+                        .thenReturn(new BitSet());
+            }
 
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+            createObjectUnderTest().evaluateEventRoutes(records);
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
+            for (ConditionalRoute route : routes) {
+                verify(evaluator).evaluateConditional(eq(route.getCondition()), eq((Collection) records));
             }
         }
-
     }
 
     private List<Record> createEventRecords() {
@@ -251,4 +223,4 @@ class RouteEventEvaluatorTest {
                 .peek(r -> when(r.getData()).thenReturn(dataSupplier.get()))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
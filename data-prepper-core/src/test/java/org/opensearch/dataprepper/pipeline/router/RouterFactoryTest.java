@@ -11,26 +11,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluationException;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class RouterFactoryTest {
 
     @Mock
     private ExpressionEvaluator<Boolean> expressionEvaluator;
+    private ConditionalRoute conditionalRoute;
     private Set<ConditionalRoute> routes;
 
     @BeforeEach
     void setUp() {
-        final ConditionalRoute conditionalRoute = mock(ConditionalRoute.class);
+        conditionalRoute = mock(ConditionalRoute.class);
         routes = Collections.singleton(conditionalRoute);
     }
 
@@ -58,4 +64,25 @@ class RouterFactoryTest {
 
         assertThat(router, notNullValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createRouter_precompiles_route_conditions() {
+        final String condition = UUID.randomUUID().toString();
+        when(conditionalRoute.getCondition()).thenReturn(condition);
+
+        createObjectUnderTest().createRouter(routes);
+
+        verify(expressionEvaluator).precompile(condition);
+    }
+
+    @Test
+    void createRouter_throws_if_a_route_condition_is_invalid() {
+        final String condition = UUID.randomUUID().toString();
+        when(conditionalRoute.getCondition()).thenReturn(condition);
+        doThrow(ExpressionEvaluationException.class).when(expressionEvaluator).precompile(condition);
+
+        final RouterFactory objectUnderTest = createObjectUnderTest();
+
+        assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.createRouter(routes));
+    }
+}
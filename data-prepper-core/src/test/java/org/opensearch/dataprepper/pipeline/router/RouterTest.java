@@ -15,19 +15,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -87,27 +89,27 @@ class RouterTest {
     @Nested
     class WithEmptyRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private Map<String, BitSet> recordsToRoutes;
 
         @BeforeEach
         void setUp() {
             recordsIn = Collections.emptyList();
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = Collections.singletonMap(
-                    mock(Record.class), Collections.singleton(UUID.randomUUID().toString())
-            );
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            recordsToRoutes = Collections.singletonMap(UUID.randomUUID().toString(), new BitSet());
         }
 
         @Test
         void route_with_empty_DataFlowComponent() {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, componentRecordsConsumer);
+
+            verifyNoInteractions(routeEventEvaluator);
         }
 
         @Test
         void route_with_single_DataFlowComponent() {
-            DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            DataFlowComponent<TestComponent> dataFlowComponent = createRoutedDataFlowComponent();
             dataFlowComponents = Collections.singletonList(dataFlowComponent);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, componentRecordsConsumer);
@@ -117,11 +119,11 @@ class RouterTest {
 
         @Test
         void route_with_multiple_DataFlowComponents() {
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
 
             dataFlowComponents = new ArrayList<>();
             for (int i = 0; i < 5; i++) {
-                final DataFlowComponent dataFlowComponent = mock(DataFlowComponent.class);
-                dataFlowComponents.add(dataFlowComponent);
+                dataFlowComponents.add(createRoutedDataFlowComponent());
             }
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, componentRecordsConsumer);
@@ -135,25 +137,24 @@ class RouterTest {
     @Nested
     class WithRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private Map<String, BitSet> recordsToRoutes;
 
         @BeforeEach
         void setUp() {
             recordsIn = IntStream.range(0, 10)
                     .mapToObj(i -> mock(Record.class))
                     .collect(Collectors.toList());
-            ;
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = recordsIn
-                    .stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            final BitSet matches = new BitSet();
+            matches.set(0, recordsIn.size());
+            recordsToRoutes = Collections.singletonMap(UUID.randomUUID().toString(), matches);
         }
 
         @Test
         void route_with_single_DataFlowComponent() {
-            DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            DataFlowComponent<TestComponent> dataFlowComponent = createRoutedDataFlowComponent();
             dataFlowComponents = Collections.singletonList(dataFlowComponent);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, componentRecordsConsumer);
@@ -163,11 +164,11 @@ class RouterTest {
 
         @Test
         void route_with_multiple_DataFlowComponents() {
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
 
             dataFlowComponents = new ArrayList<>();
             for (int i = 0; i < 5; i++) {
-                final DataFlowComponent dataFlowComponent = mock(DataFlowComponent.class);
-                dataFlowComponents.add(dataFlowComponent);
+                dataFlowComponents.add(createRoutedDataFlowComponent());
             }
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, componentRecordsConsumer);
@@ -177,5 +178,45 @@ class RouterTest {
             }
         }
 
+        @Test
+        void route_with_some_routed_DataFlowComponents_evaluates_routes_once() {
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+
+            final DataFlowComponent<TestComponent> notRoutedDataFlowComponent = mock(DataFlowComponent.class);
+            when(notRoutedDataFlowComponent.getRoutes()).thenReturn(Collections.emptySet());
+            final DataFlowComponent<TestComponent> routedDataFlowComponent = createRoutedDataFlowComponent();
+            dataFlowComponents = List.of(notRoutedDataFlowComponent, routedDataFlowComponent);
+
+            createObjectUnderTest().route(recordsIn, dataFlowComponents, componentRecordsConsumer);
+
+            verify(routeEventEvaluator).evaluateEventRoutes(recordsIn);
+            for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
+                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, recordsToRoutes, componentRecordsConsumer);
+            }
+        }
+
+        @Test
+        void route_without_routed_DataFlowComponents_does_not_evaluate_routes() {
+            dataFlowComponents = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                final DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
+                when(dataFlowComponent.getRoutes()).thenReturn(Collections.emptySet());
+                dataFlowComponents.add(dataFlowComponent);
+            }
+
+            createObjectUnderTest().route(recordsIn, dataFlowComponents, componentRecordsConsumer);
+
+            verifyNoInteractions(routeEventEvaluator);
+            for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
+                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, Collections.emptyMap(), componentRecordsConsumer);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataFlowComponent<TestComponent> createRoutedDataFlowComponent() {
+        final DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
+        lenient().when(dataFlowComponent.getRoutes()).thenReturn(Collections.singleton(UUID.randomUUID().toString()));
+        return dataFlowComponent;
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugin;
 
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
 import jakarta.validation.Validator;
@@ -42,6 +43,15 @@ class PluginConfigurationConverterTest {
         }
     }
 
+    static class TestByteCountConfiguration {
+        @SuppressWarnings("unused")
+        private ByteCount mySize;
+
+        public ByteCount getMySize() {
+            return mySize;
+        }
+    }
+
     @BeforeEach
     void setUp() {
         pluginSetting = mock(PluginSetting.class);
@@ -95,6 +105,17 @@ class PluginConfigurationConverterTest {
         assertThat(convertedTestConfiguration.getMyValue(), equalTo(value));
     }
 
+    @Test
+    void convert_with_ByteCount_property_should_parse_byte_count_string() {
+        given(pluginSetting.getSettings())
+                .willReturn(Collections.singletonMap("my_size", "64mb"));
+
+        final Object convertedConfiguration = createObjectUnderTest().convert(TestByteCountConfiguration.class, pluginSetting);
+
+        assertThat(convertedConfiguration, instanceOf(TestByteCountConfiguration.class));
+        assertThat(((TestByteCountConfiguration) convertedConfiguration).getMySize().getBytes(), equalTo(64L * 1024 * 1024));
+    }
+
     @Test
     void convert_with_other_target_should_return_empty_when_settings_are_null() {
         given(pluginSetting.getSettings())
@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.1
+ * An expression compiled once from its {@link org.antlr.v4.runtime.tree.ParseTree} by {@link ParseTreeCompiler}, which
+ * can be evaluated on many events without walking the parse tree again. Implementations must be thread-safe.
+ */
+interface CompiledExpression {
+    /**
+     * @since 2.1
+     * Evaluates the expression, resolving JSON pointers with the given event.
+     * @param event event used to resolve JSON pointers
+     * @return result of the expression
+     */
+    Object evaluate(final Event event);
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * @since 2.1
+ * Process wide, bounded cache of {@link CompiledExpression}s keyed by statement. A statement is parsed and compiled
+ * once on the first lookup, every later lookup from any thread returns the same compiled expression without using
+ * the ANTLR parser.
+ */
+@Named
+class CompiledExpressionCache {
+    static final String COMPONENT_SCOPE = "core";
+    static final String COMPONENT_ID = "expressionCache";
+    static final String HITS = "hits";
+    static final String MISSES = "misses";
+    static final String EVICTIONS = "evictions";
+    static final String SIZE = "size";
+    static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Parser<ParseTree> parser;
+    private final ParseTreeCompiler compiler;
+    private final Cache<String, CompiledExpression> cache;
+
+    @Inject
+    public CompiledExpressionCache(final Parser<ParseTree> parser, final ParseTreeCompiler compiler) {
+        this(parser, compiler, PluginMetrics.fromNames(COMPONENT_ID, COMPONENT_SCOPE), DEFAULT_MAXIMUM_SIZE);
+    }
+
+    CompiledExpressionCache(final Parser<ParseTree> parser, final ParseTreeCompiler compiler,
+                            final PluginMetrics pluginMetrics, final long maximumSize) {
+        this.parser = parser;
+        this.compiler = compiler;
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        pluginMetrics.gauge(HITS, cache, c -> c.stats().hitCount());
+        pluginMetrics.gauge(MISSES, cache, c -> c.stats().missCount());
+        pluginMetrics.gauge(EVICTIONS, cache, c -> c.stats().evictionCount());
+        pluginMetrics.gauge(SIZE, cache, Cache::size);
+    }
+
+    /**
+     * @since 2.1
+     * Gets the compiled expression of a statement, parsing and compiling the statement if it is not cached.
+     * Concurrent lookups of the same statement compile it only once.
+     *
+     * @param statement statement to compile
+     * @return the compiled expression of the statement
+     * @throws ParseTreeCompositeException if the statement is not valid according to the grammar
+     * @throws RuntimeException if the statement could not be compiled
+     */
+    public CompiledExpression get(final String statement) {
+        try {
+            return cache.get(statement, () -> compiler.compile(parser.parse(statement)));
+        }
+        catch (final ExecutionException | UncheckedExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+}
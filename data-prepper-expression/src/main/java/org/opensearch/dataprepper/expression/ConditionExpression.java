@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.1
+ * A {@link CompiledExpression} which is known at compile time to result in a Boolean. Conditions are combined through
+ * {@link #test(Event)} without boxing their results.
+ */
+interface ConditionExpression extends CompiledExpression {
+    /**
+     * @since 2.1
+     * Evaluates the condition, resolving JSON pointers with the given event.
+     * @param event event used to resolve JSON pointers
+     * @return result of the condition
+     */
+    boolean test(final Event event);
+
+    @Override
+    default Object evaluate(final Event event) {
+        return test(event);
+    }
+}
@@ -5,11 +5,15 @@
 
 package org.opensearch.dataprepper.expression;
 
-import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.util.BitSet;
+import java.util.Collection;
 
 /**
  * Public class that {@link org.opensearch.dataprepper.model.processor.Processor},
@@ -17,13 +21,23 @@ import javax.inject.Named;
  */
 @Named
 class ConditionalExpressionEvaluator implements ExpressionEvaluator<Boolean> {
-    private final Parser<ParseTree> parser;
-    private final Evaluator<ParseTree, Event> evaluator;
+    private static final Logger LOG = LoggerFactory.getLogger(ConditionalExpressionEvaluator.class);
+
+    private final CompiledExpressionCache compiledExpressionCache;
 
     @Inject
-    public ConditionalExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
-        this.parser = parser;
-        this.evaluator = evaluator;
+    public ConditionalExpressionEvaluator(final CompiledExpressionCache compiledExpressionCache) {
+        this.compiledExpressionCache = compiledExpressionCache;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ExpressionEvaluationException if unable to parse or compile the statement
+     */
+    @Override
+    public void precompile(final String statement) {
+        getCompiledExpression(statement);
     }
 
     /**
@@ -34,18 +48,69 @@ class ConditionalExpressionEvaluator implements ExpressionEvaluator<Boolean> {
     @Override
     public Boolean evaluate(final String statement, final Event context) {
         try {
-            final ParseTree parseTree = parser.parse(statement);
-            final Object result = evaluator.evaluate(parseTree, context);
+            return evaluate(compiledExpressionCache.get(statement), context);
+        }
+        catch (final Exception exception) {
+            throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+        }
+    }
 
-            if (result instanceof Boolean) {
-                return (Boolean) result;
-            }
-            else {
-                throw new ClassCastException("Unexpected expression return type of " + result.getClass());
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The statement is looked up once for the whole batch. Records which could not be evaluated are logged once per
+     * batch.
+     *
+     * @throws ExpressionEvaluationException if unable to parse or compile the statement
+     */
+    @Override
+    public BitSet evaluateConditional(final String statement, final Collection<Record<Event>> records) {
+        final CompiledExpression compiledExpression = getCompiledExpression(statement);
+
+        final BitSet matches = new BitSet(records.size());
+        int failedRecords = 0;
+        RuntimeException lastFailure = null;
+        int index = 0;
+        for (final Record<Event> record : records) {
+            final Object data = record.getData();
+            if (data instanceof Event) {
+                try {
+                    if (evaluate(compiledExpression, (Event) data)) {
+                        matches.set(index);
+                    }
+                }
+                catch (final RuntimeException exception) {
+                    failedRecords++;
+                    lastFailure = exception;
+                }
             }
+            index++;
+        }
+
+        if (failedRecords > 0) {
+            LOG.error("Unable to evaluate statement \"{}\" for {} records. These records do not match the statement.",
+                    statement, failedRecords, lastFailure);
+        }
+        return matches;
+    }
+
+    private CompiledExpression getCompiledExpression(final String statement) {
+        try {
+            return compiledExpressionCache.get(statement);
         }
         catch (final Exception exception) {
-            throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+            throw new ExpressionEvaluationException("Unable to compile statement \"" + statement + "\"", exception);
+        }
+    }
+
+    private static boolean evaluate(final CompiledExpression compiledExpression, final Event event) {
+        final Object result = compiledExpression.evaluate(event);
+
+        if (result instanceof Boolean) {
+            return (Boolean) result;
+        }
+        else {
+            throw new ClassCastException("Unexpected expression return type of " + result.getClass());
         }
     }
 }
@@ -5,23 +5,36 @@
 
 package org.opensearch.dataprepper.expression;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.antlr.v4.runtime.RuleContext;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
 import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+/**
+ * Matches a String against a regular expression. The right operand is either a {@link Pattern}, when the regular
+ * expression is a literal compiled with the statement, or a String which is compiled through a bounded cache.
+ */
 class GenericRegexMatchOperator implements Operator<Boolean> {
+    static final long PATTERN_CACHE_MAXIMUM_SIZE = 1_000;
+
     private final int symbol;
     private final String displayName;
     private final BiPredicate<Object, Object> operation;
+    private final Cache<String, Pattern> patternCache;
 
     public GenericRegexMatchOperator(final int symbol, BiPredicate<Object, Object> operation) {
         this.symbol = symbol;
         displayName = DataPrepperExpressionParser.VOCABULARY.getDisplayName(symbol);
         this.operation = operation;
+        patternCache = CacheBuilder.newBuilder()
+                .maximumSize(PATTERN_CACHE_MAXIMUM_SIZE)
+                .build();
     }
 
     @Override
@@ -43,11 +56,34 @@ class GenericRegexMatchOperator implements Operator<Boolean> {
     public Boolean evaluate(final Object ... args) {
         checkArgument(args.length == 2, displayName + " requires operands length needs to be 2.");
         checkArgument(args[0] instanceof String, displayName + " requires left operand to be String.");
-        checkArgument(args[1] instanceof String, displayName + " requires right operand to be String.");
+        checkArgument(args[1] instanceof String || args[1] instanceof Pattern,
+                displayName + " requires right operand to be String.");
+        final Pattern pattern = args[1] instanceof Pattern ? (Pattern) args[1] : getPattern((String) args[1]);
+        return operation.test(args[0], pattern);
+    }
+
+    /**
+     * @since 2.1
+     * Compiles a regular expression for use as the right operand.
+     *
+     * @param regex regular expression
+     * @return the compiled pattern
+     * @throws IllegalArgumentException if the regular expression is not valid
+     */
+    public Pattern compilePattern(final String regex) {
         try {
-            return operation.test(args[0], args[1]);
+            return Pattern.compile(regex);
         } catch (final PatternSyntaxException e) {
             throw new IllegalArgumentException(e);
         }
     }
+
+    private Pattern getPattern(final String regex) {
+        Pattern pattern = patternCache.getIfPresent(regex);
+        if (pattern == null) {
+            pattern = compilePattern(regex);
+            patternCache.put(regex, pattern);
+        }
+        return pattern;
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+
+/**
+ * @since 2.1
+ * A {@link CompiledExpression} which resolves a JSON pointer in the event. JSON pointers which are valid event keys are
+ * parsed into an {@link EventKey} once. Other JSON pointers are passed to the event as they are, which reports them.
+ */
+class JsonPointerExpression implements CompiledExpression {
+    private final String jsonPointer;
+    private final EventKey eventKey;
+    private final ParseTreeCoercionService coercionService;
+
+    JsonPointerExpression(final String jsonPointer, final ParseTreeCoercionService coercionService) {
+        this.jsonPointer = jsonPointer;
+        this.eventKey = toEventKey(jsonPointer);
+        this.coercionService = coercionService;
+    }
+
+    private static EventKey toEventKey(final String jsonPointer) {
+        try {
+            return EventKey.of(jsonPointer);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object value = eventKey != null ? event.get(eventKey, Object.class) : event.get(jsonPointer, Object.class);
+        return coercionService.coerceJsonPointerValue(value);
+    }
+}
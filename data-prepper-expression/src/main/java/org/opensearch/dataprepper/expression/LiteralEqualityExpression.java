@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.1
+ * A {@link ConditionExpression} testing whether the value of an expression equals a literal, such as
+ * {@code /method == "GET"}. Integers and Floats are compared by value the same as {@link GenericEqualOperator}.
+ */
+class LiteralEqualityExpression implements ConditionExpression {
+    private final CompiledExpression operand;
+    private final Object literal;
+    private final boolean negate;
+    private final boolean numericLiteral;
+    private final boolean integerLiteral;
+    private final int intLiteral;
+    private final float floatLiteral;
+
+    /**
+     * @param operand expression of the value to compare
+     * @param literal non-null literal to compare with
+     * @param negate true to test that the value does not equal the literal
+     */
+    LiteralEqualityExpression(final CompiledExpression operand, final Object literal, final boolean negate) {
+        this.operand = operand;
+        this.literal = literal;
+        this.negate = negate;
+        numericLiteral = literal instanceof Integer || literal instanceof Float;
+        integerLiteral = literal instanceof Integer;
+        intLiteral = numericLiteral ? ((Number) literal).intValue() : 0;
+        floatLiteral = numericLiteral ? ((Number) literal).floatValue() : 0;
+    }
+
+    @Override
+    public boolean test(final Event event) {
+        return negate != literalEquals(operand.evaluate(event));
+    }
+
+    private boolean literalEquals(final Object value) {
+        if (numericLiteral) {
+            if (value instanceof Integer) {
+                return integerLiteral ? (Integer) value == intLiteral : (Integer) value == floatLiteral;
+            }
+            else if (value instanceof Float) {
+                return (Float) value == floatLiteral;
+            }
+        }
+        return literal.equals(value);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.1
+ * A {@link CompiledExpression} of a value known when the expression is compiled.
+ */
+class LiteralExpression implements CompiledExpression {
+    private final Object value;
+
+    LiteralExpression(final Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return value;
+    }
+}
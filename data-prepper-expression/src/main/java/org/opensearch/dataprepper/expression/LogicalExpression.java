@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.1
+ * A {@link ConditionExpression} combining conditions with and, or or not. Both operands of and and or are always
+ * evaluated, so that errors are reported the same as by {@link AndOperator} and {@link OrOperator}.
+ */
+class LogicalExpression implements ConditionExpression {
+    /**
+     * @since 2.1
+     * Logical operators supported by {@link LogicalExpression}.
+     */
+    enum Operation {
+        AND,
+        OR,
+        NOT
+    }
+
+    private final Operation operation;
+    private final ConditionExpression left;
+    private final ConditionExpression right;
+
+    /**
+     * @param operation operation to apply
+     * @param left the only operand of not, otherwise the left operand
+     * @param right the right operand, null for not
+     */
+    LogicalExpression(final Operation operation, final ConditionExpression left, final ConditionExpression right) {
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public boolean test(final Event event) {
+        switch (operation) {
+            case AND:
+                return left.test(event) & right.test(event);
+            case OR:
+                return left.test(event) | right.test(event);
+            default:
+                return !left.test(event);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.1
+ * A {@link ConditionExpression} comparing the value of an expression with a numeric literal, such as
+ * {@code /status >= 500}. The literal is unboxed when compiling, the value is compared as an int when both are
+ * Integers and as a float otherwise, the same as {@link NumericCompareOperator}.
+ */
+class NumericComparisonExpression implements ConditionExpression {
+    /**
+     * @since 2.1
+     * Relational operators supported by {@link NumericComparisonExpression}.
+     */
+    enum Comparison {
+        GREATER_THAN {
+            @Override
+            boolean test(final int lhs, final int rhs) {
+                return lhs > rhs;
+            }
+
+            @Override
+            boolean test(final float lhs, final float rhs) {
+                return lhs > rhs;
+            }
+        },
+        GREATER_THAN_OR_EQUAL {
+            @Override
+            boolean test(final int lhs, final int rhs) {
+                return lhs >= rhs;
+            }
+
+            @Override
+            boolean test(final float lhs, final float rhs) {
+                return lhs >= rhs;
+            }
+        },
+        LESS_THAN {
+            @Override
+            boolean test(final int lhs, final int rhs) {
+                return lhs < rhs;
+            }
+
+            @Override
+            boolean test(final float lhs, final float rhs) {
+                return lhs < rhs;
+            }
+        },
+        LESS_THAN_OR_EQUAL {
+            @Override
+            boolean test(final int lhs, final int rhs) {
+                return lhs <= rhs;
+            }
+
+            @Override
+            boolean test(final float lhs, final float rhs) {
+                return lhs <= rhs;
+            }
+        };
+
+        abstract boolean test(final int lhs, final int rhs);
+
+        abstract boolean test(final float lhs, final float rhs);
+
+        /**
+         * @return the comparison giving the same result with the operands swapped
+         */
+        Comparison mirror() {
+            switch (this) {
+                case GREATER_THAN:
+                    return LESS_THAN;
+                case GREATER_THAN_OR_EQUAL:
+                    return LESS_THAN_OR_EQUAL;
+                case LESS_THAN:
+                    return GREATER_THAN;
+                default:
+                    return GREATER_THAN_OR_EQUAL;
+            }
+        }
+    }
+
+    private final CompiledExpression operand;
+    private final Comparison comparison;
+    private final boolean integerLiteral;
+    private final int intLiteral;
+    private final float floatLiteral;
+    private final String unsupportedOperandMessage;
+    private final String statementPart;
+
+    /**
+     * @param operand expression of the value to compare, the left operand of the comparison
+     * @param comparison comparison to apply
+     * @param literal Integer or Float literal, the right operand of the comparison
+     * @param unsupportedOperandMessage message of the error when the value is not an Integer or Float
+     * @param statementPart part of the statement this expression was compiled from, used in error messages
+     */
+    NumericComparisonExpression(final CompiledExpression operand, final Comparison comparison, final Number literal,
+                                final String unsupportedOperandMessage, final String statementPart) {
+        this.operand = operand;
+        this.comparison = comparison;
+        integerLiteral = literal instanceof Integer;
+        intLiteral = literal.intValue();
+        floatLiteral = literal.floatValue();
+        this.unsupportedOperandMessage = unsupportedOperandMessage;
+        this.statementPart = statementPart;
+    }
+
+    @Override
+    public boolean test(final Event event) {
+        final Object value = operand.evaluate(event);
+        if (value instanceof Integer) {
+            final int intValue = (Integer) value;
+            return integerLiteral ? comparison.test(intValue, intLiteral) : comparison.test((float) intValue, floatLiteral);
+        }
+        else if (value instanceof Float) {
+            return comparison.test((float) (Float) value, floatLiteral);
+        }
+        throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + statementPart,
+                new IllegalArgumentException(unsupportedOperandMessage));
+    }
+}
@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.expression;
 
-import org.opensearch.dataprepper.model.event.Event;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
@@ -24,47 +23,62 @@ class ParseTreeCoercionService {
         this.literalTypeConversions = literalTypeConversions;
     }
 
-    public Object coercePrimaryTerminalNode(final TerminalNode node, final Event event) {
+    /**
+     * @since 2.1
+     * Compiles a primary terminal node. Literals are coerced once, JSON pointers are resolved in the event whenever the
+     * returned expression is evaluated.
+     * @param node terminal node of a literal or a JSON pointer
+     * @return the compiled terminal node
+     * @throws ExpressionCoercionException if the terminal node type is not supported
+     */
+    public CompiledExpression compilePrimaryTerminalNode(final TerminalNode node) {
         final int nodeType = node.getSymbol().getType();
         final String nodeStringValue = node.getText();
         switch (nodeType) {
             case DataPrepperExpressionParser.EscapedJsonPointer:
                 final String jsonPointerWithoutQuotes = nodeStringValue.substring(1, nodeStringValue.length() - 1);
-                return resolveJsonPointerValue(jsonPointerWithoutQuotes, event);
+                return new JsonPointerExpression(jsonPointerWithoutQuotes, this);
             case DataPrepperExpressionParser.JsonPointer:
-                return resolveJsonPointerValue(nodeStringValue, event);
+                return new JsonPointerExpression(nodeStringValue, this);
             case DataPrepperExpressionParser.String:
                 final String nodeStringValueWithQuotesStripped = nodeStringValue.substring(1, nodeStringValue.length() - 1);
-                return nodeStringValueWithQuotesStripped;
+                return new LiteralExpression(nodeStringValueWithQuotesStripped);
             case DataPrepperExpressionParser.Integer:
-                return Integer.valueOf(nodeStringValue);
+                return new LiteralExpression(Integer.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Float:
-                return Float.valueOf(nodeStringValue);
+                return new LiteralExpression(Float.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Boolean:
-                return Boolean.valueOf(nodeStringValue);
+                return new LiteralExpression(Boolean.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Null:
-                return null;
+                return new LiteralExpression(null);
             default:
                 throw new ExpressionCoercionException("Unsupported terminal node type symbol string: " +
                         DataPrepperExpressionParser.VOCABULARY.getDisplayName(nodeType));
         }
     }
 
+    /**
+     * @since 2.1
+     * Converts a value resolved from an event by a JSON pointer into one of the literal types.
+     * @param value value resolved from an event, or null if the JSON pointer was not found
+     * @return the converted value
+     * @throws ExpressionCoercionException if the type of the value is not supported
+     */
+    public Object coerceJsonPointerValue(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        final Function<Object, Object> literalTypeConversion = literalTypeConversions.get(value.getClass());
+        if (literalTypeConversion == null) {
+            throw new ExpressionCoercionException("Unsupported type for value " + value);
+        }
+        return literalTypeConversion.apply(value);
+    }
+
     public <T> T coerce(final Object obj, Class<T> clazz) throws ExpressionCoercionException {
         if (obj.getClass().isAssignableFrom(clazz)) {
             return (T) obj;
         }
         throw new ExpressionCoercionException("Unable to cast " + obj.getClass().getName() + " into " + clazz.getName());
     }
-
-    private Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
-        final Object value = event.get(jsonPointer, Object.class);
-        if (value == null) {
-            return null;
-        } else if (literalTypeConversions.containsKey(value.getClass())) {
-            return literalTypeConversions.get(value.getClass()).apply(value);
-        } else {
-            throw new ExpressionCoercionException("Unsupported type for value " + value);
-        }
-    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @since 2.1
+ * Lowers the {@link ParseTree} of an expression into a tree of {@link CompiledExpression}s once. Operators are looked
+ * up, literals are coerced and JSON pointers are parsed while compiling, so that evaluating the compiled expression
+ * only resolves JSON pointers and applies operators. Literal regular expressions are compiled into
+ * {@link java.util.regex.Pattern}s, and operations on literals of a known type are specialized by
+ * {@link TypedOperationCompiler}.
+ * <p>
+ * Operations are evaluated in the same order as the grammar rules nest, all operands are evaluated before an operator
+ * is applied.
+ */
+@Named
+class ParseTreeCompiler {
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+
+    @Inject
+    public ParseTreeCompiler(final OperatorProvider operatorProvider, final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.coercionService = coercionService;
+    }
+
+    /**
+     * @since 2.1
+     * Compiles a parse tree created by a {@link Parser}.
+     * @param parseTree parse tree of an expression
+     * @return the compiled expression
+     * @throws ExpressionCoercionException if the parse tree contains a terminal node which is not supported
+     * @throws UnsupportedOperationException if the parse tree contains an operator which is not supported
+     * @throws IllegalArgumentException if the parse tree contains a literal regular expression which is not valid
+     */
+    public CompiledExpression compile(final ParseTree parseTree) {
+        if (parseTree instanceof ErrorNode) {
+            throw new RuntimeException("Hit error node in the parse tree: " + parseTree.getText());
+        }
+        if (parseTree instanceof TerminalNode) {
+            return coercionService.compilePrimaryTerminalNode((TerminalNode) parseTree);
+        }
+
+        final ParserRuleContext ctx = (ParserRuleContext) parseTree;
+        if (ctx instanceof DataPrepperExpressionParser.ExpressionContext &&
+                ((DataPrepperExpressionParser.ExpressionContext) ctx).conditionalExpression() != null) {
+            return compile(((DataPrepperExpressionParser.ExpressionContext) ctx).conditionalExpression());
+        } else if (ctx instanceof DataPrepperExpressionParser.ParenthesesExpressionContext) {
+            return compile(((DataPrepperExpressionParser.ParenthesesExpressionContext) ctx).conditionalExpression());
+        } else if (ctx instanceof DataPrepperExpressionParser.SetInitializerContext) {
+            return compileSetInitializer(((DataPrepperExpressionParser.SetInitializerContext) ctx).primary());
+        }
+
+        switch (ctx.getChildCount()) {
+            case 1:
+                return compile(ctx.getChild(0));
+            case 2:
+                return compileOperation(ctx, ctx.getChild(0), ctx.getChild(1));
+            case 3:
+                return compileOperation(ctx, ctx.getChild(1), ctx.getChild(0), ctx.getChild(2));
+            default:
+                throw new IllegalArgumentException("Unable to compile the part of input statement: "
+                        + getPartialStatementFromContext(ctx));
+        }
+    }
+
+    private CompiledExpression compileSetInitializer(final List<DataPrepperExpressionParser.PrimaryContext> primaries) {
+        final CompiledExpression[] elements = new CompiledExpression[primaries.size()];
+        boolean allLiterals = true;
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = compile(primaries.get(i));
+            allLiterals &= elements[i] instanceof LiteralExpression;
+        }
+
+        if (allLiterals) {
+            final Set<Object> set = new HashSet<>();
+            for (final CompiledExpression element : elements) {
+                set.add(element.evaluate(null));
+            }
+            return new LiteralExpression(set);
+        }
+        return new SetInitializerExpression(elements);
+    }
+
+    private CompiledExpression compileOperation(final ParserRuleContext ctx, final ParseTree operatorNode,
+                                                final ParseTree... operandNodes) {
+        final int operatorSymbol = ((TerminalNode) operatorNode.getChild(0)).getSymbol().getType();
+        final Operator<?> operator = operatorProvider.getOperator(operatorSymbol);
+
+        final CompiledExpression[] operands = new CompiledExpression[operandNodes.length];
+        for (int i = 0; i < operandNodes.length; i++) {
+            operands[i] = compile(operandNodes[i]);
+        }
+        if (operator instanceof GenericRegexMatchOperator) {
+            operands[1] = compileRegexPattern((GenericRegexMatchOperator) operator, operands[1]);
+        }
+
+        final String statementPart = getPartialStatementFromContext(ctx);
+        return TypedOperationCompiler.compile(operatorSymbol, operands, statementPart)
+                .orElseGet(() -> new OperatorExpression(operator, operands, statementPart));
+    }
+
+    private CompiledExpression compileRegexPattern(final GenericRegexMatchOperator operator,
+                                                   final CompiledExpression pattern) {
+        if (pattern instanceof LiteralExpression) {
+            final Object regex = pattern.evaluate(null);
+            // other literals are left to the operator, which rejects them when evaluated
+            if (regex instanceof String) {
+                return new LiteralExpression(operator.compilePattern((String) regex));
+            }
+        }
+        return pattern;
+    }
+
+    private String getPartialStatementFromContext(final ParserRuleContext ctx) {
+        final Token startToken = ctx.getStart();
+        final Token stopToken = ctx.getStop();
+        final String fullStatement = startToken.getInputStream().toString();
+        return fullStatement.substring(startToken.getStartIndex(), stopToken.getStopIndex() + 1);
+    }
+}
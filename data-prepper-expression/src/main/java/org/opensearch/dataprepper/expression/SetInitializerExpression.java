@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * @since 2.1
+ * A {@link CompiledExpression} of a set with elements which depend on the event. Sets of literals are compiled into a
+ * {@link LiteralExpression} instead.
+ */
+class SetInitializerExpression implements CompiledExpression {
+    private final CompiledExpression[] elements;
+
+    SetInitializerExpression(final CompiledExpression[] elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Set<Object> set = new HashSet<>();
+        for (final CompiledExpression element : elements) {
+            set.add(element.evaluate(event));
+        }
+        return set;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import java.util.Optional;
+
+/**
+ * @since 2.1
+ * Infers the types of operands while compiling and specializes operations on them. An operation is specialized when
+ * one operand is a literal of a known type, or when all operands are conditions:
+ * <ul>
+ *     <li>relational operators with an Integer or Float literal become a {@link NumericComparisonExpression}</li>
+ *     <li>equality operators with a literal become a {@link LiteralEqualityExpression}</li>
+ *     <li>and, or and not on conditions become a {@link LogicalExpression}</li>
+ * </ul>
+ * Other operations are left to the generic {@link Operator}s.
+ */
+final class TypedOperationCompiler {
+    private TypedOperationCompiler() {
+    }
+
+    /**
+     * @since 2.1
+     * Compiles a specialized expression of an operation, if there is one.
+     * @param symbol symbol of the operator
+     * @param operands compiled operands, in the order of the statement
+     * @param statementPart part of the statement the operation was compiled from, used in error messages
+     * @return the specialized expression or empty if the operation is not specialized
+     */
+    static Optional<CompiledExpression> compile(final int symbol, final CompiledExpression[] operands,
+                                                final String statementPart) {
+        if (operands.length == 1) {
+            if (symbol == DataPrepperExpressionParser.NOT && operands[0] instanceof ConditionExpression) {
+                return Optional.of(new LogicalExpression(LogicalExpression.Operation.NOT,
+                        (ConditionExpression) operands[0], null));
+            }
+            return Optional.empty();
+        }
+
+        switch (symbol) {
+            case DataPrepperExpressionParser.GT:
+                return compileNumericComparison(symbol, NumericComparisonExpression.Comparison.GREATER_THAN, operands, statementPart);
+            case DataPrepperExpressionParser.GTE:
+                return compileNumericComparison(symbol, NumericComparisonExpression.Comparison.GREATER_THAN_OR_EQUAL, operands, statementPart);
+            case DataPrepperExpressionParser.LT:
+                return compileNumericComparison(symbol, NumericComparisonExpression.Comparison.LESS_THAN, operands, statementPart);
+            case DataPrepperExpressionParser.LTE:
+                return compileNumericComparison(symbol, NumericComparisonExpression.Comparison.LESS_THAN_OR_EQUAL, operands, statementPart);
+            case DataPrepperExpressionParser.EQUAL:
+                return compileLiteralEquality(false, operands);
+            case DataPrepperExpressionParser.NOT_EQUAL:
+                return compileLiteralEquality(true, operands);
+            case DataPrepperExpressionParser.AND:
+                return compileLogical(LogicalExpression.Operation.AND, operands);
+            case DataPrepperExpressionParser.OR:
+                return compileLogical(LogicalExpression.Operation.OR, operands);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static Optional<CompiledExpression> compileNumericComparison(
+            final int symbol, final NumericComparisonExpression.Comparison comparison,
+            final CompiledExpression[] operands, final String statementPart) {
+        final String displayName = DataPrepperExpressionParser.VOCABULARY.getDisplayName(symbol);
+        final Number rightLiteral = getNumericLiteral(operands[1]);
+        if (rightLiteral != null && !(operands[0] instanceof LiteralExpression)) {
+            return Optional.of(new NumericComparisonExpression(operands[0], comparison, rightLiteral,
+                    displayName + " requires left operand to be either Float or Integer.", statementPart));
+        }
+        final Number leftLiteral = getNumericLiteral(operands[0]);
+        if (leftLiteral != null && !(operands[1] instanceof LiteralExpression)) {
+            return Optional.of(new NumericComparisonExpression(operands[1], comparison.mirror(), leftLiteral,
+                    displayName + " requires right operand to be either Float or Integer.", statementPart));
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<CompiledExpression> compileLiteralEquality(final boolean negate,
+                                                                       final CompiledExpression[] operands) {
+        final Object rightLiteral = getLiteral(operands[1]);
+        if (rightLiteral != null && !(operands[0] instanceof LiteralExpression)) {
+            return Optional.of(new LiteralEqualityExpression(operands[0], rightLiteral, negate));
+        }
+        final Object leftLiteral = getLiteral(operands[0]);
+        if (leftLiteral != null && !(operands[1] instanceof LiteralExpression)) {
+            return Optional.of(new LiteralEqualityExpression(operands[1], leftLiteral, negate));
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<CompiledExpression> compileLogical(final LogicalExpression.Operation operation,
+                                                               final CompiledExpression[] operands) {
+        if (operands[0] instanceof ConditionExpression && operands[1] instanceof ConditionExpression) {
+            return Optional.of(new LogicalExpression(operation,
+                    (ConditionExpression) operands[0], (ConditionExpression) operands[1]));
+        }
+        return Optional.empty();
+    }
+
+    private static Number getNumericLiteral(final CompiledExpression operand) {
+        final Object literal = getLiteral(operand);
+        return literal instanceof Integer || literal instanceof Float ? (Number) literal : null;
+    }
+
+    private static Object getLiteral(final CompiledExpression operand) {
+        if (operand instanceof LiteralExpression) {
+            final Object literal = operand.evaluate(null);
+            if (literal instanceof Integer || literal instanceof Float || literal instanceof String || literal instanceof Boolean) {
+                return literal;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.google.common.cache.Cache;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CompiledExpressionCacheTest {
+    private static final long MAXIMUM_SIZE = 2;
+
+    @Mock
+    private Parser<ParseTree> parser;
+    @Mock
+    private ParseTreeCompiler compiler;
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    private Map<String, ToDoubleFunction<Cache<String, CompiledExpression>>> gauges;
+    private Cache<String, CompiledExpression> gaugedCache;
+
+    @BeforeEach
+    void setUp() {
+        gauges = new HashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompiledExpressionCache createObjectUnderTest() {
+        final CompiledExpressionCache objectUnderTest =
+                new CompiledExpressionCache(parser, compiler, pluginMetrics, MAXIMUM_SIZE);
+
+        final ArgumentCaptor<String> nameCaptor = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<Cache<String, CompiledExpression>> cacheCaptor = ArgumentCaptor.forClass(Cache.class);
+        final ArgumentCaptor<ToDoubleFunction<Cache<String, CompiledExpression>>> functionCaptor =
+                ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics, times(4)).gauge(nameCaptor.capture(), cacheCaptor.capture(), functionCaptor.capture());
+        for (int i = 0; i < nameCaptor.getAllValues().size(); i++) {
+            gauges.put(nameCaptor.getAllValues().get(i), functionCaptor.getAllValues().get(i));
+        }
+        gaugedCache = cacheCaptor.getValue();
+        return objectUnderTest;
+    }
+
+    private double gaugeValue(final String name) {
+        return gauges.get(name).applyAsDouble(gaugedCache);
+    }
+
+    private CompiledExpression givenCompilableStatement(final String statement) {
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        return compiledExpression;
+    }
+
+    @Test
+    void testDefaultConstructor() {
+        assertThat(new CompiledExpressionCache(parser, compiler), notNullValue());
+    }
+
+    @Test
+    void testGetCompilesStatementOnce() {
+        final String statement = UUID.randomUUID().toString();
+        final CompiledExpression compiledExpression = givenCompilableStatement(statement);
+        final CompiledExpressionCache objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.get(statement), is(compiledExpression));
+        assertThat(objectUnderTest.get(statement), is(compiledExpression));
+
+        verify(parser).parse(eq(statement));
+        verify(compiler).compile(any());
+        assertThat(gaugeValue(CompiledExpressionCache.HITS), is(1.0));
+        assertThat(gaugeValue(CompiledExpressionCache.MISSES), is(1.0));
+        assertThat(gaugeValue(CompiledExpressionCache.SIZE), is(1.0));
+    }
+
+    @Test
+    void testGetEvictsWhenMaximumSizeReached() {
+        final CompiledExpressionCache objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i <= MAXIMUM_SIZE; i++) {
+            final String statement = UUID.randomUUID().toString();
+            givenCompilableStatement(statement);
+            objectUnderTest.get(statement);
+        }
+
+        assertThat(gaugeValue(CompiledExpressionCache.EVICTIONS), is(1.0));
+        assertThat(gaugeValue(CompiledExpressionCache.SIZE), is((double) MAXIMUM_SIZE));
+    }
+
+    @Test
+    void testGetGivenParserThrowsThenExceptionThrownAndNotCached() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTreeCompositeException exception = mock(ParseTreeCompositeException.class);
+        doThrow(exception).when(parser).parse(eq(statement));
+        final CompiledExpressionCache objectUnderTest = createObjectUnderTest();
+
+        assertThrows(ParseTreeCompositeException.class, () -> objectUnderTest.get(statement));
+        assertThrows(ParseTreeCompositeException.class, () -> objectUnderTest.get(statement));
+
+        verify(parser, times(2)).parse(eq(statement));
+        verify(compiler, never()).compile(any());
+        assertThat(gaugeValue(CompiledExpressionCache.SIZE), is(0.0));
+    }
+
+    @Test
+    void testGetGivenCheckedExceptionThenRuntimeExceptionThrown() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doAnswer(invocation -> {
+            throw new IOException();
+        }).when(compiler).compile(eq(parseTree));
+        final CompiledExpressionCache objectUnderTest = createObjectUnderTest();
+
+        final RuntimeException exception = assertThrows(RuntimeException.class, () -> objectUnderTest.get(statement));
+
+        assertThat(exception.getCause() instanceof IOException, is(true));
+    }
+}
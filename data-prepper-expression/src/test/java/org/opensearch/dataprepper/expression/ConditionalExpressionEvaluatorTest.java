@@ -6,93 +6,169 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
-import org.antlr.v4.runtime.tree.ParseTree;
+import org.opensearch.dataprepper.model.record.Record;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.UUID;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ConditionalExpressionEvaluatorTest {
 
     @Mock
-    private Parser<ParseTree> parser;
+    private CompiledExpressionCache compiledExpressionCache;
     @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private CompiledExpression compiledExpression;
     @InjectMocks
     private ConditionalExpressionEvaluator statementEvaluator;
 
     @Test
     void testGivenValidParametersThenEvaluatorResultReturned() {
         final String statement = UUID.randomUUID().toString();
-        final ParseTree parseTree = mock(ParseTree.class);
         final Event event = mock(Event.class);
         final Boolean expected = true;
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expected).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiledExpressionCache).get(eq(statement));
+        doReturn(expected).when(compiledExpression).evaluate(eq(event));
 
         final Boolean actual = statementEvaluator.evaluate(statement, event);
 
         assertThat(actual, is(expected));
-        verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpressionCache).get(eq(statement));
+        verify(compiledExpression).evaluate(eq(event));
     }
 
     @Test
     void testGivenUnexpectedEvaluatorResultTypeThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
-        final ParseTree parseTree = mock(ParseTree.class);
         final Event event = mock(Event.class);
         final Object result = mock(Object.class);
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(result).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiledExpressionCache).get(eq(statement));
+        doReturn(result).when(compiledExpression).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, event));
 
-        verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
     }
 
     @Test
-    void testGivenParserThrowsExceptionThenExceptionThrown() {
+    void testGivenCacheThrowsExceptionThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
 
-        doThrow(new RuntimeException()).when(parser).parse(eq(statement));
+        doThrow(new RuntimeException()).when(compiledExpressionCache).get(eq(statement));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
 
-        verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
+        verify(compiledExpressionCache).get(eq(statement));
     }
 
     @Test
     void testGivenEvaluatorThrowsExceptionThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
-        final ParseTree parseTree = mock(ParseTree.class);
         final Event event = mock(Event.class);
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiledExpressionCache).get(eq(statement));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, event));
 
-        verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
+    }
+
+    @Test
+    void testPrecompileCompilesStatementWithoutEvaluating() {
+        final String statement = UUID.randomUUID().toString();
+
+        doReturn(compiledExpression).when(compiledExpressionCache).get(eq(statement));
+
+        statementEvaluator.precompile(statement);
+
+        verify(compiledExpressionCache).get(eq(statement));
+        verifyNoInteractions(compiledExpression);
+    }
+
+    @Test
+    void testPrecompileGivenCacheThrowsExceptionThenExceptionThrown() {
+        final String statement = UUID.randomUUID().toString();
+
+        doThrow(new RuntimeException()).when(compiledExpressionCache).get(eq(statement));
+
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.precompile(statement));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testEvaluateConditionalSetsMatchingRecords() {
+        final String statement = UUID.randomUUID().toString();
+        final Event matchingEvent = mock(Event.class);
+        final Event notMatchingEvent = mock(Event.class);
+        final Event failingEvent = mock(Event.class);
+        final Event nonBooleanEvent = mock(Event.class);
+
+        doReturn(compiledExpression).when(compiledExpressionCache).get(eq(statement));
+        doReturn(true).when(compiledExpression).evaluate(eq(matchingEvent));
+        doReturn(false).when(compiledExpression).evaluate(eq(notMatchingEvent));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(failingEvent));
+        doReturn(1).when(compiledExpression).evaluate(eq(nonBooleanEvent));
+
+        final Collection records = Arrays.asList(
+                new Record<>(matchingEvent),
+                new Record<>(failingEvent),
+                new Record<>(UUID.randomUUID().toString()),
+                new Record<>(notMatchingEvent),
+                new Record<>(nonBooleanEvent),
+                new Record<>(matchingEvent));
+
+        final BitSet matches = statementEvaluator.evaluateConditional(statement, records);
+
+        final BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(5);
+        assertThat(matches, equalTo(expected));
+        verify(compiledExpressionCache).get(eq(statement));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testEvaluateConditionalWithAllRecordsEvaluated() {
+        final String statement = UUID.randomUUID().toString();
+        final Event event = mock(Event.class);
+
+        doReturn(compiledExpression).when(compiledExpressionCache).get(eq(statement));
+        doReturn(true).when(compiledExpression).evaluate(eq(event));
+
+        final Collection records = Arrays.asList(new Record<>(event), new Record<>(event));
+
+        assertThat(statementEvaluator.evaluateConditional(statement, records).cardinality(), is(2));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testEvaluateConditionalGivenCacheThrowsExceptionThenExceptionThrown() {
+        final String statement = UUID.randomUUID().toString();
+        final Collection records = Arrays.asList(new Record<>(mock(Event.class)));
+
+        doThrow(new RuntimeException()).when(compiledExpressionCache).get(eq(statement));
+
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluateConditional(statement, records));
+        verifyNoInteractions(compiledExpression);
     }
 }
@@ -6,6 +6,8 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.antlr.v4.runtime.Token;
@@ -59,7 +61,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testNodeStringValue);
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(String.class));
         assertThat(result, equalTo(testString));
     }
@@ -71,7 +73,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testInteger));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(Integer.class));
         assertThat(result, equalTo(testInteger));
     }
@@ -83,7 +85,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testFloat));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(Float.class));
         assertThat(result, equalTo(testFloat));
     }
@@ -95,7 +97,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testBoolean));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(Boolean.class));
         assertThat(result, equalTo(testBoolean));
     }
@@ -106,7 +108,7 @@ class ParseTreeCoercionServiceTest {
         final Event testEvent = createTestEvent(new HashMap<>());
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(null);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, equalTo(null));
     }
 
@@ -121,7 +123,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testJsonPointerKey);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         if (testValue instanceof Double) {
             assertThat(result, instanceOf(Float.class));
             assertThat(result, equalTo(((Double) testValue).floatValue()));
@@ -141,7 +143,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testJsonPointerKey);
-        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent));
     }
 
     @ParameterizedTest
@@ -153,7 +155,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testEscapeJsonPointer);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         assertThat(result, instanceOf(String.class));
         assertThat(result, equalTo(testValue));
     }
@@ -168,7 +170,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testEscapeJsonPointerKey);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent);
         if (testValue instanceof Double) {
             assertThat(result, instanceOf(Float.class));
             assertThat(result, equalTo(((Double) testValue).floatValue()));
@@ -187,7 +189,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testEscapeJsonPointerKey);
-        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent));
     }
 
     @Test
@@ -195,7 +197,7 @@ class ParseTreeCoercionServiceTest {
         final Event testEvent = createTestEvent(new HashMap<>());
         when(terminalNode.getSymbol()).thenReturn(token);
         when(token.getType()).thenReturn(-1);
-        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).evaluate(testEvent));
     }
 
     @Test
@@ -219,15 +221,26 @@ class ParseTreeCoercionServiceTest {
             Object[] args = invocation.getArguments();
             final String jsonPointer = (String) args[0];
             final Class<?> clazz = (Class<?>) args[1];
-            final JsonNode childNode = node.at(jsonPointer);
-            if (childNode.isMissingNode()) {
-                return null;
-            }
-            return mapper.treeToValue(childNode, clazz);
+            return getValue(node, jsonPointer, clazz);
+        });
+        lenient().when(event.get(any(EventKey.class), any())).thenAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            final EventKey eventKey = (EventKey) args[0];
+            final Class<?> clazz = (Class<?>) args[1];
+            return getValue(node, eventKey.getKey(), clazz);
         });
         return event;
     }
 
+    private static Object getValue(final JsonNode node, final String jsonPointer, final Class<?> clazz)
+            throws JsonProcessingException {
+        final JsonNode childNode = node.at(jsonPointer);
+        if (childNode.isMissingNode()) {
+            return null;
+        }
+        return mapper.treeToValue(childNode, clazz);
+    }
+
     private static Stream<Arguments> provideKeys() {
         return Stream.of(
                 Arguments.of("test key", "\"/test key\""),
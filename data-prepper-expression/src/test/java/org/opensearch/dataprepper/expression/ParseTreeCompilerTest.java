@@ -7,10 +7,14 @@ package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
 import java.util.Arrays;
@@ -18,16 +22,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
-class ParseTreeEvaluatorListenerTest {
+class ParseTreeCompilerTest {
     private final Random random = new Random();
-    private final ParseTreeWalker walker = new ParseTreeWalker();
     private final ParseTreeParser parseTreeParser = constructParseTreeParser();
     private final OperatorConfiguration operatorConfiguration = new OperatorConfiguration();
     private final LiteralTypeConversionsConfiguration literalTypeConversionsConfiguration = new LiteralTypeConversionsConfiguration();
@@ -43,45 +50,112 @@ class ParseTreeEvaluatorListenerTest {
             new NotOperator()
     );
     private final OperatorProvider operatorProvider = new OperatorProvider(operators);
-    private ParseTreeEvaluatorListener objectUnderTest;
+    private final ParseTreeCompiler objectUnderTest = new ParseTreeCompiler(operatorProvider, coercionService);
 
     private ParseTreeParser constructParseTreeParser() {
         final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
         return new ParseTreeParser(expressionParser);
     }
 
-    private ParseTreeEvaluatorListener createObjectUnderTest(final Event event) {
-        return new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
-    }
-
     private Event createTestEvent(final Object data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
 
     private Object evaluateStatementOnEvent(final String statement, final Event event) {
         final ParseTree parseTree = parseTreeParser.parse(statement);
-        objectUnderTest = createObjectUnderTest(event);
-        walker.walk(objectUnderTest, parseTree);
-        return objectUnderTest.getResult();
+        return objectUnderTest.compile(parseTree).evaluate(event);
     }
 
     @Test
-    void testVisitErrorNode() {
+    void testCompileErrorNode() {
         final ErrorNode errorNode = mock(ErrorNode.class);
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
 
-        assertThrows(RuntimeException.class, () -> objectUnderTest.visitErrorNode(errorNode));
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compile(errorNode));
+    }
+
+    @Test
+    void testCompileUnexpectedRule() {
+        final ParserRuleContext ctx = mock(ParserRuleContext.class);
+        final Token token = mock(Token.class);
+        final CharStream charStream = mock(CharStream.class);
+        when(ctx.getChildCount()).thenReturn(4);
+        when(ctx.getStart()).thenReturn(token);
+        when(ctx.getStop()).thenReturn(token);
+        when(token.getInputStream()).thenReturn(charStream);
+        when(token.getStartIndex()).thenReturn(0);
+        when(token.getStopIndex()).thenReturn(0);
+        when(charStream.toString()).thenReturn("1");
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.compile(ctx));
+    }
+
+    @Test
+    void testCompiledExpressionCanBeEvaluatedOnManyEvents() {
+        final String testKey = "testKey";
+        final CompiledExpression compiledExpression = objectUnderTest.compile(
+                parseTreeParser.parse(String.format("/%s == 1", testKey)));
+
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of(testKey, 1))), is(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of(testKey, 2))), is(false));
+        assertThat(compiledExpression.evaluate(createTestEvent(new HashMap<>())), is(false));
     }
 
     @Test
-    void testGetResultWithDoubleWalk() {
-        final ParseTree testParseTree = parseTreeParser.parse("true");
+    void testSetInitializerOfLiterals() {
+        final CompiledExpression compiledExpression = objectUnderTest.compile(parseTreeParser.parse("{1, 2}"));
+
+        assertThat(compiledExpression, instanceOf(LiteralExpression.class));
         final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
-        walker.walk(objectUnderTest, testParseTree);
-        walker.walk(objectUnderTest, testParseTree);
-        assertThrows(IllegalStateException.class, objectUnderTest::getResult);
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(Set.of(1, 2)));
+        assertThat(compiledExpression.evaluate(testEvent), sameInstance(compiledExpression.evaluate(testEvent)));
+    }
+
+    @Test
+    void testSetOperatorExpression() {
+        final String testKey = "testKey";
+        final Event testEvent = createTestEvent(Map.of(testKey, 2, "other", 3));
+        assertThat(evaluateStatementOnEvent(String.format("/%s in {1, 2}", testKey), testEvent), is(true));
+        assertThat(evaluateStatementOnEvent(String.format("/%s not in {1, 2}", testKey), testEvent), is(false));
+        assertThat(evaluateStatementOnEvent(String.format("3 in {1, /%s, /other}", testKey), testEvent), is(true));
+        assertThat(evaluateStatementOnEvent(String.format("4 in {1, /%s, /other}", testKey), testEvent), is(false));
+    }
+
+    @Test
+    void testRegexOperatorExpression() {
+        final String testKey = "testKey";
+        final Event testEvent = createTestEvent(Map.of(testKey, "GET /index.html"));
+        assertThat(evaluateStatementOnEvent(String.format("/%s =~ \"GET .*\"", testKey), testEvent), is(true));
+        assertThat(evaluateStatementOnEvent(String.format("/%s !~ \"GET .*\"", testKey), testEvent), is(false));
+        assertThrows(IllegalArgumentException.class,
+                () -> objectUnderTest.compile(parseTreeParser.parse(String.format("/%s =~ \"(\"", testKey))));
+    }
+
+    @Test
+    void testRegexOperatorExpressionWithJsonPointerPattern() {
+        final String testKey = "testKey";
+        final Event testEvent = createTestEvent(Map.of(testKey, "GET /index.html", "pattern", "GET .*", "invalid", "("));
+        assertThat(evaluateStatementOnEvent(String.format("/%s =~ /pattern", testKey), testEvent), is(true));
+        assertThat(evaluateStatementOnEvent(String.format("/%s !~ /pattern", testKey), testEvent), is(false));
+        assertThrows(ExpressionEvaluationException.class,
+                () -> evaluateStatementOnEvent(String.format("/%s =~ /invalid", testKey), testEvent));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"5", "null", "true"})
+    void testRegexOperatorExpressionWithLiteralPatternWhichIsNotString(final String pattern) {
+        final String testKey = "testKey";
+        final Event testEvent = createTestEvent(Map.of(testKey, "GET /index.html"));
+        final CompiledExpression compiledExpression = objectUnderTest.compile(
+                parseTreeParser.parse(String.format("/%s =~ %s", testKey, pattern)));
+
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> compiledExpression.evaluate(testEvent));
+        assertThat(exception.getCause(), instanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    void testUnsupportedTerminalNode() {
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compile(parseTreeParser.parse("${foo}")));
     }
 
     @Test
@@ -141,6 +215,16 @@ class ParseTreeEvaluatorListenerTest {
         assertThat(evaluateStatementOnEvent(equalStatement, testEvent), is(true));
     }
 
+    @Test
+    void testRelationalOperatorExpressionWithNumericLiteralIsSpecialized() {
+        final Event testEvent = createTestEvent(Map.of("status", 503, "method", "GET"));
+        final CompiledExpression compiledExpression = objectUnderTest.compile(
+                parseTreeParser.parse("/status >= 500 and /method == \"GET\""));
+
+        assertThat(compiledExpression, instanceOf(LogicalExpression.class));
+        assertThat(compiledExpression.evaluate(testEvent), is(true));
+    }
+
     @Test
     void testSimpleRelationalOperatorExpressionWithValidLiteralType() {
         final String greaterThanStatement = "2 > 1";
@@ -81,7 +81,7 @@ class ParseTreeParserTest {
     }
 
     @Test
-    void testCacheGivenMultipleExpressionCalls() throws ParseTreeCompositeException {
+    void testMultipleExpressionCallsAreEachParsed() throws ParseTreeCompositeException {
         final ParseTree expected = mock(DataPrepperExpressionParser.ExpressionContext.class);
         doReturn(expected).when(parser).expression();
 
@@ -91,10 +91,8 @@ class ParseTreeParserTest {
         parseTree = parseTreeParser.parse(VALID_STATEMENT);
         assertThat(parseTree, is(expected));
 
-        verify(errorListener).isErrorFound();
-
-        // Verify parser.expression() called 1 time
-        verify(parser).expression();
+        verify(errorListener, times(2)).isErrorFound();
+        verify(parser, times(2)).expression();
     }
 
     @Test
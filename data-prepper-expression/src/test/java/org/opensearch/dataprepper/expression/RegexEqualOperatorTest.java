@@ -12,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
+import java.util.regex.Pattern;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -48,6 +50,25 @@ class RegexEqualOperatorTest {
         assertThat(objectUnderTest.evaluate("a", "b*"), is(false));
     }
 
+    @Test
+    void testEvalValidArgsRepeatedly() {
+        assertThat(objectUnderTest.evaluate("a", "a*"), is(true));
+        assertThat(objectUnderTest.evaluate("aa", "a*"), is(true));
+        assertThat(objectUnderTest.evaluate("b", "a*"), is(false));
+    }
+
+    @Test
+    void testEvalPatternArg() {
+        assertThat(objectUnderTest.evaluate("a", Pattern.compile("a*")), is(true));
+        assertThat(objectUnderTest.evaluate("a", Pattern.compile("b*")), is(false));
+    }
+
+    @Test
+    void testCompilePattern() {
+        assertThat(objectUnderTest.compilePattern("a*").pattern(), is("a*"));
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.compilePattern("*"));
+    }
+
     @Test
     void testEvalInValidArgLength() {
         assertThrows(IllegalArgumentException.class, () -> objectUnderTest.evaluate("a"));
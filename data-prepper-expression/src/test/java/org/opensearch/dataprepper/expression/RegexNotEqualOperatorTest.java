@@ -12,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
+import java.util.regex.Pattern;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -48,6 +50,12 @@ class RegexNotEqualOperatorTest {
         assertThat(objectUnderTest.evaluate("a", "b*"), is(true));
     }
 
+    @Test
+    void testEvalPatternArg() {
+        assertThat(objectUnderTest.evaluate("a", Pattern.compile("a*")), is(false));
+        assertThat(objectUnderTest.evaluate("a", Pattern.compile("b*")), is(true));
+    }
+
     @Test
     void testEvalInValidArgLength() {
         assertThrows(IllegalArgumentException.class, () -> objectUnderTest.evaluate("a"));
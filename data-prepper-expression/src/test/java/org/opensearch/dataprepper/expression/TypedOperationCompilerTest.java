@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TypedOperationCompilerTest {
+    private static final OperatorConfiguration OPERATOR_CONFIGURATION = new OperatorConfiguration();
+    private static final String STATEMENT_PART = UUID.randomUUID().toString();
+
+    private static Stream<Arguments> relationalOperators() {
+        return Stream.of(
+                Arguments.of(DataPrepperExpressionParser.GT, OPERATOR_CONFIGURATION.greaterThanOperator()),
+                Arguments.of(DataPrepperExpressionParser.GTE, OPERATOR_CONFIGURATION.greaterThanOrEqualOperator()),
+                Arguments.of(DataPrepperExpressionParser.LT, OPERATOR_CONFIGURATION.lessThanOperator()),
+                Arguments.of(DataPrepperExpressionParser.LTE, OPERATOR_CONFIGURATION.lessThanOrEqualOperator())
+        );
+    }
+
+    private static Stream<Arguments> equalityOperators() {
+        return Stream.of(
+                Arguments.of(DataPrepperExpressionParser.EQUAL, OPERATOR_CONFIGURATION.equalOperator()),
+                Arguments.of(DataPrepperExpressionParser.NOT_EQUAL,
+                        OPERATOR_CONFIGURATION.notEqualOperator(OPERATOR_CONFIGURATION.equalOperator()))
+        );
+    }
+
+    private static Stream<Arguments> comparisonOperators() {
+        return Stream.concat(relationalOperators(), equalityOperators());
+    }
+
+    private static Stream<Arguments> comparisonsOfValuesAndLiterals() {
+        final Object[] values = {1, 500, 501, 2.5f, 500.0f, 501.5f, "x", true, null};
+        final List<Arguments> arguments = new ArrayList<>();
+        addComparisons(arguments, relationalOperators(), values, new Object[] {500, 500.0f});
+        addComparisons(arguments, equalityOperators(), values, new Object[] {500, 500.0f, "x", true});
+        return arguments.stream();
+    }
+
+    private static void addComparisons(final List<Arguments> arguments, final Stream<Arguments> operators,
+                                       final Object[] values, final Object[] literals) {
+        operators.forEach(operator -> {
+            for (final Object value : values) {
+                for (final Object literal : literals) {
+                    arguments.add(Arguments.of(operator.get()[0], operator.get()[1], value, literal));
+                }
+            }
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("relationalOperators")
+    void testRelationalComparisonWithStringLiteralIsNotSpecialized(final int symbol) {
+        final CompiledExpression[] operands = {valueExpression(1), new LiteralExpression("x")};
+
+        assertThat(TypedOperationCompiler.compile(symbol, operands, STATEMENT_PART).isPresent(), is(false));
+    }
+
+    private static CompiledExpression valueExpression(final Object value) {
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        when(compiledExpression.evaluate(null)).thenReturn(value);
+        return compiledExpression;
+    }
+
+    private static String evaluate(final Operator<?> operator, final Object lhs, final Object rhs) {
+        try {
+            return String.valueOf(operator.evaluate(lhs, rhs));
+        } catch (final RuntimeException e) {
+            return "error";
+        }
+    }
+
+    private static String evaluate(final CompiledExpression compiledExpression) {
+        try {
+            return String.valueOf(compiledExpression.evaluate(null));
+        } catch (final ExpressionEvaluationException e) {
+            return "error";
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparisonsOfValuesAndLiterals")
+    void testComparisonWithRightLiteralGivesSameResultAsOperator(final int symbol, final Operator<?> operator,
+                                                                 final Object value, final Object literal) {
+        final CompiledExpression[] operands = {valueExpression(value), new LiteralExpression(literal)};
+
+        final Optional<CompiledExpression> compiledExpression = TypedOperationCompiler.compile(symbol, operands, STATEMENT_PART);
+
+        assertThat(compiledExpression.isPresent(), is(true));
+        assertThat(compiledExpression.get(), instanceOf(ConditionExpression.class));
+        assertThat(evaluate(compiledExpression.get()), equalTo(evaluate(operator, value, literal)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparisonsOfValuesAndLiterals")
+    void testComparisonWithLeftLiteralGivesSameResultAsOperator(final int symbol, final Operator<?> operator,
+                                                                final Object value, final Object literal) {
+        final CompiledExpression[] operands = {new LiteralExpression(literal), valueExpression(value)};
+
+        final Optional<CompiledExpression> compiledExpression = TypedOperationCompiler.compile(symbol, operands, STATEMENT_PART);
+
+        assertThat(compiledExpression.isPresent(), is(true));
+        assertThat(evaluate(compiledExpression.get()), equalTo(evaluate(operator, literal, value)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparisonOperators")
+    void testComparisonOfLiteralsIsNotSpecialized(final int symbol) {
+        final CompiledExpression[] operands = {new LiteralExpression(1), new LiteralExpression(2)};
+
+        assertThat(TypedOperationCompiler.compile(symbol, operands, STATEMENT_PART).isPresent(), is(false));
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparisonOperators")
+    void testComparisonWithoutLiteralIsNotSpecialized(final int symbol) {
+        final CompiledExpression[] operands = {valueExpression(1), valueExpression(2)};
+
+        assertThat(TypedOperationCompiler.compile(symbol, operands, STATEMENT_PART).isPresent(), is(false));
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparisonOperators")
+    void testComparisonWithSetLiteralIsNotSpecialized(final int symbol) {
+        final CompiledExpression[] operands = {valueExpression(1), new LiteralExpression(Set.of(1))};
+
+        assertThat(TypedOperationCompiler.compile(symbol, operands, STATEMENT_PART).isPresent(), is(false));
+    }
+
+    @Test
+    void testNumericComparisonErrorIncludesStatementPart() {
+        final CompiledExpression[] operands = {valueExpression("x"), new LiteralExpression(1)};
+        final CompiledExpression compiledExpression =
+                TypedOperationCompiler.compile(DataPrepperExpressionParser.GT, operands, STATEMENT_PART).get();
+
+        final ExpressionEvaluationException exception =
+                assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(null));
+
+        assertThat(exception.getMessage().endsWith(STATEMENT_PART), is(true));
+        assertThat(exception.getCause(), instanceOf(IllegalArgumentException.class));
+    }
+
+    private static Stream<Arguments> logicalOperations() {
+        return Stream.of(
+                Arguments.of(DataPrepperExpressionParser.AND, true, true, true),
+                Arguments.of(DataPrepperExpressionParser.AND, true, false, false),
+                Arguments.of(DataPrepperExpressionParser.AND, false, true, false),
+                Arguments.of(DataPrepperExpressionParser.OR, false, false, false),
+                Arguments.of(DataPrepperExpressionParser.OR, true, false, true),
+                Arguments.of(DataPrepperExpressionParser.OR, false, true, true)
+        );
+    }
+
+    private static ConditionExpression condition(final boolean result) {
+        return new LiteralEqualityExpression(new LiteralExpression(result), true, false);
+    }
+
+    @ParameterizedTest
+    @MethodSource("logicalOperations")
+    void testLogicalOperationOfConditions(final int symbol, final boolean lhs, final boolean rhs, final boolean expected) {
+        final CompiledExpression[] operands = {condition(lhs), condition(rhs)};
+
+        final CompiledExpression compiledExpression = TypedOperationCompiler.compile(symbol, operands, STATEMENT_PART).get();
+
+        assertThat(compiledExpression, instanceOf(LogicalExpression.class));
+        assertThat(compiledExpression.evaluate(null), is(expected));
+    }
+
+    @Test
+    void testLogicalOperationEvaluatesBothOperands() {
+        final CompiledExpression[] operands = {condition(false), TypedOperationCompiler.compile(DataPrepperExpressionParser.GT,
+                new CompiledExpression[] {valueExpression("x"), new LiteralExpression(1)}, STATEMENT_PART).get()};
+
+        final CompiledExpression compiledExpression =
+                TypedOperationCompiler.compile(DataPrepperExpressionParser.AND, operands, STATEMENT_PART).get();
+
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(null));
+    }
+
+    @Test
+    void testLogicalOperationOfNonConditionsIsNotSpecialized() {
+        assertThat(TypedOperationCompiler.compile(DataPrepperExpressionParser.AND,
+                new CompiledExpression[] {condition(true), valueExpression(true)}, STATEMENT_PART).isPresent(), is(false));
+        assertThat(TypedOperationCompiler.compile(DataPrepperExpressionParser.OR,
+                new CompiledExpression[] {valueExpression(true), condition(true)}, STATEMENT_PART).isPresent(), is(false));
+    }
+
+    @Test
+    void testNotOfCondition() {
+        final CompiledExpression compiledExpression = TypedOperationCompiler.compile(DataPrepperExpressionParser.NOT,
+                new CompiledExpression[] {condition(true)}, STATEMENT_PART).get();
+
+        assertThat(compiledExpression, instanceOf(LogicalExpression.class));
+        assertThat(compiledExpression.evaluate(null), is(false));
+    }
+
+    @Test
+    void testUnaryOperationOfNonConditionIsNotSpecialized() {
+        assertThat(TypedOperationCompiler.compile(DataPrepperExpressionParser.NOT,
+                new CompiledExpression[] {valueExpression(true)}, STATEMENT_PART).isPresent(), is(false));
+        assertThat(TypedOperationCompiler.compile(DataPrepperExpressionParser.SUBTRACT,
+                new CompiledExpression[] {condition(true)}, STATEMENT_PART).isPresent(), is(false));
+    }
+
+    @Test
+    void testOtherBinaryOperationIsNotSpecialized() {
+        final CompiledExpression[] operands = {valueExpression(1), new LiteralExpression(Set.of(1))};
+
+        assertThat(TypedOperationCompiler.compile(DataPrepperExpressionParser.IN_SET, operands, STATEMENT_PART).isPresent(),
+                is(false));
+    }
+}
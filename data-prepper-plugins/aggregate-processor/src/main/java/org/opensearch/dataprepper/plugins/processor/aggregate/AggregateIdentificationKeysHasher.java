@@ -6,22 +6,28 @@
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 class AggregateIdentificationKeysHasher {
     private final List<String> identificationKeys;
+    private final List<EventKey> identificationEventKeys;
     AggregateIdentificationKeysHasher(final List<String> identificationKeys) {
         this.identificationKeys = identificationKeys;
+        this.identificationEventKeys = identificationKeys.stream()
+                .map(EventKey::of)
+                .collect(Collectors.toList());
     }
 
     IdentificationKeysMap createIdentificationKeysMapFromEvent(final Event event) {
         final Map<Object, Object> identificationKeysMap = new HashMap<>();
-        for (final String identificationKey : identificationKeys) {
-            identificationKeysMap.put(identificationKey, event.get(identificationKey, Object.class));
+        for (int i = 0; i < identificationKeys.size(); i++) {
+            identificationKeysMap.put(identificationKeys.get(i), event.get(identificationEventKeys.get(i), Object.class));
         }
         return new IdentificationKeysMap(identificationKeysMap);
     }
@@ -43,6 +43,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -157,6 +158,23 @@ public class AggregateProcessorTest {
         assertThat(expectedIdentificationKeys, equalTo(keys));
     }
 
+    @Test
+    void constructor_precompiles_when_condition() {
+        final String condition = UUID.randomUUID().toString();
+        when(aggregateProcessorConfig.getWhenCondition()).thenReturn(condition);
+
+        createObjectUnderTest();
+
+        verify(expressionEvaluator).precompile(condition);
+    }
+
+    @Test
+    void constructor_does_not_precompile_without_when_condition() {
+        createObjectUnderTest();
+
+        verify(expressionEvaluator, never()).precompile(any());
+    }
+
     @Nested
     class TestDoExecute {
         @BeforeEach
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Chooses the batch size and the read delay of a {@link BlockingBuffer} from the queue depth seen on every read and
+ * from the time the processors and sinks take to checkpoint each batch.
+ * <ul>
+ *     <li>When records are left in the queue after a read the batch size is grown as long as the downstream cost per
+ *     record does not get worse, otherwise it is shrunk again. The delay is shortened since data is waiting.</li>
+ *     <li>When a read returns a partial batch the batch size is shrunk towards the number of records which arrived
+ *     and the delay is shortened, so light traffic does not wait for the full delay.</li>
+ *     <li>When a read returns fewer than the minimum batch size the delay is lengthened to gather larger batches.</li>
+ * </ul>
+ * The batch size stays within the configured minimum and maximum and the delay stays between the minimum delay and
+ * the delay the pipeline reads with.
+ */
+class AdaptiveBatchController {
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+    private static final double LATENCY_TOLERANCE = 1.1;
+    private static final double GROWTH_FACTOR = 2.0;
+    private static final double SHRINK_FACTOR = 0.75;
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int minDelayInMillis;
+    private final AtomicInteger batchSize;
+    private final AtomicInteger delayInMillis;
+
+    private volatile int lastMaxDelayInMillis;
+    private double averageRecordLatencyNanos;
+    private double recordLatencyAtLastResizeNanos;
+
+    /**
+     * @param initialBatchSize the batch size to start with
+     * @param minBatchSize     the smallest batch size to read
+     * @param maxBatchSize     the largest batch size to read
+     * @param minDelayInMillis the shortest time to wait for a batch
+     */
+    AdaptiveBatchController(final int initialBatchSize, final int minBatchSize, final int maxBatchSize,
+                            final int minDelayInMillis) {
+        checkArgument(minBatchSize > 0, "min_batch_size must be greater than 0");
+        checkArgument(maxBatchSize >= minBatchSize, "max_batch_size must not be less than min_batch_size");
+        checkArgument(initialBatchSize >= minBatchSize && initialBatchSize <= maxBatchSize,
+                "batch_size must be between min_batch_size and max_batch_size");
+        checkArgument(minDelayInMillis >= 0, "min_delay must not be negative");
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.minDelayInMillis = minDelayInMillis;
+        this.batchSize = new AtomicInteger(initialBatchSize);
+        this.delayInMillis = new AtomicInteger(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the batch size for the next read
+     */
+    int getBatchSize() {
+        return batchSize.get();
+    }
+
+    /**
+     * @param maxDelayInMillis the delay the pipeline reads with
+     * @return the delay for the next read
+     */
+    int getDelayInMillis(final int maxDelayInMillis) {
+        return Math.max(Math.min(minDelayInMillis, maxDelayInMillis), Math.min(delayInMillis.get(), maxDelayInMillis));
+    }
+
+    /**
+     * @return the delay chosen for the last read, or 0 before the first read
+     */
+    int getCurrentDelayInMillis() {
+        return getDelayInMillis(lastMaxDelayInMillis);
+    }
+
+    /**
+     * Adjusts the batch size and the delay after a read.
+     *
+     * @param recordsRead      number of records returned by the read
+     * @param queueDepth       number of records left in the queue after the read
+     * @param maxDelayInMillis the delay the pipeline reads with
+     */
+    synchronized void onRead(final int recordsRead, final int queueDepth, final int maxDelayInMillis) {
+        lastMaxDelayInMillis = maxDelayInMillis;
+        final int currentBatchSize = batchSize.get();
+        final int currentDelay = getDelayInMillis(maxDelayInMillis);
+        if (queueDepth >= currentBatchSize) {
+            if (recordLatencyAtLastResizeNanos == 0 ||
+                    averageRecordLatencyNanos <= recordLatencyAtLastResizeNanos * LATENCY_TOLERANCE) {
+                batchSize.set(boundBatchSize((int) Math.ceil(currentBatchSize * GROWTH_FACTOR)));
+            } else {
+                batchSize.set(boundBatchSize((int) (currentBatchSize * SHRINK_FACTOR)));
+            }
+            recordLatencyAtLastResizeNanos = averageRecordLatencyNanos;
+            delayInMillis.set(Math.max(minDelayInMillis, currentDelay / 2));
+        } else if (recordsRead < minBatchSize) {
+            delayInMillis.set(Math.min(maxDelayInMillis, Math.max(1, currentDelay * 2)));
+        } else if (recordsRead < currentBatchSize) {
+            batchSize.set(boundBatchSize(Math.max(recordsRead, (int) (currentBatchSize * SHRINK_FACTOR))));
+            delayInMillis.set(Math.max(minDelayInMillis, currentDelay / 2));
+        }
+    }
+
+    /**
+     * Records how long the processors and sinks took for a batch, from the read until its checkpoint.
+     *
+     * @param recordsChecked number of records in the batch
+     * @param latencyNanos   time between the read and the checkpoint of the batch
+     */
+    synchronized void onCheckpoint(final int recordsChecked, final long latencyNanos) {
+        if (recordsChecked <= 0) {
+            return;
+        }
+        final double recordLatencyNanos = (double) latencyNanos / recordsChecked;
+        averageRecordLatencyNanos = averageRecordLatencyNanos == 0 ? recordLatencyNanos :
+                LATENCY_SMOOTHING_FACTOR * recordLatencyNanos + (1 - LATENCY_SMOOTHING_FACTOR) * averageRecordLatencyNanos;
+    }
+
+    private int boundBatchSize(final int proposedBatchSize) {
+        return Math.max(minBatchSize, Math.min(maxBatchSize, proposedBatchSize));
+    }
+}
@@ -38,7 +38,9 @@ import static java.lang.String.format;
  * not provided); {@link #write(Record, int)} inserts specified non-null record into this buffer, waiting up to the
  * specified timeout in milliseconds if necessary for space to become available; and throws an exception if the
  * record is null. {@link #read(int)} retrieves and removes the batch of records from the head of the queue. The
- * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the timeout parameter
+ * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the timeout parameter.
+ * With {@link #ATTRIBUTE_ADAPTIVE_BATCHING} enabled, an {@link AdaptiveBatchController} chooses the batch size and the
+ * read timeout from the queue depth and the time the processors and sinks take to checkpoint each batch.
  */
 @DataPrepperPlugin(name = "bounded_blocking", pluginType = Buffer.class)
 public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
@@ -48,13 +50,23 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     private static final String PLUGIN_NAME = "bounded_blocking";
     private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_ADAPTIVE_BATCHING = "adaptive_batching";
+    private static final String ATTRIBUTE_MIN_BATCH_SIZE = "min_batch_size";
+    private static final String ATTRIBUTE_MAX_BATCH_SIZE = "max_batch_size";
+    private static final String ATTRIBUTE_MIN_DELAY = "min_delay";
+    private static final int DEFAULT_MIN_BATCH_SIZE = 20;
+    private static final int DEFAULT_MAX_BATCH_SIZE_MULTIPLIER = 10;
+    private static final int DEFAULT_MIN_DELAY = 10;
     private static final String BLOCKING_BUFFER = "BlockingBuffer";
     private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    static final String ADAPTIVE_BATCH_SIZE_METRIC = "adaptiveBatchSize";
+    static final String ADAPTIVE_DELAY_METRIC = "adaptiveDelay";
     private final int bufferCapacity;
     private final int batchSize;
     private final AtomicDouble bufferUsage;
     private final BlockingQueue<T> blockingQueue;
     private final String pipelineName;
+    private final AdaptiveBatchController adaptiveBatchController;
 
     private final Semaphore capacitySemaphore;
 
@@ -66,6 +78,20 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * @param pipelineName   the name of the associated Pipeline
      */
     public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        this(bufferCapacity, batchSize, pipelineName, null);
+    }
+
+    /**
+     * Creates a BlockingBuffer with the given (fixed) capacity whose batch size and read timeout are chosen by the
+     * given {@link AdaptiveBatchController}.
+     *
+     * @param bufferCapacity          the capacity of the buffer
+     * @param batchSize               the batch size for {@link #read(int)} if adaptiveBatchController is null
+     * @param pipelineName            the name of the associated Pipeline
+     * @param adaptiveBatchController the controller choosing the batch size and read timeout, nullable
+     */
+    BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName,
+                   final AdaptiveBatchController adaptiveBatchController) {
         super(BLOCKING_BUFFER, pipelineName);
         bufferUsage = pluginMetrics.gauge(BUFFER_USAGE_METRIC, new AtomicDouble());
         this.bufferCapacity = bufferCapacity;
@@ -73,6 +99,11 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         this.blockingQueue = new LinkedBlockingQueue<>(bufferCapacity);
         this.capacitySemaphore = new Semaphore(bufferCapacity);
         this.pipelineName = pipelineName;
+        this.adaptiveBatchController = adaptiveBatchController;
+        if (adaptiveBatchController != null) {
+            pluginMetrics.gauge(ADAPTIVE_BATCH_SIZE_METRIC, adaptiveBatchController, AdaptiveBatchController::getBatchSize);
+            pluginMetrics.gauge(ADAPTIVE_DELAY_METRIC, adaptiveBatchController, AdaptiveBatchController::getCurrentDelayInMillis);
+        }
     }
 
     /**
@@ -80,7 +111,8 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * instance of {@link BlockingBuffer} using an instance of {@link PluginSetting} which has access to
      * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer-size`, `batch-size`,
      * `batch-timeout` are optional and can be passed via {@link PluginSetting}, if not present default values will
-     * be used to create the buffer.
+     * be used to create the buffer. With `adaptive_batching` enabled, `batch_size` is the initial batch size and
+     * `min_batch_size`, `max_batch_size` and `min_delay` bound the values chosen by the {@link AdaptiveBatchController}.
      *
      * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
      */
@@ -88,13 +120,28 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
                         .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
                 pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
-                pluginSetting.getPipelineName());
+                pluginSetting.getPipelineName(),
+                createAdaptiveBatchController(pluginSetting));
     }
 
     public BlockingBuffer(final String pipelineName) {
         this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
     }
 
+    private static AdaptiveBatchController createAdaptiveBatchController(final PluginSetting pluginSetting) {
+        if (!pluginSetting.getBooleanOrDefault(ATTRIBUTE_ADAPTIVE_BATCHING, false)) {
+            return null;
+        }
+        final int bufferCapacity = pluginSetting.getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+        final int batchSize = pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        final int minBatchSize = pluginSetting.getIntegerOrDefault(ATTRIBUTE_MIN_BATCH_SIZE,
+                Math.min(batchSize, DEFAULT_MIN_BATCH_SIZE));
+        final int maxBatchSize = pluginSetting.getIntegerOrDefault(ATTRIBUTE_MAX_BATCH_SIZE,
+                Math.max(batchSize, Math.min(bufferCapacity, batchSize * DEFAULT_MAX_BATCH_SIZE_MULTIPLIER)));
+        final int minDelay = pluginSetting.getIntegerOrDefault(ATTRIBUTE_MIN_DELAY, DEFAULT_MIN_DELAY);
+        return new AdaptiveBatchController(batchSize, minBatchSize, maxBatchSize, minDelay);
+    }
+
     @Override
     public void doWrite(T record, int timeoutInMillis) throws TimeoutException {
         try {
@@ -139,30 +186,39 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     /**
      * Retrieves and removes the batch of records from the head of the queue. The batch size is defined/determined by
      * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis. The timeoutInMillis
-     * is also used for retrieving each record
+     * is also used for retrieving each record. With adaptive batching, the batch size and a timeout of at most
+     * timeoutInMillis are chosen by the {@link AdaptiveBatchController}.
      *
      * @param timeoutInMillis how long to wait before giving up
      * @return The earliest batch of records in the buffer which are still not read.
      */
     @Override
     public Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis) {
+        final int readBatchSize = adaptiveBatchController == null ? batchSize : adaptiveBatchController.getBatchSize();
+        final int readTimeoutInMillis = adaptiveBatchController == null ? timeoutInMillis :
+                adaptiveBatchController.getDelayInMillis(timeoutInMillis);
         final List<T> records = new ArrayList<>();
         final Stopwatch stopwatch = Stopwatch.createStarted();
         try {
-            while (stopwatch.elapsed(TimeUnit.MILLISECONDS) < timeoutInMillis && records.size() < batchSize) {
-                final T record = blockingQueue.poll(timeoutInMillis, TimeUnit.MILLISECONDS);
+            while (stopwatch.elapsed(TimeUnit.MILLISECONDS) < readTimeoutInMillis && records.size() < readBatchSize) {
+                final T record = blockingQueue.poll(readTimeoutInMillis, TimeUnit.MILLISECONDS);
                 if (record != null) { //record can be null, avoiding adding nulls
                     records.add(record);
                 }
-                if (records.size() < batchSize) {
-                    blockingQueue.drainTo(records, batchSize - records.size());
+                if (records.size() < readBatchSize) {
+                    blockingQueue.drainTo(records, readBatchSize - records.size());
                 }
             }
         } catch (InterruptedException ex) {
             LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
             throw new RuntimeException(ex);
         }
-        final CheckpointState checkpointState = new CheckpointState(records.size());
+        if (adaptiveBatchController == null) {
+            final CheckpointState checkpointState = new CheckpointState(records.size());
+            return new AbstractMap.SimpleEntry<>(records, checkpointState);
+        }
+        adaptiveBatchController.onRead(records.size(), blockingQueue.size(), timeoutInMillis);
+        final CheckpointState checkpointState = new TimedCheckpointState(records.size(), System.nanoTime());
         return new AbstractMap.SimpleEntry<>(records, checkpointState);
     }
 
@@ -190,6 +246,10 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     public void doCheckpoint(final CheckpointState checkpointState) {
         final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
         capacitySemaphore.release(numCheckedRecords);
+        if (adaptiveBatchController != null && checkpointState instanceof TimedCheckpointState) {
+            adaptiveBatchController.onCheckpoint(numCheckedRecords,
+                    System.nanoTime() - ((TimedCheckpointState) checkpointState).getReadTimeNanos());
+        }
     }
 
     @Override
@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+
+/**
+ * The {@link CheckpointState} of a batch read from a {@link BlockingBuffer} with adaptive batching. It carries the
+ * time the batch was read, so checkpointing the batch tells the {@link AdaptiveBatchController} how long the
+ * processors and sinks took for it.
+ */
+class TimedCheckpointState extends CheckpointState {
+    private final long readTimeNanos;
+
+    TimedCheckpointState(final int numRecordsToBeChecked, final long readTimeNanos) {
+        super(numRecordsToBeChecked);
+        this.readTimeNanos = readTimeNanos;
+    }
+
+    long getReadTimeNanos() {
+        return readTimeNanos;
+    }
+}
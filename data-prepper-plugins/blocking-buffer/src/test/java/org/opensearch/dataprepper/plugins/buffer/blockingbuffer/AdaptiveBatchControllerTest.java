@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveBatchControllerTest {
+    private static final int MAX_DELAY = 1_000;
+
+    private AdaptiveBatchController createObjectUnderTest() {
+        return new AdaptiveBatchController(100, 10, 800, 20);
+    }
+
+    @Test
+    void constructor_throws_if_initial_batch_size_is_out_of_bounds() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchController(5, 10, 800, 20));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchController(900, 10, 800, 20));
+    }
+
+    @Test
+    void constructor_throws_if_max_batch_size_is_less_than_min_batch_size() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchController(10, 10, 5, 20));
+    }
+
+    @Test
+    void constructor_throws_if_min_delay_is_negative() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchController(100, 10, 800, -1));
+    }
+
+    @Test
+    void initial_values_are_the_batch_size_and_the_pipeline_delay() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(100));
+        assertThat(objectUnderTest.getDelayInMillis(MAX_DELAY), equalTo(MAX_DELAY));
+        assertThat(objectUnderTest.getCurrentDelayInMillis(), equalTo(0));
+    }
+
+    @Test
+    void onRead_with_backlog_grows_batch_size_up_to_max_and_shortens_delay() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.onRead(100, 5_000, MAX_DELAY);
+        assertThat(objectUnderTest.getBatchSize(), equalTo(200));
+        assertThat(objectUnderTest.getDelayInMillis(MAX_DELAY), equalTo(500));
+
+        for (int i = 0; i < 10; i++) {
+            objectUnderTest.onRead(objectUnderTest.getBatchSize(), 5_000, MAX_DELAY);
+        }
+        assertThat(objectUnderTest.getBatchSize(), equalTo(800));
+        assertThat(objectUnderTest.getDelayInMillis(MAX_DELAY), equalTo(20));
+        assertThat(objectUnderTest.getCurrentDelayInMillis(), equalTo(20));
+    }
+
+    @Test
+    void onRead_with_backlog_shrinks_batch_size_when_record_latency_got_worse() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest();
+        objectUnderTest.onCheckpoint(100, TimeUnit.MILLISECONDS.toNanos(100));
+        objectUnderTest.onRead(100, 5_000, MAX_DELAY);
+        assertThat(objectUnderTest.getBatchSize(), equalTo(200));
+
+        objectUnderTest.onCheckpoint(200, TimeUnit.MILLISECONDS.toNanos(2_000));
+        objectUnderTest.onRead(200, 5_000, MAX_DELAY);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(150));
+    }
+
+    @Test
+    void onRead_with_partial_batch_shrinks_batch_size_and_delay() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.onRead(50, 0, MAX_DELAY);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(75));
+        assertThat(objectUnderTest.getDelayInMillis(MAX_DELAY), equalTo(500));
+    }
+
+    @Test
+    void onRead_with_less_than_min_batch_size_lengthens_delay_up_to_pipeline_delay() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest();
+        objectUnderTest.onRead(50, 0, MAX_DELAY);
+        objectUnderTest.onRead(50, 0, MAX_DELAY);
+        assertThat(objectUnderTest.getDelayInMillis(MAX_DELAY), equalTo(250));
+
+        objectUnderTest.onRead(0, 0, MAX_DELAY);
+        assertThat(objectUnderTest.getDelayInMillis(MAX_DELAY), equalTo(500));
+        objectUnderTest.onRead(0, 0, MAX_DELAY);
+        objectUnderTest.onRead(0, 0, MAX_DELAY);
+
+        assertThat(objectUnderTest.getDelayInMillis(MAX_DELAY), equalTo(MAX_DELAY));
+    }
+
+    @Test
+    void onRead_with_full_batch_and_no_backlog_keeps_values() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.onRead(100, 10, MAX_DELAY);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(100));
+        assertThat(objectUnderTest.getDelayInMillis(MAX_DELAY), equalTo(MAX_DELAY));
+    }
+
+    @Test
+    void getDelayInMillis_is_bounded_by_pipeline_delay() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getDelayInMillis(5), equalTo(5));
+    }
+}
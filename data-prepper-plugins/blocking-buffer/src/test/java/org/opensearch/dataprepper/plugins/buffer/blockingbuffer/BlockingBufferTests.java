@@ -225,6 +225,41 @@ public class BlockingBufferTests {
         verifyBufferUsageMetric(0.0);
     }
 
+    @Test
+    public void testAdaptiveBatchReadGrowsBatchSizeWithBacklog() throws Exception {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put("adaptive_batching", true);
+        pluginSetting.getSettings().put("min_batch_size", 1);
+        pluginSetting.getSettings().put("max_batch_size", 6);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        blockingBuffer.writeAll(generateBatchRecords(12), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> firstReadResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(firstReadResult.getKey().size(), is(TEST_BATCH_SIZE));
+        blockingBuffer.checkpoint(firstReadResult.getValue());
+        verifyAdaptiveMetric(BlockingBuffer.ADAPTIVE_BATCH_SIZE_METRIC, 6);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> secondReadResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(secondReadResult.getKey().size(), is(6));
+        assertEquals(6, secondReadResult.getValue().getNumRecordsToBeChecked());
+    }
+
+    @Test
+    public void testAdaptiveBatchReadShortensDelayForPartialBatches() throws Exception {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put("adaptive_batching", true);
+        pluginSetting.getSettings().put("min_batch_size", 1);
+        pluginSetting.getSettings().put("min_delay", 10);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(200);
+
+        assertThat(readResult.getKey().size(), is(2));
+        verifyAdaptiveMetric(BlockingBuffer.ADAPTIVE_BATCH_SIZE_METRIC, 2);
+        verifyAdaptiveMetric(BlockingBuffer.ADAPTIVE_DELAY_METRIC, 100);
+    }
+
     @Test
     public void testBufferIsEmpty() {
         final PluginSetting completePluginSetting = completePluginSettingForBlockingBuffer();
@@ -293,6 +328,14 @@ public class BlockingBufferTests {
         return results;
     }
 
+    private void verifyAdaptiveMetric(final String metricName, final double expectedValue) {
+        final Gauge gauge = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add(metricName).toString()).gauge();
+
+        assertThat(gauge.value(), is(expectedValue));
+    }
+
     public void verifyBufferUsageMetric(final double expectedBufferUsage) {
         final Gauge bufferUsage = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
                         .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
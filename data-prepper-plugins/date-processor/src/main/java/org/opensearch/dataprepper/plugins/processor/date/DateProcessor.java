@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -35,8 +36,10 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
 
     private String keyToParse;
+    private EventKey eventKeyToParse;
     private List<DateTimeFormatter> dateTimeFormatters;
     private final DateProcessorConfig dateProcessorConfig;
+    private final EventKey destinationKey;
 
     private final Counter dateProcessingMatchSuccessCounter;
     private final Counter dateProcessingMatchFailureCounter;
@@ -45,6 +48,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     public DateProcessor(PluginMetrics pluginMetrics, final DateProcessorConfig dateProcessorConfig) {
         super(pluginMetrics);
         this.dateProcessorConfig = dateProcessorConfig;
+        this.destinationKey = EventKey.of(dateProcessorConfig.getDestination());
 
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
@@ -67,7 +71,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
             }
 
             if (zonedDateTime != null)
-                record.getData().put(dateProcessorConfig.getDestination(), zonedDateTime);
+                record.getData().put(destinationKey, zonedDateTime);
         }
         return records;
     }
@@ -82,6 +86,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
             keyToParse = entry.getKey();
+            eventKeyToParse = keyToParse == null || keyToParse.isEmpty() ? null : EventKey.of(keyToParse);
             dateTimeFormatters = entry.getPatterns().stream().map(this::getSourceFormatter).collect(Collectors.toList());
         }
     }
@@ -120,7 +125,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private String getSourceTimestamp(final Record<Event> record) {
         try {
-            return record.getData().get(keyToParse, String.class);
+            return record.getData().get(eventKeyToParse, String.class);
         } catch (Exception e) {
             LOG.debug("Unable to find {} in event data.", keyToParse);
             return null;
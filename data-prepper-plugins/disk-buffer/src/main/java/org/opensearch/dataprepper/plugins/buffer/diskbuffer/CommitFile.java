@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * A small memory-mapped file holding the commit offset of the {@link DiskBuffer} as
+ * {@code [long segmentId][long recordOffset][int crc32]}. Every record before the offset in the segment, and every
+ * record of the earlier segments, has been checkpointed.
+ * <p>
+ * This class is not thread-safe.
+ */
+class CommitFile {
+    static final String FILE_NAME = "commit.dat";
+    private static final int SIZE = 2 * Long.BYTES + Integer.BYTES;
+
+    private final MappedByteBuffer mappedBuffer;
+
+    private CommitFile(final MappedByteBuffer mappedBuffer) {
+        this.mappedBuffer = mappedBuffer;
+    }
+
+    static CommitFile open(final Path directory) throws IOException {
+        try (final FileChannel fileChannel = FileChannel.open(directory.resolve(FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new CommitFile(fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, SIZE));
+        }
+    }
+
+    /**
+     * @return the last written commit offset, or empty if none was written or it is corrupt
+     */
+    Optional<Offset> read() {
+        final long segmentId = mappedBuffer.getLong(0);
+        final long recordOffset = mappedBuffer.getLong(Long.BYTES);
+        final int crc = mappedBuffer.getInt(2 * Long.BYTES);
+        if (crc == 0 || crc != checksum(segmentId, recordOffset)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Offset(segmentId, recordOffset));
+    }
+
+    void write(final long segmentId, final long recordOffset) {
+        mappedBuffer.putLong(0, segmentId);
+        mappedBuffer.putLong(Long.BYTES, recordOffset);
+        mappedBuffer.putInt(2 * Long.BYTES, checksum(segmentId, recordOffset));
+    }
+
+    private static int checksum(final long segmentId, final long recordOffset) {
+        final CRC32 crc32 = new CRC32();
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            crc32.update((int) (segmentId >>> shift));
+            crc32.update((int) (recordOffset >>> shift));
+        }
+        return (int) crc32.getValue();
+    }
+
+    static class Offset {
+        private final long segmentId;
+        private final long recordOffset;
+
+        Offset(final long segmentId, final long recordOffset) {
+            this.segmentId = segmentId;
+            this.recordOffset = recordOffset;
+        }
+
+        long getSegmentId() {
+            return segmentId;
+        }
+
+        long getRecordOffset() {
+            return recordOffset;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * A persistent implementation of {@link Buffer} which appends serialized events to fixed-size, memory-mapped
+ * {@link Segment} files under the configured path. Only the segments which are currently being written or read
+ * are mapped, so the buffer can be sized far beyond the Java heap.
+ * <p>
+ * Every record gets a sequence number. Reads hand out a {@link DiskBufferCheckpointState} with the sequence range of
+ * the batch, and {@link #checkpoint(CheckpointState)} advances the commit offset once all earlier batches are
+ * checkpointed as well. The commit offset is stored in a {@link CommitFile} and a segment is deleted once the commit
+ * offset moves past it. On startup, every record after the stored commit offset is replayed, which gives
+ * at-least-once delivery across restarts and crashes of the process.
+ * <p>
+ * Writes time out when writing the records would need more than {@link DiskBufferConfig#getMaxSize()} of segments.
+ */
+@DataPrepperPlugin(name = "disk_buffer", pluginType = Buffer.class, pluginConfigurationType = DiskBufferConfig.class)
+public class DiskBuffer extends AbstractBuffer<Record<Event>> {
+    private static final Logger LOG = LoggerFactory.getLogger(DiskBuffer.class);
+    static final String SEGMENTS_IN_USE = "segmentsInUse";
+    static final String RECORDS_REPLAYED = "recordsReplayed";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int batchSize;
+    private final String pipelineName;
+    private final EventCodec eventCodec;
+    private final CommitFile commitFile;
+    private final AtomicInteger segmentsInUse;
+    private final Counter recordsReplayedCounter;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final TreeMap<Long, Integer> checkpointedBatches = new TreeMap<>();
+    private Segment writeSegment;
+    private Segment readSegment;
+    private long writeSequence;
+    private long readSequence;
+    private long commitSequence;
+
+    @DataPrepperPluginConstructor
+    public DiskBuffer(final PluginSetting pluginSetting, final DiskBufferConfig diskBufferConfig) {
+        super(pluginSetting);
+        this.directory = Paths.get(diskBufferConfig.getPath());
+        this.segmentSize = (int) diskBufferConfig.getSegmentSize().getBytes();
+        this.maxSegments = (int) (diskBufferConfig.getMaxSize().getBytes() / segmentSize);
+        this.batchSize = diskBufferConfig.getBatchSize();
+        this.pipelineName = pluginSetting.getPipelineName();
+        this.eventCodec = new EventCodec(new ObjectMapper());
+        this.segmentsInUse = pluginMetrics.gauge(SEGMENTS_IN_USE, new AtomicInteger());
+        this.recordsReplayedCounter = pluginMetrics.counter(RECORDS_REPLAYED);
+
+        try {
+            Files.createDirectories(directory);
+            this.commitFile = CommitFile.open(directory);
+            recoverSegments();
+        } catch (final IOException ex) {
+            throw new RuntimeException(format("Pipeline [%s] - Unable to open the disk buffer at %s", pipelineName, directory), ex);
+        }
+    }
+
+    @Override
+    public void doWrite(final Record<Event> record, final int timeoutInMillis) throws TimeoutException {
+        try {
+            append(Collections.singletonList(encode(record)), timeoutInMillis);
+        } catch (final SizeOverflowException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public void doWriteAll(final Collection<Record<Event>> records, final int timeoutInMillis) throws Exception {
+        final List<byte[]> payloads = new ArrayList<>(records.size());
+        for (final Record<Event> record : records) {
+            payloads.add(encode(record));
+        }
+        append(payloads, timeoutInMillis);
+    }
+
+    /**
+     * Retrieves the batch of records from the head of the buffer. The batch size is defined by
+     * {@link DiskBufferConfig#getBatchSize()}. This waits until a full batch is available or the timeout elapses.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<Record<Event>>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<byte[]> payloads;
+        final long firstSequence;
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            while (writeSequence - readSequence < batchSize && remainingNanos > 0) {
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            final int recordsToRead = (int) Math.min(batchSize, writeSequence - readSequence);
+            payloads = new ArrayList<>(recordsToRead);
+            firstSequence = readSequence;
+            for (int i = 0; i < recordsToRead; i++) {
+                while (!readSegment.hasUnreadRecords()) {
+                    readSegment = segments.higherEntry(readSegment.getId()).getValue();
+                }
+                payloads.add(readSegment.readNext());
+                readSequence++;
+            }
+            if (writeSequence - readSequence >= batchSize) {
+                notEmpty.signal();
+            }
+        } catch (final InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(ex);
+        } catch (final IOException ex) {
+            throw new RuntimeException(format("Pipeline [%s] - Unable to read from the disk buffer", pipelineName), ex);
+        } finally {
+            lock.unlock();
+        }
+
+        final List<Record<Event>> records = new ArrayList<>(payloads.size());
+        for (final byte[] payload : payloads) {
+            try {
+                records.add(new Record<>(eventCodec.decode(payload)));
+            } catch (final IOException ex) {
+                throw new RuntimeException(format("Pipeline [%s] - Unable to deserialize a record from the disk buffer", pipelineName), ex);
+            }
+        }
+        return new AbstractMap.SimpleEntry<>(records, new DiskBufferCheckpointState(firstSequence, records.size()));
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        if (checkpointState.getNumRecordsToBeChecked() == 0) {
+            return;
+        }
+        final DiskBufferCheckpointState diskBufferCheckpointState = (DiskBufferCheckpointState) checkpointState;
+        lock.lock();
+        try {
+            checkpointedBatches.put(diskBufferCheckpointState.getFirstSequence(), diskBufferCheckpointState.getNumRecordsToBeChecked());
+            Integer batchLength;
+            while ((batchLength = checkpointedBatches.remove(commitSequence)) != null) {
+                commitSequence += batchLength;
+            }
+
+            boolean segmentDeleted = false;
+            Segment oldestSegment = segments.firstEntry().getValue();
+            while (oldestSegment != writeSegment && oldestSegment.getEndSequence() <= commitSequence) {
+                segments.pollFirstEntry();
+                oldestSegment.delete();
+                segmentDeleted = true;
+                oldestSegment = segments.firstEntry().getValue();
+            }
+            commitFile.write(oldestSegment.getId(), commitSequence - oldestSegment.getFirstSequence());
+            if (segmentDeleted) {
+                segmentsInUse.set(segments.size());
+                notFull.signalAll();
+            }
+        } catch (final IOException ex) {
+            LOG.error("Pipeline [{}] - Unable to delete a committed segment of the disk buffer", pipelineName, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return writeSequence == readSequence && getRecordsInFlight() == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private byte[] encode(final Record<Event> record) {
+        try {
+            return eventCodec.encode(record.getData());
+        } catch (final IOException ex) {
+            throw new RuntimeException(format("Pipeline [%s] - Unable to serialize the record for the disk buffer", pipelineName), ex);
+        }
+    }
+
+    /**
+     * Appends all payloads, or none of them if the segments needed for them do not become available before the
+     * timeout.
+     */
+    private void append(final List<byte[]> payloads, final int timeoutInMillis) throws TimeoutException, SizeOverflowException {
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            int additionalSegments = countAdditionalSegments(payloads);
+            while (segments.size() + additionalSegments > maxSegments) {
+                if (additionalSegments >= maxSegments) {
+                    throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", payloads.size()));
+                }
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException(format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
+                            "timed out waiting for segments.", pipelineName, payloads.size()));
+                }
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+                // other writers may have appended to the write segment in the meantime
+                additionalSegments = countAdditionalSegments(payloads);
+            }
+            for (final byte[] payload : payloads) {
+                if (!writeSegment.append(payload)) {
+                    rollWriteSegment();
+                    writeSegment.append(payload);
+                }
+                writeSequence++;
+            }
+            if (writeSequence - readSequence >= batchSize) {
+                notEmpty.signal();
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Interrupted while waiting to write {} records into the disk buffer", pipelineName, payloads.size(), ex);
+            throw new TimeoutException("Buffer is full, timed out waiting for segments");
+        } catch (final IOException ex) {
+            throw new RuntimeException(format("Pipeline [%s] - Unable to create a new segment for the disk buffer", pipelineName), ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int countAdditionalSegments(final List<byte[]> payloads) throws SizeOverflowException {
+        int additionalSegments = 0;
+        int remainingBytes = writeSegment.getRemainingBytes();
+        for (final byte[] payload : payloads) {
+            final int frameSize = Segment.frameSize(payload);
+            if (frameSize > segmentSize) {
+                throw new SizeOverflowException(format("Record of %d bytes does not fit into a segment of %d bytes", frameSize, segmentSize));
+            }
+            if (frameSize > remainingBytes) {
+                additionalSegments++;
+                remainingBytes = segmentSize;
+            }
+            remainingBytes -= frameSize;
+        }
+        return additionalSegments;
+    }
+
+    private void rollWriteSegment() throws IOException {
+        writeSegment.seal();
+        writeSegment = Segment.create(directory, writeSegment.getId() + 1, writeSequence, segmentSize);
+        segments.put(writeSegment.getId(), writeSegment);
+        segmentsInUse.set(segments.size());
+    }
+
+    /**
+     * Opens the segments left by a previous run, deletes the ones before the commit offset and positions the read
+     * cursor at the commit offset, so every uncommitted record is read again.
+     */
+    private void recoverSegments() throws IOException {
+        final List<Path> segmentFiles;
+        try (final Stream<Path> files = Files.list(directory)) {
+            segmentFiles = files.filter(Segment::isSegmentFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        final Optional<CommitFile.Offset> commitOffset = commitFile.read();
+        long nextSegmentId = 0;
+        for (final Path segmentFile : segmentFiles) {
+            final long segmentId = Segment.parseId(segmentFile);
+            nextSegmentId = Math.max(nextSegmentId, segmentId + 1);
+            if (commitOffset.isPresent() && segmentId < commitOffset.get().getSegmentId()) {
+                Files.delete(segmentFile);
+                continue;
+            }
+            final Segment segment = Segment.open(segmentFile, segmentId, writeSequence);
+            if (segment.getRecordCount() == 0) {
+                segment.delete();
+                continue;
+            }
+            if (segments.isEmpty() && commitOffset.isPresent() && segmentId == commitOffset.get().getSegmentId()) {
+                final int committedRecords = (int) Math.min(commitOffset.get().getRecordOffset(), segment.getRecordCount());
+                segment.skip(committedRecords);
+                readSequence = committedRecords;
+                commitSequence = committedRecords;
+            }
+            segments.put(segmentId, segment);
+            writeSequence = segment.getEndSequence();
+        }
+
+        writeSegment = Segment.create(directory, nextSegmentId, writeSequence, segmentSize);
+        segments.put(writeSegment.getId(), writeSegment);
+        readSegment = segments.firstEntry().getValue();
+        segmentsInUse.set(segments.size());
+
+        final long replayedRecords = writeSequence - readSequence;
+        if (replayedRecords > 0) {
+            LOG.info("Pipeline [{}] - Replaying {} uncommitted records from {} segments of the disk buffer at {}",
+                    pipelineName, replayedRecords, segments.size() - 1, directory);
+            recordsReplayedCounter.increment(replayedRecords);
+        }
+    }
+}
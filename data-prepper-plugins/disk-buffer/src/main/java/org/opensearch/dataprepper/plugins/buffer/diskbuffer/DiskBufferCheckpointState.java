@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+
+/**
+ * A {@link CheckpointState} which also knows the position of its batch in the {@link DiskBuffer}, so batches can be
+ * checkpointed out of order without committing records which are still in flight.
+ */
+class DiskBufferCheckpointState extends CheckpointState {
+    private final long firstSequence;
+
+    DiskBufferCheckpointState(final long firstSequence, final int numRecordsToBeChecked) {
+        super(numRecordsToBeChecked);
+        this.firstSequence = firstSequence;
+    }
+
+    long getFirstSequence() {
+        return firstSequence;
+    }
+}
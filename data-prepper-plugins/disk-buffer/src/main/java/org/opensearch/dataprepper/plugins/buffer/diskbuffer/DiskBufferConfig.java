@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+public class DiskBufferConfig {
+    static final String DEFAULT_SEGMENT_SIZE = "64mb";
+    static final String DEFAULT_MAX_SIZE = "1gb";
+    static final int DEFAULT_BATCH_SIZE = 200;
+    static final long MIN_SEGMENT_SIZE_BYTES = 1024 * 1024;
+    static final long MAX_SEGMENT_SIZE_BYTES = 1024 * 1024 * 1024;
+
+    @JsonProperty("path")
+    @NotEmpty
+    private String path;
+
+    @JsonProperty("segment_size")
+    private ByteCount segmentSize = ByteCount.parse(DEFAULT_SEGMENT_SIZE);
+
+    @JsonProperty("max_size")
+    private ByteCount maxSize = ByteCount.parse(DEFAULT_MAX_SIZE);
+
+    @JsonProperty("batch_size")
+    @Min(1)
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    public String getPath() {
+        return path;
+    }
+
+    public ByteCount getSegmentSize() {
+        return segmentSize;
+    }
+
+    public ByteCount getMaxSize() {
+        return maxSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @AssertTrue(message = "segment_size must be between 1mb and 1gb")
+    public boolean isSegmentSizeValid() {
+        return segmentSize.getBytes() >= MIN_SEGMENT_SIZE_BYTES && segmentSize.getBytes() <= MAX_SEGMENT_SIZE_BYTES;
+    }
+
+    @AssertTrue(message = "max_size must be at least twice the segment_size")
+    public boolean isMaxSizeValid() {
+        return maxSize.getBytes() >= 2 * segmentSize.getBytes();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.EventType;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Serializes an {@link Event} with its {@link EventMetadata} into the payload of a {@link Segment} frame and back.
+ * Spans are restored as {@link JacksonSpan}s and every other event as a {@link JacksonEvent} of the same event type.
+ */
+class EventCodec {
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
+
+    private final ObjectMapper objectMapper;
+
+    EventCodec(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    byte[] encode(final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final DataOutputStream outputStream = new DataOutputStream(byteArrayOutputStream)) {
+            outputStream.writeUTF(eventMetadata.getEventType());
+            outputStream.writeLong(eventMetadata.getTimeReceived().getEpochSecond());
+            outputStream.writeInt(eventMetadata.getTimeReceived().getNano());
+            writeBytes(outputStream, objectMapper.writeValueAsBytes(eventMetadata.getAttributes()));
+            // Span#toJsonString flattens the span attributes, so spans are written from their map representation
+            final byte[] data = event instanceof Span
+                    ? objectMapper.writeValueAsBytes(event.toMap())
+                    : event.toJsonString().getBytes(StandardCharsets.UTF_8);
+            writeBytes(outputStream, data);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    Event decode(final byte[] payload) throws IOException {
+        try (final DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(payload))) {
+            final String eventType = inputStream.readUTF();
+            final Instant timeReceived = Instant.ofEpochSecond(inputStream.readLong(), inputStream.readInt());
+            final Map<String, Object> attributes = objectMapper.readValue(readBytes(inputStream), MAP_TYPE_REFERENCE);
+            final String data = new String(readBytes(inputStream), StandardCharsets.UTF_8);
+
+            final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                    .withEventType(eventType)
+                    .withTimeReceived(timeReceived)
+                    .withAttributes(attributes)
+                    .build();
+
+            if (EventType.TRACE.toString().equalsIgnoreCase(eventType)) {
+                return JacksonSpan.builder()
+                        .withJsonData(data)
+                        .withEventMetadata(eventMetadata)
+                        .build();
+            }
+            return JacksonEvent.builder()
+                    .withData(data)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+    }
+
+    private static void writeBytes(final DataOutputStream outputStream, final byte[] bytes) throws IOException {
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    private static byte[] readBytes(final DataInputStream inputStream) throws IOException {
+        final byte[] bytes = new byte[inputStream.readInt()];
+        inputStream.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+
+/**
+ * A fixed-size, memory-mapped segment file of the {@link DiskBuffer}. Records are appended as frames of
+ * {@code [int length][int crc32][payload]}. The file is zero-filled on creation, so a zero length marks the end
+ * of the written frames. A torn or corrupt frame found while opening an existing segment ends the segment.
+ * <p>
+ * The file is unmapped explicitly once no further reads or writes can happen on the segment, and before it is
+ * deleted, so that the mappings of segments do not keep address space and disk space in use until they are garbage
+ * collected. If the JVM does not allow unmapping, the mapping is left to the garbage collector.
+ * <p>
+ * This class is not thread-safe. The {@link DiskBuffer} guards every segment with its own lock.
+ */
+class Segment {
+    private static final Logger LOG = LoggerFactory.getLogger(Segment.class);
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+    static final String FILE_PREFIX = "segment-";
+    static final String FILE_SUFFIX = ".dat";
+    static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final long id;
+    private final Path path;
+    private final long firstSequence;
+    private final int capacity;
+    private MappedByteBuffer mappedBuffer;
+    private int writePosition;
+    private int recordCount;
+    private int readPosition;
+    private int recordsRead;
+    private boolean sealed;
+
+    private Segment(final long id, final Path path, final long firstSequence, final int capacity) {
+        this.id = id;
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a new, empty segment file.
+     */
+    static Segment create(final Path directory, final long id, final long firstSequence, final int capacity) throws IOException {
+        final Segment segment = new Segment(id, directory.resolve(fileName(id)), firstSequence, capacity);
+        segment.map(true);
+        return segment;
+    }
+
+    /**
+     * Opens a segment file written by a previous run. The segment is sealed, so no further records are appended.
+     */
+    static Segment open(final Path path, final long id, final long firstSequence) throws IOException {
+        final Segment segment = new Segment(id, path, firstSequence, (int) Files.size(path));
+        segment.map(false);
+        segment.scan();
+        segment.sealed = true;
+        segment.unmap();
+        return segment;
+    }
+
+    static String fileName(final long id) {
+        return format("%s%020d%s", FILE_PREFIX, id, FILE_SUFFIX);
+    }
+
+    static boolean isSegmentFile(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return fileName.startsWith(FILE_PREFIX) && fileName.endsWith(FILE_SUFFIX);
+    }
+
+    static long parseId(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+    }
+
+    static int frameSize(final byte[] payload) {
+        return FRAME_HEADER_BYTES + payload.length;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    long getFirstSequence() {
+        return firstSequence;
+    }
+
+    long getEndSequence() {
+        return firstSequence + recordCount;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    int getRemainingBytes() {
+        return sealed ? 0 : capacity - writePosition;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    boolean hasUnreadRecords() {
+        return recordsRead < recordCount;
+    }
+
+    /**
+     * Appends the payload as a new frame.
+     *
+     * @return false if the segment is sealed or does not have enough room left for the frame
+     */
+    boolean append(final byte[] payload) {
+        if (frameSize(payload) > getRemainingBytes()) {
+            return false;
+        }
+        final CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        mappedBuffer.position(writePosition + FRAME_HEADER_BYTES);
+        mappedBuffer.put(payload);
+        mappedBuffer.putInt(writePosition + Integer.BYTES, (int) crc32.getValue());
+        // the length is written last so a partially written frame is never mistaken for a complete one
+        mappedBuffer.putInt(writePosition, payload.length);
+        writePosition += frameSize(payload);
+        recordCount++;
+        return true;
+    }
+
+    /**
+     * Reads the payload of the next unread frame.
+     */
+    byte[] readNext() throws IOException {
+        if (!hasUnreadRecords()) {
+            throw new IllegalStateException(format("Segment %s has no unread records", path));
+        }
+        if (mappedBuffer == null) {
+            map(false);
+        }
+        final int length = mappedBuffer.getInt(readPosition);
+        final byte[] payload = new byte[length];
+        mappedBuffer.position(readPosition + FRAME_HEADER_BYTES);
+        mappedBuffer.get(payload);
+        readPosition += FRAME_HEADER_BYTES + length;
+        recordsRead++;
+        releaseIfDone();
+        return payload;
+    }
+
+    /**
+     * Skips over the given number of unread records without reading their payloads.
+     */
+    void skip(final int records) throws IOException {
+        if (records <= 0) {
+            return;
+        }
+        if (mappedBuffer == null) {
+            map(false);
+        }
+        for (int i = 0; i < records && hasUnreadRecords(); i++) {
+            readPosition += FRAME_HEADER_BYTES + mappedBuffer.getInt(readPosition);
+            recordsRead++;
+        }
+        releaseIfDone();
+    }
+
+    /**
+     * Seals the segment, so no more records are appended, and flushes it to the storage device.
+     */
+    void seal() {
+        if (sealed) {
+            return;
+        }
+        sealed = true;
+        mappedBuffer.force();
+        releaseIfDone();
+    }
+
+    void delete() throws IOException {
+        unmap();
+        Files.deleteIfExists(path);
+    }
+
+    private void releaseIfDone() {
+        // the mapping is released once no further reads or writes can happen on this segment
+        if (sealed && !hasUnreadRecords()) {
+            unmap();
+        }
+    }
+
+    /**
+     * Releases the mapping of the file. The mapped buffer must not be accessed afterwards, so it is only referenced
+     * by this segment.
+     */
+    private void unmap() {
+        final MappedByteBuffer buffer = mappedBuffer;
+        mappedBuffer = null;
+        if (buffer == null || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        } catch (final Throwable e) {
+            LOG.warn("Unable to unmap segment {} of the disk buffer, it is unmapped once garbage collected", path, e);
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(unsafeField.get(null));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Segments of the disk buffer cannot be unmapped explicitly, they are unmapped once garbage collected", e);
+            return null;
+        }
+    }
+
+    private void map(final boolean create) throws IOException {
+        final StandardOpenOption[] openOptions = create
+                ? new StandardOpenOption[]{StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        try (final FileChannel fileChannel = FileChannel.open(path, openOptions)) {
+            mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+
+    private void scan() {
+        final CRC32 crc32 = new CRC32();
+        while (writePosition + FRAME_HEADER_BYTES <= capacity) {
+            final int length = mappedBuffer.getInt(writePosition);
+            if (length <= 0 || length > capacity - writePosition - FRAME_HEADER_BYTES) {
+                break;
+            }
+            final byte[] payload = new byte[length];
+            mappedBuffer.position(writePosition + FRAME_HEADER_BYTES);
+            mappedBuffer.get(payload);
+            crc32.reset();
+            crc32.update(payload);
+            if ((int) crc32.getValue() != mappedBuffer.getInt(writePosition + Integer.BYTES)) {
+                break;
+            }
+            writePosition += FRAME_HEADER_BYTES + length;
+            recordCount++;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DiskBufferTest {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final int TEST_BATCH_SIZE = 10;
+    private static final int TEST_WRITE_TIMEOUT = 100;
+    private static final int TEST_READ_TIMEOUT = 10;
+    private static final String PADDING = String.join("", Collections.nCopies(1000, "x"));
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private DiskBufferConfig diskBufferConfig;
+
+    private PluginSetting pluginSetting;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+
+        pluginSetting = new PluginSetting("disk_buffer", new HashMap<>());
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+
+        when(diskBufferConfig.getPath()).thenReturn(directory.toString());
+        when(diskBufferConfig.getSegmentSize()).thenReturn(ByteCount.parse("1mb"));
+        when(diskBufferConfig.getMaxSize()).thenReturn(ByteCount.parse("3mb"));
+        when(diskBufferConfig.getBatchSize()).thenReturn(TEST_BATCH_SIZE);
+    }
+
+    private DiskBuffer createObjectUnderTest() {
+        return new DiskBuffer(pluginSetting, diskBufferConfig);
+    }
+
+    @Test
+    void new_buffer_is_empty() {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+
+        assertTrue(objectUnderTest.isEmpty());
+        assertThat(objectUnderTest.read(TEST_READ_TIMEOUT).getKey().size(), equalTo(0));
+    }
+
+    @Test
+    void read_returns_written_records_in_order_and_in_batches() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = generateRecords(15);
+        objectUnderTest.writeAll(records.subList(0, 5), TEST_WRITE_TIMEOUT);
+        for (final Record<Event> record : records.subList(5, 15)) {
+            objectUnderTest.write(record, TEST_WRITE_TIMEOUT);
+        }
+        assertFalse(objectUnderTest.isEmpty());
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> firstBatch = objectUnderTest.read(TEST_READ_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> secondBatch = objectUnderTest.read(TEST_READ_TIMEOUT);
+
+        assertThat(firstBatch.getValue().getNumRecordsToBeChecked(), equalTo(TEST_BATCH_SIZE));
+        assertThat(secondBatch.getValue().getNumRecordsToBeChecked(), equalTo(5));
+        final List<Record<Event>> readRecords = new ArrayList<>(firstBatch.getKey());
+        readRecords.addAll(secondBatch.getKey());
+        assertThat(ids(readRecords), equalTo(ids(records)));
+        assertFalse(objectUnderTest.isEmpty());
+
+        objectUnderTest.checkpoint(firstBatch.getValue());
+        objectUnderTest.checkpoint(secondBatch.getValue());
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void read_restores_event_metadata() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final Event event = JacksonEvent.builder()
+                .withEventType("LOG")
+                .withEventMetadataAttributes(Collections.singletonMap("key", "value"))
+                .withData(Collections.singletonMap("message", "hello"))
+                .build();
+        objectUnderTest.write(new Record<>(event), TEST_WRITE_TIMEOUT);
+
+        final Event readEvent = objectUnderTest.read(TEST_READ_TIMEOUT).getKey().iterator().next().getData();
+
+        assertThat(readEvent, instanceOf(JacksonEvent.class));
+        assertThat(readEvent.toMap(), equalTo(event.toMap()));
+        assertThat(readEvent.getMetadata().getEventType(), equalTo("LOG"));
+        assertThat(readEvent.getMetadata().getTimeReceived(), equalTo(event.getMetadata().getTimeReceived()));
+        assertThat(readEvent.getMetadata().getAttributes(), equalTo(event.getMetadata().getAttributes()));
+    }
+
+    @Test
+    void writeAll_throws_SizeOverflowException_when_records_cannot_fit_into_max_size() {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+
+        assertThrows(SizeOverflowException.class,
+                () -> objectUnderTest.writeAll(generateRecords(4000), TEST_WRITE_TIMEOUT));
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void writeAll_times_out_when_no_segment_is_available_and_succeeds_after_checkpoint() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(generateRecords(1500), TEST_WRITE_TIMEOUT);
+        final List<Record<Event>> records = generateRecords(1500);
+
+        assertThrows(TimeoutException.class, () -> objectUnderTest.writeAll(records, TEST_WRITE_TIMEOUT));
+
+        readAndCheckpointAll(objectUnderTest);
+        objectUnderTest.writeAll(records, TEST_WRITE_TIMEOUT);
+        assertThat(ids(readAndCheckpointAll(objectUnderTest)), equalTo(ids(records)));
+    }
+
+    @Test
+    void checkpoint_deletes_committed_segments() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(generateRecords(1500), TEST_WRITE_TIMEOUT);
+        assertThat(countSegmentFiles(), equalTo(2L));
+
+        readAndCheckpointAll(objectUnderTest);
+
+        assertThat(countSegmentFiles(), equalTo(1L));
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void uncommitted_records_are_replayed_after_restart() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = generateRecords(25);
+        objectUnderTest.writeAll(records, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> firstBatch = objectUnderTest.read(TEST_READ_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> secondBatch = objectUnderTest.read(TEST_READ_TIMEOUT);
+        objectUnderTest.checkpoint(firstBatch.getValue());
+        objectUnderTest.read(TEST_READ_TIMEOUT);
+
+        final DiskBuffer restartedBuffer = createObjectUnderTest();
+
+        assertFalse(restartedBuffer.isEmpty());
+        assertThat(ids(readAndCheckpointAll(restartedBuffer)), equalTo(ids(records.subList(TEST_BATCH_SIZE, 25))));
+        assertThat(ids(secondBatch.getKey()), equalTo(ids(records.subList(TEST_BATCH_SIZE, 2 * TEST_BATCH_SIZE))));
+    }
+
+    @Test
+    void out_of_order_checkpoint_does_not_commit_earlier_batches() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = generateRecords(20);
+        objectUnderTest.writeAll(records, TEST_WRITE_TIMEOUT);
+        objectUnderTest.read(TEST_READ_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> secondBatch = objectUnderTest.read(TEST_READ_TIMEOUT);
+        objectUnderTest.checkpoint(secondBatch.getValue());
+
+        final DiskBuffer restartedBuffer = createObjectUnderTest();
+
+        assertThat(ids(readAndCheckpointAll(restartedBuffer)), equalTo(ids(records)));
+    }
+
+    @Test
+    void fully_committed_buffer_is_empty_after_restart() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(generateRecords(20), TEST_WRITE_TIMEOUT);
+        readAndCheckpointAll(objectUnderTest);
+
+        final DiskBuffer restartedBuffer = createObjectUnderTest();
+
+        assertTrue(restartedBuffer.isEmpty());
+        assertThat(restartedBuffer.read(TEST_READ_TIMEOUT).getKey().size(), equalTo(0));
+    }
+
+    private List<Record<Event>> readAndCheckpointAll(final DiskBuffer diskBuffer) {
+        final List<Record<Event>> records = new ArrayList<>();
+        Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = diskBuffer.read(TEST_READ_TIMEOUT);
+        while (!readResult.getKey().isEmpty()) {
+            records.addAll(readResult.getKey());
+            diskBuffer.checkpoint(readResult.getValue());
+            readResult = diskBuffer.read(TEST_READ_TIMEOUT);
+        }
+        return records;
+    }
+
+    private long countSegmentFiles() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(Segment::isSegmentFile).count();
+        }
+    }
+
+    private static List<Record<Event>> generateRecords(final int numRecords) {
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            final Map<String, Object> data = new HashMap<>();
+            data.put("id", UUID.randomUUID().toString());
+            data.put("padding", PADDING);
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(data)
+                    .build()));
+        }
+        return records;
+    }
+
+    private static List<String> ids(final Collection<Record<Event>> records) {
+        return records.stream()
+                .map(record -> record.getData().get("id", String.class))
+                .collect(Collectors.toList());
+    }
+}
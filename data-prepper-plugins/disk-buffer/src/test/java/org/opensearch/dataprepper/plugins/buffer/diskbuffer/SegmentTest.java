@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentTest {
+    private static final int TEST_SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    private Segment createSegmentWithRecords(final long id, final String... records) throws IOException {
+        final Segment segment = Segment.create(directory, id, 0, TEST_SEGMENT_SIZE);
+        for (final String record : records) {
+            assertTrue(segment.append(record.getBytes(StandardCharsets.UTF_8)));
+        }
+        return segment;
+    }
+
+    private static String readNext(final Segment segment) throws IOException {
+        return new String(segment.readNext(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void sealed_segment_is_released_after_all_records_are_read() throws IOException {
+        final Segment objectUnderTest = createSegmentWithRecords(0, "a", "b");
+        objectUnderTest.seal();
+
+        assertThat(readNext(objectUnderTest), equalTo("a"));
+        assertThat(readNext(objectUnderTest), equalTo("b"));
+
+        assertFalse(objectUnderTest.hasUnreadRecords());
+        assertFalse(objectUnderTest.append("c".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalStateException.class, objectUnderTest::readNext);
+    }
+
+    @Test
+    void opened_segment_is_mapped_again_to_read_records_after_it_was_unmapped() throws IOException {
+        final Segment segment = createSegmentWithRecords(0, "a", "b", "c");
+        segment.seal();
+
+        final Segment objectUnderTest = Segment.open(directory.resolve(Segment.fileName(0)), 0, 0);
+        assertThat(objectUnderTest.getRecordCount(), equalTo(3));
+        objectUnderTest.skip(1);
+        assertThat(readNext(objectUnderTest), equalTo("b"));
+        assertThat(readNext(objectUnderTest), equalTo("c"));
+        assertFalse(objectUnderTest.hasUnreadRecords());
+    }
+
+    @Test
+    void delete_removes_segment_file_of_mapped_and_released_segments() throws IOException {
+        final Segment mappedSegment = createSegmentWithRecords(0, "a");
+        final Segment releasedSegment = createSegmentWithRecords(1, "b");
+        releasedSegment.seal();
+        readNext(releasedSegment);
+
+        mappedSegment.delete();
+        releasedSegment.delete();
+
+        assertFalse(Files.exists(directory.resolve(Segment.fileName(0))));
+        assertFalse(Files.exists(directory.resolve(Segment.fileName(1))));
+    }
+}
@@ -32,6 +32,10 @@ class DropEventsWhenCondition {
         handleFailedEventsSetting = builder.handleFailedEventsSetting;
         expressionEvaluator = builder.expressionEvaluator;
         notAlwaysTrue = !Objects.equals(dropWhen, HARDCODED_TRUE);
+
+        if (notAlwaysTrue) {
+            expressionEvaluator.precompile(dropWhen);
+        }
     }
 
     /**
@@ -14,6 +14,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluationException;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
 import java.util.UUID;
@@ -23,11 +24,13 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +56,7 @@ class DropEventsWhenConditionTest {
                 .build();
 
         assertThat(whenCondition.isNotAlwaysTrue(), is(false));
+        verify(evaluator, never()).precompile(any());
     }
 
     @Test
@@ -71,6 +75,27 @@ class DropEventsWhenConditionTest {
                 .build();
 
         assertThat(whenCondition.isNotAlwaysTrue(), is(true));
+        verify(evaluator).precompile("false");
+    }
+
+    @Test
+    void testInvalidWhenSettingThrowsOnBuild() {
+        final String whenStatement = UUID.randomUUID().toString();
+        doReturn(HandleFailedEventsOption.SKIP)
+                .when(dropEventProcessorConfig)
+                .getHandleFailedEventsOption();
+        doReturn(whenStatement)
+                .when(dropEventProcessorConfig)
+                .getDropWhen();
+        doThrow(ExpressionEvaluationException.class)
+                .when(evaluator)
+                .precompile(whenStatement);
+
+        final DropEventsWhenCondition.Builder builder = new DropEventsWhenCondition.Builder()
+                .withDropEventsProcessorConfig(dropEventProcessorConfig)
+                .withExpressionEvaluator(evaluator);
+
+        assertThrows(ExpressionEvaluationException.class, builder::build);
     }
 
     @Test
@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.SingleThread;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -73,7 +74,9 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<EventKey, List<Grok>> fieldToGrok;
+    private final EventKey targetKey;
+    private final Map<String, EventKey> captureKeys;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
     private final ExecutorService executorService;
@@ -88,6 +91,8 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
+        this.targetKey = grokProcessorConfig.getTargetKey() == null ? null : EventKey.of(grokProcessorConfig.getTargetKey());
+        this.captureKeys = new HashMap<>();
         this.executorService = executorService;
 
         grokProcessingMatchCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH);
@@ -206,7 +211,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            fieldToGrok.put(EventKey.of(entry.getKey()), entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokProcessorConfig.isNamedCapturesOnly()))
                             .collect(Collectors.toList()));
@@ -216,9 +221,9 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
+        for (final Map.Entry<EventKey, List<Grok>> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
             for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
                 if (value != null && !value.isEmpty()) {
                     final Match match = grok.match(value);
                     match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
@@ -236,8 +241,8 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
             }
         }
 
-        if (grokProcessorConfig.getTargetKey() != null) {
-            event.put(grokProcessorConfig.getTargetKey(), grokkedCaptures);
+        if (targetKey != null) {
+            event.put(targetKey, grokkedCaptures);
         } else {
             mergeCaptures(event, grokkedCaptures);
         }
@@ -268,21 +273,22 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void mergeCaptures(final Event event, final Map<String, Object> updates) {
         for (final Map.Entry<String, Object> updateEntry : updates.entrySet()) {
+            final EventKey key = captureKeys.computeIfAbsent(updateEntry.getKey(), EventKey::of);
 
-            if (!(event.containsKey(updateEntry.getKey())) || keysToOverwrite.contains(updateEntry.getKey())) {
-                event.put(updateEntry.getKey(), updateEntry.getValue());
+            if (!(event.containsKey(key)) || keysToOverwrite.contains(updateEntry.getKey())) {
+                event.put(key, updateEntry.getValue());
                 continue;
             }
 
-            if (event.isValueAList(updateEntry.getKey())) {
-                final List<Object> values = event.getList(updateEntry.getKey(), Object.class);
+            if (event.isValueAList(key)) {
+                final List<Object> values = event.getList(key, Object.class);
                 mergeValueWithValues(updateEntry.getValue(), values);
-                event.put(updateEntry.getKey(), values);
+                event.put(key, values);
             } else {
-                final Object fieldObject = event.get(updateEntry.getKey(), Object.class);
+                final Object fieldObject = event.get(key, Object.class);
                 final List<Object> values = new ArrayList<>(Collections.singletonList(fieldObject));
                 mergeValueWithValues(updateEntry.getValue(), values);
-                event.put(updateEntry.getKey(), values);
+                event.put(key, values);
             }
         }
     }
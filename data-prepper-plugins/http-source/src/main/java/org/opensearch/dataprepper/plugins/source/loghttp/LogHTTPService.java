@@ -95,7 +95,7 @@ public class LogHTTPService {
     private Record<Log> buildRecordLog(String json) {
 
         final JacksonLog log = JacksonLog.builder()
-                .withData(json)
+                .withUnparsedJsonData(json)
                 .getThis()
                 .build();
 
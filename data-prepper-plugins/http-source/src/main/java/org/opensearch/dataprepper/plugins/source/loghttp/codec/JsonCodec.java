@@ -5,35 +5,63 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp.codec;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.linecorp.armeria.common.HttpData;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;.
  * TODO: replace output List&lt;String&gt; with List&lt;InternalModel&gt; type
  * <p>
+ * The array is only tokenized, not parsed into objects. Each element is returned as the JSON it was sent as, unless it
+ * spans several lines, in which case it is written on a single line.
  */
 public class JsonCodec implements Codec<List<String>> {
-    private static final ObjectMapper mapper = new ObjectMapper();
-    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAP_TYPE_REFERENCE =
-            new TypeReference<List<Map<String, Object>>>() {};
+    private static final JsonFactory jsonFactory = new JsonFactory();
 
     @Override
     public List<String> parse(HttpData httpData) throws IOException {
-        List<String> jsonList = new ArrayList<>();
-        final List<Map<String, Object>> logList = mapper.readValue(httpData.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
-        for (final Map<String, Object> log: logList) {
-            final String recordString = mapper.writeValueAsString(log);
-            jsonList.add(recordString);
+        final byte[] content = httpData.array();
+        final List<String> jsonList = new ArrayList<>();
+        try (final JsonParser jsonParser = jsonFactory.createParser(content)) {
+            if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(jsonParser, "Expected a JSON array");
+            }
+            while (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+                final int start = (int) jsonParser.getTokenLocation().getByteOffset();
+                jsonParser.skipChildren();
+                final int end = (int) jsonParser.getTokenLocation().getByteOffset() + 1;
+                jsonList.add(toSingleLineJson(content, start, end));
+            }
+            if (jsonParser.currentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(jsonParser, "Expected a JSON object");
+            }
         }
 
         return jsonList;
     }
+
+    private static String toSingleLineJson(final byte[] content, final int start, final int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            if (content[i] == '\n' || content[i] == '\r') {
+                final StringWriter writer = new StringWriter(end - start);
+                try (final JsonParser jsonParser = jsonFactory.createParser(content, start, end - start);
+                     final JsonGenerator jsonGenerator = jsonFactory.createGenerator(writer)) {
+                    jsonParser.nextToken();
+                    jsonGenerator.copyCurrentStructure(jsonParser);
+                }
+                return writer.toString();
+            }
+        }
+        return new String(content, start, end - start, StandardCharsets.UTF_8);
+    }
 }
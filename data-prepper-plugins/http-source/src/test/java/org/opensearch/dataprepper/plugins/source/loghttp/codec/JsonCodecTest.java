@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class JsonCodecTest {
     private final HttpData goodTestData = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}]");
+    private final HttpData multiLineTestData = HttpData.ofUtf8("[\n  {\n    \"a\": \"b\"\n  },\n  { \"c\": [1, 2] }\n]");
+    private final HttpData badTestDataNonObjectElement = HttpData.ofUtf8("[{\"a\":\"b\"}, \"c\"]");
     private final HttpData badTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
     private final HttpData badTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}{\"c\":\"d\"}");
     private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
@@ -31,6 +33,22 @@ class JsonCodecTest {
         assertEquals("{\"a\":\"b\"}", res.get(0));
     }
 
+    @Test
+    public void testParseMultiLineSuccess() throws IOException {
+        // When
+        List<String> res = objectUnderTest.parse(multiLineTestData);
+
+        // Then
+        assertEquals(2, res.size());
+        assertEquals("{\"a\":\"b\"}", res.get(0));
+        assertEquals("{ \"c\": [1, 2] }", res.get(1));
+    }
+
+    @Test
+    public void testParseNonObjectElementFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonObjectElement));
+    }
+
     @Test
     public void testParseJsonLineFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataJsonLine));
@@ -9,21 +9,27 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "add_entries", pluginType = Processor.class, pluginConfigurationType = AddEntryProcessorConfig.class)
 public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private final List<AddEntryProcessorConfig.Entry> entries;
+    private final List<EventKey> keys;
 
     @DataPrepperPluginConstructor
     public AddEntryProcessor(final PluginMetrics pluginMetrics, final AddEntryProcessorConfig config) {
         super(pluginMetrics);
         this.entries = config.getEntries();
+        this.keys = entries.stream()
+                .map(entry -> EventKey.of(entry.getKey()))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -31,9 +37,11 @@ public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<E
         for(final Record<Event> record : records) {
             final Event recordEvent = record.getData();
 
-            for(AddEntryProcessorConfig.Entry entry : entries) {
-                if (!recordEvent.containsKey(entry.getKey()) || entry.getOverwriteIfKeyExists()) {
-                    recordEvent.put(entry.getKey(), entry.getValue());
+            for(int i = 0; i < entries.size(); i++) {
+                final AddEntryProcessorConfig.Entry entry = entries.get(i);
+                final EventKey key = keys.get(i);
+                if (!recordEvent.containsKey(key) || entry.getOverwriteIfKeyExists()) {
+                    recordEvent.put(key, entry.getValue());
                 }
             }
         }
@@ -9,35 +9,48 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "copy_values", pluginType = Processor.class, pluginConfigurationType = CopyValueProcessorConfig.class)
 public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private final List<CopyValueProcessorConfig.Entry> entries;
+    private final List<EventKey> fromKeys;
+    private final List<EventKey> toKeys;
 
     @DataPrepperPluginConstructor
     public CopyValueProcessor(final PluginMetrics pluginMetrics, final CopyValueProcessorConfig config) {
         super(pluginMetrics);
         this.entries = config.getEntries();
+        this.fromKeys = entries.stream()
+                .map(entry -> EventKey.of(entry.getFromKey()))
+                .collect(Collectors.toList());
+        this.toKeys = entries.stream()
+                .map(entry -> EventKey.of(entry.getToKey()))
+                .collect(Collectors.toList());
     }
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
         for(final Record<Event> record : records) {
             final Event recordEvent = record.getData();
-            for(CopyValueProcessorConfig.Entry entry : entries) {
-                if (entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+            for(int i = 0; i < entries.size(); i++) {
+                final CopyValueProcessorConfig.Entry entry = entries.get(i);
+                final EventKey fromKey = fromKeys.get(i);
+                final EventKey toKey = toKeys.get(i);
+                if (fromKey.equals(toKey) || !recordEvent.containsKey(fromKey)) {
                     continue;
                 }
 
-                if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                    final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                    recordEvent.put(entry.getToKey(), source);
+                if (!recordEvent.containsKey(toKey) || entry.getOverwriteIfToKeyExists()) {
+                    final Object source = recordEvent.get(fromKey, Object.class);
+                    recordEvent.put(toKey, source);
                 }
             }
         }
@@ -9,20 +9,24 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 @DataPrepperPlugin(name = "delete_entries", pluginType = Processor.class, pluginConfigurationType = DeleteEntryProcessorConfig.class)
 public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    private final String[] entries;
+    private final EventKey[] entries;
 
     @DataPrepperPluginConstructor
     public DeleteEntryProcessor(final PluginMetrics pluginMetrics, final DeleteEntryProcessorConfig config) {
         super(pluginMetrics);
-        this.entries = config.getWithKeys();
+        this.entries = Arrays.stream(config.getWithKeys())
+                .map(EventKey::of)
+                .toArray(EventKey[]::new);
     }
 
     @Override
@@ -30,7 +34,7 @@ public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Recor
         for(final Record<Event> record : records) {
             final Event recordEvent = record.getData();
 
-            for(String entry : entries) {
+            for(EventKey entry : entries) {
                 recordEvent.delete(entry);
             }
         }
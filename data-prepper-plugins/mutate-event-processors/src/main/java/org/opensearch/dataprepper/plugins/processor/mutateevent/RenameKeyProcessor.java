@@ -9,21 +9,31 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "rename_keys", pluginType = Processor.class, pluginConfigurationType = RenameKeyProcessorConfig.class)
 public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private final List<RenameKeyProcessorConfig.Entry> entries;
+    private final List<EventKey> fromKeys;
+    private final List<EventKey> toKeys;
 
     @DataPrepperPluginConstructor
     public RenameKeyProcessor(final PluginMetrics pluginMetrics, final RenameKeyProcessorConfig config) {
         super(pluginMetrics);
         this.entries = config.getEntries();
+        this.fromKeys = entries.stream()
+                .map(entry -> EventKey.of(entry.getFromKey()))
+                .collect(Collectors.toList());
+        this.toKeys = entries.stream()
+                .map(entry -> EventKey.of(entry.getToKey()))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -31,15 +41,18 @@ public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<
         for(final Record<Event> record : records) {
             final Event recordEvent = record.getData();
 
-            for(RenameKeyProcessorConfig.Entry entry : entries) {
-                if(entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+            for(int i = 0; i < entries.size(); i++) {
+                final RenameKeyProcessorConfig.Entry entry = entries.get(i);
+                final EventKey fromKey = fromKeys.get(i);
+                final EventKey toKey = toKeys.get(i);
+                if(fromKey.equals(toKey) || !recordEvent.containsKey(fromKey)) {
                     continue;
                 }
 
-                if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                    final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                    recordEvent.put(entry.getToKey(), source);
-                    recordEvent.delete(entry.getFromKey());
+                if (!recordEvent.containsKey(toKey) || entry.getOverwriteIfToKeyExists()) {
+                    final Object source = recordEvent.get(fromKey, Object.class);
+                    recordEvent.put(toKey, source);
+                    recordEvent.delete(fromKey);
                 }
             }
         }
@@ -0,0 +1,286 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+import com.google.common.util.concurrent.AtomicDouble;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded RingBuffer is a lock-free implementation of {@link Buffer} backed by a pre-allocated, multi-producer
+ * multi-consumer array ring. Like the bounded_blocking buffer it is bounded to the provided capacity
+ * {@link #ATTRIBUTE_BUFFER_CAPACITY} or {@link #DEFAULT_BUFFER_CAPACITY} (if attribute is not provided), counting both
+ * the records in the ring and the in-flight records which are not yet checkpointed.
+ * <p>
+ * Every slot of the ring carries its own sequence number, so writers and readers only coordinate through
+ * compare-and-set operations on two cursors and never take a lock or allocate a queue node.
+ * {@link #writeAll(Collection, int)} claims all of its slots with a single cursor advance and {@link #read(int)}
+ * claims a whole batch of up to {@link #ATTRIBUTE_BATCH_SIZE} records with a single cursor advance.
+ */
+@DataPrepperPlugin(name = "ring_buffer", pluginType = Buffer.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 12_800;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final String PLUGIN_NAME = "ring_buffer";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String RING_BUFFER = "RingBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    private static final int MAX_SPINS = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final int ringSize;
+    private final int mask;
+    private final Object[] slots;
+    private final AtomicLongArray slotSequences;
+    private final AtomicLong writeCursor;
+    private final AtomicLong readCursor;
+    private final AtomicInteger availablePermits;
+    private final AtomicDouble bufferUsage;
+    private final String pipelineName;
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        super(RING_BUFFER, pipelineName);
+        checkArgument(bufferCapacity > 0 && bufferCapacity <= 1 << 30,
+                "buffer_size must be between 1 and %s", 1 << 30);
+        checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        bufferUsage = pluginMetrics.gauge(BUFFER_USAGE_METRIC, new AtomicDouble());
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.ringSize = 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(bufferCapacity - 1));
+        this.mask = ringSize - 1;
+        this.slots = new Object[ringSize];
+        this.slotSequences = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            slotSequences.set(i, i);
+        }
+        this.writeCursor = new AtomicLong();
+        this.readCursor = new AtomicLong();
+        this.availablePermits = new AtomicInteger(bufferCapacity);
+        this.pipelineName = pipelineName;
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link RingBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer-size` and `batch-size`
+     * are optional and can be passed via {@link PluginSetting}, if not present default values will be used to
+     * create the buffer.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public RingBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getPipelineName());
+    }
+
+    public RingBuffer(final String pipelineName) {
+        this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        try {
+            if (!acquirePermits(1, timeoutInMillis)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                        pipelineName));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        }
+        publish(writeCursor.getAndIncrement(), record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
+        }
+        for (final T record : records) {
+            checkNotNull(record, "record cannot be null");
+        }
+        try {
+            if (!acquirePermits(size, timeoutInMillis)) {
+                throw new TimeoutException(
+                        format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
+                                        "timed out waiting for slots.",
+                                pipelineName, size));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the size of records: {}, " +
+                            "interrupted while waiting to write the records",
+                    pipelineName, size, ex);
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        }
+        long sequence = writeCursor.getAndAdd(size);
+        for (final T record : records) {
+            publish(sequence++, record);
+        }
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined/determined by
+     * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis. The whole batch is
+     * claimed with a single cursor advance once it is full or once the timeout has elapsed.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int idleCount = 0;
+        while (true) {
+            final long readSequence = readCursor.get();
+            final int available = (int) Math.min(batchSize, writeCursor.get() - readSequence);
+            final boolean timedOut = System.nanoTime() - deadline >= 0;
+            if (available >= batchSize || (available > 0 && timedOut)) {
+                if (readCursor.compareAndSet(readSequence, readSequence + available)) {
+                    return consume(readSequence, available);
+                }
+                continue;
+            }
+            if (timedOut) {
+                return new AbstractMap.SimpleEntry<>(new ArrayList<>(), new CheckpointState(0));
+            }
+            if (Thread.interrupted()) {
+                LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+                throw new RuntimeException(new InterruptedException());
+            }
+            idleCount = backOff(idleCount, deadline);
+        }
+    }
+
+    /**
+     * Returns the default PluginSetting object with default values.
+     * @return PluginSetting
+     */
+    public static PluginSetting getDefaultPluginSettings() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+        settings.put(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        return new PluginSetting(PLUGIN_NAME, settings);
+    }
+
+    @Override
+    protected void postProcess(final Long recordsInBuffer) {
+        // adding bounds to address race conditions and reporting negative buffer usage
+        final Double nonNegativeTotalRecords = recordsInBuffer.doubleValue() < 0 ? 0 : recordsInBuffer.doubleValue();
+        final Double boundedTotalRecords = nonNegativeTotalRecords > bufferCapacity ? bufferCapacity : nonNegativeTotalRecords;
+        final Double usage = boundedTotalRecords / bufferCapacity * 100;
+        bufferUsage.set(usage);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        availablePermits.addAndGet(checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readCursor.get() == writeCursor.get() && getRecordsInFlight() == 0;
+    }
+
+    private boolean acquirePermits(final int permits, final int timeoutInMillis) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int idleCount = 0;
+        while (true) {
+            final int available = availablePermits.get();
+            if (available >= permits) {
+                if (availablePermits.compareAndSet(available, available - permits)) {
+                    return true;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            idleCount = backOff(idleCount, deadline);
+        }
+    }
+
+    /**
+     * Stores the record in the slot claimed for the sequence. The permits acquired by the writer guarantee the slot
+     * is free or about to be released by a reader which already claimed it, so this only spins briefly.
+     */
+    private void publish(final long sequence, final T record) {
+        final int index = (int) (sequence & mask);
+        while (slotSequences.get(index) != sequence) {
+            Thread.onSpinWait();
+        }
+        slots[index] = record;
+        slotSequences.set(index, sequence + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map.Entry<Collection<T>, CheckpointState> consume(final long fromSequence, final int count) {
+        final List<T> records = new ArrayList<>(count);
+        for (long sequence = fromSequence; sequence < fromSequence + count; sequence++) {
+            final int index = (int) (sequence & mask);
+            while (slotSequences.get(index) != sequence + 1) {
+                // the writer claimed this slot but has not published its record yet
+                Thread.onSpinWait();
+            }
+            records.add((T) slots[index]);
+            slots[index] = null;
+            slotSequences.set(index, sequence + ringSize);
+        }
+        return new AbstractMap.SimpleEntry<>(records, new CheckpointState(count));
+    }
+
+    private static int backOff(final int idleCount, final long deadline) {
+        if (idleCount < MAX_SPINS) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(Math.max(1, Math.min(MAX_PARK_NANOS, deadline - System.nanoTime())));
+        }
+        return idleCount + 1;
+    }
+}
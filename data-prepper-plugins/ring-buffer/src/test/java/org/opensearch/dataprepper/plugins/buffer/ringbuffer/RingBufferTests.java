@@ -0,0 +1,294 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferTests {
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String PLUGIN_NAME = "RingBuffer";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_WRITE_TIMEOUT = 1_00;
+    private static final int TEST_BATCH_READ_TIMEOUT = 5_00;
+
+    @BeforeEach
+    public void setup() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testCreationUsingPluginSetting() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        assertThat(ringBuffer, notNullValue());
+    }
+
+    @Test
+    public void testCreationUsingNullPluginSetting() {
+        final NullPointerException ex = assertThrows(NullPointerException.class,
+                () -> new RingBuffer<Record<String>>((PluginSetting) null));
+        assertThat(ex.getMessage(), is(equalTo("PluginSetting cannot be null")));
+    }
+
+    @Test
+    public void testCreationUsingDefaultPluginSettings() {
+        final PluginSetting defaultPluginSettings = RingBuffer.getDefaultPluginSettings();
+        defaultPluginSettings.setPipelineName(TEST_PIPELINE_NAME);
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(defaultPluginSettings);
+        assertThat(ringBuffer, notNullValue());
+    }
+
+    @Test
+    public void testCreationUsingInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Record<String>>(0, TEST_BATCH_SIZE, TEST_PIPELINE_NAME));
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Record<String>>(TEST_BUFFER_SIZE, 0, TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    public void testInsertNull() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        assertThrows(NullPointerException.class, () -> ringBuffer.write(null, TEST_WRITE_TIMEOUT));
+        assertThrows(NullPointerException.class, () -> ringBuffer.writeAll(Collections.singletonList(null), TEST_WRITE_TIMEOUT));
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void testWriteAllSizeOverflow() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE + 1);
+        assertThrows(SizeOverflowException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    public void testNoEmptySpaceWriteOnly() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testNoAvailSpaceWriteAllOnly() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(2, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final Record<String> timeoutRecord = new Record<>("TIMEOUT");
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(timeoutRecord, TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class,
+                () -> ringBuffer.writeAll(Collections.singletonList(timeoutRecord), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testWriteAllIntoEmptySpaceAfterCheckedRead() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(2, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        verifyBufferUsageMetric(100.0);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey(), equalTo(testRecords));
+        ringBuffer.checkpoint(readResult.getValue());
+        verifyBufferUsageMetric(0.0);
+
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readCheckResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readCheckResult.getKey().size(), is(2));
+    }
+
+    @Test
+    public void testReadEmptyBuffer() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @Test
+    public void testBatchRead() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        final int testSize = 5;
+        for (int i = 0; i < testSize; i++) {
+            ringBuffer.write(new Record<>("TEST" + i), TEST_WRITE_TIMEOUT);
+        }
+        verifyBufferUsageMetric(38.46153846153847);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> partialReadResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(partialReadResult.getKey().size(), is(TEST_BATCH_SIZE));
+        assertThat(partialReadResult.getValue().getNumRecordsToBeChecked(), is(TEST_BATCH_SIZE));
+        int i = 0;
+        for (final Record<String> record : partialReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        verifyBufferUsageMetric(15.384615384615385);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> finalReadResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(finalReadResult.getKey().size(), is(testSize - TEST_BATCH_SIZE));
+        assertThat(finalReadResult.getValue().getNumRecordsToBeChecked(), is(testSize - TEST_BATCH_SIZE));
+        for (final Record<String> record : finalReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        verifyBufferUsageMetric(0.0);
+    }
+
+    @Test
+    public void testWrapsAroundRing() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(3, 2, TEST_PIPELINE_NAME);
+        for (int round = 0; round < 10; round++) {
+            final List<Record<String>> testRecords = generateBatchRecords(2);
+            ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+            final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+            assertThat(readResult.getKey(), equalTo(testRecords));
+            ringBuffer.checkpoint(readResult.getValue());
+        }
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void testBufferIsEmpty() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        assertTrue(ringBuffer.isEmpty());
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    public void testBufferIsNotEmpty() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        ringBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+
+        assertFalse(ringBuffer.isEmpty());
+        verifyBufferUsageMetric(7.6923076923076925);
+    }
+
+    @Test
+    public void testBufferIsNotEmptyWhileRecordsAreInFlight() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        ringBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertFalse(ringBuffer.isEmpty());
+
+        ringBuffer.checkpoint(readResult.getValue());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentWritersAndReaders() throws Exception {
+        final int writers = 4;
+        final int readers = 4;
+        final int batchesPerWriter = 250;
+        final int recordsPerBatch = 4;
+        final int totalRecords = writers * batchesPerWriter * recordsPerBatch;
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(64, 8, TEST_PIPELINE_NAME);
+        final Set<String> readRecords = ConcurrentHashMap.newKeySet();
+        final ExecutorService executorService = Executors.newFixedThreadPool(writers + readers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(executorService.submit(() -> {
+                    for (int b = 0; b < batchesPerWriter; b++) {
+                        ringBuffer.writeAll(generateBatchRecords(recordsPerBatch), 10_000);
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < readers; r++) {
+                futures.add(executorService.submit(() -> {
+                    while (readRecords.size() < totalRecords) {
+                        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(10);
+                        readResult.getKey().forEach(record -> readRecords.add(record.getData()));
+                        ringBuffer.checkpoint(readResult.getValue());
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(readRecords.size(), is(totalRecords));
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    private PluginSetting completePluginSettingForRingBuffer() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_SIZE, TEST_BUFFER_SIZE);
+        settings.put(ATTRIBUTE_BATCH_SIZE, TEST_BATCH_SIZE);
+        final PluginSetting testSettings = new PluginSetting(PLUGIN_NAME, settings);
+        testSettings.setPipelineName(TEST_PIPELINE_NAME);
+        return testSettings;
+    }
+
+    private List<Record<String>> generateBatchRecords(final int numRecords) {
+        final List<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return results;
+    }
+
+    private void verifyBufferUsageMetric(final double expectedBufferUsage) {
+        final Gauge bufferUsage = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add("bufferUsage").toString()).gauge();
+
+        assertThat(bufferUsage, is(notNullValue()));
+        assertThat(bufferUsage.value(), is(expectedBufferUsage));
+    }
+}
@@ -11,18 +11,21 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.record.Record;
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
- * An implementation of {@link Codec} which parses JSON objects for arrays.
+ * An implementation of {@link Codec} which parses JSON objects for arrays. The objects are only tokenized and copied
+ * into events as JSON, which is parsed when the event is first accessed.
  */
 @DataPrepperPlugin(name = "json", pluginType = Codec.class)
 public class JsonCodec implements Codec {
@@ -46,18 +49,26 @@ public class JsonCodec implements Codec {
 
     private void parseRecordsArray(final JsonParser jsonParser, final Consumer<Record<Event>> eventConsumer) throws IOException {
         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
-            final Map<String, Object> innerJson = objectMapper.readValue(jsonParser, Map.class);
+            final JacksonEvent event;
+            if (jsonParser.currentToken() == JsonToken.START_OBJECT) {
+                event = JacksonLog.builder()
+                        .withUnparsedJsonData(copyObject(jsonParser))
+                        .build();
+            } else {
+                event = JacksonLog.builder()
+                        .withData(objectMapper.readValue(jsonParser, Map.class))
+                        .build();
+            }
 
-            final Record<Event> record = createRecord(innerJson);
-            eventConsumer.accept(record);
+            eventConsumer.accept(new Record<>(event));
         }
     }
 
-    private Record<Event> createRecord(final Map<String, Object> json) {
-        final JacksonEvent event = JacksonLog.builder()
-                .withData(json)
-                .build();
-
-        return new Record<>(event);
+    private String copyObject(final JsonParser jsonParser) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator jsonGenerator = jsonFactory.createGenerator(writer)) {
+            jsonGenerator.copyCurrentStructure(jsonParser);
+        }
+        return writer.toString();
     }
 }
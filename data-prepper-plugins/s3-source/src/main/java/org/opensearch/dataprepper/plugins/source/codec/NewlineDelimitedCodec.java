@@ -7,7 +7,9 @@ package org.opensearch.dataprepper.plugins.source.codec;
 
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.event.CompactEvent;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventType;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.record.Record;
 
@@ -25,6 +27,7 @@ public class NewlineDelimitedCodec implements Codec {
     private static final String MESSAGE_FIELD_NAME = "message";
     private final int skipLines;
     private final String headerDestination;
+    private final boolean compactEvents;
 
     @DataPrepperPluginConstructor
     public NewlineDelimitedCodec(final NewlineDelimitedConfig config) {
@@ -36,6 +39,7 @@ public class NewlineDelimitedCodec implements Codec {
         }
 
         headerDestination = config.getHeaderDestination();
+        compactEvents = config.isCompactEvents();
     }
 
     @Override
@@ -73,7 +77,9 @@ public class NewlineDelimitedCodec implements Codec {
             }
             eventData.put(MESSAGE_FIELD_NAME, line);
 
-            final Event event = JacksonLog.builder().withData(eventData).build();
+            final Event event = compactEvents ?
+                    CompactEvent.builder().withEventType(EventType.LOG.toString()).withData(eventData).build() :
+                    JacksonLog.builder().withData(eventData).build();
             eventConsumer.accept(new Record<>(event));
         }
     }
@@ -19,6 +19,9 @@ public class NewlineDelimitedConfig {
     @JsonProperty("header_destination")
     private String headerDestination;
 
+    @JsonProperty("compact_events")
+    private boolean compactEvents = false;
+
     /**
      * The number of lines to skip from the start of the S3 object.
      * Use 0 to skip no lines.
@@ -39,6 +42,16 @@ public class NewlineDelimitedConfig {
         return headerDestination;
     }
 
+    /**
+     * Whether the Events are created as {@link org.opensearch.dataprepper.model.event.CompactEvent}s, which use less
+     * memory than the default Events.
+     *
+     * @return True if the Events are created as compact Events.
+     */
+    public boolean isCompactEvents() {
+        return compactEvents;
+    }
+
     @AssertTrue(message = "header_destination must be either null or length greater than 0. It cannot be empty. " +
             "To make it null delete header_destination in your configuration YAML file")
     boolean isValidHeaderDestination() {
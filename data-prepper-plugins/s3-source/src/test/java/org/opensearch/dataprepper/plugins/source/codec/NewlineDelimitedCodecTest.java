@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.codec;
 
+import org.opensearch.dataprepper.model.event.CompactEvent;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventType;
 import org.opensearch.dataprepper.model.record.Record;
@@ -28,6 +29,7 @@ import java.util.UUID;
 import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -118,6 +120,27 @@ class NewlineDelimitedCodecTest {
         verifyNoInteractions(eventConsumer);
     }
 
+    @Test
+    void parse_with_compactEvents_calls_Consumer_with_CompactEvents() throws IOException {
+        final String headerMessage = "HeaderOnList";
+        final List<String> linesList = generateLinesAsListWithHeader(2, headerMessage);
+        final InputStream inputStream = createInputStream(linesList);
+
+        when(config.getHeaderDestination()).thenReturn("event_header");
+        when(config.isCompactEvents()).thenReturn(true);
+        final List<Record<Event>> actualEvents = new ArrayList<>();
+        createObjectUnderTest().parse(inputStream, actualEvents::add);
+
+        assertThat(actualEvents.size(), equalTo(2));
+        for (int i = 0; i < actualEvents.size(); i++) {
+            final Event event = actualEvents.get(i).getData();
+            assertThat(event, instanceOf(CompactEvent.class));
+            assertThat(event.get("event_header", String.class), equalTo(headerMessage));
+            assertThat(event.get("message", String.class), equalTo(linesList.get(i + 1)));
+            assertThat(event.getMetadata().getEventType(), equalTo(EventType.LOG.toString()));
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {0, 1, 2, 10, 50})
     void parse_with_header_calls_Consumer_with_header_fields_no_skip(final int numberOfLines) throws IOException {
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.shardedbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One stripe of the {@link ShardedBuffer}. A shard holds its own queue and its own capacity permits, so writers and
+ * readers of different shards never touch the same lock or counter. A permit is acquired when a record is written
+ * and released when the batch the record was read in is checkpointed.
+ */
+class Shard<T> {
+    private final int index;
+    private final int capacity;
+    private final BlockingQueue<T> queue;
+    private final Semaphore capacitySemaphore;
+
+    Shard(final int index, final int capacity) {
+        this.index = index;
+        this.capacity = capacity;
+        this.queue = new LinkedBlockingQueue<>();
+        this.capacitySemaphore = new Semaphore(capacity);
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    boolean tryAcquire(final int permits, final long timeoutInMillis) throws InterruptedException {
+        return capacitySemaphore.tryAcquire(permits, timeoutInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void release(final int permits) {
+        capacitySemaphore.release(permits);
+    }
+
+    void add(final T record) {
+        queue.offer(record);
+    }
+
+    void addAll(final Collection<T> records) {
+        queue.addAll(records);
+    }
+
+    /**
+     * Puts records which were drained but not handed out back into the shard. Their permits are still held.
+     */
+    void requeue(final Collection<T> records) {
+        queue.addAll(records);
+    }
+
+    T poll(final long timeoutInNanos) throws InterruptedException {
+        return queue.poll(timeoutInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void drainTo(final Collection<T> records, final int maxRecords) {
+        queue.drainTo(records, maxRecords);
+    }
+
+    boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.shardedbuffer;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+
+/**
+ * The {@link CheckpointState} of a batch read from the {@link ShardedBuffer}. It carries the shard the batch was read
+ * from, so checkpointing the batch releases the capacity of that shard.
+ */
+class ShardCheckpointState extends CheckpointState {
+    private final int shardIndex;
+
+    ShardCheckpointState(final int shardIndex, final int numRecordsToBeChecked) {
+        super(numRecordsToBeChecked);
+        this.shardIndex = shardIndex;
+    }
+
+    int getShardIndex() {
+        return shardIndex;
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.shardedbuffer;
+
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import com.google.common.util.concurrent.AtomicDouble;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded ShardedBuffer is an implementation of {@link Buffer} which stripes records across
+ * {@link #ATTRIBUTE_SHARDS} independent {@link Shard}s, by default one per process worker. Each shard is bounded to
+ * its share of {@link #ATTRIBUTE_BUFFER_CAPACITY}, counting both the records in the shard and the in-flight records
+ * read from it which are not yet checkpointed.
+ * <p>
+ * Writes are distributed round-robin, or by the hash of the {@link #ATTRIBUTE_SHARD_KEY} value of each event when
+ * configured. Every thread calling {@link #read(int)} is pinned to a home shard the first time it reads, so process
+ * workers do not contend on a single queue head. A worker whose home shard is empty steals a batch from the next
+ * non-empty shard. Every batch is read from a single shard, so its {@link ShardCheckpointState} releases the
+ * capacity of that shard only.
+ */
+@DataPrepperPlugin(name = "sharded_buffer", pluginType = Buffer.class)
+public class ShardedBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 12_800;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final String PLUGIN_NAME = "sharded_buffer";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_SHARDS = "shards";
+    private static final String ATTRIBUTE_SHARD_KEY = "shard_key";
+    private static final String SHARDED_BUFFER = "ShardedBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    private static final String RECORDS_STOLEN_METRIC = "recordsStolen";
+    private static final long STEAL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final String shardKey;
+    private final Shard<T>[] shards;
+    private final AtomicInteger nextWriteShard;
+    private final AtomicInteger nextReadShard;
+    private final ThreadLocal<Integer> homeShard;
+    private final AtomicDouble bufferUsage;
+    private final Counter recordsStolenCounter;
+    private final String pipelineName;
+
+    /**
+     * Creates a ShardedBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer, split evenly across the shards
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param numberOfShards the number of shards
+     * @param shardKey       the event key used to pick the shard of an event, or null to distribute round-robin
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public ShardedBuffer(final int bufferCapacity, final int batchSize, final int numberOfShards, final String shardKey,
+                         final String pipelineName) {
+        super(SHARDED_BUFFER, pipelineName);
+        checkArgument(numberOfShards > 0, "shards must be greater than 0");
+        checkArgument(bufferCapacity >= numberOfShards, "buffer_size must be at least the number of shards");
+        checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        bufferUsage = pluginMetrics.gauge(BUFFER_USAGE_METRIC, new AtomicDouble());
+        recordsStolenCounter = pluginMetrics.counter(RECORDS_STOLEN_METRIC);
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.shardKey = shardKey;
+        final int shardCapacity = (bufferCapacity + numberOfShards - 1) / numberOfShards;
+        this.shards = new Shard[numberOfShards];
+        for (int i = 0; i < numberOfShards; i++) {
+            shards[i] = new Shard<>(i, shardCapacity);
+        }
+        this.nextWriteShard = new AtomicInteger();
+        this.nextReadShard = new AtomicInteger();
+        this.homeShard = ThreadLocal.withInitial(() -> Math.floorMod(nextReadShard.getAndIncrement(), shards.length));
+        this.pipelineName = pipelineName;
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link ShardedBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer-size`, `batch-size`,
+     * `shards` and `shard_key` are optional and can be passed via {@link PluginSetting}, if not present default
+     * values will be used to create the buffer. The number of shards defaults to the number of process workers.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public ShardedBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_SHARDS, Math.max(1, pluginSetting.getNumberOfProcessWorkers())),
+                pluginSetting.getStringOrDefault(ATTRIBUTE_SHARD_KEY, null),
+                pluginSetting.getPipelineName());
+    }
+
+    public ShardedBuffer(final String pipelineName) {
+        this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, 1, null, pipelineName);
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        final Shard<T> shard = shardKey == null ? shards[nextWriteShardIndex()] : shards[shardIndexOf(record)];
+        try {
+            if (!shard.tryAcquire(1, timeoutInMillis)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                        pipelineName));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        }
+        shard.add(record);
+    }
+
+    /**
+     * Writes the records into the shards. Without a shard key the records are split into at most one contiguous
+     * chunk per shard, starting at the next round-robin shard. With a shard key every record goes to the shard of
+     * its key. The write either succeeds for all records or for none of them.
+     */
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
+        }
+        final Map<Shard<T>, List<T>> recordsByShard = shardKey == null
+                ? splitRoundRobin(records)
+                : splitByKey(records);
+        for (final Map.Entry<Shard<T>, List<T>> shardRecords : recordsByShard.entrySet()) {
+            if (shardRecords.getValue().size() > shardRecords.getKey().getCapacity()) {
+                throw new SizeOverflowException(format("Shard capacity too small for the size of records with the " +
+                        "same %s: %d", ATTRIBUTE_SHARD_KEY, shardRecords.getValue().size()));
+            }
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        final List<Map.Entry<Shard<T>, List<T>>> acquired = new ArrayList<>(recordsByShard.size());
+        try {
+            for (final Map.Entry<Shard<T>, List<T>> shardRecords : recordsByShard.entrySet()) {
+                final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadline - System.nanoTime()));
+                if (!shardRecords.getKey().tryAcquire(shardRecords.getValue().size(), remainingMillis)) {
+                    throw new TimeoutException(
+                            format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
+                                            "timed out waiting for slots.",
+                                    pipelineName, size));
+                }
+                acquired.add(shardRecords);
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the size of records: {}, " +
+                            "interrupted while waiting to write the records",
+                    pipelineName, size, ex);
+            releaseAll(acquired);
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        } catch (final TimeoutException ex) {
+            releaseAll(acquired);
+            throw ex;
+        }
+        for (final Map.Entry<Shard<T>, List<T>> shardRecords : acquired) {
+            shardRecords.getKey().addAll(shardRecords.getValue());
+        }
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the home shard of the calling thread, or from
+     * the next non-empty shard when the home shard is empty. The batch size is defined/determined by the
+     * configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the shard which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        final Shard<T> home = shards[homeShard.get()];
+        Shard<T> source = null;
+        try {
+            while (records.size() < batchSize) {
+                final long remainingNanos = deadline - System.nanoTime();
+                if (source != null) {
+                    if (remainingNanos <= 0) {
+                        break;
+                    }
+                    final T record = source.poll(remainingNanos);
+                    if (record != null) {
+                        records.add(record);
+                        source.drainTo(records, batchSize - records.size());
+                    }
+                    continue;
+                }
+                home.drainTo(records, batchSize);
+                source = records.isEmpty() ? steal(home, records) : home;
+                if (source != null) {
+                    continue;
+                }
+                if (remainingNanos <= 0) {
+                    break;
+                }
+                // nothing to steal either, so wait on the home shard for a while before looking again
+                final T record = home.poll(Math.min(remainingNanos, STEAL_INTERVAL_NANOS));
+                if (record != null) {
+                    records.add(record);
+                    source = home;
+                }
+            }
+        } catch (final InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            if (source != null) {
+                source.requeue(records);
+            }
+            throw new RuntimeException(ex);
+        }
+        if (source == null) {
+            return new AbstractMap.SimpleEntry<>(records, new CheckpointState(0));
+        }
+        return new AbstractMap.SimpleEntry<>(records, new ShardCheckpointState(source.getIndex(), records.size()));
+    }
+
+    /**
+     * Returns the default PluginSetting object with default values.
+     * @return PluginSetting
+     */
+    public static PluginSetting getDefaultPluginSettings() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+        settings.put(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        return new PluginSetting(PLUGIN_NAME, settings);
+    }
+
+    @Override
+    protected void postProcess(final Long recordsInBuffer) {
+        // adding bounds to address race conditions and reporting negative buffer usage
+        final Double nonNegativeTotalRecords = recordsInBuffer.doubleValue() < 0 ? 0 : recordsInBuffer.doubleValue();
+        final Double boundedTotalRecords = nonNegativeTotalRecords > bufferCapacity ? bufferCapacity : nonNegativeTotalRecords;
+        final Double usage = boundedTotalRecords / bufferCapacity * 100;
+        bufferUsage.set(usage);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        if (checkpointState instanceof ShardCheckpointState) {
+            final ShardCheckpointState shardCheckpointState = (ShardCheckpointState) checkpointState;
+            shards[shardCheckpointState.getShardIndex()].release(shardCheckpointState.getNumRecordsToBeChecked());
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (final Shard<T> shard : shards) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return getRecordsInFlight() == 0;
+    }
+
+    int getNumberOfShards() {
+        return shards.length;
+    }
+
+    private Shard<T> steal(final Shard<T> home, final List<T> records) {
+        for (int i = 1; i < shards.length; i++) {
+            final Shard<T> victim = shards[(home.getIndex() + i) % shards.length];
+            victim.drainTo(records, batchSize);
+            if (!records.isEmpty()) {
+                recordsStolenCounter.increment(records.size());
+                return victim;
+            }
+        }
+        return null;
+    }
+
+    private Map<Shard<T>, List<T>> splitRoundRobin(final Collection<T> records) {
+        final int size = records.size();
+        final int shardCapacity = shards[0].getCapacity();
+        // one contiguous chunk per shard keeps small writes on a single shard and spreads large writes evenly
+        final int chunkSize = Math.min(shardCapacity,
+                Math.max((size + shards.length - 1) / shards.length, Math.min(size, batchSize)));
+        final int numberOfChunks = chunkSize == 0 ? 0 : (size + chunkSize - 1) / chunkSize;
+        final int firstShard = nextWriteShard.getAndAdd(Math.max(1, numberOfChunks));
+        final Map<Shard<T>, List<T>> recordsByShard = new LinkedHashMap<>();
+        List<T> chunk = null;
+        int chunkIndex = 0;
+        for (final T record : records) {
+            checkNotNull(record, "record cannot be null");
+            if (chunk == null || chunk.size() == chunkSize) {
+                chunk = new ArrayList<>(chunkSize);
+                recordsByShard.put(shards[Math.floorMod(firstShard + chunkIndex++, shards.length)], chunk);
+            }
+            chunk.add(record);
+        }
+        return recordsByShard;
+    }
+
+    private Map<Shard<T>, List<T>> splitByKey(final Collection<T> records) {
+        final Map<Shard<T>, List<T>> recordsByShard = new LinkedHashMap<>();
+        for (final T record : records) {
+            checkNotNull(record, "record cannot be null");
+            recordsByShard.computeIfAbsent(shards[shardIndexOf(record)], shard -> new ArrayList<>()).add(record);
+        }
+        return recordsByShard;
+    }
+
+    private int nextWriteShardIndex() {
+        return Math.floorMod(nextWriteShard.getAndIncrement(), shards.length);
+    }
+
+    private int shardIndexOf(final T record) {
+        if (!(record.getData() instanceof Event)) {
+            return nextWriteShardIndex();
+        }
+        final Object keyValue = ((Event) record.getData()).get(shardKey, Object.class);
+        // spread the hash bits so keys with similar hash codes do not cluster on a few shards
+        final int hash = Objects.hashCode(keyValue);
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+
+    private void releaseAll(final List<Map.Entry<Shard<T>, List<T>>> acquired) {
+        for (final Map.Entry<Shard<T>, List<T>> shardRecords : acquired) {
+            shardRecords.getKey().release(shardRecords.getValue().size());
+        }
+    }
+}
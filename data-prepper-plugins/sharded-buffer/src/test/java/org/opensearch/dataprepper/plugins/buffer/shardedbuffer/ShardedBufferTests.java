@@ -0,0 +1,295 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.shardedbuffer;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShardedBufferTests {
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String ATTRIBUTE_SHARDS = "shards";
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String PLUGIN_NAME = "ShardedBuffer";
+    private static final String TEST_SHARD_KEY = "key";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 12;
+    private static final int TEST_SHARDS = 4;
+    private static final int TEST_WRITE_TIMEOUT = 1_00;
+    private static final int TEST_BATCH_READ_TIMEOUT = 5_00;
+
+    @BeforeEach
+    public void setup() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testCreationUsingPluginSetting() {
+        final ShardedBuffer<Record<String>> shardedBuffer = new ShardedBuffer<>(completePluginSettingForShardedBuffer());
+        assertThat(shardedBuffer, notNullValue());
+        assertThat(shardedBuffer.getNumberOfShards(), is(TEST_SHARDS));
+    }
+
+    @Test
+    public void testCreationUsingNullPluginSetting() {
+        final NullPointerException ex = assertThrows(NullPointerException.class,
+                () -> new ShardedBuffer<Record<String>>((PluginSetting) null));
+        assertThat(ex.getMessage(), is(equalTo("PluginSetting cannot be null")));
+    }
+
+    @Test
+    public void testCreationUsingDefaultPluginSettingsHasOneShardPerProcessWorker() {
+        final PluginSetting defaultPluginSettings = ShardedBuffer.getDefaultPluginSettings();
+        defaultPluginSettings.setPipelineName(TEST_PIPELINE_NAME);
+        defaultPluginSettings.setProcessWorkers(6);
+        final ShardedBuffer<Record<String>> shardedBuffer = new ShardedBuffer<>(defaultPluginSettings);
+        assertThat(shardedBuffer.getNumberOfShards(), is(6));
+    }
+
+    @Test
+    public void testCreationUsingInvalidValues() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardedBuffer<Record<String>>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, 0, null, TEST_PIPELINE_NAME));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardedBuffer<Record<String>>(2, TEST_BATCH_SIZE, TEST_SHARDS, null, TEST_PIPELINE_NAME));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardedBuffer<Record<String>>(TEST_BUFFER_SIZE, 0, TEST_SHARDS, null, TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    public void testInsertNull() {
+        final ShardedBuffer<Record<String>> shardedBuffer = createRoundRobinBuffer();
+        assertThrows(NullPointerException.class, () -> shardedBuffer.write(null, TEST_WRITE_TIMEOUT));
+        assertThrows(NullPointerException.class, () -> shardedBuffer.writeAll(Collections.singletonList(null), TEST_WRITE_TIMEOUT));
+        assertTrue(shardedBuffer.isEmpty());
+    }
+
+    @Test
+    public void testWriteAllSizeOverflow() {
+        final ShardedBuffer<Record<String>> shardedBuffer = createRoundRobinBuffer();
+        final Collection<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE + 1);
+        assertThrows(SizeOverflowException.class, () -> shardedBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testWriteAllSpreadsLargeWritesAcrossShards() throws Exception {
+        final ShardedBuffer<Record<String>> shardedBuffer = createRoundRobinBuffer();
+        final List<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE);
+
+        shardedBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+
+        assertThrows(TimeoutException.class, () -> shardedBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+        assertThat(readAndCheckpointAll(shardedBuffer).size(), is(TEST_BUFFER_SIZE));
+        assertTrue(shardedBuffer.isEmpty());
+    }
+
+    @Test
+    public void testWriteAllTimeoutReleasesAcquiredCapacity() throws Exception {
+        final ShardedBuffer<Record<String>> shardedBuffer = new ShardedBuffer<>(4, TEST_BATCH_SIZE, 2, null, TEST_PIPELINE_NAME);
+        shardedBuffer.write(new Record<>("HALF_FILL_THE_FIRST_SHARD"), TEST_WRITE_TIMEOUT);
+
+        // the chunk for the second shard is acquired before the chunk for the first shard times out
+        assertThrows(TimeoutException.class, () -> shardedBuffer.writeAll(generateBatchRecords(4), TEST_WRITE_TIMEOUT));
+
+        shardedBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(readAndCheckpointAll(shardedBuffer).size(), is(3));
+    }
+
+    @Test
+    public void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
+        final ShardedBuffer<Record<String>> shardedBuffer = new ShardedBuffer<>(1, TEST_BATCH_SIZE, 1, null, TEST_PIPELINE_NAME);
+        shardedBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = shardedBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> shardedBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+        assertFalse(shardedBuffer.isEmpty());
+
+        shardedBuffer.checkpoint(readResult.getValue());
+        shardedBuffer.write(new Record<>("AFTER_CHECKPOINT"), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    public void testReadEmptyBuffer() {
+        final ShardedBuffer<Record<String>> shardedBuffer = createRoundRobinBuffer();
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = shardedBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @Test
+    public void testReadStealsFromOtherShards() throws Exception {
+        final ShardedBuffer<Record<String>> shardedBuffer = createRoundRobinBuffer();
+        final List<Record<String>> testRecords = generateBatchRecords(TEST_BATCH_SIZE);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            // pins the home shard of another thread to the first shard, so the records written there are stolen
+            executorService.submit(() -> shardedBuffer.read(0)).get();
+            shardedBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+
+            final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = shardedBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+            assertThat(readResult.getKey(), equalTo(testRecords));
+            assertThat(readResult.getValue(), is(notNullValue()));
+            shardedBuffer.checkpoint(readResult.getValue());
+            assertTrue(shardedBuffer.isEmpty());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testShardKeyKeepsEventsWithTheSameKeyTogether() throws Exception {
+        final ShardedBuffer<Record<Event>> shardedBuffer =
+                new ShardedBuffer<>(40, 10, TEST_SHARDS, TEST_SHARD_KEY, TEST_PIPELINE_NAME);
+        final List<Record<Event>> testRecords = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            testRecords.add(createEventRecord("key" + (i % 2)));
+        }
+        shardedBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+
+        final List<Collection<Record<Event>>> batches = new ArrayList<>();
+        Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = shardedBuffer.read(0);
+        while (!readResult.getKey().isEmpty()) {
+            batches.add(readResult.getKey());
+            shardedBuffer.checkpoint(readResult.getValue());
+            readResult = shardedBuffer.read(0);
+        }
+
+        for (final Collection<Record<Event>> batch : batches) {
+            final Object firstKey = batch.iterator().next().getData().get(TEST_SHARD_KEY, String.class);
+            batch.forEach(record -> assertThat(record.getData().get(TEST_SHARD_KEY, String.class), equalTo(firstKey)));
+        }
+        assertTrue(shardedBuffer.isEmpty());
+    }
+
+    @Test
+    public void testShardKeySizeOverflowWhenOneShardCannotHoldTheRecords() {
+        final ShardedBuffer<Record<Event>> shardedBuffer =
+                new ShardedBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_SHARDS, TEST_SHARD_KEY, TEST_PIPELINE_NAME);
+        final List<Record<Event>> testRecords = new ArrayList<>();
+        for (int i = 0; i < TEST_BUFFER_SIZE; i++) {
+            testRecords.add(createEventRecord("same-key"));
+        }
+
+        assertThrows(SizeOverflowException.class, () -> shardedBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        assertTrue(shardedBuffer.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentWritersAndReaders() throws Exception {
+        final int writers = 4;
+        final int readers = 3;
+        final int batchesPerWriter = 250;
+        final int recordsPerBatch = 4;
+        final int totalRecords = writers * batchesPerWriter * recordsPerBatch;
+        final ShardedBuffer<Record<String>> shardedBuffer = new ShardedBuffer<>(64, 8, TEST_SHARDS, null, TEST_PIPELINE_NAME);
+        final Set<String> readRecords = ConcurrentHashMap.newKeySet();
+        final ExecutorService executorService = Executors.newFixedThreadPool(writers + readers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(executorService.submit(() -> {
+                    for (int b = 0; b < batchesPerWriter; b++) {
+                        shardedBuffer.writeAll(generateBatchRecords(recordsPerBatch), 10_000);
+                    }
+                    return null;
+                }));
+            }
+            // fewer readers than shards, so one shard is only ever drained by stealing
+            for (int r = 0; r < readers; r++) {
+                futures.add(executorService.submit(() -> {
+                    while (readRecords.size() < totalRecords) {
+                        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = shardedBuffer.read(10);
+                        readResult.getKey().forEach(record -> readRecords.add(record.getData()));
+                        shardedBuffer.checkpoint(readResult.getValue());
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(readRecords.size(), is(totalRecords));
+        assertTrue(shardedBuffer.isEmpty());
+    }
+
+    private ShardedBuffer<Record<String>> createRoundRobinBuffer() {
+        return new ShardedBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_SHARDS, null, TEST_PIPELINE_NAME);
+    }
+
+    private PluginSetting completePluginSettingForShardedBuffer() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_SIZE, TEST_BUFFER_SIZE);
+        settings.put(ATTRIBUTE_BATCH_SIZE, TEST_BATCH_SIZE);
+        settings.put(ATTRIBUTE_SHARDS, TEST_SHARDS);
+        final PluginSetting testSettings = new PluginSetting(PLUGIN_NAME, settings);
+        testSettings.setPipelineName(TEST_PIPELINE_NAME);
+        return testSettings;
+    }
+
+    private static <T> List<Record<T>> readAndCheckpointAll(final ShardedBuffer<Record<T>> shardedBuffer) {
+        final List<Record<T>> records = new ArrayList<>();
+        Map.Entry<Collection<Record<T>>, CheckpointState> readResult = shardedBuffer.read(0);
+        while (!readResult.getKey().isEmpty()) {
+            records.addAll(readResult.getKey());
+            shardedBuffer.checkpoint(readResult.getValue());
+            readResult = shardedBuffer.read(0);
+        }
+        return records;
+    }
+
+    private static Record<Event> createEventRecord(final String key) {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(TEST_SHARD_KEY, key))
+                .build());
+    }
+
+    private List<Record<String>> generateBatchRecords(final int numRecords) {
+        final List<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return results;
+    }
+}